@@ -0,0 +1,66 @@
+package com.example.myownessay.benchmark;
+
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 벤치마크 공통 데이터 (슬롯별 유효한 기록 내용, 기록 엔티티)
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "benchmark-jwt-secret-key-must-be-at-least-256-bits-long";
+
+    private BenchmarkFixtures() {
+    }
+
+    static Map<SlotType, Map<String, Object>> validContents() {
+        Map<SlotType, Map<String, Object>> contents = new EnumMap<>(SlotType.class);
+        contents.put(SlotType.READING, Map.of(
+                "quote", "완벽보다 계속하기가 중요하다.",
+                "author", "작자 미상",
+                "thought", "오늘도 한 쪽이라도 읽은 나를 칭찬한다. ".repeat(10)));
+        contents.put(SlotType.CONSULTING, Map.of(
+                "question", "지금 가장 마음에 걸리는 일은 무엇인가요?",
+                "choice", "잠시 쉬어 가기",
+                "result", "조급함을 내려놓으니 할 일이 또렷해졌다. ".repeat(5)));
+        contents.put(SlotType.HEALING, Map.of(
+                "activity", "산책",
+                "duration", 30,
+                "result", "바람 소리를 들으며 마음이 가벼워졌다. ".repeat(5)));
+        contents.put(SlotType.DIARY, Map.of(
+                "question", "오늘 감사했던 순간은?",
+                "content", "저녁에 가족과 따뜻한 차를 마시며 이야기를 나눴다. ".repeat(20),
+                "emotion", "평온"));
+        return contents;
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("benchmark@example.com");
+        user.setNickname("벤치마크");
+        user.setPasswordHash("hashed");
+        return user;
+    }
+
+    static Record record(User user, long id, LocalDate date, SlotType slotType, Map<String, Object> content, boolean completed) {
+        Record record = new Record();
+        record.setId(id);
+        record.setUser(user);
+        record.setRecordDate(date);
+        record.setSlotType(slotType);
+        record.setContent(content);
+        record.setCreatedAt(date.atTime(21, 0));
+        record.setUpdatedAt(record.getCreatedAt());
+        if (completed) {
+            record.markAsCompleted();
+        }
+        return record;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.myownessay.benchmark;
+
+import com.example.myownessay.service.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/파싱 벤치마크
+ * 요청마다 인증 필터가 실행하는 파싱(extractUsername, isTokenValid)과 로그인 시 발급 비용을 잽니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String USERNAME = "benchmark@example.com";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(BenchmarkFixtures.JWT_SECRET, 86_400_000L, 604_800_000L);
+        token = jwtService.generateToken(USERNAME);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(USERNAME);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, USERNAME);
+    }
+}
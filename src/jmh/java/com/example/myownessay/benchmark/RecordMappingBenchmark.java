@@ -0,0 +1,105 @@
+package com.example.myownessay.benchmark;
+
+import com.example.myownessay.common.response.ApiResponse;
+import com.example.myownessay.dto.record.response.DailyRecordsResponse;
+import com.example.myownessay.dto.record.response.RecordResponse;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기록 응답 변환/직렬화 벤치마크
+ * 엔티티 -> DTO 변환(RecordResponse.from, DailyRecordsResponse.from)과
+ * ApiResponse 로 감싼 일간/주간 응답의 JSON 직렬화 비용을 잽니다.
+ * ObjectMapper 는 Spring Boot 기본 설정(JavaTimeModule, 날짜 문자열 출력)과 같게 만듭니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordMappingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Record record;
+    private List<Record> dailyRecords;
+    private ApiResponse<DailyRecordsResponse> dailyResponse;
+    private ApiResponse<List<RecordResponse>> weeklyResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        User user = BenchmarkFixtures.user();
+        Map<SlotType, Map<String, Object>> contents = BenchmarkFixtures.validContents();
+        LocalDate today = LocalDate.now();
+
+        long id = 1;
+        dailyRecords = new ArrayList<>();
+        for (SlotType slotType : SlotType.values()) {
+            dailyRecords.add(BenchmarkFixtures.record(user, id++, today, slotType, contents.get(slotType), slotType != SlotType.DIARY));
+        }
+        record = dailyRecords.get(0);
+
+        List<RecordResponse> week = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            for (SlotType slotType : SlotType.values()) {
+                week.add(RecordResponse.from(BenchmarkFixtures.record(
+                        user, id++, today.minusDays(day), slotType, contents.get(slotType), true)));
+            }
+        }
+
+        dailyResponse = ApiResponse.success(dailyRecordsResponse());
+        weeklyResponse = ApiResponse.success(week);
+    }
+
+    @Benchmark
+    public RecordResponse recordResponseFrom() {
+        return RecordResponse.from(record);
+    }
+
+    @Benchmark
+    public DailyRecordsResponse dailyRecordsResponseFrom() {
+        return dailyRecordsResponse();
+    }
+
+    @Benchmark
+    public String serializeDaily() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(dailyResponse);
+    }
+
+    @Benchmark
+    public String serializeWeekly() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(weeklyResponse);
+    }
+
+    private DailyRecordsResponse dailyRecordsResponse() {
+        List<RecordResponse> responses = dailyRecords.stream().map(RecordResponse::from).toList();
+        int completed = (int) responses.stream().filter(RecordResponse::getIsCompleted).count();
+        return DailyRecordsResponse.from(record.getRecordDate(), responses,
+                completed / 4.0, completed, completed == 4);
+    }
+}
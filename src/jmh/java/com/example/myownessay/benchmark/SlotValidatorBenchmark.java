@@ -0,0 +1,60 @@
+package com.example.myownessay.benchmark;
+
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.validator.ConsultingSlotValidator;
+import com.example.myownessay.validator.DiarySlotValidator;
+import com.example.myownessay.validator.HealingSlotValidator;
+import com.example.myownessay.validator.ReadingSlotValidator;
+import com.example.myownessay.validator.SlotContentValidator;
+import com.example.myownessay.validator.SlotValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 슬롯 내용 검증 벤치마크
+ * 슬롯마다 유효한 내용을 팩토리에서 고른 검증기로 검사하는 비용을 잽니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlotValidatorBenchmark {
+
+    @Param({"READING", "CONSULTING", "HEALING", "DIARY"})
+    public SlotType slotType;
+
+    private SlotValidatorFactory validatorFactory;
+    private Map<String, Object> content;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = new SlotValidatorFactory(
+                new ReadingSlotValidator(),
+                new ConsultingSlotValidator(),
+                new HealingSlotValidator(),
+                new DiarySlotValidator());
+        content = BenchmarkFixtures.validContents().get(slotType);
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        SlotContentValidator validator = validatorFactory.getValidator(slotType);
+        validator.validate(content);
+        blackhole.consume(validator);
+    }
+}
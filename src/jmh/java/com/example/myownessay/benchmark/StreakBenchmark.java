@@ -0,0 +1,129 @@
+package com.example.myownessay.benchmark;
+
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.RecordHistoryReader;
+import com.example.myownessay.service.StreakService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연속 기록 계산 벤치마크
+ * DB 대신 메모리의 가상 달력(오늘까지 streakDays 일 연속 완료, 그 이전 1년은 density 비율로 완료)을 조회하도록 바꿔
+ * StreakService 의 현재/최대 연속 기록 알고리즘 비용만 잽니다.
+ * 현재 연속 기록은 날짜마다 조회를 한 번씩 호출하므로 조회 횟수(= DB 왕복 수)도 함께 늘어납니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreakBenchmark {
+
+    @Param({"7", "90", "365"})
+    public int streakDays;
+
+    @Param({"0.7"})
+    public double density;
+
+    private StreakService streakService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        NavigableMap<LocalDate, List<Record>> calendar = calendar(user, streakDays, density);
+
+        RecordHistoryReader reader = new CalendarRecordReader(calendar);
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByEmail" -> Optional.of(user);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "UserRepository(benchmark)";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        streakService = new StreakService(reader, userRepository);
+    }
+
+    @Benchmark
+    public int currentStreak() {
+        return streakService.getCurrentStreak(user.getEmail());
+    }
+
+    @Benchmark
+    public int maxStreak() {
+        return streakService.getMaxStreak(user.getEmail());
+    }
+
+    private static NavigableMap<LocalDate, List<Record>> calendar(User user, int streakDays, double density) {
+        Map<SlotType, Map<String, Object>> contents = BenchmarkFixtures.validContents();
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        NavigableMap<LocalDate, List<Record>> calendar = new TreeMap<>();
+
+        long id = 1;
+        for (int day = 0; day <= 366; day++) {
+            LocalDate date = today.minusDays(day);
+            boolean completed = day < streakDays || (day > streakDays && random.nextDouble() < density);
+            List<Record> records = new ArrayList<>();
+            for (SlotType slotType : SlotType.values()) {
+                records.add(BenchmarkFixtures.record(user, id++, date, slotType, contents.get(slotType),
+                        completed && slotType == SlotType.READING));
+            }
+            calendar.put(date, records);
+        }
+        return calendar;
+    }
+
+    /**
+     * 가상 달력에서 기록을 읽는 조회기 (DB 를 사용하지 않음)
+     */
+    private static class CalendarRecordReader extends RecordHistoryReader {
+
+        private final NavigableMap<LocalDate, List<Record>> calendar;
+
+        CalendarRecordReader(NavigableMap<LocalDate, List<Record>> calendar) {
+            super(null, null, null, null);
+            this.calendar = calendar;
+        }
+
+        @Override
+        public List<Record> findByUserAndRecordDate(User user, LocalDate recordDate) {
+            return calendar.getOrDefault(recordDate, List.of());
+        }
+
+        @Override
+        public List<Record> findByUserAndRecordDateBetween(User user, LocalDate startDate, LocalDate endDate) {
+            List<Record> records = new ArrayList<>();
+            calendar.subMap(startDate, true, endDate, true).values().forEach(records::addAll);
+            return records;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.myownessay.client;
+
+import java.util.function.Consumer;
+
+/**
+ * LLM 클라이언트
+ * 에세이 초안 생성에 사용하는 언어 모델 호출을 추상화합니다.
+ * llm.provider 설정값으로 구현체를 선택합니다. (openai, stub)
+ */
+public interface LlmClient {
+
+    /**
+     * 프롬프트로 텍스트를 생성합니다.
+     * 호출이 수십 초 걸릴 수 있으므로 요청 스레드에서 직접 호출하지 않습니다.
+     *
+     * @param prompt 프롬프트
+     * @return 생성된 텍스트
+     * @throws LlmClientException 호출 실패 시
+     */
+    String generate(String prompt);
+
+    /**
+     * 프롬프트로 텍스트를 생성하면서 토큰이 만들어지는 대로 전달합니다.
+     * 스트리밍을 지원하지 않는 구현체는 전체 결과를 한 번에 전달합니다.
+     *
+     * @param prompt 프롬프트
+     * @param onToken 토큰 수신 콜백 (호출 스레드에서 순서대로 호출됨)
+     * @throws LlmClientException 호출 실패 시
+     */
+    default void stream(String prompt, Consumer<String> onToken) {
+        onToken.accept(generate(prompt));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.myownessay.client;
+
+/**
+ * LLM 호출 실패 예외
+ */
+public class LlmClientException extends RuntimeException {
+
+    public LlmClientException(String message) {
+        super(message);
+    }
+
+    public LlmClientException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.myownessay.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM 호출 속도 제한기 (토큰 버킷)
+ * 노드의 모든 LLM 호출(작업 워커, 스트리밍, 배치)이 같은 버킷을 공유합니다.
+ * 여러 노드에서 실행할 경우 전체 한도를 노드 수로 나눈 값을 설정합니다.
+ */
+@Component
+@Slf4j
+public class LlmRateLimiter {
+
+    private final double permitsPerSecond;
+    private final double maxBurst;
+    private final long nanosPerPermit;
+
+    private double storedPermits;
+    private long lastRefillNanos;
+
+    public LlmRateLimiter(
+            @Value("${llm.rate-limit.permits-per-second:0}") double permitsPerSecond,
+            @Value("${llm.rate-limit.burst:1}") int burst
+    ) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.maxBurst = Math.max(1, burst);
+        this.nanosPerPermit = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        this.storedPermits = this.maxBurst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 호출 한 번에 필요한 허가를 얻을 때까지 대기합니다. (제한이 0 이하이면 바로 반환)
+     *
+     * @throws LlmClientException 대기 중 인터럽트된 경우
+     */
+    public void acquire() {
+        if (permitsPerSecond <= 0) {
+            return;
+        }
+
+        long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmClientException("LLM 호출 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    // 허가 하나를 예약하고, 사용 가능해질 때까지 기다려야 하는 시간을 반환
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        storedPermits = Math.min(maxBurst, storedPermits + (double) (now - lastRefillNanos) / nanosPerPermit);
+        lastRefillNanos = now;
+
+        storedPermits -= 1;
+        if (storedPermits >= 0) {
+            return 0;
+        }
+        return (long) (-storedPermits * nanosPerPermit);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.myownessay.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * OpenAI Chat Completions API 클라이언트
+ */
+@Component
+@ConditionalOnProperty(name = "llm.provider", havingValue = "openai", matchIfMissing = true)
+@Slf4j
+public class OpenAiLlmClient implements LlmClient {
+
+    private static final String STREAM_DATA_PREFIX = "data:";
+    private static final String STREAM_DONE = "[DONE]";
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final String model;
+
+    public OpenAiLlmClient(
+            ObjectMapper objectMapper,
+            @Value("${openai.api-key:}") String apiKey,
+            @Value("${openai.model:gpt-4o-mini}") String model,
+            @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl,
+            @Value("${openai.timeout-ms:60000}") int timeoutMs
+    ) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(5));
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
+
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .build();
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.model = model;
+    }
+
+    @Override
+    public String generate(String prompt) {
+        Map<String, Object> body = requestBody(prompt, false);
+
+        try {
+            JsonNode response = restClient.post()
+                    .uri("/chat/completions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body)
+                    .retrieve()
+                    .body(JsonNode.class);
+
+            JsonNode content = response == null ? null : response.path("choices").path(0).path("message").path("content");
+            if (content == null || content.isMissingNode() || content.asText().isBlank()) {
+                throw new LlmClientException("OpenAI 응답에 생성된 내용이 없습니다.");
+            }
+            return content.asText();
+        } catch (RestClientException e) {
+            log.error("OpenAI 호출 실패: {}", e.getMessage());
+            throw new LlmClientException("OpenAI 호출에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public void stream(String prompt, Consumer<String> onToken) {
+        Map<String, Object> body = requestBody(prompt, true);
+
+        try {
+            restClient.post()
+                    .uri("/chat/completions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .body(body)
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            throw new LlmClientException("OpenAI 스트리밍 호출 실패 - 상태 코드: " + response.getStatusCode());
+                        }
+                        readStream(response.getBody(), onToken);
+                        return null;
+                    });
+        } catch (RestClientException e) {
+            log.error("OpenAI 스트리밍 호출 실패: {}", e.getMessage());
+            throw new LlmClientException("OpenAI 호출에 실패했습니다.", e);
+        }
+    }
+
+    // SSE 응답에서 data 줄을 읽어 delta.content 를 순서대로 전달
+    private void readStream(InputStream body, Consumer<String> onToken) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith(STREAM_DATA_PREFIX)) {
+                continue;
+            }
+
+            String data = line.substring(STREAM_DATA_PREFIX.length()).trim();
+            if (STREAM_DONE.equals(data)) {
+                return;
+            }
+
+            JsonNode content = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+            if (content.isTextual() && !content.asText().isEmpty()) {
+                onToken.accept(content.asText());
+            }
+        }
+    }
+
+    private Map<String, Object> requestBody(String prompt, boolean stream) {
+        if (apiKey == null || apiKey.isBlank()) {
+            throw new LlmClientException("OpenAI API 키가 설정되지 않았습니다.");
+        }
+
+        return Map.of(
+                "model", model,
+                "stream", stream,
+                "messages", List.of(Map.of("role", "user", "content", prompt))
+        );
+    }
+}
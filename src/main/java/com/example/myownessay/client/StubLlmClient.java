@@ -0,0 +1,68 @@
+package com.example.myownessay.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 로컬/테스트용 LLM 클라이언트
+ * 외부 호출 없이 프롬프트로부터 항상 같은 초안을 만들어 반환합니다.
+ * 스트리밍 시에는 초안을 단어 단위 토큰으로 나눠 일정 간격으로 전달합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "llm.provider", havingValue = "stub")
+@Slf4j
+public class StubLlmClient implements LlmClient {
+
+    private final long latencyMs;
+    private final long tokenIntervalMs;
+
+    public StubLlmClient(
+            @Value("${llm.stub.latency-ms:0}") long latencyMs,
+            @Value("${llm.stub.token-interval-ms:20}") long tokenIntervalMs
+    ) {
+        this.latencyMs = latencyMs;
+        this.tokenIntervalMs = tokenIntervalMs;
+    }
+
+    @Override
+    public String generate(String prompt) {
+        log.debug("스텁 LLM 호출 - 프롬프트 길이: {}", prompt.length());
+        sleep(latencyMs);
+        return draft(prompt);
+    }
+
+    @Override
+    public void stream(String prompt, Consumer<String> onToken) {
+        log.debug("스텁 LLM 스트리밍 호출 - 프롬프트 길이: {}", prompt.length());
+        sleep(latencyMs);
+
+        String[] words = draft(prompt).split("(?<= )");
+        for (String word : words) {
+            sleep(tokenIntervalMs);
+            onToken.accept(word);
+        }
+    }
+
+    private String draft(String prompt) {
+        long recordLines = prompt.lines().filter(line -> line.startsWith("- ")).count();
+        return "이번 주에 남긴 " + recordLines + "개의 기록을 돌아보며, "
+                + "작은 하루들이 모여 한 주를 만들었다는 것을 느꼈다. "
+                + "(draft-" + Integer.toHexString(prompt.hashCode()) + ")";
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmClientException("LLM 호출이 중단되었습니다.", e);
+        }
+    }
+}
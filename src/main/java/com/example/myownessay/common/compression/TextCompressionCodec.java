@@ -0,0 +1,119 @@
+package com.example.myownessay.common.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 텍스트 압축 코덱
+ * 압축된 값은 포맷 헤더(MAGIC + 코덱 식별자) 뒤에 Base64 본문이 붙는 형태로 저장됩니다.
+ * 헤더가 없는 값은 압축 이전에 저장된 평문으로 간주하므로 기존 데이터도 그대로 읽을 수 있습니다.
+ */
+public final class TextCompressionCodec {
+
+    /**
+     * 압축 포맷 헤더 (평문 산문에는 나타나지 않는 제어 문자로 시작)
+     */
+    public static final String MAGIC = "\u0001cz1";
+
+    /**
+     * Deflate 코덱 식별자
+     */
+    public static final char DEFLATE = 'D';
+
+    private TextCompressionCodec() {
+    }
+
+    /**
+     * 임계값 이상의 값만 압축합니다.
+     * 압축 결과가 원본보다 크면(UTF-8 바이트 기준) 평문을 그대로 반환합니다.
+     *
+     * @param plain 원본 문자열
+     * @param thresholdBytes 압축 임계값 (UTF-8 바이트 기준)
+     * @return 저장용 문자열
+     */
+    public static String encode(String plain, int thresholdBytes) {
+        if (plain == null) {
+            return null;
+        }
+
+        byte[] raw = plain.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < thresholdBytes) {
+            return plain;
+        }
+
+        // 저장 크기는 UTF-8 바이트로 비교 (한글은 한 글자가 3바이트라 글자 수로 비교하면 이득을 놓침)
+        String encoded = MAGIC + DEFLATE + Base64.getEncoder().encodeToString(deflate(raw));
+        return encoded.getBytes(StandardCharsets.UTF_8).length < raw.length ? encoded : plain;
+    }
+
+    /**
+     * 저장된 값을 평문으로 복원합니다.
+     *
+     * @param stored 저장된 문자열
+     * @return 평문 문자열
+     */
+    public static String decode(String stored) {
+        if (!isCompressed(stored)) {
+            return stored;
+        }
+
+        char codec = stored.charAt(MAGIC.length());
+        if (codec != DEFLATE) {
+            throw new IllegalStateException("지원하지 않는 압축 코덱입니다: " + codec);
+        }
+
+        byte[] compressed = Base64.getDecoder().decode(stored.substring(MAGIC.length() + 1));
+        return new String(inflate(compressed), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 압축 포맷 헤더가 붙은 값인지 확인합니다.
+     */
+    public static boolean isCompressed(String stored) {
+        return stored != null && stored.length() > MAGIC.length() && stored.startsWith(MAGIC);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축 데이터가 손상되었습니다.");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축 데이터가 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.myownessay.common.converter;
+
+import com.example.myownessay.common.compression.TextCompressionCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 보관 기록 내용 컨버터
+ * 보관 기록은 거의 읽지 않으므로 storage.compression 설정과 관계없이 크기에 상관없이 압축해 TEXT 로 저장합니다.
+ * 압축 결과가 원본보다 크면 평문 JSON 으로 저장되며, 읽을 때는 압축 여부를 판별해 복원합니다.
+ */
+@Converter
+public class ArchivedContentConverter implements AttributeConverter<Map<String, Object>, String> {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, Object> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+
+        try {
+            return TextCompressionCodec.encode(objectMapper.writeValueAsString(attribute), 0);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("보관 기록 내용을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+
+        try {
+            return new HashMap<>(objectMapper.readValue(TextCompressionCodec.decode(dbData), MAP_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("보관 기록 내용을 복원할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.myownessay.common.converter;
+
+import com.example.myownessay.common.compression.TextCompressionCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON 컨텐츠 컬럼을 투명하게 압축 저장하는 컨버터
+ * 압축된 값은 {"__cz": "<압축 문자열>"} 형태의 봉투(envelope)로 저장되므로 컬럼은 계속 유효한 JSON 입니다.
+ * 봉투가 아닌 값은 압축 이전에 저장된 원본 JSON 으로 간주해 그대로 반환합니다.
+ */
+@Component
+@Converter
+public class CompressedJsonConverter implements AttributeConverter<Map<String, Object>, Map<String, Object>> {
+
+    /**
+     * 압축 봉투 키
+     */
+    public static final String ENVELOPE_KEY = "__cz";
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean enabled;
+    private final int thresholdBytes;
+
+    public CompressedJsonConverter(
+            @Value("${storage.compression.enabled:false}") boolean enabled,
+            @Value("${storage.compression.threshold-bytes:1024}") int thresholdBytes
+    ) {
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    @Override
+    public Map<String, Object> convertToDatabaseColumn(Map<String, Object> attribute) {
+        if (!enabled || attribute == null) {
+            return attribute;
+        }
+
+        try {
+            String json = objectMapper.writeValueAsString(attribute);
+            String encoded = TextCompressionCodec.encode(json, thresholdBytes);
+            if (!TextCompressionCodec.isCompressed(encoded)) {
+                return attribute;
+            }
+            return Map.of(ENVELOPE_KEY, encoded);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("기록 내용을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> convertToEntityAttribute(Map<String, Object> dbData) {
+        if (!isEnvelope(dbData)) {
+            // Hibernate 는 컨버터 왕복 결과를 스냅샷으로 사용하므로 항상 새 인스턴스를 반환해야 변경 감지가 동작함
+            return dbData != null ? new HashMap<>(dbData) : null;
+        }
+
+        try {
+            String json = TextCompressionCodec.decode((String) dbData.get(ENVELOPE_KEY));
+            return objectMapper.readValue(json, MAP_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("압축된 기록 내용을 복원할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 압축 봉투로 저장된 값인지 확인합니다.
+     */
+    public static boolean isEnvelope(Map<String, Object> dbData) {
+        return dbData != null
+                && dbData.size() == 1
+                && dbData.get(ENVELOPE_KEY) instanceof String value
+                && TextCompressionCodec.isCompressed(value);
+    }
+}
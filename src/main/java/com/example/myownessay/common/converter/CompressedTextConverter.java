@@ -0,0 +1,41 @@
+package com.example.myownessay.common.converter;
+
+import com.example.myownessay.common.compression.TextCompressionCodec;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 긴 텍스트 컬럼을 투명하게 압축 저장하는 컨버터
+ * storage.compression.enabled 가 true 일 때만 임계값 이상의 값을 압축해 저장하며,
+ * 읽기는 설정과 관계없이 항상 압축 여부를 판별해 복원합니다.
+ */
+@Component
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    private final boolean enabled;
+    private final int thresholdBytes;
+
+    public CompressedTextConverter(
+            @Value("${storage.compression.enabled:false}") boolean enabled,
+            @Value("${storage.compression.threshold-bytes:1024}") int thresholdBytes
+    ) {
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        if (!enabled) {
+            return attribute;
+        }
+        return TextCompressionCodec.encode(attribute, thresholdBytes);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return TextCompressionCodec.decode(dbData);
+    }
+}
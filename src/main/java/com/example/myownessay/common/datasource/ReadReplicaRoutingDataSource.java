@@ -0,0 +1,107 @@
+package com.example.myownessay.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 데이터소스
+ * readOnly 트랜잭션은 복제본, 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출)는 주 데이터베이스를 사용합니다.
+ *
+ * 복제 지연 때문에 방금 쓴 내용이 안 보이는 것을 막기 위해, 쓰기 트랜잭션을 커밋한 사용자의
+ * 읽기는 커밋 시각부터 일정 시간 동안 주 데이터베이스로 보냅니다. (read-your-writes)
+ * 커넥션을 얻는 시점에 기록하면 트랜잭션이 길어질수록 커밋 후 고정 시간이 줄어들므로 커밋 이후에 기록합니다.
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    // 이 크기를 넘으면 만료된 항목을 정리
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long stickyWindowMs;
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadReplicaRoutingDataSource(long stickyWindowMs) {
+        this.stickyWindowMs = stickyWindowMs;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    /**
+     * 현재 트랜잭션이 사용할 데이터소스 결정
+     */
+    public Route currentRoute() {
+        String principal = currentPrincipal();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit(principal);
+            return Route.PRIMARY;
+        }
+
+        return isSticky(principal) ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    // 트랜잭션 밖 호출(자동 커밋)은 바로 기록, 롤백된 트랜잭션은 기록하지 않음
+    private void recordWriteAfterCommit(String principal) {
+        if (principal == null || stickyWindowMs <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordWrite(principal);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(principal);
+            }
+        });
+    }
+
+    private void recordWrite(String principal) {
+        if (principal == null || stickyWindowMs <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        lastWriteAt.put(principal, now);
+        if (lastWriteAt.size() > CLEANUP_THRESHOLD) {
+            lastWriteAt.values().removeIf(writtenAt -> now - writtenAt > stickyWindowMs);
+        }
+    }
+
+    private boolean isSticky(String principal) {
+        if (principal == null || stickyWindowMs <= 0) {
+            return false;
+        }
+
+        Long writtenAt = lastWriteAt.get(principal);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt > stickyWindowMs) {
+            lastWriteAt.remove(principal, writtenAt);
+            return false;
+        }
+        return true;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
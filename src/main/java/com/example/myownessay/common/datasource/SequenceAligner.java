@@ -0,0 +1,72 @@
+package com.example.myownessay.common.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * ID 시퀀스 정렬기
+ * IDENTITY 컬럼으로 이미 데이터가 쌓인 PostgreSQL 테이블에서 시퀀스 기반 ID 로 전환하면,
+ * 새로 만들어진 시퀀스가 기존 ID 보다 뒤처져 충돌할 수 있습니다.
+ * 스키마 갱신이 끝난 뒤(EntityManagerFactory 초기화 이후) 시퀀스가 기존 최대 ID 보다 뒤에 있으면 앞으로 옮깁니다.
+ *
+ * ID 는 pooled-lo 방식으로 할당하므로 시퀀스 값이 블록의 시작 값입니다.
+ * 다음 블록 시작 값이 최대 ID 이하일 때만 옮기므로 이미 정렬된 시퀀스는 건드리지 않습니다.
+ */
+@Component
+@Slf4j
+public class SequenceAligner implements InitializingBean {
+
+    // 테이블 이름 -> 시퀀스 이름
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "users", "users_seq",
+            "records", "records_seq",
+            "essays", "essays_seq",
+            "likes", "likes_seq",
+            "bookmarks", "bookmarks_seq",
+            "week_progress", "week_progress_seq",
+            "essay_generation_jobs", "essay_generation_jobs_seq"
+    );
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceAligner(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, "getDatabaseProductName");
+        if (!"PostgreSQL".equals(product)) {
+            return;
+        }
+
+        SEQUENCES.forEach(this::alignPostgres);
+    }
+
+    private void alignPostgres(String table, String sequence) {
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        Map<String, Object> state = jdbcTemplate.queryForMap("SELECT last_value, is_called FROM " + sequence);
+
+        long lastValue = ((Number) state.get("last_value")).longValue();
+        boolean called = (Boolean) state.get("is_called");
+        long nextBlockStart = called ? lastValue + ALLOCATION_SIZE : lastValue;
+        if (maxId < nextBlockStart) {
+            return;
+        }
+
+        jdbcTemplate.queryForObject("SELECT setval(CAST(? AS regclass), ?, false)", Long.class, sequence, maxId + 1);
+        log.info("ID 시퀀스 정렬 - 시퀀스: {}, 다음 값: {}", sequence, maxId + 1);
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.myownessay.config;
 
+import com.example.myownessay.entity.User;
+import com.example.myownessay.monitoring.jfr.JwtVerificationEvent;
+import com.example.myownessay.monitoring.logging.RequestLogContextFilter;
 import com.example.myownessay.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -33,28 +37,40 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        log.debug("JwtAuthenticationFilter 실행 - URI: {}", request.getRequestURI());
-
         final String authHeader = request.getHeader("Authorization"); // Authorization 헤더에서 토큰 추출
         final String jwt; // JWT 토큰
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            log.debug("JWT 토큰이 없거나 형식이 잘못됨 - header: {}", authHeader);
+            log.debug("JWT 토큰이 없거나 형식이 잘못됨");
             filterChain.doFilter(request, response); // 토큰이 없거나 잘못된 형식이면 다음 필터로 이동
             return;
         }
 
         jwt = authHeader.substring(7); // "Bearer " 접두사를 제거하여 토큰만 추출
 
+        // 토큰 파싱부터 사용자 조회, 서명 검증까지를 JFR 이벤트로 측정 (임계값 기본 5ms)
+        JwtVerificationEvent verificationEvent = new JwtVerificationEvent();
+        verificationEvent.begin();
+        verificationEvent.setOutcome("INVALID");
+
         try {
             String userEmail = jwtService.extractUsername(jwt); // 토큰에서 사용자 이메일 추출
-            log.debug("Extracted userEmail: {}", userEmail);
 
             // SecurityContext에 인증 정보가 없고, 토큰에서 이메일을 성공적으로 추출한 경우
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail); // 사용자 정보 로드
+                Long userId = userDetails instanceof User user ? user.getId() : null;
+                if (userId != null) {
+                    verificationEvent.setUserId(userId);
+                }
+
+                boolean tokenValid = jwtService.isTokenValid(jwt, userEmail);
+                if (tokenValid && !userDetails.isEnabled()) {
+                    verificationEvent.setOutcome("DISABLED");
+                }
 
-                if (jwtService.isTokenValid(jwt, userEmail)) {
+                if (tokenValid && userDetails.isEnabled()) { // 탈퇴 등으로 비활성화된 계정은 인증하지 않음
+                    verificationEvent.setOutcome("VALID");
                     UsernamePasswordAuthenticationToken authToken =  // 인증 토큰 생성
                             new UsernamePasswordAuthenticationToken(
                                     userDetails, // 사용자 정보
@@ -65,13 +81,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request)); // 요청 세부 정보 설정
 
                     SecurityContextHolder.getContext().setAuthentication(authToken); // SecurityContext에 인증 정보 설정
-                    log.debug("Authenticated user '{}', setting security context", userEmail);
+                    if (userId != null) {
+                        MDC.put(RequestLogContextFilter.USER_ID_KEY, userId.toString()); // 이후 로그에 사용자 ID 포함
+                    }
+                    log.debug("JWT 인증 완료");
                 }
             }
         } catch (Exception e) {
-            log.error("JWT 토큰 처리 중 오류: {}", e.getMessage());
+            verificationEvent.setOutcome("ERROR");
+            log.info("JWT 토큰 처리 중 오류: {}", e.getMessage()); // 만료/위조 토큰은 흔하므로 INFO (반복 시 샘플링)
             // 예외가 발생해도 다음 필터로 전달하여 Spring Security가 처리하도록 함
         }
+        verificationEvent.commit();
 
         filterChain.doFilter(request, response); // 다음 필터로 이동
     }
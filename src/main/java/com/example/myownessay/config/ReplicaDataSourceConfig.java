@@ -0,0 +1,63 @@
+package com.example.myownessay.config;
+
+import com.example.myownessay.common.datasource.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// 읽기 복제본 라우팅 설정 (datasource.routing.enabled=true 일 때만 적용)
+// 주 데이터베이스는 spring.datasource, 복제본은 spring.datasource.replica 설정을 사용
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // 복제본 커넥션 풀 (jdbc-url, username, password, maximum-pool-size 등 Hikari 속성으로 설정)
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource routingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.routing.sticky-window-ms:2000}") long stickyWindowMs
+    ) {
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(stickyWindowMs);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadReplicaRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReadReplicaRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    // 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 얻도록 지연 프록시로 감싼 데이터소스를 기본으로 사용
+    // JDBC 추적 프록시가 커넥션을 미리 열지 않도록 이 빈과 라우터는 감싸지 않고 두 풀만 감쌈 (jdbc.excluded-data-source-bean-names)
+    @Bean
+    @Primary
+    public DataSource lazyRoutingDataSource(ReadReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
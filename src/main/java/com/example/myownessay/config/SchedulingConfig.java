@@ -0,0 +1,10 @@
+package com.example.myownessay.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 백그라운드 배치 작업(@Scheduled) 활성화 설정
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,14 +1,22 @@
 package com.example.myownessay.config;
 
 import com.example.myownessay.repository.UserRepository;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -17,6 +25,68 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // Prometheus 수집 엔드포인트 전용 필터 체인 (HTTP Basic, 수집 계정만 허용)
+    // 수집 계정 비밀번호가 설정되지 않으면 모든 요청을 거부
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(
+            HttpSecurity http,
+            PasswordEncoder passwordEncoder,
+            @Value("${monitoring.prometheus.username:prometheus}") String username,
+            @Value("${monitoring.prometheus.password:}") String password
+    ) throws Exception {
+        return basicAuthFilterChain(http, passwordEncoder, username, password, "METRICS",
+                "/actuator/prometheus");
+    }
+
+    // 운영 작업 엔드포인트 전용 필터 체인 (HTTP Basic, 운영자 계정만 허용)
+    // 서비스 사용자(JWT)에게는 운영자 권한이 없으므로 별도 계정으로 인증하며, 비밀번호가 없으면 모든 요청을 거부
+    @Bean
+    @Order(2)
+    public SecurityFilterChain operatorFilterChain(
+            HttpSecurity http,
+            PasswordEncoder passwordEncoder,
+            @Value("${monitoring.operator.username:operator}") String username,
+            @Value("${monitoring.operator.password:}") String password
+    ) throws Exception {
+        return basicAuthFilterChain(http, passwordEncoder, username, password, "ADMIN",
+                "/actuator/weekProgressBackfill/**", "/actuator/jfr/**");
+    }
+
+    // 설정된 계정 하나만 HTTP Basic 으로 허용하는 필터 체인
+    private static SecurityFilterChain basicAuthFilterChain(
+            HttpSecurity http,
+            PasswordEncoder passwordEncoder,
+            String username,
+            String password,
+            String role,
+            String... paths
+    ) throws Exception {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsService(new InMemoryUserDetailsManager(
+                org.springframework.security.core.userdetails.User.withUsername(username)
+                        .password(passwordEncoder.encode(password.isBlank() ? "" : password))
+                        .roles(role)
+                        .build()));
+
+        http
+            .securityMatcher(paths)
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> {
+                if (password.isBlank()) {
+                    auth.anyRequest().denyAll();
+                } else {
+                    auth.anyRequest().hasRole(role);
+                }
+            })
+            .authenticationManager(new ProviderManager(provider))
+            .httpBasic(Customizer.withDefaults());
+
+        return http.build();
+    }
+
     // SecurityFilterChain 빈 등록
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
@@ -29,6 +99,7 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS) // 세션 사용 안함
             )
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE 등 비동기 응답 재디스패치 (최초 요청에서 이미 인가됨)
                 .requestMatchers( // 인증 없이 접근 허용할 엔드포인트 설정
                         "/", // 루트 엔드포인트
                         "/api/health", // 헬스 체크 엔드포인트
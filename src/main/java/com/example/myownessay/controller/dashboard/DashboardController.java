@@ -0,0 +1,48 @@
+package com.example.myownessay.controller.dashboard;
+
+import com.example.myownessay.common.response.ApiResponse;
+import com.example.myownessay.dto.dashboard.response.DashboardResponse;
+import com.example.myownessay.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 홈 화면 대시보드 API 컨트롤러
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name="대시보드 API", description="홈 화면에 필요한 정보를 한 번에 조회하는 API")
+@SecurityRequirement(name = "bearerAuth")
+public class DashboardController {
+    private final DashboardService dashboardService;
+
+    @Operation(
+            summary = "대시보드 조회",
+            description = "오늘 기록, 이번 주 진행도, 현재/최대 연속 기록을 한 번에 조회합니다."
+    )
+    @GetMapping
+    public ResponseEntity<ApiResponse<?>> getDashboard(Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("인증이 필요합니다."));
+        }
+
+        try {
+            DashboardResponse response = dashboardService.getDashboard(authentication.getName());
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            log.error("대시보드 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("대시보드 조회에 실패했습니다."));
+        }
+    }
+}
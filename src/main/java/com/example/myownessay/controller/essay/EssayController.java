@@ -9,9 +9,12 @@ import com.example.myownessay.dto.essay.response.BookmarkResponse;
 import com.example.myownessay.dto.essay.response.EssayWithBookmarkResponse;
 import com.example.myownessay.dto.essay.response.EssayWithLikesResponse;
 import com.example.myownessay.dto.essay.response.LikeResponse;
+import com.example.myownessay.dto.essay.response.TrendingEssayResponse;
+import com.example.myownessay.entity.enums.EssayTheme;
 import com.example.myownessay.service.BookmarkService;
 import com.example.myownessay.service.EssayService;
 import com.example.myownessay.service.LikeService;
+import com.example.myownessay.service.TrendingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -40,6 +43,9 @@ public class EssayController {
     private final EssayService essayService;
     private final LikeService likeService;
     private final BookmarkService bookmarkService;
+    private final TrendingService trendingService;
+
+    private static final int MAX_TRENDING_LIMIT = 100;
 
     /**
      * 에세이 생성
@@ -132,6 +138,44 @@ public class EssayController {
         }
     }
 
+    /**
+     * 인기 에세이 목록 조회
+     */
+    @Operation(
+            summary = "인기 에세이 목록 조회",
+            description = "최근 좋아요/북마크를 시간 감쇠 점수로 환산해 공개 에세이 상위 목록을 조회합니다. 테마를 지정하면 해당 테마만 조회합니다."
+    )
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<?>> getTrendingEssays(
+            @Parameter(description = "테마 (RECOVERY, GRATITUDE, CHALLENGE, GROWTH)", example = "GROWTH")
+            @RequestParam(required = false) String theme,
+            @Parameter(description = "조회 개수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication
+    ) {
+        log.info("인기 에세이 조회 요청 - 테마: {}, 개수: {}", theme, limit);
+
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("인증이 필요합니다."));
+        }
+
+        try {
+            EssayTheme essayTheme = theme == null ? null : EssayTheme.fromString(theme);
+            int size = Math.max(1, Math.min(limit, MAX_TRENDING_LIMIT));
+            List<TrendingEssayResponse> responses = trendingService.getTrendingEssays(essayTheme, size);
+            return ResponseEntity.ok(ApiResponse.success(responses));
+        } catch (IllegalArgumentException e) {
+            log.error("인기 에세이 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("인기 에세이 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("인기 에세이 조회에 실패했습니다."));
+        }
+    }
+
     /**
      * 에세이 수정
      */
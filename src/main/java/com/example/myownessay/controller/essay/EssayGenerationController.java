@@ -0,0 +1,187 @@
+package com.example.myownessay.controller.essay;
+
+import com.example.myownessay.common.response.ApiResponse;
+import com.example.myownessay.dto.essay.request.EssayGenerationRequest;
+import com.example.myownessay.dto.essay.response.EssayGenerationJobResponse;
+import com.example.myownessay.service.EssayDraftStreamService;
+import com.example.myownessay.service.EssayGenerationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 에세이 초안 생성 API 컨트롤러
+ * 생성은 비동기 작업으로 처리되며, 요청 즉시 작업 ID 를 반환합니다.
+ * 스트리밍 생성은 작업을 등록하지 않고 SSE 연결에서 바로 초안을 전달합니다.
+ */
+@RestController
+@RequestMapping("/api/essays/generation-jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "에세이 초안 생성 API", description = "주간 기록 기반 AI 에세이 초안 생성 작업 API")
+@SecurityRequirement(name = "bearerAuth")
+public class EssayGenerationController {
+
+    private final EssayGenerationService essayGenerationService;
+    private final EssayDraftStreamService essayDraftStreamService;
+
+    /**
+     * 에세이 초안 생성 요청
+     * POST /api/essays/generation-jobs
+     */
+    @Operation(
+            summary = "에세이 초안 생성 요청",
+            description = "해당 주의 기록으로 AI 에세이 초안 생성 작업을 등록하고 202 와 작업 ID 를 반환합니다. 최소 3일의 기록이 필요합니다."
+    )
+    @PostMapping
+    public ResponseEntity<ApiResponse<?>> requestGeneration(
+            @Valid @RequestBody EssayGenerationRequest request,
+            Authentication authentication
+    ) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("인증이 필요합니다."));
+        }
+
+        log.info("에세이 초안 생성 요청 - 주 시작: {}, 사용자: {}", request.getWeekStart(), authentication.getName());
+
+        try {
+            String email = authentication.getName();
+            EssayGenerationJobResponse response = essayGenerationService.requestGeneration(email, request.getWeekStart());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/essays/generation-jobs/" + response.getJobId()))
+                    .body(ApiResponse.success(response));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.error("에세이 초안 생성 요청 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("에세이 초안 생성 요청 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("에세이 초안 생성 요청에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 생성 작업 상태 조회
+     * GET /api/essays/generation-jobs/{jobId}
+     */
+    @Operation(
+            summary = "생성 작업 상태 조회",
+            description = "에세이 초안 생성 작업의 상태(QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED)를 조회합니다."
+    )
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<?>> getJob(
+            @Parameter(description = "작업 ID", example = "1")
+            @PathVariable Long jobId,
+            Authentication authentication
+    ) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("인증이 필요합니다."));
+        }
+
+        try {
+            String email = authentication.getName();
+            EssayGenerationJobResponse response = essayGenerationService.getJob(email, jobId);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (RuntimeException e) {
+            log.error("생성 작업 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 생성 작업 취소
+     * DELETE /api/essays/generation-jobs/{jobId}
+     */
+    @Operation(
+            summary = "생성 작업 취소",
+            description = "대기 중이거나 실행 중인 에세이 초안 생성 작업을 취소합니다."
+    )
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<?>> cancelJob(
+            @Parameter(description = "작업 ID", example = "1")
+            @PathVariable Long jobId,
+            Authentication authentication
+    ) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("인증이 필요합니다."));
+        }
+
+        log.info("생성 작업 취소 요청 - 작업 ID: {}, 사용자: {}", jobId, authentication.getName());
+
+        try {
+            String email = authentication.getName();
+            EssayGenerationJobResponse response = essayGenerationService.cancelJob(email, jobId);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (RuntimeException e) {
+            log.error("생성 작업 취소 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 에세이 초안 스트리밍 생성
+     * GET /api/essays/generation-jobs/stream?weekStart=2025-09-01
+     */
+    @Operation(
+            summary = "에세이 초안 스트리밍 생성",
+            description = "AI 에세이 초안을 Server-Sent Events 로 생성되는 대로 전달합니다. "
+                    + "token 이벤트로 초안 조각을, 마지막에 done(에세이 ID) 또는 error 이벤트를 보냅니다. "
+                    + "생성이 끝나면 초안은 해당 주 에세이의 aiDraft 로 저장됩니다."
+    )
+    @GetMapping("/stream")
+    public ResponseEntity<SseEmitter> streamDraft(
+            @Parameter(description = "주 시작 날짜 (월요일, yyyy-MM-dd)", example = "2025-09-01")
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate weekStart,
+            Authentication authentication
+    ) {
+        if (authentication == null) {
+            return errorStream(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+        }
+
+        try {
+            String email = authentication.getName();
+            return ResponseEntity.ok(essayDraftStreamService.openStream(email, weekStart));
+        } catch (RejectedExecutionException e) {
+            log.warn("에세이 초안 스트리밍 거부: {}", e.getMessage());
+            return errorStream(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("에세이 초안 스트리밍 실패: {}", e.getMessage());
+            return errorStream(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // 스트림 시작 전 오류도 SSE 클라이언트가 읽을 수 있도록 error 이벤트 하나로 응답
+    private ResponseEntity<SseEmitter> errorStream(HttpStatus status, String message) {
+        SseEmitter emitter = new SseEmitter();
+        try {
+            emitter.send(SseEmitter.event().name("error").data(message));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return ResponseEntity.status(status).body(emitter);
+    }
+}
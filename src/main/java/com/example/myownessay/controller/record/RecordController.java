@@ -3,9 +3,11 @@ package com.example.myownessay.controller.record;
 import com.example.myownessay.common.response.ApiResponse;
 import com.example.myownessay.dto.record.request.RecordRequest;
 import com.example.myownessay.dto.record.response.DailyRecordsResponse;
+import com.example.myownessay.dto.record.response.RecordHeatmapResponse;
 import com.example.myownessay.dto.record.response.RecordResponse;
 import com.example.myownessay.entity.enums.SlotType;
 import com.example.myownessay.service.RecordCompletionService;
+import com.example.myownessay.service.RecordHeatmapService;
 import com.example.myownessay.service.RecordService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -34,6 +36,7 @@ public class RecordController {
 
     private final RecordService recordService;
     private final RecordCompletionService recordCompletionService;
+    private final RecordHeatmapService recordHeatmapService;
 
     // 특정 날짜와 슬롯 타입에 해당하는 기록 저장 또는 수정
     @Operation(
@@ -156,6 +159,38 @@ public class RecordController {
         }
     }
 
+    // 연간 기록 히트맵 조회 (하루 4비트로 인코딩)
+    @Operation(
+            summary = "연간 기록 히트맵 조회",
+            description = "해당 연도의 날짜별 완료 슬롯 수(0~4)를 하루 4비트로 묶어 Base64 로 반환합니다. "
+                    + "1월 1일부터 두 날씩 한 바이트이며, 앞 날짜가 상위 4비트입니다."
+    )
+    @GetMapping("/heatmap")
+    public ResponseEntity<ApiResponse<?>> getHeatmap(
+            @Parameter(description = "조회할 연도", example = "2025")
+            @RequestParam int year,
+            Authentication authentication
+    ) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("인증이 필요합니다."));
+        }
+
+        try {
+            String email = authentication.getName();
+            RecordHeatmapResponse response = recordHeatmapService.getHeatmap(email, year);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("연간 히트맵 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("연간 히트맵 조회에 실패했습니다."));
+        }
+    }
+
     // 특정 기록 삭제
     @Operation(
             summary = "기록 삭제",
@@ -0,0 +1,25 @@
+package com.example.myownessay.dto.dashboard.response;
+
+import com.example.myownessay.dto.WeekProgressResponse;
+import com.example.myownessay.dto.record.response.DailyRecordsResponse;
+import com.example.myownessay.dto.streak.response.StreakResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 홈 화면 대시보드 응답 (각 항목은 개별 API 응답과 같은 형식)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponse {
+    private DailyRecordsResponse today; // 오늘 기록 (GET /api/records/{오늘})
+    private WeekProgressResponse weekProgress; // 이번 주 진행도 (GET /api/week-progress/current)
+    private StreakResponse streak; // 연속 기록 (GET /api/streak)
+
+    // 정적 팩토리 메서드
+    public static DashboardResponse of(DailyRecordsResponse today, WeekProgressResponse weekProgress, StreakResponse streak) {
+        return new DashboardResponse(today, weekProgress, streak);
+    }
+}
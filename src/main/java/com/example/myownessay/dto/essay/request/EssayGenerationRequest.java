@@ -0,0 +1,19 @@
+package com.example.myownessay.dto.essay.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EssayGenerationRequest {
+
+    @NotNull(message = "주 시작 날짜는 필수입니다.")
+    private LocalDate weekStart;
+}
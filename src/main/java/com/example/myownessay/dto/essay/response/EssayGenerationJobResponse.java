@@ -0,0 +1,52 @@
+package com.example.myownessay.dto.essay.response;
+
+import com.example.myownessay.entity.EssayGenerationJob;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EssayGenerationJobResponse {
+
+    private Long jobId;
+
+    private GenerationJobStatus status;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate weekStart;
+
+    private Integer attempts;
+
+    private Long essayId;
+
+    private String errorMessage;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Entity -> DTO 변환 메서드
+     */
+    public static EssayGenerationJobResponse from(EssayGenerationJob job) {
+        return EssayGenerationJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .weekStart(job.getWeekStart())
+                .attempts(job.getAttempts())
+                .essayId(job.getEssayId())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
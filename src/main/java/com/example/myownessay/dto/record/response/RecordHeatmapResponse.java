@@ -0,0 +1,26 @@
+package com.example.myownessay.dto.record.response;
+
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordHeatmapResponse {
+
+    // 조회 연도
+    private Integer year;
+
+    // 해당 연도의 일수 (365 또는 366)
+    private Integer days;
+
+    // 하루 최대 슬롯 수 (4)
+    private Integer totalSlots;
+
+    // 인코딩 방식: 하루 4비트(완료 슬롯 수), 1월 1일부터 순서대로 두 날씩 한 바이트 (앞 날짜가 상위 4비트)
+    private String encoding;
+
+    // 인코딩된 데이터 (Base64)
+    private String data;
+}
@@ -31,6 +31,9 @@ public class RecordResponse {
 
     private Boolean isDeleted;
 
+    // 보관된 기록이면 true (읽기 전용, 삭제/복원 불가)
+    private Boolean isArchived;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
 
@@ -50,6 +53,7 @@ public class RecordResponse {
                 .content(record.getContent())
                 .isCompleted(record.getIsCompleted())
                 .isDeleted(record.getIsDeleted())
+                .isArchived(record.isArchived())
                 .createdAt(record.getCreatedAt())
                 .updatedAt(record.getUpdatedAt())
                 .deletedAt(record.getDeletedAt())
@@ -0,0 +1,110 @@
+package com.example.myownessay.entity;
+
+import com.example.myownessay.common.converter.ArchivedContentConverter;
+import com.example.myownessay.entity.enums.SlotType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 보관 기록 엔티티
+ * 보관 기준일보다 오래된 기록을 원래 ID 그대로 옮겨 압축 저장합니다.
+ * 기록 테이블을 작게 유지해 자주 쓰는 인덱스가 메모리에 머물도록 하기 위한 테이블입니다.
+ */
+@Entity
+@Table(name = "archived_records", uniqueConstraints = @UniqueConstraint(
+        name = "unique_archived_record",
+        columnNames = {"user_id", "record_date", "slot_type"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ArchivedRecord implements Persistable<Long> {
+
+    /**
+     * 원래 기록 ID
+     */
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "record_date", nullable = false)
+    private LocalDate recordDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "slot_type", nullable = false, length = 20)
+    private SlotType slotType;
+
+    @Convert(converter = ArchivedContentConverter.class)
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private Map<String, Object> content;
+
+    @Column(name = "is_completed", nullable = false)
+    private Boolean isCompleted;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // ID 를 직접 지정하므로 저장 전 존재 여부 조회(merge) 없이 바로 INSERT 하도록 새 엔티티 여부를 직접 관리
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    /**
+     * 기록을 보관 기록으로 변환
+     */
+    public static ArchivedRecord from(Record record, LocalDateTime archivedAt) {
+        return ArchivedRecord.builder()
+                .id(record.getId())
+                .user(record.getUser())
+                .recordDate(record.getRecordDate())
+                .slotType(record.getSlotType())
+                .content(record.getContent())
+                .isCompleted(record.isCompleted())
+                .createdAt(record.getCreatedAt())
+                .updatedAt(record.getUpdatedAt())
+                .archivedAt(archivedAt)
+                .build();
+    }
+
+    /**
+     * 조회용 기록으로 변환 (영속 상태가 아니므로 저장하면 안 됨)
+     */
+    public Record toRecord() {
+        Record record = new Record();
+        record.setId(id);
+        record.setUser(user);
+        record.setRecordDate(recordDate);
+        record.setSlotType(slotType);
+        record.setContent(content);
+        record.setIsCompleted(isCompleted);
+        record.setIsDeleted(false);
+        record.setCreatedAt(createdAt);
+        record.setUpdatedAt(updatedAt);
+        record.setArchived(true);
+        return record;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.myownessay.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 체크포인트 엔티티
+ * 마지막으로 처리한 키를 기록해 재시작 시 이어서 처리할 수 있게 합니다.
+ */
+@Entity
+@Table(name = "batch_checkpoints")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchCheckpoint {
+
+    /**
+     * 배치 작업 이름 (파티션이 있으면 파티션 이름 포함)
+     */
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    /**
+     * 마지막으로 처리 완료한 키 (키셋 페이지네이션 기준)
+     */
+    @Builder.Default
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId = 0L;
+
+    /**
+     * 이번 실행 완료 여부 (false 이면 중단된 실행이므로 이어서 처리)
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean completed = false;
+
+    @Builder.Default
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount = 0L;
+
+    @Builder.Default
+    @Column(name = "failed_count", nullable = false)
+    private Long failedCount = 0L;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 새 실행 시작 (처음부터 다시 처리)
+     */
+    public void restart(LocalDateTime now) {
+        this.lastProcessedId = 0L;
+        this.completed = false;
+        this.processedCount = 0L;
+        this.failedCount = 0L;
+        this.startedAt = now;
+    }
+
+    /**
+     * 청크 처리 결과 반영
+     */
+    public void advance(Long lastProcessedId, long processed, long failed) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += processed;
+        this.failedCount += failed;
+    }
+
+    /**
+     * 실행 완료 표시
+     */
+    public void markCompleted() {
+        this.completed = true;
+    }
+}
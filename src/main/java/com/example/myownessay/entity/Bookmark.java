@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class Bookmark {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookmarks_seq")
+    @SequenceGenerator(name = "bookmarks_seq", sequenceName = "bookmarks_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package com.example.myownessay.entity;
 
+import com.example.myownessay.common.converter.CompressedTextConverter;
 import com.example.myownessay.entity.enums.EssayTheme;
 import com.example.myownessay.entity.enums.PublishStatus;
 import jakarta.persistence.*;
@@ -23,7 +24,8 @@ import java.util.UUID;
 public class Essay {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "essays_seq")
+    @SequenceGenerator(name = "essays_seq", sequenceName = "essays_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,9 +35,11 @@ public class Essay {
     @Column(length = 200)
     private String title;
 
+    @Convert(converter = CompressedTextConverter.class)
     @Column(columnDefinition = "TEXT")
     private String aiDraft;
 
+    @Convert(converter = CompressedTextConverter.class)
     @Column(nullable = false, columnDefinition = "TEXT")
     private String finalContent;
 
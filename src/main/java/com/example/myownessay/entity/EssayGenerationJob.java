@@ -0,0 +1,78 @@
+package com.example.myownessay.entity;
+
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 에세이 초안 생성 작업 엔티티
+ * 요청 스레드와 분리된 워커가 처리하는 작업 큐의 항목입니다.
+ */
+@Entity
+@Table(name = "essay_generation_jobs", indexes = @Index(
+        name = "idx_generation_job_status_next_attempt",
+        columnList = "status, next_attempt_at"))
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EssayGenerationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "essay_generation_jobs_seq")
+    @SequenceGenerator(name = "essay_generation_jobs_seq", sequenceName = "essay_generation_jobs_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * 초안을 생성할 주의 시작 날짜 (월요일)
+     */
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private GenerationJobStatus status = GenerationJobStatus.QUEUED;
+
+    /**
+     * 시도 횟수 (워커가 작업을 가져갈 때마다 증가)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    /**
+     * 다음 시도 가능 시각 (재시도 백오프)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 생성된 초안이 저장된 에세이 ID
+     */
+    @Column(name = "essay_id")
+    private Long essayId;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,9 +1,11 @@
 package com.example.myownessay.entity;
 
+import com.example.myownessay.common.converter.CompressedJsonConverter;
 import com.example.myownessay.entity.enums.SlotType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -18,13 +20,15 @@ import java.util.Map;
         name = "unique_record",
         columnNames = {"user_id", "record_date", "slot_type"}))
 @EntityListeners(AuditingEntityListener.class)
+@SQLRestriction("is_deleted = false") // 소프트 삭제된 기록은 조회에서 제외
 @Getter
 @Setter
 @NoArgsConstructor
 public class Record {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "records_seq")
+    @SequenceGenerator(name = "records_seq", sequenceName = "records_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -38,6 +42,7 @@ public class Record {
     @Column(name = "slot_type", nullable = false, length = 20)
     private SlotType slotType;
 
+    @Convert(converter = CompressedJsonConverter.class)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "content", nullable = false)
     private Map<String, Object> content;
@@ -59,6 +64,10 @@ public class Record {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 보관 테이블에서 읽어 온 조회용 기록인지 여부 (저장, 삭제, 복원 불가)
+    @Transient
+    private boolean archived;
+
     // 기록 완료 상태 설정 메서드
     public void markAsCompleted() {
         this.isCompleted = true;
@@ -70,7 +79,7 @@ public class Record {
     }
 
     // 기록 소프트 삭제 메서드
-    public void markAsDeleted() { this.isDeleted = true; }
+    public void markAsDeleted() { this.isDeleted = true; this.deletedAt = LocalDateTime.now(); }
 
     public void restore() { this.isDeleted = false; this.deletedAt = null; }
 
@@ -0,0 +1,62 @@
+package com.example.myownessay.entity;
+
+import com.example.myownessay.entity.enums.EssayTheme;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * 인기 에세이 점수 체크포인트 엔티티
+ * 메모리에서 유지되는 시간 감쇠 점수를 주기적으로 저장해 재시작 시 복원합니다.
+ */
+@Entity
+@Table(name = "trending_scores")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingScore implements Persistable<Long> {
+
+    /**
+     * 에세이 ID (에세이당 하나의 점수)
+     */
+    @Id
+    @Column(name = "essay_id")
+    private Long essayId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private EssayTheme theme;
+
+    /**
+     * 체크포인트 시점 기준으로 감쇠가 적용된 점수
+     */
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(name = "checkpointed_at", nullable = false)
+    private Instant checkpointedAt;
+
+    // 에세이 ID 를 직접 지정하므로 체크포인트 저장 시 존재 여부 조회(merge) 없이 바로 INSERT 하도록 새 엔티티 여부를 직접 관리
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public Long getId() {
+        return essayId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -24,7 +24,8 @@ import java.util.List;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -42,6 +43,8 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Boolean isActive = true; // 기본값 설정
 
+    private LocalDateTime deletedAt; // 탈퇴 시각 (값이 있으면 데이터 삭제 대기)
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Record> records = new ArrayList<>();
 
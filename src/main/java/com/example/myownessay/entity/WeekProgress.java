@@ -26,7 +26,8 @@ import java.time.LocalDateTime;
 public class WeekProgress {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "week_progress_seq")
+    @SequenceGenerator(name = "week_progress_seq", sequenceName = "week_progress_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
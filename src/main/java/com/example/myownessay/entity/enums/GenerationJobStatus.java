@@ -0,0 +1,15 @@
+package com.example.myownessay.entity.enums;
+
+// 에세이 초안 생성 작업 상태
+// QUEUED: 대기, RUNNING: 생성 중, SUCCEEDED: 완료, FAILED: 실패, CANCELLED: 취소
+public enum GenerationJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
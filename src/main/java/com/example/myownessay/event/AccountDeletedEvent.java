@@ -0,0 +1,15 @@
+package com.example.myownessay.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 탈퇴 이벤트
+ * 계정 비활성화가 커밋된 뒤 사용자 데이터 삭제 작업에 전달하기 위해 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountDeletedEvent {
+
+    private final Long userId;
+}
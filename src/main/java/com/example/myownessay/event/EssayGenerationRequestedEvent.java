@@ -0,0 +1,15 @@
+package com.example.myownessay.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 에세이 초안 생성 작업 등록 이벤트
+ * 작업 행이 커밋된 뒤 워커에 바로 전달하기 위해 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class EssayGenerationRequestedEvent {
+
+    private final Long jobId;
+}
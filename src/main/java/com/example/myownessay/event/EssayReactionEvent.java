@@ -0,0 +1,53 @@
+package com.example.myownessay.event;
+
+import com.example.myownessay.entity.enums.EssayTheme;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 에세이 반응(좋아요/북마크) 추가·취소 이벤트
+ * 트랜잭션 커밋 이후 인기 에세이 점수 갱신에 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class EssayReactionEvent {
+
+    /**
+     * 반응 종류
+     */
+    public enum ReactionType {
+        LIKE,
+        BOOKMARK
+    }
+
+    private final Long essayId;
+    private final EssayTheme theme;
+    private final boolean publicEssay;
+    private final ReactionType type;
+    private final boolean added;
+    private final Instant occurredAt;
+
+    /**
+     * 반응을 남긴 시각 (취소 이벤트는 원래 반응 시각이며, 추가 때 더한 점수를 그대로 빼는 데 사용)
+     */
+    private final Instant reactedAt;
+
+    public static EssayReactionEvent added(Long essayId, EssayTheme theme, boolean publicEssay, ReactionType type) {
+        Instant now = Instant.now();
+        return new EssayReactionEvent(essayId, theme, publicEssay, type, true, now, now);
+    }
+
+    /**
+     * @param reactedAt 취소한 반응의 생성 시각 (엔티티 createdAt, 시스템 시간대 기준)
+     */
+    public static EssayReactionEvent removed(Long essayId, EssayTheme theme, boolean publicEssay, ReactionType type,
+                                             LocalDateTime reactedAt) {
+        Instant now = Instant.now();
+        Instant reacted = reactedAt == null ? now : reactedAt.atZone(ZoneId.systemDefault()).toInstant();
+        return new EssayReactionEvent(essayId, theme, publicEssay, type, false, now, reacted);
+    }
+}
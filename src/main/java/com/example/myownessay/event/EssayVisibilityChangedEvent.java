@@ -0,0 +1,22 @@
+package com.example.myownessay.event;
+
+import com.example.myownessay.entity.enums.EssayTheme;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 에세이 공개 상태/테마 변경 또는 삭제 이벤트
+ * 더 이상 PUBLIC 이 아닌 에세이는 인기 순위에서 제외됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class EssayVisibilityChangedEvent {
+
+    private final Long essayId;
+    private final EssayTheme theme;
+    private final boolean publicEssay;
+
+    public static EssayVisibilityChangedEvent deleted(Long essayId) {
+        return new EssayVisibilityChangedEvent(essayId, null, false);
+    }
+}
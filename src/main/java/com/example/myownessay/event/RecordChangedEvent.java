@@ -0,0 +1,18 @@
+package com.example.myownessay.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 기록 변경 이벤트
+ * 기록 저장, 삭제, 복원이 커밋된 뒤 주간 진행도를 다시 계산하기 위해 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class RecordChangedEvent {
+
+    private final Long userId;
+    private final LocalDate recordDate;
+}
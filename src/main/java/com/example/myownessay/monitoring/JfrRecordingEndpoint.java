@@ -0,0 +1,39 @@
+package com.example.myownessay.monitoring;
+
+import com.example.myownessay.monitoring.jfr.JfrRecordingManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * JFR 녹화 관리 엔드포인트
+ * GET /actuator/jfr 로 녹화 상태를 조회하고, POST 로 녹화를 시작하며,
+ * DELETE 로 녹화를 멈추고 파일로 저장합니다. (monitoring.operator 계정으로 HTTP Basic 인증 필요)
+ */
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrRecordingEndpoint {
+
+    private final JfrRecordingManager recordingManager;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return recordingManager.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> start() {
+        return recordingManager.start();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> stop() {
+        return recordingManager.stop();
+    }
+}
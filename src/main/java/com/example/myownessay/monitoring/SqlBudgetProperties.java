@@ -0,0 +1,35 @@
+package com.example.myownessay.monitoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 예산 설정 (sql.budget)
+ */
+@Component
+@ConfigurationProperties("sql.budget")
+@Getter
+@Setter
+public class SqlBudgetProperties {
+
+    // 경로별 예산이 없을 때 요청당 최대 SQL 문 수
+    private int defaultMaxStatements = 30;
+
+    // 경로별 최대 SQL 문 수 ("GET /api/streak/current" 형식의 메서드 + 경로 패턴)
+    private Map<String, Integer> routes = new HashMap<>();
+
+    // 한 요청에서 같은 SQL 이 이 횟수 이상 준비되면 N+1 로 의심해 경고
+    private int repeatedStatementThreshold = 5;
+
+    // 응답 헤더(X-Sql-Statement-Count, X-Sql-Time-Ms) 노출 여부
+    private boolean exposeHeaders = true;
+
+    public int getBudget(String route) {
+        return routes.getOrDefault(route, defaultMaxStatements);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.myownessay.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 예산 필터
+ * 요청마다 SQL 집계 범위를 열고, 응답 본문을 쓰기 직전에 SQL 문 수와 DB 시간을 응답 헤더로 내보냅니다.
+ * 요청이 끝나면 경로별 메트릭(http.server.sql.statements, http.server.sql.time)을 기록하고,
+ * 경로 예산을 넘거나 같은 SQL 이 반복되면(N+1 의심) 경고 로그와 초과 카운터를 남깁니다.
+ *
+ * 비동기 응답(SSE)은 최초 요청 스레드에서 실행된 SQL 만 집계합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementBudgetFilter(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            HeaderWritingResponse wrapped = new HeaderWritingResponse(response, scope);
+            try {
+                filterChain.doFilter(request, wrapped);
+            } finally {
+                wrapped.writeHeaders();
+                record(request, response, scope);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, SqlStatementCounter.Scope scope) {
+        // 매핑된 경로 패턴이 없는 요청(정적 리소스, 404 등)은 태그 수가 늘지 않도록 기록하지 않음
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+
+        String route = request.getMethod() + " " + pattern;
+        int statements = scope.getStatementCount();
+        long nanos = scope.getExecutionNanos();
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("요청당 SQL 문 수")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern.toString())
+                .register(meterRegistry)
+                .record(statements);
+        Timer.builder("http.server.sql.time")
+                .description("요청당 DB 실행 시간")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern.toString())
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        int budget = properties.getBudget(route);
+        if (statements > budget) {
+            Counter.builder("http.server.sql.budget.exceeded")
+                    .description("SQL 예산을 넘은 요청 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern.toString())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("SQL 예산 초과 - 경로: {}, SQL 문 수: {}, 예산: {}, DB 시간: {}ms, 상태: {}",
+                    route, statements, budget, TimeUnit.NANOSECONDS.toMillis(nanos), response.getStatus());
+        }
+
+        scope.getMostRepeated()
+                .filter(entry -> entry.getValue() >= properties.getRepeatedStatementThreshold())
+                .ifPresent(entry -> log.warn("N+1 의심 - 경로: {}, 반복 횟수: {}, SQL: {}",
+                        route, entry.getValue(), entry.getKey()));
+    }
+
+    /**
+     * 본문을 쓰기 시작하기 직전(커밋 전)에 SQL 집계 헤더를 붙이는 응답 래퍼
+     */
+    private class HeaderWritingResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementCounter.Scope scope;
+        private boolean headersWritten;
+
+        HeaderWritingResponse(HttpServletResponse response, SqlStatementCounter.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        void writeHeaders() {
+            if (headersWritten || !properties.isExposeHeaders() || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(STATEMENT_COUNT_HEADER, String.valueOf(scope.getStatementCount()));
+            setHeader(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(scope.getExecutionNanos())));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
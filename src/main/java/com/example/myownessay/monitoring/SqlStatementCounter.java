@@ -0,0 +1,121 @@
+package com.example.myownessay.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 스레드별 SQL 실행 집계
+ * 요청 필터나 테스트가 범위를 열면, 그 스레드에서 Hibernate 가 준비한 SQL 문 수와 JDBC 실행 시간을 모읍니다.
+ * 범위가 열리지 않은 스레드(배치, 백그라운드 작업)에서는 아무것도 기록하지 않습니다.
+ *
+ * <pre>
+ * try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+ *     streakService.getCurrentStreak(email);
+ *     assertThat(scope.getStatementCount()).isLessThanOrEqualTo(3);
+ * }
+ * </pre>
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * 현재 스레드에 집계 범위를 엽니다. 이미 열린 범위가 있으면 닫을 때 되돌립니다.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 현재 스레드에 열린 집계 범위
+     */
+    public static Optional<Scope> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void recordStatement(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statementCount++;
+            scope.statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void recordExecutionNanos(long nanos) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.executionNanos += nanos;
+        }
+    }
+
+    /**
+     * SQL 실행 집계 범위
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope previous;
+        private final Map<String, Integer> statements = new HashMap<>();
+        private int statementCount;
+        private long executionNanos;
+
+        private Scope(Scope previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * 준비된 SQL 문 수 (JDBC 배치로 묶인 INSERT/UPDATE 는 한 문으로 셈)
+         */
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        /**
+         * JDBC 실행 시간 합계 (나노초)
+         */
+        public long getExecutionNanos() {
+            return executionNanos;
+        }
+
+        /**
+         * 가장 많이 반복된 SQL 문과 반복 횟수 (N+1 의심 판단용)
+         */
+        public Optional<Map.Entry<String, Integer>> getMostRepeated() {
+            return statements.entrySet().stream().max(Map.Entry.comparingByValue());
+        }
+
+        /**
+         * 준비된 SQL 문 (중복 제거, 실행 계획 확인용)
+         */
+        public Set<String> getStatements() {
+            return Set.copyOf(statements.keySet());
+        }
+
+        /**
+         * 다른 스레드에서 모은 집계를 이 범위에 더합니다.
+         * 범위는 스레드 안전하지 않으므로, 작업 스레드가 끝나고 결과(Future)를 받은 뒤 이 범위를 연 스레드에서 호출합니다.
+         */
+        public void include(Scope other) {
+            statementCount += other.statementCount;
+            executionNanos += other.executionNanos;
+            other.statements.forEach((sql, count) -> statements.merge(sql, count, Integer::sum));
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        }
+    }
+}
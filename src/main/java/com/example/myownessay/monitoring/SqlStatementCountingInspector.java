@@ -0,0 +1,15 @@
+package com.example.myownessay.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문을 현재 스레드의 집계 범위에 기록합니다. (SQL 은 바꾸지 않음)
+ */
+public class SqlStatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.recordStatement(sql);
+        return sql;
+    }
+}
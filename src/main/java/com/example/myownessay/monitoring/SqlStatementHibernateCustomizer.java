@@ -0,0 +1,20 @@
+package com.example.myownessay.monitoring;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * SQL 실행 집계를 위한 Hibernate 설정 (문 수: StatementInspector, 실행 시간: 세션 이벤트 리스너)
+ */
+@Component
+public class SqlStatementHibernateCustomizer implements HibernatePropertiesCustomizer {
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCountingInspector());
+        hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.myownessay.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션마다 만들어져 JDBC 문/배치 실행 시간을 현재 스레드의 집계 범위에 더합니다.
+ * (hibernate.session.events.auto 로 등록)
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementCounter.recordExecutionNanos(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementCounter.recordExecutionNanos(System.nanoTime() - batchStart);
+    }
+}
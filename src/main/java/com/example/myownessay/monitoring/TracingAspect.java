@@ -0,0 +1,100 @@
+package com.example.myownessay.monitoring;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 서비스/리포지토리 메서드 추적 스팬
+ * 요청 스팬(http.server.requests) 아래에 서비스 메서드와 리포지토리 메서드를 하위 스팬으로 남기고,
+ * 그 아래에는 datasource-micrometer 가 JDBC 문 단위 스팬을 붙입니다.
+ *
+ * 리포지토리 스팬에는 조회한 행 수(db.result.count, 컬렉션/페이지는 원소 수, Optional 은 0 또는 1)나
+ * 수정 쿼리가 변경한 행 수(db.rows.affected)를 기록합니다.
+ * 추적이 꺼져 있으면 NOOP 트레이서를 사용하므로 비용이 거의 없습니다.
+ */
+@Aspect
+@Component
+public class TracingAspect {
+
+    static final String RESULT_COUNT_TAG = "db.result.count";
+    static final String ROWS_AFFECTED_TAG = "db.rows.affected";
+
+    private final ObjectProvider<Tracer> tracerProvider;
+
+    public TracingAspect(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
+    @Around("within(com.example.myownessay.service..*) && execution(public * *(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service", false);
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "repository", true);
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer, boolean countResult) throws Throwable {
+        Tracer tracer = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+        // 진행 중인 추적이 없으면(스케줄러 등) 새 추적을 만들지 않음
+        if (tracer.currentSpan() == null) {
+            return joinPoint.proceed();
+        }
+
+        String className = simpleName(joinPoint);
+        String methodName = joinPoint.getSignature().getName();
+        Span span = tracer.nextSpan()
+                .name(className + "." + methodName)
+                .tag("layer", layer)
+                .tag("code.namespace", className)
+                .tag("code.function", methodName)
+                .start();
+
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            Object result = joinPoint.proceed();
+            if (countResult) {
+                tagRowCount(span, result);
+            }
+            return result;
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    // 리포지토리 프록시는 구현 클래스(SimpleJpaRepository) 대신 선언한 인터페이스 이름을 사용
+    private static String simpleName(ProceedingJoinPoint joinPoint) {
+        Class<?>[] interfaces = joinPoint.getThis() == null ? new Class<?>[0] : joinPoint.getThis().getClass().getInterfaces();
+        for (Class<?> type : interfaces) {
+            if (type.getName().startsWith("com.example.myownessay.")) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+
+    private static void tagRowCount(Span span, Object result) {
+        if (result instanceof Collection<?> collection) {
+            span.tag(RESULT_COUNT_TAG, collection.size());
+        } else if (result instanceof Slice<?> slice) {
+            span.tag(RESULT_COUNT_TAG, slice.getNumberOfElements());
+        } else if (result instanceof Optional<?> optional) {
+            span.tag(RESULT_COUNT_TAG, optional.isPresent() ? 1 : 0);
+        } else if (result instanceof Integer rows) {
+            // @Modifying 쿼리는 변경된 행 수를 int 로 반환
+            span.tag(ROWS_AFFECTED_TAG, rows);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.myownessay.monitoring;
+
+import com.example.myownessay.service.WeekProgressBackfillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 주간 진행도 백필 관리 엔드포인트
+ * GET /actuator/weekProgressBackfill 로 진행 상태와 처리량을 조회하고,
+ * POST 로 백필을 시작합니다. (운영자 권한 필요)
+ */
+@Component
+@Endpoint(id = "weekProgressBackfill")
+@RequiredArgsConstructor
+public class WeekProgressBackfillEndpoint {
+
+    private final WeekProgressBackfillService backfillService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return backfillService.getStatus();
+    }
+
+    @WriteOperation
+    public Map<String, Object> start() {
+        return backfillService.start();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.myownessay.monitoring.jfr;
+
+import jdk.jfr.Event;
+
+import java.util.List;
+
+/**
+ * 도메인 JFR 이벤트 목록과 공통 이름
+ */
+public final class DomainEvents {
+
+    static final String PREFIX = "com.example.myownessay.";
+    static final String CATEGORY = "MyOwnEssay";
+
+    static final List<Class<? extends Event>> TYPES = List.of(
+            RecordSaveEvent.class,
+            StreakComputationEvent.class,
+            WeekProgressRecalculationEvent.class,
+            JwtVerificationEvent.class,
+            EssayGenerationEvent.class
+    );
+
+    private DomainEvents() {
+    }
+
+    /**
+     * 짧은 이름(RecordSave)으로 JFR 이벤트 이름 생성
+     */
+    static String eventName(String shortName) {
+        return PREFIX + shortName;
+    }
+}
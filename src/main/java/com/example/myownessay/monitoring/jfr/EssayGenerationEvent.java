@@ -0,0 +1,43 @@
+package com.example.myownessay.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * 에세이 초안 생성 JFR 이벤트 (생성 작업 한 번 실행)
+ * 드물고 오래 걸리는 작업이므로 기본 임계값 없이 모두 기록합니다.
+ */
+@Name(DomainEvents.PREFIX + "EssayGeneration")
+@Label("Essay Generation")
+@Category({DomainEvents.CATEGORY, "Essay"})
+@Description("프롬프트 구성, LLM 호출, 초안 저장")
+@Threshold("0 ms")
+@StackTrace(false)
+@Setter
+public class EssayGenerationEvent extends Event {
+
+    @Label("Job Id")
+    private long jobId;
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Week Start")
+    private String weekStart;
+
+    @Label("Record Count")
+    private int recordCount;
+
+    @Label("Draft Length")
+    private int draftLength;
+
+    @Label("Outcome")
+    @Description("SUCCEEDED, DISCARDED, FAILED")
+    private String outcome;
+}
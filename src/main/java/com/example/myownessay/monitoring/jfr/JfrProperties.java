@@ -0,0 +1,36 @@
+package com.example.myownessay.monitoring.jfr;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JFR 녹화 설정 (monitoring.jfr)
+ */
+@Component
+@ConfigurationProperties("monitoring.jfr")
+@Getter
+@Setter
+public class JfrProperties {
+
+    // 녹화 파일(.jfr)을 저장할 디렉터리
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "myownessay-jfr");
+
+    // JDK 기본 이벤트 설정 이름 (default: 상시 켜 둘 수 있는 수준, profile: 샘플링이 더 촘촘함)
+    private String settings = "default";
+
+    // 녹화 파일 최대 크기 (넘으면 오래된 청크부터 버림)
+    private long maxSizeMb = 256;
+
+    // 녹화 최대 시간 (지나면 자동으로 멈추고 파일로 저장)
+    private Duration maxDuration = Duration.ofMinutes(30);
+
+    // 도메인 이벤트별 기록 임계값 ("RecordSave" 형식의 짧은 이름, 없으면 이벤트 클래스의 기본값)
+    private Map<String, Duration> thresholds = new HashMap<>();
+}
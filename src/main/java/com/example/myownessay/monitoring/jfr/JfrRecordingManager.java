@@ -0,0 +1,150 @@
+package com.example.myownessay.monitoring.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.EventSettings;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 도메인 이벤트 JFR 녹화 관리
+ * 한 번에 하나의 녹화만 실행하며, JDK 기본 설정(CPU, GC, 락 등)에 도메인 이벤트를 더해 녹화합니다.
+ * 도메인 이벤트는 임계값을 넘긴 것만 기록되므로 녹화 중에도 평소 요청에 주는 부담이 거의 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JfrRecordingManager {
+
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JfrProperties properties;
+
+    private Recording recording;
+    private Path destination;
+
+    /**
+     * 녹화 시작
+     *
+     * @return 녹화 상태
+     * @throws IllegalStateException 이미 녹화 중인 경우
+     */
+    public synchronized Map<String, Object> start() {
+        if (isRecording()) {
+            throw new IllegalStateException("이미 JFR 녹화가 진행 중입니다.");
+        }
+        closeFinished();
+
+        try {
+            Files.createDirectories(properties.getDirectory());
+            Recording newRecording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+            newRecording.setName("myownessay-" + LocalDateTime.now().format(FILE_TIME_FORMAT));
+            newRecording.setToDisk(true);
+            newRecording.setMaxSize(properties.getMaxSizeMb() * 1024 * 1024);
+            newRecording.setDuration(properties.getMaxDuration());
+
+            for (Class<? extends Event> type : DomainEvents.TYPES) {
+                EventSettings eventSettings = newRecording.enable(type);
+                Duration threshold = properties.getThresholds().get(shortName(type));
+                if (threshold != null) {
+                    eventSettings.withThreshold(threshold);
+                }
+            }
+
+            Path file = properties.getDirectory().resolve(newRecording.getName() + ".jfr");
+            newRecording.setDestination(file);
+            newRecording.start();
+
+            recording = newRecording;
+            destination = file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("JFR 녹화 파일을 준비할 수 없습니다.", e);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("JFR 설정을 읽을 수 없습니다: " + properties.getSettings(), e);
+        }
+
+        log.info("JFR 녹화 시작 - 이름: {}, 파일: {}", recording.getName(), destination);
+        return status();
+    }
+
+    /**
+     * 녹화를 멈추고 파일로 저장
+     *
+     * @return 저장된 파일 경로와 크기
+     * @throws IllegalStateException 진행 중인 녹화가 없는 경우
+     */
+    public synchronized Map<String, Object> stop() {
+        if (!isRecording()) {
+            throw new IllegalStateException("진행 중인 JFR 녹화가 없습니다.");
+        }
+
+        // stop() 이 destination 으로 파일을 씀
+        recording.stop();
+        Map<String, Object> result = status();
+        log.info("JFR 녹화 종료 - 파일: {}, 크기: {}바이트", destination, result.get("sizeBytes"));
+
+        recording.close();
+        recording = null;
+        return result;
+    }
+
+    /**
+     * 현재(또는 마지막) 녹화 상태
+     */
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("recording", isRecording());
+        status.put("settings", properties.getSettings());
+        if (recording != null) {
+            status.put("name", recording.getName());
+            status.put("state", recording.getState().name());
+            status.put("startedAt", recording.getStartTime() == null ? null : recording.getStartTime().toString());
+            status.put("maxDuration", properties.getMaxDuration().toString());
+        }
+        if (destination != null) {
+            status.put("file", destination.toAbsolutePath().toString());
+            status.put("sizeBytes", fileSize(destination));
+        }
+        return status;
+    }
+
+    // 최대 시간이 지나 자동으로 멈춘 녹화는 파일만 남기고 정리
+    private void closeFinished() {
+        if (recording != null && recording.getState() != RecordingState.RUNNING) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private boolean isRecording() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String shortName(Class<? extends Event> type) {
+        String name = type.getAnnotation(Name.class).value();
+        return name.substring(DomainEvents.PREFIX.length());
+    }
+}
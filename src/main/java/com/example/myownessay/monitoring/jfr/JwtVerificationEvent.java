@@ -0,0 +1,31 @@
+package com.example.myownessay.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * JWT 검증 JFR 이벤트 (요청 인증 필터)
+ */
+@Name(DomainEvents.PREFIX + "JwtVerification")
+@Label("JWT Verification")
+@Category({DomainEvents.CATEGORY, "Security"})
+@Description("Bearer 토큰 파싱, 사용자 조회, 서명/만료 검증")
+@Threshold("5 ms")
+@StackTrace(false)
+@Setter
+public class JwtVerificationEvent extends Event {
+
+    @Label("User Id")
+    @Description("사용자를 찾지 못했으면 0")
+    private long userId;
+
+    @Label("Outcome")
+    @Description("VALID, INVALID, DISABLED, ERROR")
+    private String outcome;
+}
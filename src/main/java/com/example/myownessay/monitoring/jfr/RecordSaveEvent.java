@@ -0,0 +1,38 @@
+package com.example.myownessay.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * 기록 저장 JFR 이벤트 (슬롯 하나 저장)
+ */
+@Name(DomainEvents.PREFIX + "RecordSave")
+@Label("Record Save")
+@Category({DomainEvents.CATEGORY, "Record"})
+@Description("슬롯 기록 저장 (생성, 수정, 삭제 복원, 보관 기록 되돌림)")
+@Threshold("10 ms")
+@StackTrace(false)
+@Setter
+public class RecordSaveEvent extends Event {
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Slot Type")
+    private String slotType;
+
+    @Label("Record Date")
+    private String recordDate;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Completed")
+    private boolean completed;
+}
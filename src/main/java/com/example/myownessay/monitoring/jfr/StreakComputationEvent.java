@@ -0,0 +1,37 @@
+package com.example.myownessay.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * 연속 기록 계산 JFR 이벤트
+ */
+@Name(DomainEvents.PREFIX + "StreakComputation")
+@Label("Streak Computation")
+@Category({DomainEvents.CATEGORY, "Streak"})
+@Description("현재/최대 연속 기록 계산")
+@Threshold("10 ms")
+@StackTrace(false)
+@Setter
+public class StreakComputationEvent extends Event {
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Kind")
+    @Description("CURRENT 또는 MAX")
+    private String kind;
+
+    @Label("Streak Days")
+    private int streakDays;
+
+    @Label("Rows Scanned")
+    @Description("CURRENT 는 확인한 날짜 수, MAX 는 조회한 기록 행 수")
+    private int rowsScanned;
+}
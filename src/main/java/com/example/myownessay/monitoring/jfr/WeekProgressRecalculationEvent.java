@@ -0,0 +1,36 @@
+package com.example.myownessay.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * 주간 진행도 재계산 JFR 이벤트
+ */
+@Name(DomainEvents.PREFIX + "WeekProgressRecalculation")
+@Label("Week Progress Recalculation")
+@Category({DomainEvents.CATEGORY, "WeekProgress"})
+@Description("주간 완료 일수 집계 후 주간 진행도 저장")
+@Threshold("10 ms")
+@StackTrace(false)
+@Setter
+public class WeekProgressRecalculationEvent extends Event {
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Week Start")
+    private String weekStart;
+
+    @Label("Completed Days")
+    private int completedDays;
+
+    @Label("Retried")
+    @Description("동시 생성으로 유니크 제약에 걸려 다시 갱신했는지 여부")
+    private boolean retried;
+}
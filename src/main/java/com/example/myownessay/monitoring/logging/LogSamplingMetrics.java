@@ -0,0 +1,29 @@
+package com.example.myownessay.monitoring.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 샘플링으로 버린 로그 수 메트릭 (logging.sampled.dropped)
+ */
+@Component
+public class LogSamplingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return;
+        }
+        loggerContext.getTurboFilterList().stream()
+                .filter(RateLimitingTurboFilter.class::isInstance)
+                .map(RateLimitingTurboFilter.class::cast)
+                .forEach(filter -> FunctionCounter.builder("logging.sampled.dropped", filter,
+                                RateLimitingTurboFilter::getDroppedCount)
+                        .description("샘플링으로 버린 반복 로그 수")
+                        .register(registry));
+    }
+}
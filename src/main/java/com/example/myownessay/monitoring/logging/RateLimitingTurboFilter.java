@@ -0,0 +1,106 @@
+package com.example.myownessay.monitoring.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 반복 로그 샘플링 (Logback TurboFilter, logback-spring.xml 에서 등록)
+ * 지정한 로거 접두사의 maxLevel 이하 로그를 (로거, 메시지 형식) 별로 초당 maxPerSecond 개까지만 남기고 나머지는 버립니다.
+ * 메시지 형식은 인자를 채우기 전의 문자열이므로, 같은 자리에서 반복되는 로그가 하나로 묶입니다.
+ *
+ * 메시지를 만들기 전에 판단하므로 버린 로그는 문자열 포맷 비용도 들지 않으며,
+ * WARN 이상은 항상 남깁니다. 버린 개수는 logging.sampled.dropped 메트릭으로 확인합니다.
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    // 메시지 형식은 코드 상수이므로 키 수가 제한되지만, 혹시 동적으로 만든 형식이 들어와도 메모리가 늘지 않도록 상한을 둠
+    private static final int MAX_KEYS = 10_000;
+
+    private final List<String> loggerPrefixes = new ArrayList<>();
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private int maxPerSecond = 20;
+    private Level maxLevel = Level.INFO;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isDebugEnabled() 같은 레벨 확인 호출은 format 이 없음
+        if (!isStarted() || format == null || level == null || level.toInt() > maxLevel.toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        // 어차피 레벨 때문에 출력되지 않을 로그는 세지 않음
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel()) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String key = logger.getName() + '|' + format;
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= MAX_KEYS) {
+                return FilterReply.NEUTRAL;
+            }
+            window = windows.computeIfAbsent(key, ignored -> new Window());
+        }
+
+        if (window.tryAcquire(System.nanoTime() / 1_000_000_000L, maxPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        dropped.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean matches(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 지금까지 버린 로그 수
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // <loggerPrefix> 요소마다 호출됨
+    public void addLoggerPrefix(String loggerPrefix) {
+        loggerPrefixes.add(loggerPrefix.trim());
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    // 1초 단위 고정 창 (창이 바뀌는 순간 경쟁으로 몇 개 더 통과할 수 있지만 샘플링 용도로는 충분)
+    private static final class Window {
+
+        private volatile long second = Long.MIN_VALUE;
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int limit) {
+            if (second != now) {
+                second = now;
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
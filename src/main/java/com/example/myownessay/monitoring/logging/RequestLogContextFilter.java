@@ -0,0 +1,54 @@
+package com.example.myownessay.monitoring.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 로그 문맥 필터
+ * 요청마다 요청 ID 를 MDC(requestId)에 넣어 같은 요청의 로그를 묶을 수 있게 하고, X-Request-Id 응답 헤더로 돌려줍니다.
+ * 앞단(프록시, 클라이언트)이 보낸 X-Request-Id 가 있으면 그대로 사용합니다.
+ * 인증된 요청의 사용자 ID(userId)는 JwtAuthenticationFilter 가 넣고, 요청이 끝나면 여기서 함께 지웁니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLogContextFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_KEY = "requestId";
+    public static final String USER_ID_KEY = "userId";
+
+    // 로그에 그대로 들어가므로 짧은 영숫자 식별자만 받음
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+
+        MDC.put(REQUEST_ID_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID_KEY);
+            MDC.remove(USER_ID_KEY);
+        }
+    }
+}
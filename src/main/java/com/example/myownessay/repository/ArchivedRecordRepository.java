@@ -0,0 +1,63 @@
+package com.example.myownessay.repository;
+
+import com.example.myownessay.entity.ArchivedRecord;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.projection.DailyCompletedSlots;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 보관 기록 리포지토리
+ */
+@Repository
+public interface ArchivedRecordRepository extends JpaRepository<ArchivedRecord, Long> {
+
+    /**
+     * 특정 사용자의 날짜 범위 내 보관 기록 조회
+     */
+    List<ArchivedRecord> findByUserAndRecordDateBetween(User user, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 특정 사용자, 날짜, 슬롯 타입의 보관 기록 조회
+     */
+    Optional<ArchivedRecord> findByUserAndRecordDateAndSlotType(User user, LocalDate recordDate, SlotType slotType);
+
+    /**
+     * 보관된 기록 중 가장 늦은 날짜 조회 (보관 기록이 없으면 empty)
+     */
+    @Query("SELECT MAX(a.recordDate) FROM ArchivedRecord a")
+    Optional<LocalDate> findLatestRecordDate();
+
+    /**
+     * 특정 사용자의 기간 내 날짜별 완료 보관 기록 수 조회
+     */
+    @Query("SELECT a.user.id AS userId, a.recordDate AS recordDate, COUNT(a) AS completedSlots FROM ArchivedRecord a " +
+            "WHERE a.user.id = :userId AND a.recordDate BETWEEN :startDate AND :endDate AND a.isCompleted = true " +
+            "GROUP BY a.user.id, a.recordDate")
+    List<DailyCompletedSlots> findDailyCompletedSlots(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 여러 사용자의 날짜별 완료 보관 기록 수를 스트리밍 조회 (트랜잭션 안에서 사용)
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a.user.id AS userId, a.recordDate AS recordDate, COUNT(a) AS completedSlots FROM ArchivedRecord a " +
+            "WHERE a.user.id IN :userIds AND a.isCompleted = true " +
+            "GROUP BY a.user.id, a.recordDate")
+    Stream<DailyCompletedSlots> streamDailyCompletedSlots(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,29 @@
+package com.example.myownessay.repository;
+
+import com.example.myownessay.entity.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 체크포인트 리포지토리
+ */
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+
+    /**
+     * 완료 상태이거나 갱신이 멈춘 작업을 실행 상태로 선점 (선점에 성공하면 1 반환)
+     * 여러 노드가 같은 작업을 동시에 실행하지 않도록 조건부 UPDATE 로 처리합니다.
+     */
+    @Modifying
+    @Query("UPDATE BatchCheckpoint c SET c.completed = false, c.lastProcessedId = 0, c.processedCount = 0, " +
+            "c.failedCount = 0, c.startedAt = :now, c.updatedAt = :now " +
+            "WHERE c.name = :name AND (c.completed = true OR c.updatedAt < :staleBefore)")
+    int claim(@Param("name") String name,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+}
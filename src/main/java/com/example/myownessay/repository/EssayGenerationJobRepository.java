@@ -0,0 +1,110 @@
+package com.example.myownessay.repository;
+
+import com.example.myownessay.entity.EssayGenerationJob;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 에세이 초안 생성 작업 리포지토리
+ * 상태 전이는 조건부 UPDATE 로 처리해 여러 워커가 같은 작업을 동시에 가져가지 않도록 합니다.
+ */
+@Repository
+public interface EssayGenerationJobRepository extends JpaRepository<EssayGenerationJob, Long> {
+
+    /**
+     * 특정 사용자의 작업 조회
+     */
+    Optional<EssayGenerationJob> findByIdAndUser(Long id, User user);
+
+    /**
+     * 특정 사용자와 주에 대해 주어진 상태인 작업 조회 (중복 요청 방지)
+     */
+    Optional<EssayGenerationJob> findFirstByUserAndWeekStartAndStatusIn(
+            User user,
+            LocalDate weekStart,
+            Collection<GenerationJobStatus> statuses
+    );
+
+    /**
+     * 실행 시각이 된 대기 작업 ID 조회
+     */
+    @Query("SELECT j.id FROM EssayGenerationJob j " +
+            "WHERE j.status = com.example.myownessay.entity.enums.GenerationJobStatus.QUEUED " +
+            "AND j.nextAttemptAt <= :now ORDER BY j.id")
+    List<Long> findDueJobIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 대기 작업을 실행 상태로 선점 (선점에 성공하면 1 반환)
+     */
+    @Modifying
+    @Query("UPDATE EssayGenerationJob j SET j.status = com.example.myownessay.entity.enums.GenerationJobStatus.RUNNING, " +
+            "j.attempts = j.attempts + 1, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = com.example.myownessay.entity.enums.GenerationJobStatus.QUEUED")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 현재 상태가 from 목록 중 하나일 때만 상태 변경
+     */
+    @Modifying
+    @Query("UPDATE EssayGenerationJob j SET j.status = :to, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status IN :from")
+    int transition(@Param("id") Long id,
+                   @Param("from") Collection<GenerationJobStatus> from,
+                   @Param("to") GenerationJobStatus to,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 작업을 재시도 대기 상태로 되돌림
+     */
+    @Modifying
+    @Query("UPDATE EssayGenerationJob j SET j.status = com.example.myownessay.entity.enums.GenerationJobStatus.QUEUED, " +
+            "j.nextAttemptAt = :nextAttemptAt, j.errorMessage = :errorMessage, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = com.example.myownessay.entity.enums.GenerationJobStatus.RUNNING")
+    int reschedule(@Param("id") Long id,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("errorMessage") String errorMessage,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 작업을 실패 처리
+     */
+    @Modifying
+    @Query("UPDATE EssayGenerationJob j SET j.status = com.example.myownessay.entity.enums.GenerationJobStatus.FAILED, " +
+            "j.errorMessage = :errorMessage, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = com.example.myownessay.entity.enums.GenerationJobStatus.RUNNING")
+    int fail(@Param("id") Long id,
+             @Param("errorMessage") String errorMessage,
+             @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 작업을 완료 처리
+     */
+    @Modifying
+    @Query("UPDATE EssayGenerationJob j SET j.status = com.example.myownessay.entity.enums.GenerationJobStatus.SUCCEEDED, " +
+            "j.essayId = :essayId, j.errorMessage = null, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = com.example.myownessay.entity.enums.GenerationJobStatus.RUNNING")
+    int succeed(@Param("id") Long id,
+                @Param("essayId") Long essayId,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * 오랫동안 갱신되지 않은 실행 중 작업을 대기 상태로 복구 (워커 노드 중단 대비)
+     */
+    @Modifying
+    @Query("UPDATE EssayGenerationJob j SET j.status = com.example.myownessay.entity.enums.GenerationJobStatus.QUEUED, " +
+            "j.nextAttemptAt = :now, j.updatedAt = :now " +
+            "WHERE j.status = com.example.myownessay.entity.enums.GenerationJobStatus.RUNNING AND j.updatedAt < :staleBefore")
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+}
@@ -2,9 +2,15 @@ package com.example.myownessay.repository;
 
 import com.example.myownessay.entity.Essay;
 import com.example.myownessay.entity.User;
+import com.example.myownessay.repository.projection.StoredEssayContent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,8 +27,41 @@ public interface EssayRepository extends JpaRepository<Essay, Long> {
      */
     Optional<Essay> findByIdAndUser(Long id, User user);
 
+    /**
+     * 특정 사용자의 특정 주 에세이 조회
+     */
+    Optional<Essay> findFirstByUserAndWeekStartOrderByIdAsc(User user, LocalDate weekStart);
+
     /**
      * 공유 슬러그로 에세이 조회
      */
     Optional<Essay> findByShareSlug(String shareSlug);
+
+    /**
+     * ID 목록으로 에세이와 작성자를 함께 조회
+     */
+    @Query("SELECT e FROM Essay e JOIN FETCH e.user WHERE e.id IN :ids")
+    List<Essay> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 특정 사용자의 에세이 ID 목록 조회
+     */
+    @Query("SELECT e.id FROM Essay e WHERE e.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 ID 이후 에세이의 저장된 본문 조회 (키셋 페이지네이션, 압축 컨버터를 거치지 않은 컬럼 값)
+     */
+    @Query(value = "SELECT id AS id, ai_draft AS aiDraft, final_content AS finalContent FROM essays " +
+            "WHERE id > :lastId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<StoredEssayContent> findStoredContentAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    /**
+     * 본문 컬럼 재기록 (현재 저장 포맷으로 다시 인코딩, updated_at 은 변경하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Essay e SET e.aiDraft = :aiDraft, e.finalContent = :finalContent WHERE e.id = :id")
+    int rewriteContent(@Param("id") Long id,
+                       @Param("aiDraft") String aiDraft,
+                       @Param("finalContent") String finalContent);
 }
@@ -5,6 +5,7 @@ import com.example.myownessay.entity.Like;
 import com.example.myownessay.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,8 +32,9 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     long countByEssay(Essay essay);
 
     /**
-     * 특정 사용자의 좋아요 목록 (페이징)
+     * 특정 사용자의 좋아요 목록 (페이징, 에세이와 작성자를 함께 조회)
      */
+    @EntityGraph(attributePaths = {"essay", "essay.user"})
     Page<Like> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
     /**
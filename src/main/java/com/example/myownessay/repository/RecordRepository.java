@@ -2,30 +2,84 @@ package com.example.myownessay.repository;
 
 import com.example.myownessay.entity.Record;
 import com.example.myownessay.entity.User;
-import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.projection.DailyCompletedSlots;
+import com.example.myownessay.repository.projection.StoredRecordContent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * 기록 리포지토리
+ * 소프트 삭제된 기록은 엔티티 조건(@SQLRestriction)으로 모든 JPQL/파생 쿼리에서 제외됩니다.
+ * 삭제된 기록까지 봐야 하는 복원과 저장은 IncludingDeleted 네이티브 쿼리를 사용합니다.
+ */
 @Repository
 public interface RecordRepository extends JpaRepository<Record, Long> {
 
     // 특정 사용자와 날짜에 해당하는 모든 기록을 조회
     List<Record> findByUserAndRecordDate(User user, LocalDate recordDate);
 
-    // 특정 사용자, 날짜, 슬롯 타입에 해당하는 기록을 조회
-    Optional<Record> findByUserAndRecordDateAndSlotType(
-            User user,
-            LocalDate recordDate,
-            SlotType slotType
+    // 특정 사용자, 날짜, 슬롯 타입에 해당하는 기록을 조회 (삭제된 기록 포함)
+    @Query(value = "SELECT * FROM records " +
+            "WHERE user_id = :userId AND record_date = :recordDate AND slot_type = :slotType",
+            nativeQuery = true)
+    Optional<Record> findByUserIdAndRecordDateAndSlotTypeIncludingDeleted(
+            @Param("userId") Long userId,
+            @Param("recordDate") LocalDate recordDate,
+            @Param("slotType") String slotType
     );
 
+    // 기록 ID 로 조회 (삭제된 기록 포함)
+    @Query(value = "SELECT * FROM records WHERE id = :id", nativeQuery = true)
+    Optional<Record> findByIdIncludingDeleted(@Param("id") Long id);
+
     // 특정 사용자와 날짜 범위에 해당하는 모든 기록을 조회
     List<Record> findByUserAndRecordDateBetween(User user, LocalDate startDate, LocalDate endDate);
 
     // 특정 사용자와 기록 ID에 해당하는 기록을 조회
     Optional<Record> findByIdAndUser(Long recordId, User user);
+
+    // 여러 사용자의 날짜별 완료 기록 수를 스트리밍 조회 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r.user.id AS userId, r.recordDate AS recordDate, COUNT(r) AS completedSlots FROM Record r " +
+            "WHERE r.user.id IN :userIds AND r.isCompleted = true " +
+            "GROUP BY r.user.id, r.recordDate")
+    Stream<DailyCompletedSlots> streamDailyCompletedSlots(@Param("userIds") Collection<Long> userIds);
+
+    // 특정 사용자의 기간 내 날짜별 완료 기록 수 조회
+    @Query("SELECT r.user.id AS userId, r.recordDate AS recordDate, COUNT(r) AS completedSlots FROM Record r " +
+            "WHERE r.user.id = :userId AND r.recordDate BETWEEN :startDate AND :endDate " +
+            "AND r.isCompleted = true " +
+            "GROUP BY r.user.id, r.recordDate")
+    List<DailyCompletedSlots> findDailyCompletedSlots(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 보관 기준일보다 오래된 기록 조회 (ID 오름차순, 보관 배치용)
+    List<Record> findByRecordDateBeforeOrderByIdAsc(LocalDate cutoff, Pageable pageable);
+
+    // 특정 ID 이후 기록의 저장된 내용 조회 (키셋 페이지네이션, 압축 컨버터를 거치지 않은 JSON 원문)
+    @Query(value = "SELECT id AS id, CAST(content AS VARCHAR) AS content FROM records " +
+            "WHERE id > :lastId AND is_deleted = false ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<StoredRecordContent> findStoredContentAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    // 기록 내용 재기록 (현재 저장 포맷으로 다시 인코딩, updated_at 은 변경하지 않음)
+    @Modifying
+    @Query("UPDATE Record r SET r.content = :content WHERE r.id = :id")
+    int rewriteContent(@Param("id") Long id, @Param("content") Map<String, Object> content);
 }
@@ -0,0 +1,12 @@
+package com.example.myownessay.repository;
+
+import com.example.myownessay.entity.TrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 인기 에세이 점수 체크포인트 리포지토리
+ */
+@Repository
+public interface TrendingScoreRepository extends JpaRepository<TrendingScore, Long> {
+}
@@ -1,9 +1,14 @@
 package com.example.myownessay.repository;
 
 import com.example.myownessay.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,4 +26,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 닉네임 존재 여부 확인
     boolean existsByNickname(String nickname);
 
+    // 파티션에 속한 사용자 ID 목록 조회 (ID 를 파티션 수로 나눈 나머지 기준, 키셋 페이지네이션)
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId AND MOD(u.id, :partitions) = :partition ORDER BY u.id")
+    List<Long> findPartitionIdsAfter(
+            @Param("lastId") Long lastId,
+            @Param("partitions") int partitions,
+            @Param("partition") int partition,
+            Pageable pageable
+    );
+
+    // 탈퇴 후 데이터 삭제를 기다리는 사용자 ID 목록 조회 (탈퇴 시각이 기준 시각 이전인 계정)
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt IS NOT NULL AND u.deletedAt < :before ORDER BY u.id")
+    List<Long> findIdsPendingPurge(@Param("before") LocalDateTime before, Pageable pageable);
+
 }
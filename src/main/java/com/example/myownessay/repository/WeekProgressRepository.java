@@ -2,10 +2,14 @@ package com.example.myownessay.repository;
 
 import com.example.myownessay.entity.User;
 import com.example.myownessay.entity.WeekProgress;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +27,21 @@ public interface WeekProgressRepository extends JpaRepository<WeekProgress, Long
      */
     Optional<WeekProgress> findByUserAndWeekStart(User user, LocalDate weekStart);
 
+    /**
+     * 사용자 ID 와 주 시작 날짜로 주간 진행도 조회
+     * @param userId 사용자 ID
+     * @param weekStart 주 시작 날짜 (월요일)
+     * @return 주간 진행도
+     */
+    Optional<WeekProgress> findByUserIdAndWeekStart(Long userId, LocalDate weekStart);
+
+    /**
+     * 여러 사용자의 모든 주간 진행도 조회
+     * @param userIds 사용자 ID 목록
+     * @return 주간 진행도 리스트
+     */
+    List<WeekProgress> findByUserIdIn(Collection<Long> userIds);
+
     /**
      * 특정 사용자의 모든 주간 진행도 조회 (최신순)
      * @param user 사용자
@@ -49,4 +68,23 @@ public interface WeekProgressRepository extends JpaRepository<WeekProgress, Long
      * @return 주간 진행도 리스트
      */
     List<WeekProgress> findByUserAndEssayGeneratedFalseOrderByWeekStartDesc(User user);
+
+    /**
+     * 에세이 생성 대상 주간 진행도 ID 조회 (키셋 페이지네이션)
+     * @param lastId 이전 청크의 마지막 ID
+     * @param minCompletedDays 최소 완료 일수
+     * @param beforeWeekStart 이 날짜 이전에 시작한 주만 조회 (진행 중인 주 제외)
+     * @param pageable 청크 크기
+     * @return 주간 진행도 ID 리스트 (ID 오름차순)
+     */
+    @Query("SELECT w.id FROM WeekProgress w " +
+            "WHERE w.id > :lastId AND w.completedDays >= :minCompletedDays " +
+            "AND w.essayGenerated = false AND w.weekStart < :beforeWeekStart " +
+            "ORDER BY w.id")
+    List<Long> findEligibleIdsAfter(
+            @Param("lastId") Long lastId,
+            @Param("minCompletedDays") int minCompletedDays,
+            @Param("beforeWeekStart") LocalDate beforeWeekStart,
+            Pageable pageable
+    );
 }
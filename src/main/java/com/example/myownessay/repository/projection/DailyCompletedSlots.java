@@ -0,0 +1,15 @@
+package com.example.myownessay.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 하루 완료 기록 수 집계 결과
+ */
+public interface DailyCompletedSlots {
+
+    Long getUserId();
+
+    LocalDate getRecordDate();
+
+    Long getCompletedSlots();
+}
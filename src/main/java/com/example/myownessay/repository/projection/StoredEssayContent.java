@@ -0,0 +1,13 @@
+package com.example.myownessay.repository.projection;
+
+/**
+ * 에세이 본문 컬럼에 저장된 값 (압축되어 있으면 압축 문자열 그대로)
+ */
+public interface StoredEssayContent {
+
+    Long getId();
+
+    String getAiDraft();
+
+    String getFinalContent();
+}
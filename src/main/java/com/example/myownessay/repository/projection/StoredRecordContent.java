@@ -0,0 +1,11 @@
+package com.example.myownessay.repository.projection;
+
+/**
+ * 기록 내용 컬럼에 저장된 JSON 원문 (압축되어 있으면 압축 봉투 그대로)
+ */
+public interface StoredRecordContent {
+
+    Long getId();
+
+    String getContent();
+}
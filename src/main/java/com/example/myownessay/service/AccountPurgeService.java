@@ -0,0 +1,255 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.event.AccountDeletedEvent;
+import com.example.myownessay.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 탈퇴 계정 데이터 삭제 서비스
+ * 탈퇴 요청은 계정을 비활성화하고 탈퇴 시각만 기록하며, 실제 데이터는 커밋 후 이 서비스가 백그라운드에서 지웁니다.
+ *
+ * 엔티티를 읽지 않고 테이블별 집합 단위 DELETE 로 지우며, 한 트랜잭션에서 최대 chunk-size 행만 지워
+ * 트랜잭션과 잠금을 짧게 유지합니다. 외래 키를 거스르지 않도록 참조하는 쪽(좋아요, 북마크)부터 사용자 행 순서로 지우고,
+ * 소프트 삭제된 기록과 보관 기록도 함께 지우고, 지운 에세이는 메모리의 인기 순위에서도 뺍니다.
+ *
+ * 단계마다 남은 행을 다시 조회해 지우므로 중간에 멈춰도 다시 실행하면 이어서 처리되며,
+ * 이벤트를 놓쳤거나 대기열이 가득 찬 계정은 주기적인 점검에서 다시 가져옵니다.
+ */
+@Service
+@Slf4j
+public class AccountPurgeService {
+
+    /**
+     * 삭제 단계 (외래 키 안전 순서)
+     * 각 단계는 지울 행의 키를 사용자 ID(:userId) 로 찾는 쿼리와 그 키로 지우는 쿼리로 이루어집니다.
+     */
+    private static final List<PurgeStep> STEPS = List.of(
+            new PurgeStep("likes", "id",
+                    "SELECT id FROM likes WHERE user_id = :userId"),
+            new PurgeStep("bookmarks", "id",
+                    "SELECT id FROM bookmarks WHERE user_id = :userId"),
+            new PurgeStep("likes", "id",
+                    "SELECT l.id FROM likes l JOIN essays e ON e.id = l.essay_id WHERE e.user_id = :userId"),
+            new PurgeStep("bookmarks", "id",
+                    "SELECT b.id FROM bookmarks b JOIN essays e ON e.id = b.essay_id WHERE e.user_id = :userId"),
+            new PurgeStep("trending_scores", "essay_id",
+                    "SELECT t.essay_id FROM trending_scores t JOIN essays e ON e.id = t.essay_id WHERE e.user_id = :userId"),
+            new PurgeStep("essay_generation_jobs", "id",
+                    "SELECT id FROM essay_generation_jobs WHERE user_id = :userId"),
+            new PurgeStep("essays", "id",
+                    "SELECT id FROM essays WHERE user_id = :userId"),
+            new PurgeStep("week_progress", "id",
+                    "SELECT id FROM week_progress WHERE user_id = :userId"),
+            new PurgeStep("records", "id",
+                    "SELECT id FROM records WHERE user_id = :userId"),
+            new PurgeStep("archived_records", "id",
+                    "SELECT id FROM archived_records WHERE user_id = :userId")
+    );
+
+    private final UserRepository userRepository;
+    private final TrendingService trendingService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final long sweepGraceMs;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter purgedRowsCounter;
+    private final Counter purgedAccountsCounter;
+
+    public AccountPurgeService(
+            UserRepository userRepository,
+            TrendingService trendingService,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${account.purge.chunk-size:1000}") int chunkSize,
+            @Value("${account.purge.workers:1}") int workers,
+            @Value("${account.purge.queue-capacity:100}") int queueCapacity,
+            @Value("${account.purge.sweep-grace-ms:60000}") long sweepGraceMs
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("삭제 단위는 1 이상이어야 합니다.");
+        }
+
+        this.userRepository = userRepository;
+        this.trendingService = trendingService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+        this.sweepGraceMs = sweepGraceMs;
+        this.purgedRowsCounter = Counter.builder("account.purge.rows")
+                .description("탈퇴 계정 데이터 삭제로 지운 행 수")
+                .register(meterRegistry);
+        this.purgedAccountsCounter = Counter.builder("account.purge.accounts")
+                .description("데이터 삭제를 마친 탈퇴 계정 수")
+                .register(meterRegistry);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "account-purge-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 탈퇴가 커밋되면 데이터 삭제를 대기열에 넣습니다.
+     */
+    @TransactionalEventListener
+    public void onAccountDeleted(AccountDeletedEvent event) {
+        submit(event.getUserId());
+    }
+
+    /**
+     * 삭제 작업을 대기열에 넣습니다.
+     * 이미 처리 중인 계정이거나 대기열이 가득 차면 넣지 않고 다음 점검에서 다시 시도합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 대기열 등록 여부
+     */
+    public boolean submit(Long userId) {
+        if (!inFlight.add(userId)) {
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    purge(userId);
+                } catch (Exception e) {
+                    log.error("탈퇴 계정 데이터 삭제 실패 - 사용자 ID: {}, 원인: {}", userId, e.getMessage());
+                } finally {
+                    inFlight.remove(userId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(userId);
+            log.warn("데이터 삭제 대기열이 가득 차 다음 점검으로 미룹니다 - 사용자 ID: {}", userId);
+            return false;
+        }
+    }
+
+    /**
+     * 삭제를 마치지 못한 탈퇴 계정을 다시 대기열에 넣습니다.
+     * 방금 탈퇴해 이벤트로 처리 중일 계정은 유예 시간이 지난 뒤에만 가져옵니다.
+     */
+    @Scheduled(fixedDelayString = "${account.purge.sweep-interval-ms:600000}",
+            initialDelayString = "${account.purge.sweep-interval-ms:600000}")
+    public void sweep() {
+        LocalDateTime before = LocalDateTime.now().minus(sweepGraceMs, ChronoUnit.MILLIS);
+        List<Long> userIds = userRepository.findIdsPendingPurge(before, PageRequest.of(0, queueCapacity));
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        log.info("삭제를 마치지 못한 탈퇴 계정 재처리 - 건수: {}", userIds.size());
+        userIds.forEach(this::submit);
+    }
+
+    /**
+     * 탈퇴 계정의 데이터를 모두 지우고 마지막으로 사용자 행을 지웁니다.
+     * 탈퇴 표시가 없는 계정은 지우지 않으며, 호출한 스레드에서 바로 실행되고, 청크마다 별도 트랜잭션으로 커밋합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 지운 행 수 (사용자 행 포함)
+     */
+    public long purge(Long userId) {
+        // 탈퇴 표시가 있는 계정만 지움 (이미 지워졌거나 탈퇴하지 않은 계정은 건너뜀)
+        if (userRepository.findById(userId).map(user -> user.getDeletedAt() == null).orElse(true)) {
+            log.warn("탈퇴 표시가 없는 계정이어서 데이터 삭제를 건너뜁니다 - 사용자 ID: {}", userId);
+            return 0;
+        }
+
+        log.info("탈퇴 계정 데이터 삭제 시작 - 사용자 ID: {}", userId);
+        long total = 0;
+
+        // 에세이를 지운 뒤 메모리의 인기 순위에서도 뺌 (지우기 전에 빼면 그 사이 반응으로 다시 들어올 수 있음)
+        List<Long> essayIds = jdbcTemplate.queryForList(
+                "SELECT id FROM essays WHERE user_id = :userId", Map.of("userId", userId), Long.class);
+
+        for (PurgeStep step : STEPS) {
+            long deleted = 0;
+            while (true) {
+                Integer count = transactionTemplate.execute(status -> deleteChunk(step, userId));
+                if (count == null || count == 0) {
+                    break;
+                }
+                deleted += count;
+                purgedRowsCounter.increment(count);
+            }
+            if (deleted > 0) {
+                log.debug("탈퇴 계정 데이터 삭제 - 사용자 ID: {}, 테이블: {}, 건수: {}", userId, step.table(), deleted);
+            }
+            total += deleted;
+        }
+        trendingService.evict(essayIds);
+
+        // 데이터를 지우는 동안 탈퇴 표시가 바뀌지 않았을 때만 사용자 행을 지움
+        Integer users = transactionTemplate.execute(status -> jdbcTemplate.update(
+                "DELETE FROM users WHERE id = :userId AND deleted_at IS NOT NULL",
+                Map.of("userId", userId)));
+        if (users != null && users > 0) {
+            total += users;
+            purgedRowsCounter.increment(users);
+            purgedAccountsCounter.increment();
+        }
+
+        log.info("탈퇴 계정 데이터 삭제 완료 - 사용자 ID: {}, 지운 행 수: {}", userId, total);
+        return total;
+    }
+
+    private int deleteChunk(PurgeStep step, Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", chunkSize);
+        List<Long> keys = jdbcTemplate.queryForList(
+                step.selectSql() + " ORDER BY 1 FETCH FIRST :limit ROWS ONLY", params, Long.class);
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(
+                "DELETE FROM " + step.table() + " WHERE " + step.keyColumn() + " IN (:keys)",
+                Map.of("keys", keys));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record PurgeStep(String table, String keyColumn, String selectSql) {
+    }
+}
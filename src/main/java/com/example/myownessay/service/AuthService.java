@@ -10,13 +10,17 @@ import com.example.myownessay.dto.auth.request.UpdateProfileRequest;
 import com.example.myownessay.dto.auth.response.ProfileResponse;
 import com.example.myownessay.dto.auth.response.TokenResponse;
 import com.example.myownessay.entity.User;
+import com.example.myownessay.event.AccountDeletedEvent;
 import com.example.myownessay.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -25,6 +29,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 회원가입 처리
     @Transactional
@@ -217,8 +222,12 @@ public class AuthService {
             throw new AuthException(AuthErrorCode.INVALID_PASSWORD);
         }
 
-        userRepository.delete(user); // 실제 삭제
-        log.info("회원 탈퇴 성공: {}", user.getId());
+        // 계정만 바로 비활성화하고, 데이터는 커밋 후 백그라운드에서 삭제
+        user.setIsActive(false);
+        user.setDeletedAt(LocalDateTime.now());
+        userRepository.save(user);
+        eventPublisher.publishEvent(new AccountDeletedEvent(user.getId()));
+        log.info("회원 탈퇴 성공 (데이터 삭제 예약): {}", user.getId());
     }
 
     // User 엔티티를 UserInfo DTO로 매핑
@@ -5,11 +5,13 @@ import com.example.myownessay.dto.essay.response.EssayWithBookmarkResponse;
 import com.example.myownessay.entity.Bookmark;
 import com.example.myownessay.entity.Essay;
 import com.example.myownessay.entity.User;
+import com.example.myownessay.event.EssayReactionEvent;
 import com.example.myownessay.repository.BookmarkRepository;
 import com.example.myownessay.repository.EssayRepository;
 import com.example.myownessay.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,13 +25,14 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final EssayRepository essayRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 북마크 추가 (멱등성)
      */
     @Transactional
     public BookmarkResponse addBookmark(String email, Long essayId) {
-        log.info("북마크 추가 요청 - 이메일: {}, 에세이 ID: {}", email, essayId);
+        log.debug("북마크 추가 요청 - 에세이 ID: {}", essayId);
 
         User user = getUserByEmail(email);
         Essay essay = getEssayById(essayId);
@@ -41,9 +44,11 @@ public class BookmarkService {
                     .essay(essay)
                     .build();
             bookmarkRepository.save(bookmark);
+            eventPublisher.publishEvent(EssayReactionEvent.added(
+                    essayId, essay.getTheme(), essay.isPublic(), EssayReactionEvent.ReactionType.BOOKMARK));
             log.info("북마크 추가 완료 - 사용자: {}, 에세이: {}", user.getId(), essayId);
         } else {
-            log.info("이미 북마크한 에세이입니다 - 사용자: {}, 에세이: {}", user.getId(), essayId);
+            log.debug("이미 북마크한 에세이입니다 - 사용자: {}, 에세이: {}", user.getId(), essayId);
         }
 
         long bookmarkCount = bookmarkRepository.countByEssayId(essayId);
@@ -58,13 +63,16 @@ public class BookmarkService {
      */
     @Transactional
     public BookmarkResponse removeBookmark(String email, Long essayId) {
-        log.info("북마크 취소 요청 - 이메일: {}, 에세이 ID: {}", email, essayId);
+        log.debug("북마크 취소 요청 - 에세이 ID: {}", essayId);
 
         User user = getUserByEmail(email);
         Essay essay = getEssayById(essayId);
 
         bookmarkRepository.findByUserAndEssay(user, essay).ifPresent(bookmark -> {
             bookmarkRepository.delete(bookmark);
+            eventPublisher.publishEvent(EssayReactionEvent.removed(
+                    essayId, essay.getTheme(), essay.isPublic(), EssayReactionEvent.ReactionType.BOOKMARK,
+                    bookmark.getCreatedAt()));
             log.info("북마크 취소 완료 - 사용자: {}, 에세이: {}", user.getId(), essayId);
         });
 
@@ -80,7 +88,7 @@ public class BookmarkService {
      */
     @Transactional(readOnly = true)
     public Page<EssayWithBookmarkResponse> getMyBookmarks(String email, Pageable pageable) {
-        log.info("내 북마크 목록 조회 요청 - 이메일: {}", email);
+        log.debug("내 북마크 목록 조회 요청");
 
         User user = getUserByEmail(email);
         Page<Bookmark> bookmarks = bookmarkRepository.findByUserOrderByCreatedAtDesc(user, pageable);
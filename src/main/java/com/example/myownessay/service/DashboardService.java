@@ -0,0 +1,271 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.dto.WeekProgressResponse;
+import com.example.myownessay.dto.dashboard.response.DashboardResponse;
+import com.example.myownessay.dto.record.response.DailyRecordsResponse;
+import com.example.myownessay.dto.record.response.RecordResponse;
+import com.example.myownessay.dto.streak.response.StreakResponse;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.monitoring.SqlStatementCounter;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import com.example.myownessay.repository.projection.DailyCompletedSlots;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 홈 화면 대시보드 조회
+ * 오늘 기록, 이번 주 진행도, 연속 기록을 한 번의 요청으로 모읍니다.
+ *
+ * 사용자는 한 번만 조회하고, 서로 독립적인 세 조회(오늘 기록, 저장된 주간 진행도, 최근 1년 날짜별 완료 집계)를
+ * 전용 스레드 풀에서 동시에 실행합니다. 연속 기록과 저장되지 않은 주의 완료 일수는 모두 1년 집계 한 번에서 계산합니다.
+ *
+ * 각 조회는 작업 스레드의 짧은 읽기 전용 트랜잭션에서 실행되며, 요청 스레드는 트랜잭션 없이 결과만 기다리므로
+ * 요청 하나가 커넥션을 동시에 둘 이상 붙잡지 않습니다. (요청 스레드 + 작업 스레드 교착 방지)
+ * 작업 스레드에는 요청의 추적 스팬, MDC, 보안 컨텍스트를 이어 줍니다.
+ * (보안 컨텍스트가 없으면 읽기 복제본 라우팅이 방금 쓴 사용자를 알아보지 못해 복제본을 읽음)
+ * 작업 스레드의 SQL 집계는 요청 스레드가 결과를 받을 때 요청의 집계 범위에 더하고,
+ * 시간이 초과되면 남은 조회를 중단하므로 요청이 끝난 뒤에는 작업 스레드가 요청 상태를 건드리지 않습니다.
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+    // StreakService.getCurrentStreak 와 같은 상한
+    private static final int MAX_CURRENT_STREAK_DAYS = 365;
+
+    private final UserRepository userRepository;
+    private final RecordHistoryReader recordHistoryReader;
+    private final WeekProgressRepository weekProgressRepository;
+    private final WeekProgressRecalculator weekProgressRecalculator;
+    private final RecordCompletionService recordCompletionService;
+    private final ObjectProvider<Tracer> tracerProvider;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService securityContextExecutor;
+    private final long timeoutMs;
+
+    public DashboardService(
+            UserRepository userRepository,
+            RecordHistoryReader recordHistoryReader,
+            WeekProgressRepository weekProgressRepository,
+            WeekProgressRecalculator weekProgressRecalculator,
+            RecordCompletionService recordCompletionService,
+            ObjectProvider<Tracer> tracerProvider,
+            PlatformTransactionManager transactionManager,
+            @Value("${dashboard.executor.threads:8}") int threads,
+            @Value("${dashboard.executor.queue-capacity:200}") int queueCapacity,
+            @Value("${dashboard.timeout-ms:5000}") long timeoutMs
+    ) {
+        this.userRepository = userRepository;
+        this.recordHistoryReader = recordHistoryReader;
+        this.weekProgressRepository = weekProgressRepository;
+        this.weekProgressRecalculator = weekProgressRecalculator;
+        this.recordCompletionService = recordCompletionService;
+        this.tracerProvider = tracerProvider;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 대기열이 가득 차면 요청 스레드가 직접 실행 (동시 실행 이점만 포기하고 요청은 처리)
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        // 제출 시점의 SecurityContext 를 작업 스레드에 설정하고 끝나면 되돌림
+        this.securityContextExecutor = new DelegatingSecurityContextExecutorService(executor);
+    }
+
+    /**
+     * 대시보드 조회
+     *
+     * @param email 사용자 이메일
+     * @return 오늘 기록, 이번 주 진행도, 연속 기록
+     */
+    public DashboardResponse getDashboard(String email) {
+        log.debug("대시보드 조회 요청");
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = WeekProgressService.getWeekStart(today);
+        // 연속 기록(오늘까지 1년)과 이번 주(일요일까지)를 모두 덮는 구간
+        LocalDate windowStart = today.minusYears(1);
+        LocalDate windowEnd = weekStart.plusDays(6);
+
+        Future<Subquery<DailyRecordsResponse>> daily = submit(
+                () -> getDailyRecords(user, today));
+        Future<Subquery<Optional<WeekProgressResponse>>> storedWeekProgress = submit(
+                () -> weekProgressRepository.findByUserAndWeekStart(user, weekStart).map(WeekProgressResponse::from));
+        Future<Subquery<Set<LocalDate>>> completedDates = submit(
+                () -> findCompletedDates(user.getId(), windowStart, windowEnd));
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        DailyRecordsResponse todayRecords;
+        Optional<WeekProgressResponse> stored;
+        Set<LocalDate> dates;
+        try {
+            todayRecords = await(daily, deadline);
+            stored = await(storedWeekProgress, deadline);
+            dates = await(completedDates, deadline);
+        } finally {
+            // 실패하거나 시간이 초과되면 남은 조회를 중단 (이미 끝난 조회에는 영향 없음)
+            Stream.of(daily, storedWeekProgress, completedDates).forEach(future -> future.cancel(true));
+        }
+
+        WeekProgressResponse weekProgress = stored
+                .orElseGet(() -> unsavedWeekProgress(user.getId(), weekStart, dates));
+        StreakResponse streak = StreakResponse.of(currentStreak(dates, today), maxStreak(dates, windowStart, today));
+
+        log.debug("대시보드 조회 완료 - 현재 연속 기록: {}일, 이번 주 완료 일수: {}",
+                streak.getCurrentStreak(), weekProgress.getCompletedDays());
+        return DashboardResponse.of(todayRecords, weekProgress, streak);
+    }
+
+    // RecordService.getDailyRecords 와 같은 응답 (사용자 조회 제외)
+    private DailyRecordsResponse getDailyRecords(User user, LocalDate date) {
+        List<Record> records = recordHistoryReader.findByUserAndRecordDate(user, date);
+        List<RecordResponse> recordResponses = records.stream()
+                .map(RecordResponse::from)
+                .toList();
+
+        int completedCount = (int) records.stream()
+                .filter(Record::getIsCompleted)
+                .count();
+
+        return DailyRecordsResponse.from(date, recordResponses,
+                recordCompletionService.calculateDailyCompletion(completedCount),
+                completedCount,
+                recordCompletionService.isAllCompleted(completedCount));
+    }
+
+    // 완료한 날짜 집합 (보관된 기록 포함, 날짜 오름차순)
+    private Set<LocalDate> findCompletedDates(Long userId, LocalDate startDate, LocalDate endDate) {
+        Set<LocalDate> dates = new TreeSet<>();
+        for (DailyCompletedSlots row : recordHistoryReader.findDailyCompletedSlots(userId, startDate, endDate)) {
+            if (recordCompletionService.isCompletedDay(row.getCompletedSlots().intValue())) {
+                dates.add(row.getRecordDate());
+            }
+        }
+        return dates;
+    }
+
+    // 저장되지 않은 주는 WeekProgressService 처럼 계산값을 응답하고 저장은 재계산기에 맡김
+    private WeekProgressResponse unsavedWeekProgress(Long userId, LocalDate weekStart, Set<LocalDate> dates) {
+        LocalDate weekEnd = weekStart.plusDays(6);
+        int completedDays = (int) dates.stream()
+                .filter(date -> !date.isBefore(weekStart) && !date.isAfter(weekEnd))
+                .count();
+        weekProgressRecalculator.schedule(userId, weekStart);
+
+        return WeekProgressResponse.from(WeekProgress.builder()
+                .weekStart(weekStart)
+                .completedDays(completedDays)
+                .essayGenerated(false)
+                .build());
+    }
+
+    // 오늘부터 과거로 완료 기록이 이어진 일수
+    static int currentStreak(Set<LocalDate> dates, LocalDate today) {
+        int streak = 0;
+        while (streak < MAX_CURRENT_STREAK_DAYS && dates.contains(today.minusDays(streak))) {
+            streak++;
+        }
+        return streak;
+    }
+
+    // 구간 안에서 가장 길게 이어진 완료 일수 (날짜 오름차순 집합 기준)
+    static int maxStreak(Set<LocalDate> dates, LocalDate startDate, LocalDate endDate) {
+        int maxStreak = 0;
+        int streak = 0;
+        LocalDate previous = null;
+        for (LocalDate date : dates) {
+            if (date.isBefore(startDate) || date.isAfter(endDate)) {
+                continue;
+            }
+            streak = previous != null && previous.plusDays(1).equals(date) ? streak + 1 : 1;
+            maxStreak = Math.max(maxStreak, streak);
+            previous = date;
+        }
+        return maxStreak;
+    }
+
+    // 작업 스레드에서 읽기 전용 트랜잭션으로 실행하면서 요청 스레드의 추적, MDC, 보안 컨텍스트를 이어 줌
+    // SQL 은 작업 스레드의 집계 범위에 모으고, 결과를 받은 요청 스레드가 자기 범위에 더함
+    private <T> Future<Subquery<T>> submit(Supplier<T> query) {
+        Tracer tracer = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+        Span parentSpan = tracer.currentSpan();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        return securityContextExecutor.submit(() -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try (Tracer.SpanInScope ignored = tracer.withSpan(parentSpan);
+                 SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+                return new Subquery<>(readOnlyTransaction.execute(status -> query.get()), scope);
+            } finally {
+                if (previousMdc == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previousMdc);
+                }
+            }
+        });
+    }
+
+    // 남은 시간 안에 하위 조회 결과를 기다리고, 그 조회의 SQL 집계를 요청 스레드의 범위에 더함
+    private static <T> T await(Future<Subquery<T>> future, long deadline) {
+        try {
+            Subquery<T> subquery = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            SqlStatementCounter.current().ifPresent(scope -> scope.include(subquery.statements()));
+            return subquery.value();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("대시보드 조회 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대시보드 조회가 중단되었습니다.", e);
+        }
+    }
+
+    // 하위 조회 결과와 작업 스레드에서 실행한 SQL 집계
+    private record Subquery<T>(T value, SqlStatementCounter.Scope statements) {
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.entity.BatchCheckpoint;
+import com.example.myownessay.entity.EssayGenerationJob;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import com.example.myownessay.repository.BatchCheckpointRepository;
+import com.example.myownessay.repository.EssayGenerationJobRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 에세이 초안 야간 배치 생성 서비스
+ * 지난 주까지의 생성 대상 주간 진행도(완료 3일 이상, 미생성)를 ID 키셋으로 청크 단위 조회해
+ * 고정 크기 스레드 풀에서 생성합니다. 청크가 끝날 때마다 체크포인트를 남기므로
+ * 중간에 재시작되어도 마지막 청크 이후부터 이어서 처리합니다.
+ *
+ * 생성은 작업 큐와 같은 {@link EssayGenerationWorker} 경로를 사용하므로
+ * 재시도, 중복 방지, LLM 호출 속도 제한이 그대로 적용됩니다.
+ */
+@Service
+@Slf4j
+public class EssayBatchGenerationService {
+
+    static final String JOB_NAME = "essay-draft-batch";
+
+    private static final int MIN_COMPLETED_DAYS = 3;
+
+    private static final EnumSet<GenerationJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(GenerationJobStatus.QUEUED, GenerationJobStatus.RUNNING);
+
+    private enum ItemResult {
+        SUCCEEDED,
+        FAILED,
+        SKIPPED
+    }
+
+    private final WeekProgressRepository weekProgressRepository;
+    private final EssayGenerationJobRepository jobRepository;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final EssayGenerationWorker worker;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int workers;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile double throughput;
+
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+    private final Timer itemTimer;
+
+    public EssayBatchGenerationService(
+            WeekProgressRepository weekProgressRepository,
+            EssayGenerationJobRepository jobRepository,
+            BatchCheckpointRepository checkpointRepository,
+            EssayGenerationWorker worker,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${essay.batch.chunk-size:100}") int chunkSize,
+            @Value("${essay.batch.workers:4}") int workers
+    ) {
+        this.weekProgressRepository = weekProgressRepository;
+        this.jobRepository = jobRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.worker = worker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+
+        this.succeededCounter = meterRegistry.counter("essay.batch.items", "result", "succeeded");
+        this.failedCounter = meterRegistry.counter("essay.batch.items", "result", "failed");
+        this.skippedCounter = meterRegistry.counter("essay.batch.items", "result", "skipped");
+        this.itemTimer = Timer.builder("essay.batch.item.duration")
+                .description("배치 항목 하나의 초안 생성 시간")
+                .register(meterRegistry);
+        Gauge.builder("essay.batch.throughput", this, service -> service.throughput)
+                .description("현재(또는 마지막) 배치 실행의 초당 처리 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 야간 배치 실행 (기본: 매일 새벽 3시)
+     */
+    @Scheduled(cron = "${essay.batch.cron:0 0 3 * * *}", zone = "${essay.batch.zone:Asia/Seoul}")
+    public void runNightly() {
+        run();
+    }
+
+    /**
+     * 배치 실행
+     * 이전 실행이 끝나지 않았으면 체크포인트부터 이어서, 끝났으면 처음부터 처리합니다.
+     *
+     * @return 실행 후 체크포인트 (이미 실행 중이면 null)
+     */
+    public BatchCheckpoint run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("에세이 초안 배치가 이미 실행 중입니다.");
+            return null;
+        }
+
+        ExecutorService pool = newWorkerPool();
+        try {
+            BatchCheckpoint checkpoint = transactionTemplate.execute(status -> startOrResume());
+            long lastId = checkpoint.getLastProcessedId();
+            LocalDate currentWeekStart = WeekProgressService.getWeekStart(LocalDate.now());
+
+            long startedNanos = System.nanoTime();
+            long handled = 0;
+
+            while (true) {
+                List<Long> ids = weekProgressRepository.findEligibleIdsAfter(
+                        lastId, MIN_COMPLETED_DAYS, currentWeekStart, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                long[] counts = processChunk(pool, ids);
+                lastId = ids.get(ids.size() - 1);
+                handled += ids.size();
+                saveProgress(lastId, counts[0], counts[1]);
+
+                double elapsedSeconds = Math.max((System.nanoTime() - startedNanos) / 1e9, 1e-3);
+                throughput = handled / elapsedSeconds;
+                log.info("에세이 초안 배치 청크 완료 - 마지막 ID: {}, 성공: {}, 실패: {}, 건너뜀: {}, 처리량: {}/s",
+                        lastId, counts[0], counts[1], counts[2], String.format("%.2f", throughput));
+            }
+
+            BatchCheckpoint finished = transactionTemplate.execute(status -> {
+                BatchCheckpoint current = checkpointRepository.findById(JOB_NAME).orElseThrow();
+                current.markCompleted();
+                return current;
+            });
+            log.info("에세이 초안 배치 완료 - 성공: {}, 실패: {}", finished.getProcessedCount(), finished.getFailedCount());
+            return finished;
+        } finally {
+            pool.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    private BatchCheckpoint startOrResume() {
+        LocalDateTime now = LocalDateTime.now();
+        BatchCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> BatchCheckpoint.builder().name(JOB_NAME).startedAt(now).build());
+
+        if (Boolean.TRUE.equals(checkpoint.getCompleted())) {
+            checkpoint.restart(now);
+            log.info("에세이 초안 배치 시작");
+        } else if (checkpoint.getLastProcessedId() > 0) {
+            log.info("중단된 에세이 초안 배치 재개 - 마지막 처리 ID: {}", checkpoint.getLastProcessedId());
+        }
+        return checkpointRepository.save(checkpoint);
+    }
+
+    // 청크의 모든 항목을 풀에 나눠 처리하고 끝날 때까지 대기 (성공, 실패, 건너뜀 건수 반환)
+    private long[] processChunk(ExecutorService pool, List<Long> ids) {
+        List<Future<ItemResult>> futures = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            futures.add(pool.submit(() -> processItem(id)));
+        }
+
+        long[] counts = new long[3];
+        for (Future<ItemResult> future : futures) {
+            ItemResult result;
+            try {
+                result = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("에세이 초안 배치가 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                log.error("에세이 초안 배치 항목 처리 실패: {}", e.getCause().getMessage());
+                result = ItemResult.FAILED;
+            }
+
+            switch (result) {
+                case SUCCEEDED -> {
+                    counts[0]++;
+                    succeededCounter.increment();
+                }
+                case FAILED -> {
+                    counts[1]++;
+                    failedCounter.increment();
+                }
+                case SKIPPED -> {
+                    counts[2]++;
+                    skippedCounter.increment();
+                }
+            }
+        }
+        return counts;
+    }
+
+    private ItemResult processItem(Long weekProgressId) {
+        // 선점된 상태로 작업을 만들어 작업 워커 폴링과 겹치지 않게 함
+        Long jobId = transactionTemplate.execute(status -> {
+            WeekProgress weekProgress = weekProgressRepository.findById(weekProgressId).orElse(null);
+            if (weekProgress == null || !weekProgress.canGenerateEssay()) {
+                return null;
+            }
+            if (jobRepository.findFirstByUserAndWeekStartAndStatusIn(
+                    weekProgress.getUser(), weekProgress.getWeekStart(), ACTIVE_STATUSES).isPresent()) {
+                return null;
+            }
+
+            return jobRepository.save(EssayGenerationJob.builder()
+                    .user(weekProgress.getUser())
+                    .weekStart(weekProgress.getWeekStart())
+                    .status(GenerationJobStatus.RUNNING)
+                    .attempts(1)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build()).getId();
+        });
+        if (jobId == null) {
+            return ItemResult.SKIPPED;
+        }
+
+        itemTimer.record(() -> worker.execute(jobId));
+
+        GenerationJobStatus status = transactionTemplate.execute(tx ->
+                jobRepository.findById(jobId).map(EssayGenerationJob::getStatus).orElse(GenerationJobStatus.FAILED));
+        return status == GenerationJobStatus.SUCCEEDED ? ItemResult.SUCCEEDED : ItemResult.FAILED;
+    }
+
+    private void saveProgress(long lastId, long succeeded, long failed) {
+        transactionTemplate.executeWithoutResult(status -> {
+            BatchCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElseThrow();
+            checkpoint.advance(lastId, succeeded, failed);
+        });
+    }
+
+    private ExecutorService newWorkerPool() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "essay-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
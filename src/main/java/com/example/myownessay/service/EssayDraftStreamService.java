@@ -0,0 +1,349 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.client.LlmClient;
+import com.example.myownessay.client.LlmRateLimiter;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.EssayGenerationJob;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import com.example.myownessay.repository.EssayGenerationJobRepository;
+import com.example.myownessay.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 에세이 초안 스트리밍 서비스
+ * LLM 이 만드는 토큰을 SSE 로 바로 전달하고, 생성이 끝나면 전체 초안을 aiDraft 로 저장합니다.
+ *
+ * 토큰 생성과 클라이언트 전송은 서로 다른 스레드에서 처리합니다.
+ * 클라이언트가 느리면 전송되지 않은 토큰을 하나의 이벤트로 합쳐 보내므로
+ * 생성 속도가 클라이언트 속도에 묶이지 않고, 대기 버퍼도 초안 길이를 넘지 않습니다.
+ * 클라이언트 연결이 끊겨도 생성은 끝까지 진행되어 초안이 저장됩니다.
+ *
+ * 스트림도 실행 중(RUNNING) 생성 작업 행을 등록하므로, 같은 주에 비동기 생성 작업이나 다른 스트림이
+ * 동시에 시작되지 않습니다. (진행 중 작업 유니크 인덱스, 노드가 달라도 적용)
+ * 비동기 생성 요청은 이 작업을 그대로 반환하고, 초안이 저장되면 작업도 완료 처리됩니다.
+ */
+@Service
+@Slf4j
+public class EssayDraftStreamService {
+
+    private static final Set<GenerationJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(GenerationJobStatus.QUEUED, GenerationJobStatus.RUNNING);
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+
+    private final UserRepository userRepository;
+    private final RecordHistoryReader recordHistoryReader;
+    private final EssayGenerationJobRepository jobRepository;
+    private final WeekProgressService weekProgressService;
+    private final EssayPromptBuilder promptBuilder;
+    private final EssayDraftWriter draftWriter;
+    private final LlmClient llmClient;
+    private final LlmRateLimiter rateLimiter;
+    private final TransactionTemplate transactionTemplate;
+    private final long timeoutMs;
+
+    private final Semaphore streamPermits;
+    private final ExecutorService generationExecutor;
+    private final ExecutorService sendExecutor;
+
+    public EssayDraftStreamService(
+            UserRepository userRepository,
+            RecordHistoryReader recordHistoryReader,
+            EssayGenerationJobRepository jobRepository,
+            WeekProgressService weekProgressService,
+            EssayPromptBuilder promptBuilder,
+            EssayDraftWriter draftWriter,
+            LlmClient llmClient,
+            LlmRateLimiter rateLimiter,
+            PlatformTransactionManager transactionManager,
+            @Value("${essay.streaming.max-concurrent:50}") int maxConcurrent,
+            @Value("${essay.streaming.timeout-ms:180000}") long timeoutMs
+    ) {
+        this.userRepository = userRepository;
+        this.recordHistoryReader = recordHistoryReader;
+        this.jobRepository = jobRepository;
+        this.weekProgressService = weekProgressService;
+        this.promptBuilder = promptBuilder;
+        this.draftWriter = draftWriter;
+        this.llmClient = llmClient;
+        this.rateLimiter = rateLimiter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timeoutMs = timeoutMs;
+
+        // 스트림 수는 세마포어로 제한하므로 두 풀 모두 동시 스트림 수만큼이면 충분
+        this.streamPermits = new Semaphore(maxConcurrent);
+        this.generationExecutor = Executors.newFixedThreadPool(maxConcurrent, namedThreadFactory("essay-stream-"));
+        this.sendExecutor = Executors.newFixedThreadPool(maxConcurrent, namedThreadFactory("essay-stream-send-"));
+    }
+
+    /**
+     * 초안 스트림 시작
+     *
+     * @param email 사용자 이메일
+     * @param weekStart 주 시작 날짜 (월요일)
+     * @return SSE 응답 (token 이벤트 반복 후 done 또는 error 이벤트로 종료)
+     * @throws RejectedExecutionException 노드의 동시 스트림 수를 초과한 경우
+     */
+    public SseEmitter openStream(String email, LocalDate weekStart) {
+        log.debug("에세이 초안 스트리밍 요청 - 주 시작: {}", weekStart);
+
+        if (weekStart.getDayOfWeek() != DayOfWeek.MONDAY) {
+            throw new IllegalArgumentException("주 시작 날짜는 월요일이어야 합니다.");
+        }
+
+        if (!streamPermits.tryAcquire()) {
+            throw new RejectedExecutionException("동시 스트리밍 수를 초과했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            User user = transactionTemplate.execute(status -> getUserByEmail(email));
+            PreparedStream prepared;
+            try {
+                prepared = transactionTemplate.execute(status -> prepare(user, weekStart));
+            } catch (DataIntegrityViolationException e) {
+                // 조회 이후 다른 요청이 같은 주의 작업을 먼저 등록한 경우
+                throw new IllegalStateException("이미 진행 중인 생성 작업이 있습니다.");
+            }
+
+            DraftStream stream = new DraftStream(new SseEmitter(timeoutMs), user.getId(), weekStart, prepared.jobId());
+            generationExecutor.execute(() -> generate(stream, prepared.prompt()));
+            return stream.emitter;
+        } catch (RuntimeException e) {
+            streamPermits.release();
+            throw e;
+        }
+    }
+
+    // 조건 확인 후 이 스트림의 실행 중 작업을 등록하고 프롬프트를 만듦
+    private PreparedStream prepare(User user, LocalDate weekStart) {
+        if (jobRepository.findFirstByUserAndWeekStartAndStatusIn(user, weekStart, ACTIVE_STATUSES).isPresent()) {
+            throw new IllegalStateException("이미 진행 중인 생성 작업이 있습니다.");
+        }
+
+        WeekProgress weekProgress = weekProgressService.calculateAndSaveWeekProgress(user, weekStart);
+        if (!weekProgress.canGenerateEssay()) {
+            throw new IllegalStateException("에세이 생성 조건을 만족하지 않습니다. (최소 3일 필요)");
+        }
+
+        // 유니크 인덱스 위반을 이 트랜잭션 안에서 드러내기 위해 바로 반영
+        LocalDateTime now = LocalDateTime.now();
+        EssayGenerationJob job = jobRepository.saveAndFlush(EssayGenerationJob.builder()
+                .user(user)
+                .weekStart(weekStart)
+                .status(GenerationJobStatus.RUNNING)
+                .attempts(1)
+                .nextAttemptAt(now)
+                .build());
+
+        String prompt = promptBuilder.build(weekStart,
+                recordHistoryReader.findByUserAndRecordDateBetween(user, weekStart, weekStart.plusDays(6)));
+        return new PreparedStream(job.getId(), prompt);
+    }
+
+    private void generate(DraftStream stream, String prompt) {
+        try {
+            rateLimiter.acquire();
+            llmClient.stream(prompt, stream::onToken);
+
+            String draft = stream.draft();
+            Essay essay = transactionTemplate.execute(status -> {
+                Essay saved = draftWriter.saveDraft(userRepository.getReferenceById(stream.userId), stream.weekStart, draft);
+                // 그 사이 작업이 취소되었으면 초안을 저장하지 않음
+                if (jobRepository.succeed(stream.jobId, saved.getId(), LocalDateTime.now()) == 0) {
+                    status.setRollbackOnly();
+                    return null;
+                }
+                return saved;
+            });
+            if (essay == null) {
+                log.info("취소된 스트림의 초안은 버립니다 - 작업 ID: {}", stream.jobId);
+                stream.finish(SseEmitter.event().name("error").data("취소된 생성 작업입니다."));
+                return;
+            }
+
+            log.info("에세이 초안 스트리밍 완료 - 사용자 ID: {}, 에세이 ID: {}, 길이: {}",
+                    stream.userId, essay.getId(), draft.length());
+            stream.finish(SseEmitter.event().name("done")
+                    .data(Map.of("essayId", essay.getId(), "length", draft.length())));
+        } catch (Exception e) {
+            log.error("에세이 초안 스트리밍 실패 - 사용자 ID: {}, 원인: {}", stream.userId, e.getMessage());
+            failJob(stream.jobId, e);
+            stream.finish(SseEmitter.event().name("error").data("에세이 초안 생성에 실패했습니다."));
+        } finally {
+            stream.producerDone();
+        }
+    }
+
+    // 스트림은 재시도하지 않으므로 바로 실패 처리 (실행 중일 때만)
+    private void failJob(Long jobId, Exception cause) {
+        String message = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        String errorMessage = message.length() > ERROR_MESSAGE_LENGTH ? message.substring(0, ERROR_MESSAGE_LENGTH) : message;
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobRepository.fail(jobId, errorMessage, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.error("스트림 생성 작업 실패 처리 오류 - 작업 ID: {}, 원인: {}", jobId, e.getMessage());
+        }
+    }
+
+    private User getUserByEmail(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        generationExecutor.shutdownNow();
+        sendExecutor.shutdownNow();
+    }
+
+    private record PreparedStream(Long jobId, String prompt) {
+    }
+
+    /**
+     * 스트림 하나의 상태
+     * 생성 스레드는 토큰을 pending 에 쌓기만 하고, 전송은 스트림당 최대 하나의 전송 작업이 맡습니다.
+     */
+    private final class DraftStream {
+
+        private final SseEmitter emitter;
+        private final Long userId;
+        private final LocalDate weekStart;
+        private final Long jobId;
+
+        private final StringBuilder draft = new StringBuilder();
+        private final StringBuilder pending = new StringBuilder();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private volatile SseEmitter.SseEventBuilder finalEvent;
+        private volatile boolean finalSent;
+        private volatile boolean producerDone;
+        private volatile boolean clientGone;
+
+        private DraftStream(SseEmitter emitter, Long userId, LocalDate weekStart, Long jobId) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.weekStart = weekStart;
+            this.jobId = jobId;
+
+            emitter.onTimeout(this::disconnect);
+            emitter.onError(error -> disconnect());
+        }
+
+        void onToken(String token) {
+            synchronized (this) {
+                draft.append(token);
+                pending.append(token);
+            }
+            scheduleDrain();
+        }
+
+        synchronized String draft() {
+            return draft.toString();
+        }
+
+        void finish(SseEmitter.SseEventBuilder event) {
+            finalEvent = event;
+            scheduleDrain();
+        }
+
+        void producerDone() {
+            producerDone = true;
+            releaseIfDone();
+        }
+
+        private void disconnect() {
+            clientGone = true;
+            releaseIfDone();
+        }
+
+        private void scheduleDrain() {
+            if (clientGone || finalSent || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                disconnect();
+            }
+        }
+
+        // 쌓인 토큰을 하나의 이벤트로 합쳐 보내고, 마지막 이벤트까지 보내면 스트림을 닫음
+        private void drain() {
+            try {
+                while (!clientGone) {
+                    String chunk = takePending();
+                    if (!chunk.isEmpty()) {
+                        emitter.send(SseEmitter.event().name("token").data(chunk));
+                        continue;
+                    }
+
+                    SseEmitter.SseEventBuilder event = finalEvent;
+                    if (event != null && !finalSent) {
+                        finalSent = true;
+                        emitter.send(event);
+                        emitter.complete();
+                    }
+                    break;
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.info("클라이언트 연결이 끊겨 전송을 중단합니다 - 사용자 ID: {}", userId);
+                clientGone = true;
+            } finally {
+                draining.set(false);
+            }
+
+            if (finalSent || clientGone) {
+                releaseIfDone();
+            } else if (hasPending() || finalEvent != null) {
+                scheduleDrain();
+            }
+        }
+
+        private synchronized String takePending() {
+            String chunk = pending.toString();
+            pending.setLength(0);
+            return chunk;
+        }
+
+        private synchronized boolean hasPending() {
+            return pending.length() > 0;
+        }
+
+        // 생성이 끝났고 클라이언트 전송도 끝났을 때 한 번만 슬롯 반환
+        private void releaseIfDone() {
+            if (producerDone && (finalSent || clientGone) && released.compareAndSet(false, true)) {
+                streamPermits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.PublishStatus;
+import com.example.myownessay.repository.EssayRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 생성된 에세이 초안 저장
+ * 해당 주의 에세이가 있으면 aiDraft 만 갱신하고, 없으면 비공개 에세이를 새로 만듭니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EssayDraftWriter {
+
+    private final EssayRepository essayRepository;
+    private final WeekProgressRepository weekProgressRepository;
+
+    /**
+     * 초안 저장 및 주간 진행도의 에세이 생성 여부 표시 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @param user 사용자
+     * @param weekStart 주 시작 날짜 (월요일)
+     * @param draft 생성된 초안
+     * @return 저장된 에세이
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Essay saveDraft(User user, LocalDate weekStart, String draft) {
+        Essay essay = essayRepository.findFirstByUserAndWeekStartOrderByIdAsc(user, weekStart)
+                .orElseGet(() -> Essay.builder()
+                        .user(user)
+                        .title(weekStart + " 주간 에세이")
+                        .finalContent(draft)
+                        .weekStart(weekStart)
+                        .weekEnd(weekStart.plusDays(6))
+                        .publishStatus(PublishStatus.PRIVATE)
+                        .build());
+        essay.setAiDraft(draft);
+        Essay savedEssay = essayRepository.save(essay);
+
+        weekProgressRepository.findByUserAndWeekStart(user, weekStart)
+                .ifPresent(weekProgress -> weekProgress.markEssayGenerated());
+
+        log.info("에세이 초안 저장 - 사용자 ID: {}, 주 시작: {}, 에세이 ID: {}", user.getId(), weekStart, savedEssay.getId());
+        return savedEssay;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.dto.essay.response.EssayGenerationJobResponse;
+import com.example.myownessay.entity.EssayGenerationJob;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import com.example.myownessay.event.EssayGenerationRequestedEvent;
+import com.example.myownessay.repository.EssayGenerationJobRepository;
+import com.example.myownessay.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+/**
+ * 에세이 초안 생성 요청 서비스
+ * 요청 스레드에서는 작업만 등록하고, 실제 생성은 {@link EssayGenerationWorker} 가 처리합니다.
+ */
+@Service
+@Slf4j
+public class EssayGenerationService {
+
+    private static final EnumSet<GenerationJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(GenerationJobStatus.QUEUED, GenerationJobStatus.RUNNING);
+
+    private final EssayGenerationJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final WeekProgressService weekProgressService;
+    private final EssayGenerationWorker worker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public EssayGenerationService(
+            EssayGenerationJobRepository jobRepository,
+            UserRepository userRepository,
+            WeekProgressService weekProgressService,
+            EssayGenerationWorker worker,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.weekProgressService = weekProgressService;
+        this.worker = worker;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 에세이 초안 생성 요청
+     * 같은 주에 진행 중인 작업이 있으면 그 작업을 반환합니다. (멱등성)
+     * 동시에 들어온 요청이 진행 중 작업 유니크 인덱스에 걸리면 다시 조회해 먼저 등록된 작업을 반환합니다.
+     *
+     * @param email 사용자 이메일
+     * @param weekStart 주 시작 날짜 (월요일)
+     * @return 생성 작업 응답
+     */
+    public EssayGenerationJobResponse requestGeneration(String email, LocalDate weekStart) {
+        log.debug("에세이 초안 생성 요청 - 주 시작: {}", weekStart);
+
+        if (weekStart.getDayOfWeek() != DayOfWeek.MONDAY) {
+            throw new IllegalArgumentException("주 시작 날짜는 월요일이어야 합니다.");
+        }
+
+        try {
+            return transactionTemplate.execute(status -> register(email, weekStart));
+        } catch (DataIntegrityViolationException e) {
+            log.info("같은 주의 생성 작업이 동시에 등록되어 다시 조회합니다 - 주 시작: {}", weekStart);
+            return transactionTemplate.execute(status -> register(email, weekStart));
+        }
+    }
+
+    private EssayGenerationJobResponse register(String email, LocalDate weekStart) {
+        User user = getUserByEmail(email);
+
+        EssayGenerationJob activeJob = jobRepository
+                .findFirstByUserAndWeekStartAndStatusIn(user, weekStart, ACTIVE_STATUSES)
+                .orElse(null);
+        if (activeJob != null) {
+            log.info("이미 진행 중인 생성 작업이 있습니다 - 작업 ID: {}", activeJob.getId());
+            return EssayGenerationJobResponse.from(activeJob);
+        }
+
+        WeekProgress weekProgress = weekProgressService.calculateAndSaveWeekProgress(user, weekStart);
+        if (!weekProgress.canGenerateEssay()) {
+            throw new IllegalStateException("에세이 생성 조건을 만족하지 않습니다. (최소 3일 필요)");
+        }
+
+        // 유니크 인덱스 위반을 이 트랜잭션 안에서 드러내기 위해 바로 반영
+        EssayGenerationJob job = jobRepository.saveAndFlush(EssayGenerationJob.builder()
+                .user(user)
+                .weekStart(weekStart)
+                .status(GenerationJobStatus.QUEUED)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(new EssayGenerationRequestedEvent(job.getId()));
+
+        log.info("에세이 초안 생성 작업 등록 - 작업 ID: {}", job.getId());
+        return EssayGenerationJobResponse.from(job);
+    }
+
+    /**
+     * 생성 작업 상태 조회
+     *
+     * @param email 사용자 이메일
+     * @param jobId 작업 ID
+     * @return 생성 작업 응답
+     */
+    @Transactional(readOnly = true)
+    public EssayGenerationJobResponse getJob(String email, Long jobId) {
+        User user = getUserByEmail(email);
+        return EssayGenerationJobResponse.from(getJobByIdAndUser(jobId, user));
+    }
+
+    /**
+     * 생성 작업 취소
+     * 대기 중이거나 실행 중인 작업만 취소할 수 있으며, 실행 중이던 생성 결과는 저장되지 않습니다.
+     *
+     * @param email 사용자 이메일
+     * @param jobId 작업 ID
+     * @return 생성 작업 응답
+     */
+    @Transactional
+    public EssayGenerationJobResponse cancelJob(String email, Long jobId) {
+        log.debug("에세이 초안 생성 취소 요청 - 작업 ID: {}", jobId);
+
+        User user = getUserByEmail(email);
+        EssayGenerationJob job = getJobByIdAndUser(jobId, user);
+
+        if (jobRepository.transition(jobId, ACTIVE_STATUSES, GenerationJobStatus.CANCELLED, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("이미 종료된 작업입니다.");
+        }
+        worker.interrupt(jobId);
+
+        EssayGenerationJobResponse response = EssayGenerationJobResponse.from(job);
+        response.setStatus(GenerationJobStatus.CANCELLED);
+        log.info("에세이 초안 생성 취소 완료 - 작업 ID: {}", jobId);
+        return response;
+    }
+
+    private EssayGenerationJob getJobByIdAndUser(Long jobId, User user) {
+        return jobRepository.findByIdAndUser(jobId, user)
+                .orElseThrow(() -> new RuntimeException("생성 작업을 찾을 수 없습니다."));
+    }
+
+    private User getUserByEmail(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    }
+}
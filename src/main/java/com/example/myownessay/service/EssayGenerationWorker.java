@@ -0,0 +1,275 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.client.LlmClient;
+import com.example.myownessay.client.LlmRateLimiter;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.EssayGenerationJob;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import com.example.myownessay.event.EssayGenerationRequestedEvent;
+import com.example.myownessay.monitoring.jfr.EssayGenerationEvent;
+import com.example.myownessay.repository.EssayGenerationJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 에세이 초안 생성 워커
+ * 고정 크기 스레드 풀과 유한 대기열에서 생성 작업을 처리합니다.
+ *
+ * 작업은 DB 행이 원본이며, 등록 직후에는 이벤트로 바로 실행하고
+ * 대기열이 가득 찼거나 재시도 대기 중인 작업은 주기적인 폴링으로 다시 가져옵니다.
+ * 상태 전이는 모두 조건부 UPDATE 이므로 같은 작업이 두 번 실행되지 않습니다.
+ */
+@Component
+@Slf4j
+public class EssayGenerationWorker {
+
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+
+    private final EssayGenerationJobRepository jobRepository;
+    private final RecordHistoryReader recordHistoryReader;
+    private final EssayDraftWriter draftWriter;
+    private final EssayPromptBuilder promptBuilder;
+    private final LlmClient llmClient;
+    private final LlmRateLimiter rateLimiter;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long staleTimeoutMs;
+
+    private final Map<Long, Future<?>> inFlight = new ConcurrentHashMap<>();
+
+    public EssayGenerationWorker(
+            EssayGenerationJobRepository jobRepository,
+            RecordHistoryReader recordHistoryReader,
+            EssayDraftWriter draftWriter,
+            EssayPromptBuilder promptBuilder,
+            LlmClient llmClient,
+            LlmRateLimiter rateLimiter,
+            PlatformTransactionManager transactionManager,
+            @Value("${essay.generation.workers:4}") int workers,
+            @Value("${essay.generation.queue-capacity:100}") int queueCapacity,
+            @Value("${essay.generation.max-attempts:3}") int maxAttempts,
+            @Value("${essay.generation.retry-backoff-ms:30000}") long retryBackoffMs,
+            @Value("${essay.generation.stale-timeout-ms:600000}") long staleTimeoutMs
+    ) {
+        this.jobRepository = jobRepository;
+        this.recordHistoryReader = recordHistoryReader;
+        this.draftWriter = draftWriter;
+        this.promptBuilder = promptBuilder;
+        this.llmClient = llmClient;
+        this.rateLimiter = rateLimiter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.staleTimeoutMs = staleTimeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "essay-generation-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 작업 등록이 커밋되면 바로 실행 대기열에 넣습니다.
+     */
+    @TransactionalEventListener
+    public void onRequested(EssayGenerationRequestedEvent event) {
+        submit(event.getJobId());
+    }
+
+    /**
+     * 작업을 실행 대기열에 넣습니다.
+     * 대기열이 가득 차면 DB 에 대기 상태로 남겨 두고 다음 폴링에서 다시 시도합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 대기열 등록 여부
+     */
+    public boolean submit(Long jobId) {
+        Future<?> future = inFlight.computeIfAbsent(jobId, id -> {
+            try {
+                return executor.submit(() -> {
+                    try {
+                        process(id);
+                    } finally {
+                        inFlight.remove(id);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.warn("생성 대기열이 가득 차 다음 폴링으로 미룹니다 - 작업 ID: {}", id);
+                return null;
+            }
+        });
+        return future != null;
+    }
+
+    /**
+     * 실행 중인 작업을 중단합니다. (취소 요청 시 호출)
+     *
+     * @param jobId 작업 ID
+     */
+    public void interrupt(Long jobId) {
+        Future<?> future = inFlight.get(jobId);
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * 실행 시각이 된 대기 작업을 가져오고, 중단된 노드에 남은 실행 중 작업을 복구합니다.
+     */
+    @Scheduled(fixedDelayString = "${essay.generation.poll-interval-ms:5000}",
+            initialDelayString = "${essay.generation.poll-interval-ms:5000}")
+    public void pollDueJobs() {
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueJobIds = transactionTemplate.execute(status -> {
+            int requeued = jobRepository.requeueStale(now.minusNanos(staleTimeoutMs * 1_000_000), now);
+            if (requeued > 0) {
+                log.warn("응답 없는 생성 작업 {}건을 대기 상태로 복구했습니다.", requeued);
+            }
+            return jobRepository.findDueJobIds(now, PageRequest.of(0, capacity));
+        });
+
+        if (dueJobIds != null) {
+            dueJobIds.forEach(this::submit);
+        }
+    }
+
+    /**
+     * 대기 작업 하나를 선점해 처리합니다.
+     *
+     * @param jobId 작업 ID
+     */
+    void process(Long jobId) {
+        Integer claimed = transactionTemplate.execute(status -> jobRepository.claim(jobId, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+        execute(jobId);
+    }
+
+    /**
+     * 이미 실행 상태로 선점된 작업을 처리합니다.
+     * LLM 호출은 트랜잭션 밖에서 수행해 긴 호출 동안 커넥션을 점유하지 않습니다.
+     *
+     * @param jobId 작업 ID
+     */
+    void execute(Long jobId) {
+        EssayGenerationEvent event = new EssayGenerationEvent();
+        event.begin();
+        event.setJobId(jobId);
+        event.setOutcome("FAILED");
+
+        try {
+            String prompt = transactionTemplate.execute(status -> buildPrompt(jobId, event));
+            rateLimiter.acquire();
+            String draft = llmClient.generate(prompt);
+            event.setDraftLength(draft == null ? 0 : draft.length());
+
+            // 취소로 인한 인터럽트 플래그가 남아 있으면 이후 DB 호출이 실패할 수 있으므로 정리
+            Thread.interrupted();
+            Boolean completed = transactionTemplate.execute(status -> {
+                if (!complete(jobId, draft)) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                return true;
+            });
+            event.setOutcome(Boolean.TRUE.equals(completed) ? "SUCCEEDED" : "DISCARDED");
+        } catch (Exception e) {
+            Thread.interrupted();
+            handleFailure(jobId, e);
+        } finally {
+            event.commit();
+        }
+    }
+
+    private String buildPrompt(Long jobId, EssayGenerationEvent event) {
+        EssayGenerationJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("생성 작업을 찾을 수 없습니다."));
+
+        LocalDate weekStart = job.getWeekStart();
+        List<Record> records = recordHistoryReader.findByUserAndRecordDateBetween(
+                job.getUser(), weekStart, weekStart.plusDays(6));
+
+        event.setUserId(job.getUser().getId());
+        event.setWeekStart(weekStart.toString());
+        event.setRecordCount(records.size());
+        return promptBuilder.build(weekStart, records);
+    }
+
+    // 초안을 에세이에 저장하고 주간 진행도를 갱신 (그 사이 취소되었으면 false)
+    private boolean complete(Long jobId, String draft) {
+        EssayGenerationJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("생성 작업을 찾을 수 없습니다."));
+        if (job.getStatus() != GenerationJobStatus.RUNNING) {
+            log.info("실행 중이 아닌 작업의 결과는 버립니다 - 작업 ID: {}, 상태: {}", jobId, job.getStatus());
+            return false;
+        }
+
+        Essay savedEssay = draftWriter.saveDraft(job.getUser(), job.getWeekStart(), draft);
+
+        if (jobRepository.succeed(jobId, savedEssay.getId(), LocalDateTime.now()) == 0) {
+            return false;
+        }
+
+        log.info("에세이 초안 생성 완료 - 작업 ID: {}, 에세이 ID: {}", jobId, savedEssay.getId());
+        return true;
+    }
+
+    // 재시도 가능하면 지수 백오프로 다시 대기시키고, 아니면 실패 처리
+    private void handleFailure(Long jobId, Exception cause) {
+        String message = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        String errorMessage = message.length() > ERROR_MESSAGE_LENGTH ? message.substring(0, ERROR_MESSAGE_LENGTH) : message;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            EssayGenerationJob job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || job.getStatus() != GenerationJobStatus.RUNNING) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            int attempts = job.getAttempts();
+            if (attempts < maxAttempts) {
+                long backoffMs = retryBackoffMs << Math.min(attempts - 1, 10);
+                jobRepository.reschedule(jobId, now.plusNanos(backoffMs * 1_000_000), errorMessage, now);
+                log.warn("에세이 초안 생성 실패, 재시도 예정 - 작업 ID: {}, 시도: {}/{}, 원인: {}",
+                        jobId, attempts, maxAttempts, errorMessage);
+            } else {
+                jobRepository.fail(jobId, errorMessage, now);
+                log.error("에세이 초안 생성 최종 실패 - 작업 ID: {}, 원인: {}", jobId, errorMessage);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중이던 작업은 stale-timeout 이후 폴링에서 대기 상태로 복구됩니다.
+        executor.shutdownNow();
+    }
+}
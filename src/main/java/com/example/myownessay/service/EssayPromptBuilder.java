@@ -0,0 +1,74 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.entity.Record;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 에세이 초안 프롬프트 생성기
+ * 한 주의 기록을 날짜/슬롯 순으로 한 줄씩 요약해 토큰 수를 줄인 프롬프트를 만듭니다.
+ */
+@Component
+public class EssayPromptBuilder {
+
+    private final int maxValueChars;
+    private final int maxPromptChars;
+
+    public EssayPromptBuilder(
+            @Value("${essay.generation.prompt.max-value-chars:300}") int maxValueChars,
+            @Value("${essay.generation.prompt.max-chars:6000}") int maxPromptChars
+    ) {
+        this.maxValueChars = maxValueChars;
+        this.maxPromptChars = maxPromptChars;
+    }
+
+    /**
+     * 주간 기록으로 프롬프트 생성
+     *
+     * @param weekStart 주 시작 날짜 (월요일)
+     * @param records 해당 주의 기록 목록
+     * @return 프롬프트
+     */
+    public String build(LocalDate weekStart, List<Record> records) {
+        StringBuilder prompt = new StringBuilder()
+                .append("다음은 ").append(weekStart).append("부터 일주일 동안 사용자가 남긴 기록입니다.\n")
+                .append("기록을 바탕으로 1인칭 시점의 한국어 에세이 초안을 800자 내외로 작성해 주세요.\n\n");
+
+        List<Record> ordered = records.stream()
+                .filter(Record::isCompleted)
+                .sorted(Comparator.comparing(Record::getRecordDate).thenComparing(Record::getSlotType))
+                .collect(Collectors.toList());
+
+        for (Record record : ordered) {
+            String line = "- " + record.getRecordDate().getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN)
+                    + " " + record.getSlotType().getDescription() + ": " + summarize(record.getContent()) + "\n";
+            if (prompt.length() + line.length() > maxPromptChars) {
+                break;
+            }
+            prompt.append(line);
+        }
+        return prompt.toString();
+    }
+
+    private String summarize(Map<String, Object> content) {
+        if (content == null || content.isEmpty()) {
+            return "";
+        }
+        return content.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && !entry.getValue().toString().isBlank())
+                .map(entry -> entry.getKey() + "=" + truncate(entry.getValue().toString().replaceAll("\\s+", " ")))
+                .collect(Collectors.joining("; "));
+    }
+
+    private String truncate(String value) {
+        return value.length() <= maxValueChars ? value : value.substring(0, maxValueChars) + "…";
+    }
+}
@@ -7,10 +7,12 @@ import com.example.myownessay.dto.essay.response.EssayResponse;
 import com.example.myownessay.entity.Essay;
 import com.example.myownessay.entity.User;
 import com.example.myownessay.entity.enums.PublishStatus;
+import com.example.myownessay.event.EssayVisibilityChangedEvent;
 import com.example.myownessay.repository.EssayRepository;
 import com.example.myownessay.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,13 +26,14 @@ public class EssayService {
 
     private final EssayRepository essayRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 에세이 생성
      */
     @Transactional
     public EssayResponse createEssay(String email, EssayCreateRequest request) {
-        log.info("에세이 생성 요청 - 이메일: {}", email);
+        log.debug("에세이 생성 요청");
 
         User user = getUserByEmail(email);
 
@@ -57,7 +60,7 @@ public class EssayService {
      */
     @Transactional(readOnly = true)
     public EssayResponse getEssay(String email, Long essayId) {
-        log.info("에세이 조회 요청 - 이메일: {}, 에세이 ID: {}", email, essayId);
+        log.debug("에세이 조회 요청 - 에세이 ID: {}", essayId);
 
         User user = getUserByEmail(email);
 
@@ -72,12 +75,12 @@ public class EssayService {
      */
     @Transactional(readOnly = true)
     public List<EssayResponse> getMyEssays(String email) {
-        log.info("내 에세이 목록 조회 요청 - 이메일: {}", email);
+        log.debug("내 에세이 목록 조회 요청");
 
         User user = getUserByEmail(email);
 
         List<Essay> essays = essayRepository.findByUser(user);
-        log.info("조회된 에세이 수: {}", essays.size());
+        log.debug("조회된 에세이 수: {}", essays.size());
 
         return essays.stream()
                 .map(EssayResponse::from)
@@ -89,7 +92,7 @@ public class EssayService {
      */
     @Transactional
     public EssayResponse updateEssay(String email, Long essayId, EssayUpdateRequest request) {
-        log.info("에세이 수정 요청 - 이메일: {}, 에세이 ID: {}", email, essayId);
+        log.debug("에세이 수정 요청 - 에세이 ID: {}", essayId);
 
         User user = getUserByEmail(email);
 
@@ -102,8 +105,9 @@ public class EssayService {
         if (request.getFinalContent() != null) {
             essay.setFinalContent(request.getFinalContent());
         }
-        if (request.getTheme() != null) {
+        if (request.getTheme() != null && request.getTheme() != essay.getTheme()) {
             essay.setTheme(request.getTheme());
+            eventPublisher.publishEvent(new EssayVisibilityChangedEvent(essayId, essay.getTheme(), essay.isPublic()));
         }
         if (request.getCoverImage() != null) {
             essay.setCoverImage(request.getCoverImage());
@@ -120,7 +124,7 @@ public class EssayService {
      */
     @Transactional
     public EssayResponse publishEssay(String email, Long essayId, EssayPublishRequest request) {
-        log.info("에세이 발행 요청 - 이메일: {}, 에세이 ID: {}, 상태: {}", email, essayId, request.getStatus());
+        log.debug("에세이 발행 요청 - 에세이 ID: {}, 상태: {}", essayId, request.getStatus());
 
         User user = getUserByEmail(email);
 
@@ -136,6 +140,7 @@ public class EssayService {
         }
 
         Essay publishedEssay = essayRepository.save(essay);
+        eventPublisher.publishEvent(new EssayVisibilityChangedEvent(essayId, essay.getTheme(), essay.isPublic()));
         return EssayResponse.from(publishedEssay);
     }
 
@@ -144,13 +149,14 @@ public class EssayService {
      */
     @Transactional
     public void deleteEssay(String email, Long essayId) {
-        log.info("에세이 삭제 요청 - 이메일: {}, 에세이 ID: {}", email, essayId);
+        log.debug("에세이 삭제 요청 - 에세이 ID: {}", essayId);
 
         User user = getUserByEmail(email);
         Essay essay = essayRepository.findByIdAndUser(essayId, user)
                 .orElseThrow(() -> new RuntimeException("에세이를 찾을 수 없습니다."));
 
         essayRepository.delete(essay);
+        eventPublisher.publishEvent(EssayVisibilityChangedEvent.deleted(essayId));
         log.info("에세이 삭제 완료 - ID: {}", essayId);
     }
 
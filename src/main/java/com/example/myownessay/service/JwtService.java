@@ -38,20 +38,23 @@ public class JwtService {
         try {
             return extractClaim(token, Claims::getSubject);
         } catch (ExpiredJwtException e) {
-            log.warn("만료된 토큰에서 사용자명 추출 시도");
+            log.info("만료된 토큰에서 사용자명 추출 시도");
             throw new AuthException(AuthErrorCode.EXPIRED_TOKEN);
         } catch (MalformedJwtException e) {
-            log.warn("잘못된 형식의 토큰");
+            log.info("잘못된 형식의 토큰");
             throw new AuthException(AuthErrorCode.MALFORMED_TOKEN);
         } catch (SecurityException e) {
-            log.warn("토큰 서명 검증 실패");
+            log.info("토큰 서명 검증 실패");
             throw new AuthException(AuthErrorCode.INVALID_TOKEN);
         } catch (UnsupportedJwtException e) {
-            log.warn("지원되지 않는 토큰 형식");
+            log.info("지원되지 않는 토큰 형식");
             throw new AuthException(AuthErrorCode.INVALID_TOKEN);
         } catch (IllegalArgumentException e) {
-            log.warn("빈 토큰 또는 null 토큰");
+            log.info("빈 토큰 또는 null 토큰");
             throw new AuthException(AuthErrorCode.TOKEN_NOT_FOUND);
+        } catch (AuthException e) {
+            // 토큰 파싱 단계에서 이미 원인을 기록했으므로 예상치 못한 오류로 다시 기록하지 않음
+            throw new AuthException(AuthErrorCode.INVALID_TOKEN);
         } catch (Exception e) {
             log.error("토큰에서 사용자명 추출 중 예상치 못한 오류: {}", e.getMessage());
             throw new AuthException(AuthErrorCode.INVALID_TOKEN);
@@ -144,19 +147,19 @@ public class JwtService {
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
-            log.warn("만료된 토큰으로 클레임 추출 시도");
+            log.info("만료된 토큰으로 클레임 추출 시도");
             throw new AuthException(AuthErrorCode.EXPIRED_TOKEN);
         } catch (MalformedJwtException e) {
-            log.warn("잘못된 형식의 토큰으로 클레임 추출 시도");
+            log.info("잘못된 형식의 토큰으로 클레임 추출 시도");
             throw new AuthException(AuthErrorCode.MALFORMED_TOKEN);
         } catch (SecurityException e) {
-            log.warn("토큰 서명이 유효하지 않음");
+            log.info("토큰 서명이 유효하지 않음");
             throw new AuthException(AuthErrorCode.INVALID_TOKEN);
         } catch (UnsupportedJwtException e) {
-            log.warn("지원되지 않는 JWT 토큰");
+            log.info("지원되지 않는 JWT 토큰");
             throw new AuthException(AuthErrorCode.INVALID_TOKEN);
         } catch (IllegalArgumentException e) {
-            log.warn("JWT 토큰이 비어있음");
+            log.info("JWT 토큰이 비어있음");
             throw new AuthException(AuthErrorCode.TOKEN_NOT_FOUND);
         } catch (Exception e) {
             log.error("토큰 파싱 중 예상치 못한 오류: {}", e.getMessage());
@@ -5,11 +5,13 @@ import com.example.myownessay.dto.essay.response.LikeResponse;
 import com.example.myownessay.entity.Essay;
 import com.example.myownessay.entity.Like;
 import com.example.myownessay.entity.User;
+import com.example.myownessay.event.EssayReactionEvent;
 import com.example.myownessay.repository.EssayRepository;
 import com.example.myownessay.repository.LikeRepository;
 import com.example.myownessay.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,13 +25,14 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final EssayRepository essayRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 좋아요 추가 (멱등성)
      */
     @Transactional
     public LikeResponse addLike(String email, Long essayId) {
-        log.info("좋아요 추가 요청 - 이메일: {}, 에세이 ID: {}", email, essayId);
+        log.debug("좋아요 추가 요청 - 에세이 ID: {}", essayId);
 
         User user = getUserByEmail(email);
         Essay essay = getEssayById(essayId);
@@ -41,9 +44,11 @@ public class LikeService {
                     .essay(essay)
                     .build();
             likeRepository.save(like);
+            eventPublisher.publishEvent(EssayReactionEvent.added(
+                    essayId, essay.getTheme(), essay.isPublic(), EssayReactionEvent.ReactionType.LIKE));
             log.info("좋아요 추가 완료 - 사용자: {}, 에세이: {}", user.getId(), essayId);
         } else {
-            log.info("이미 좋아요를 누른 에세이입니다 - 사용자: {}, 에세이: {}", user.getId(), essayId);
+            log.debug("이미 좋아요를 누른 에세이입니다 - 사용자: {}, 에세이: {}", user.getId(), essayId);
         }
 
         long likeCount = likeRepository.countByEssayId(essayId);
@@ -58,13 +63,16 @@ public class LikeService {
      */
     @Transactional
     public LikeResponse removeLike(String email, Long essayId) {
-        log.info("좋아요 취소 요청 - 이메일: {}, 에세이 ID: {}", email, essayId);
+        log.debug("좋아요 취소 요청 - 에세이 ID: {}", essayId);
 
         User user = getUserByEmail(email);
         Essay essay = getEssayById(essayId);
 
         likeRepository.findByUserAndEssay(user, essay).ifPresent(like -> {
             likeRepository.delete(like);
+            eventPublisher.publishEvent(EssayReactionEvent.removed(
+                    essayId, essay.getTheme(), essay.isPublic(), EssayReactionEvent.ReactionType.LIKE,
+                    like.getCreatedAt()));
             log.info("좋아요 취소 완료 - 사용자: {}, 에세이: {}", user.getId(), essayId);
         });
 
@@ -80,7 +88,7 @@ public class LikeService {
      */
     @Transactional(readOnly = true)
     public Page<EssayWithLikesResponse> getMyLikes(String email, Pageable pageable) {
-        log.info("내 좋아요 목록 조회 요청 - 이메일: {}", email);
+        log.debug("내 좋아요 목록 조회 요청");
 
         User user = getUserByEmail(email);
         Page<Like> likes = likeRepository.findByUserOrderByCreatedAtDesc(user, pageable);
@@ -0,0 +1,235 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.entity.ArchivedRecord;
+import com.example.myownessay.entity.BatchCheckpoint;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.ArchivedRecordRepository;
+import com.example.myownessay.repository.BatchCheckpointRepository;
+import com.example.myownessay.repository.RecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 오래된 기록 보관 서비스
+ * 보관 기준일(오늘 - horizon-days)보다 오래된 기록을 배치 단위로 보관 테이블로 옮깁니다.
+ * 배치마다 보관 테이블 저장과 기록 삭제를 한 트랜잭션에서 처리하므로 중간에 멈춰도 기록이 사라지거나 중복되지 않고,
+ * 옮겨진 기록은 조회 대상에서 빠지므로 다음 실행은 남은 기록부터 이어서 처리합니다.
+ *
+ * 소프트 삭제된 기록은 보관하지 않습니다. (복원할 수 있도록 기록 테이블에 남김)
+ *
+ * 보관은 한 노드만 실행합니다. 배치 체크포인트 행을 조건부 UPDATE 로 선점한 노드만 기록을 옮기고,
+ * 배치마다 체크포인트를 갱신하므로 실행 중이던 노드가 멈추면 lock-timeout 이후 다른 노드가 넘겨받습니다.
+ *
+ * 조회할 때 보관 테이블을 함께 볼지는 현재 기준일이 아니라 실제로 보관된 가장 늦은 날짜로도 판단합니다.
+ * horizon-days 를 늘려 기준일이 앞당겨져도 이전 설정으로 이미 옮겨진 기록이 조회에서 빠지지 않습니다.
+ */
+@Service
+@Slf4j
+public class RecordArchiveService {
+
+    static final String JOB_NAME = "record-archive";
+
+    private final RecordRepository recordRepository;
+    private final ArchivedRecordRepository archivedRecordRepository;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int horizonDays;
+    private final int batchSize;
+    private final long lockTimeoutMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    // 보관된 가장 늦은 날짜 (처음 사용할 때 읽고, 보관 실행 후 다시 읽음 / null 이면 아직 읽지 않음)
+    private volatile Optional<LocalDate> latestArchivedDate;
+    private final Counter archivedCounter;
+
+    public RecordArchiveService(
+            RecordRepository recordRepository,
+            ArchivedRecordRepository archivedRecordRepository,
+            BatchCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${record.archive.horizon-days:180}") int horizonDays,
+            @Value("${record.archive.batch-size:500}") int batchSize,
+            @Value("${record.archive.lock-timeout-ms:600000}") long lockTimeoutMs
+    ) {
+        if (horizonDays < 1) {
+            throw new IllegalArgumentException("보관 기준 일수는 1 이상이어야 합니다.");
+        }
+
+        this.recordRepository = recordRepository;
+        this.archivedRecordRepository = archivedRecordRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+        this.lockTimeoutMs = lockTimeoutMs;
+        this.archivedCounter = Counter.builder("record.archive.moved")
+                .description("보관 테이블로 옮긴 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 야간 보관 실행 (기본: 매일 새벽 4시 30분)
+     */
+    @Scheduled(cron = "${record.archive.cron:0 30 4 * * *}", zone = "${record.archive.zone:Asia/Seoul}")
+    public void archiveNightly() {
+        archive();
+    }
+
+    /**
+     * 보관 기준일 (보관 실행 시 이 날짜 이전의 기록을 옮김)
+     */
+    public LocalDate getCutoff() {
+        return LocalDate.now().minusDays(horizonDays);
+    }
+
+    /**
+     * 보관 테이블 조회 경계 (이 날짜 이전의 기록은 보관 테이블에 있을 수 있음)
+     * 보관 기준일과 보관된 가장 늦은 날짜의 다음 날 중 늦은 날짜입니다.
+     */
+    public LocalDate getArchiveBoundary() {
+        LocalDate cutoff = getCutoff();
+        return latestArchivedDate()
+                .map(latest -> latest.plusDays(1))
+                .filter(boundary -> boundary.isAfter(cutoff))
+                .orElse(cutoff);
+    }
+
+    /**
+     * 보관 기준일보다 오래된 기록을 모두 보관 테이블로 옮깁니다.
+     *
+     * @return 옮긴 기록 수 (이 노드나 다른 노드에서 이미 실행 중이면 0)
+     */
+    public long archive() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("기록 보관이 이미 실행 중입니다.");
+            return 0;
+        }
+
+        try {
+            if (!claim()) {
+                log.info("다른 노드에서 기록 보관이 실행 중이어서 건너뜁니다.");
+                return 0;
+            }
+
+            long total = 0;
+            try {
+                LocalDate cutoff = getCutoff();
+                log.info("기록 보관 시작 - 기준일: {}", cutoff);
+
+                while (true) {
+                    Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                    if (moved == null || moved == 0) {
+                        break;
+                    }
+                    total += moved;
+                    archivedCounter.increment(moved);
+                    log.debug("기록 보관 배치 처리 - 건수: {}, 누적: {}", moved, total);
+                }
+
+                log.info("기록 보관 완료 - 기준일: {}, 옮긴 기록 수: {}", cutoff, total);
+            } finally {
+                // 실패해도 완료 표시로 선점을 풀어 다음 실행이 바로 이어서 처리하도록 함
+                transactionTemplate.executeWithoutResult(status ->
+                        checkpointRepository.findById(JOB_NAME).ifPresent(BatchCheckpoint::markCompleted));
+                if (total > 0) {
+                    latestArchivedDate = archivedRecordRepository.findLatestRecordDate();
+                }
+            }
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 보관 체크포인트 행을 선점 (행이 없으면 완료 상태로 먼저 만듦)
+    private boolean claim() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!checkpointRepository.existsById(JOB_NAME)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> checkpointRepository.saveAndFlush(
+                        BatchCheckpoint.builder().name(JOB_NAME).completed(true).startedAt(now).build()));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("다른 노드가 보관 체크포인트를 먼저 만들었습니다.");
+            }
+        }
+
+        Integer claimed = transactionTemplate.execute(status ->
+                checkpointRepository.claim(JOB_NAME, now, now.minusNanos(lockTimeoutMs * 1_000_000)));
+        return claimed != null && claimed == 1;
+    }
+
+    // 배치 저장과 체크포인트 갱신을 한 트랜잭션에서 처리 (갱신 시각이 선점 유지 신호)
+    private int archiveBatch(LocalDate cutoff) {
+        List<Record> records = recordRepository.findByRecordDateBeforeOrderByIdAsc(cutoff, PageRequest.of(0, batchSize));
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        archivedRecordRepository.saveAll(records.stream()
+                .map(record -> ArchivedRecord.from(record, now))
+                .toList());
+        recordRepository.deleteAllInBatch(records);
+        checkpointRepository.findById(JOB_NAME).orElseThrow()
+                .advance(records.get(records.size() - 1).getId(), records.size(), 0);
+        return records.size();
+    }
+
+    /**
+     * 보관된 기록을 기록 테이블로 되돌릴 기록으로 변환하고 보관 기록을 삭제합니다.
+     * 보관 기준일 이전 날짜에 다시 저장할 때 사용하며, 호출한 트랜잭션 안에서 실행됩니다.
+     * 되돌린 기록은 새 ID 로 저장되고, 다음 보관 실행 때 다시 보관 테이블로 옮겨집니다.
+     *
+     * @return 저장 전인 기록 (보관된 기록이 없으면 empty)
+     */
+    public Optional<Record> unarchive(User user, LocalDate recordDate, SlotType slotType) {
+        if (!recordDate.isBefore(getArchiveBoundary())) {
+            return Optional.empty();
+        }
+
+        return archivedRecordRepository.findByUserAndRecordDateAndSlotType(user, recordDate, slotType)
+                .map(archived -> {
+                    archivedRecordRepository.delete(archived);
+                    Record record = archived.toRecord();
+                    record.setId(null);
+                    record.setArchived(false);
+                    log.info("보관된 기록을 기록 테이블로 되돌림 - 보관 기록 ID: {}", archived.getId());
+                    return record;
+                });
+    }
+
+    /**
+     * 사용자의 보관된 기록 ID 인지 확인 (조회 응답의 보관 기록 ID 는 원래 기록 ID 그대로임)
+     */
+    public boolean isArchived(User user, Long recordId) {
+        return archivedRecordRepository.findById(recordId)
+                .filter(archived -> archived.getUser().getId().equals(user.getId()))
+                .isPresent();
+    }
+
+    private Optional<LocalDate> latestArchivedDate() {
+        Optional<LocalDate> latest = latestArchivedDate;
+        if (latest == null) {
+            latest = archivedRecordRepository.findLatestRecordDate();
+            latestArchivedDate = latest;
+        }
+        return latest;
+    }
+}
@@ -29,6 +29,11 @@ public class RecordCompletionService {
         return completedCount == 4;
     }
 
+    // 주간 진행도에서 하루를 완료한 날로 볼지 확인하는 메서드 (완료된 기록이 하나 이상)
+    public boolean isCompletedDay(int completedCount) {
+        return completedCount > 0;
+    }
+
     // 완료율을 백분율로 변환하는 메서드
     public int toPercentage(double completionRate) {
         return (int) Math.round(completionRate * 100);
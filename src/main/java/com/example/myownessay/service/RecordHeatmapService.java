@@ -0,0 +1,136 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.dto.record.response.RecordHeatmapResponse;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.event.RecordChangedEvent;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.repository.projection.DailyCompletedSlots;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 연간 기록 히트맵 서비스
+ * 한 해의 날짜별 완료 슬롯 수를 하루 4비트로 묶어 Base64 로 반환합니다. (366일 기준 183바이트)
+ * 집계는 날짜별 GROUP BY 쿼리로 처리하고(보관 기준일 이전 날짜는 보관 테이블 집계를 합침), 지난 연도 결과는 메모리에 캐시합니다.
+ * 지난 날짜의 기록이 바뀌면 기록 변경 이벤트로 해당 연도 캐시를 지웁니다.
+ */
+@Service
+@Slf4j
+public class RecordHeatmapService {
+
+    static final String ENCODING = "nibble-base64";
+
+    private static final int TOTAL_SLOTS = 4;
+    private static final int MIN_YEAR = 2000;
+
+    private final RecordHistoryReader recordHistoryReader;
+    private final UserRepository userRepository;
+    private final Map<String, RecordHeatmapResponse> pastYearCache;
+
+    public RecordHeatmapService(
+            RecordHistoryReader recordHistoryReader,
+            UserRepository userRepository,
+            @Value("${record.heatmap.cache-size:10000}") int cacheSize
+    ) {
+        this.recordHistoryReader = recordHistoryReader;
+        this.userRepository = userRepository;
+
+        // 접근 순서 기준 LRU
+        this.pastYearCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RecordHeatmapResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * 연간 히트맵 조회
+     *
+     * @param email 사용자 이메일
+     * @param year 조회 연도
+     * @return 인코딩된 연간 히트맵
+     */
+    @Transactional(readOnly = true)
+    public RecordHeatmapResponse getHeatmap(String email, int year) {
+        log.debug("연간 히트맵 조회 요청 - 연도: {}", year);
+
+        int currentYear = LocalDate.now().getYear();
+        if (year < MIN_YEAR || year > currentYear) {
+            throw new IllegalArgumentException("조회할 수 없는 연도입니다.");
+        }
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        boolean pastYear = year < currentYear;
+        String key = cacheKey(user.getId(), year);
+        if (pastYear) {
+            RecordHeatmapResponse cached = getCached(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        RecordHeatmapResponse response = build(user.getId(), year);
+        if (pastYear) {
+            synchronized (pastYearCache) {
+                pastYearCache.put(key, response);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * 지난 연도의 기록이 바뀌면 해당 연도 캐시 삭제
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecordChanged(RecordChangedEvent event) {
+        synchronized (pastYearCache) {
+            pastYearCache.remove(cacheKey(event.getUserId(), event.getRecordDate().getYear()));
+        }
+    }
+
+    private RecordHeatmapResponse build(Long userId, int year) {
+        LocalDate start = LocalDate.of(year, 1, 1);
+        int days = Year.of(year).length();
+        byte[] packed = new byte[(days + 1) / 2];
+
+        for (DailyCompletedSlots row : recordHistoryReader.findDailyCompletedSlots(userId, start, start.plusDays(days - 1))) {
+            int dayIndex = row.getRecordDate().getDayOfYear() - 1;
+            int value = (int) Math.min(row.getCompletedSlots(), 0xF);
+            if (dayIndex % 2 == 0) {
+                packed[dayIndex / 2] |= (byte) (value << 4);
+            } else {
+                packed[dayIndex / 2] |= (byte) value;
+            }
+        }
+
+        return RecordHeatmapResponse.builder()
+                .year(year)
+                .days(days)
+                .totalSlots(TOTAL_SLOTS)
+                .encoding(ENCODING)
+                .data(Base64.getEncoder().encodeToString(packed))
+                .build();
+    }
+
+    private RecordHeatmapResponse getCached(String key) {
+        synchronized (pastYearCache) {
+            return pastYearCache.get(key);
+        }
+    }
+
+    private static String cacheKey(Long userId, int year) {
+        return userId + ":" + year;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.entity.ArchivedRecord;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.repository.ArchivedRecordRepository;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.projection.DailyCompletedSlots;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 보관 기록을 포함한 기록 조회기
+ * 조회 범위가 보관 테이블 조회 경계 이전까지 닿을 때만 보관 테이블을 함께 조회해 합칩니다.
+ * 최근 기간만 조회하면 기록 테이블만 사용하므로 기존 조회 비용은 그대로입니다.
+ *
+ * 보관 기록은 조회용으로만 변환된 기록(archived = true)이므로 저장하면 안 되고, 삭제나 복원도 할 수 없습니다.
+ * 보관된 기록을 고치려면 같은 날짜와 슬롯에 다시 저장합니다. (기록 테이블로 되돌려짐)
+ */
+@Service
+@RequiredArgsConstructor
+public class RecordHistoryReader {
+
+    private final RecordRepository recordRepository;
+    private final ArchivedRecordRepository archivedRecordRepository;
+    private final RecordArchiveService recordArchiveService;
+    private final RecordCompletionService recordCompletionService;
+
+    /**
+     * 특정 사용자와 날짜의 모든 기록 조회
+     */
+    public List<Record> findByUserAndRecordDate(User user, LocalDate recordDate) {
+        return withArchived(user, recordDate, recordDate, recordRepository.findByUserAndRecordDate(user, recordDate));
+    }
+
+    /**
+     * 특정 사용자와 날짜 범위의 모든 기록 조회
+     */
+    public List<Record> findByUserAndRecordDateBetween(User user, LocalDate startDate, LocalDate endDate) {
+        return withArchived(user, startDate, endDate,
+                recordRepository.findByUserAndRecordDateBetween(user, startDate, endDate));
+    }
+
+    /**
+     * 특정 사용자의 기간 내 완료한 날 수 조회
+     * 완료한 날인지는 {@link RecordCompletionService#isCompletedDay(int)} 로 판단합니다.
+     */
+    public long countCompletedDays(Long userId, LocalDate startDate, LocalDate endDate) {
+        return findDailyCompletedSlots(userId, startDate, endDate).stream()
+                .filter(row -> recordCompletionService.isCompletedDay(row.getCompletedSlots().intValue()))
+                .count();
+    }
+
+    /**
+     * 특정 사용자의 기간 내 날짜별 완료 기록 수 조회 (날짜 오름차순)
+     */
+    public List<DailyCompletedSlots> findDailyCompletedSlots(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<DailyCompletedSlots> rows = recordRepository.findDailyCompletedSlots(userId, startDate, endDate);
+        if (!reachesArchive(startDate)) {
+            return rows;
+        }
+
+        // 같은 날짜의 기록 일부만 되돌려진 경우가 있으므로 날짜별로 합산
+        Map<LocalDate, Long> merged = new TreeMap<>();
+        rows.forEach(row -> merged.merge(row.getRecordDate(), row.getCompletedSlots(), Long::sum));
+        archivedRecordRepository.findDailyCompletedSlots(userId, startDate, endDate)
+                .forEach(row -> merged.merge(row.getRecordDate(), row.getCompletedSlots(), Long::sum));
+
+        return merged.entrySet().stream()
+                .<DailyCompletedSlots>map(entry -> new MergedDailyCompletedSlots(userId, entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 여러 사용자의 전체 기간 날짜별 완료 기록 수를 스트리밍 조회 (트랜잭션 안에서 사용)
+     * 기록 테이블과 보관 테이블을 차례로 읽으므로 같은 날짜가 두 번 나올 수 있습니다.
+     */
+    public Stream<DailyCompletedSlots> streamDailyCompletedSlots(Collection<Long> userIds) {
+        return Stream.<Supplier<Stream<DailyCompletedSlots>>>of(
+                        () -> recordRepository.streamDailyCompletedSlots(userIds),
+                        () -> archivedRecordRepository.streamDailyCompletedSlots(userIds))
+                .flatMap(Supplier::get);
+    }
+
+    private List<Record> withArchived(User user, LocalDate startDate, LocalDate endDate, List<Record> records) {
+        if (!reachesArchive(startDate)) {
+            return records;
+        }
+
+        List<ArchivedRecord> archived = archivedRecordRepository.findByUserAndRecordDateBetween(user, startDate, endDate);
+        if (archived.isEmpty()) {
+            return records;
+        }
+
+        List<Record> merged = new ArrayList<>(archived.size() + records.size());
+        archived.forEach(archivedRecord -> merged.add(archivedRecord.toRecord()));
+        merged.addAll(records);
+        return merged;
+    }
+
+    private boolean reachesArchive(LocalDate startDate) {
+        return startDate.isBefore(recordArchiveService.getArchiveBoundary());
+    }
+
+    private record MergedDailyCompletedSlots(Long userId, LocalDate recordDate, Long completedSlots)
+            implements DailyCompletedSlots {
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public LocalDate getRecordDate() {
+            return recordDate;
+        }
+
+        @Override
+        public Long getCompletedSlots() {
+            return completedSlots;
+        }
+    }
+}
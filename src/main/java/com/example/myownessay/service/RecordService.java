@@ -6,12 +6,15 @@ import com.example.myownessay.dto.record.response.RecordResponse;
 import com.example.myownessay.entity.User;
 import com.example.myownessay.entity.Record;
 import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.event.RecordChangedEvent;
+import com.example.myownessay.monitoring.jfr.RecordSaveEvent;
 import com.example.myownessay.repository.RecordRepository;
 import com.example.myownessay.repository.UserRepository;
 import com.example.myownessay.validator.SlotContentValidator;
 import com.example.myownessay.validator.SlotValidatorFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,37 +29,42 @@ import java.util.stream.Collectors;
 public class RecordService {
 
     private final RecordRepository recordRepository;
+    private final RecordHistoryReader recordHistoryReader;
+    private final RecordArchiveService recordArchiveService;
     private final UserRepository userRepository;
     private final SlotValidatorFactory validatorFactory;
     private final RecordCompletionService recordCompletionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 특정 사용자의 특정 기록을 소프트 삭제
     @Transactional
     public void deleteRecord(String email, Long recordId) {
-        log.info("기록 삭제 요청 (Soft Delete) - 이메일: {}, 기록 ID: {}", email, recordId);
+        log.debug("기록 삭제 요청 (Soft Delete) - 기록 ID: {}", recordId);
 
         User user = getUserByEmail(email);
 
         // 기록 조회(소프트 삭제되지 않은 기록만 조회)
         Record record = recordRepository.findByIdAndUser(recordId, user)
-                .orElseThrow(() -> new RuntimeException("기록을 찾을 수 없습니다."));
+                .orElseThrow(() -> recordNotFound(user, recordId));
 
         // Soft Delete 처리
         record.markAsDeleted();
         recordRepository.save(record);
+        eventPublisher.publishEvent(new RecordChangedEvent(user.getId(), record.getRecordDate()));
 
         log.info("기록 소프트 삭제 성공 - 기록 ID: {}", recordId);
     }
 
     // 특정 사용자의 특정 기록을 복원
+    @Transactional
     public void restoreRecord(String email, Long recordId) {
-        log.info("기록 복원 요청 - 이메일: {}, 기록 ID: {}", email, recordId);
+        log.debug("기록 복원 요청 - 기록 ID: {}", recordId);
 
         User user = getUserByEmail(email);
 
         // 기록 조회(삭제된 기록 포함)
-        Record record = recordRepository.findById(recordId)
-                .orElseThrow(() -> new RuntimeException("기록을 찾을 수 없습니다."));
+        Record record = recordRepository.findByIdIncludingDeleted(recordId)
+                .orElseThrow(() -> recordNotFound(user, recordId));
 
         // 권한 확인
         if (!record.getUser().getId().equals(user.getId())) {
@@ -66,6 +74,7 @@ public class RecordService {
         // Soft Delete 해제 처리
         record.restore();
         recordRepository.save(record);
+        eventPublisher.publishEvent(new RecordChangedEvent(user.getId(), record.getRecordDate()));
 
         log.info("기록 복원 성공 - 기록 ID: {}", recordId);
     }
@@ -73,28 +82,41 @@ public class RecordService {
     // 특정 사용자의 특정 날짜와 슬롯 타입에 해당하는 기록을 저장 또는 업데이트
     @Transactional
     public RecordResponse saveRecord(String email, LocalDate date, SlotType slotType, RecordRequest request) {
-        log.info("기록 저장 요청 - 이메일: {}, 날짜: {}, 슬롯 타입: {}", email, date, slotType);
+        log.debug("기록 저장 요청 - 날짜: {}, 슬롯 타입: {}", date, slotType);
+        RecordSaveEvent saveEvent = new RecordSaveEvent();
+        saveEvent.begin();
 
         // 슬롯 콘텐츠 유효성 검사
         SlotContentValidator validator = validatorFactory.getValidator(slotType);
         validator.validate(request.getContent());
-        log.info("슬롯 콘텐츠 유효성 검사 통과");
+        log.debug("슬롯 콘텐츠 유효성 검사 통과");
 
         User user = getUserByEmail(email);
 
-        // 기존 기록 조회
-        Record record = recordRepository.findByUserAndRecordDateAndSlotType(user, date, slotType)
+        // 기존 기록 조회 (같은 슬롯의 삭제된 기록도 유니크 제약에 걸리므로 포함해서 조회, 없으면 보관된 기록을 되돌림)
+        Record record = recordRepository.findByUserIdAndRecordDateAndSlotTypeIncludingDeleted(
+                        user.getId(), date, slotType.name())
+                .or(() -> recordArchiveService.unarchive(user, date, slotType))
                 .orElse(null);
 
-        // 기존 기록이 없으면 새로 생성, 있으면 업데이트
+        // 기존 기록이 없으면 새로 생성, 삭제된 기록이면 복원 후 업데이트, 있으면 업데이트
         if (record == null) {
             record = new Record();
             record.setUser(user);
             record.setRecordDate(date);
             record.setSlotType(slotType);
-            log.info("새로운 기록 생성");
+            saveEvent.setOperation("CREATE");
+            log.debug("새로운 기록 생성");
+        } else if (Boolean.TRUE.equals(record.getIsDeleted())) {
+            record.restore();
+            saveEvent.setOperation("RESTORE");
+            log.debug("삭제된 기록 복원 후 업데이트 - 기록 ID: {}", record.getId());
+        } else if (record.getId() == null) {
+            saveEvent.setOperation("UNARCHIVE");
+            log.debug("보관된 기록을 되돌려 업데이트");
         } else {
-            log.info("기존 기록 업데이트 - 기록 ID: {}", record.getId());
+            saveEvent.setOperation("UPDATE");
+            log.debug("기존 기록 업데이트 - 기록 ID: {}", record.getId());
         }
 
         // 기록 내용 및 완료 상태 설정
@@ -107,7 +129,18 @@ public class RecordService {
 
         // 기록 저장
         Record savedRecord = recordRepository.save(record);
-        log.info("기록 저장 성공 - 기록 ID: {}", savedRecord.getId());
+        eventPublisher.publishEvent(new RecordChangedEvent(user.getId(), date));
+        log.info("기록 저장 성공 - 기록 ID: {}, 날짜: {}, 슬롯 타입: {}", savedRecord.getId(), date, slotType);
+
+        // 임계값(기본 10ms)을 넘긴 저장만 JFR 에 기록됨
+        saveEvent.end();
+        if (saveEvent.shouldCommit()) {
+            saveEvent.setUserId(user.getId());
+            saveEvent.setSlotType(slotType.name());
+            saveEvent.setRecordDate(date.toString());
+            saveEvent.setCompleted(savedRecord.isCompleted());
+            saveEvent.commit();
+        }
 
         return RecordResponse.from(savedRecord);
     }
@@ -115,13 +148,13 @@ public class RecordService {
     // 특정 사용자의 특정 날짜에 해당하는 모든 기록 조회
     @Transactional(readOnly = true)
     public DailyRecordsResponse getDailyRecords(String email, LocalDate date) {
-        log.info("일일 기록 조회 요청 - 이메일: {}, 날짜: {}", email, date);
+        log.debug("일일 기록 조회 요청 - 날짜: {}", date);
 
         User user = getUserByEmail(email);
 
         // 해당 날짜의 모든 기록 조회
-        List<Record> records = recordRepository.findByUserAndRecordDate(user, date);
-        log.info("조회된 기록 수: {}", records.size());
+        List<Record> records = recordHistoryReader.findByUserAndRecordDate(user, date);
+        log.debug("조회된 기록 수: {}", records.size());
 
         // Record 엔티티를 RecordResponse DTO로 변환
         List<RecordResponse> recordResponses = records.stream()
@@ -131,11 +164,11 @@ public class RecordService {
         int completedCount = (int) records.stream()
                 .filter(Record::getIsCompleted)
                 .count();
-        log.info("완료된 기록 수: {}", completedCount);
+        log.debug("완료된 기록 수: {}", completedCount);
 
         double completionRate = recordCompletionService.calculateDailyCompletion(completedCount);
         boolean isAllCompleted = recordCompletionService.isAllCompleted(completedCount);
-        log.info("계산된 완료율: {}, 모든 슬롯 완료 여부: {}", completionRate, isAllCompleted);
+        log.debug("계산된 완료율: {}, 모든 슬롯 완료 여부: {}", completionRate, isAllCompleted);
 
         // DailyRecordsResponse 생성 및 반환
         return DailyRecordsResponse.from(date, recordResponses, completionRate, completedCount, isAllCompleted);
@@ -144,7 +177,7 @@ public class RecordService {
     // 특정 사용자의 특정 기간(주간)에 해당하는 모든 기록 조회
     @Transactional(readOnly = true)
     public List<RecordResponse> getWeeklyRecords(String email, LocalDate startDate, LocalDate endDate) {
-        log.info("주간 기록 조회 요청 - 이메일: {}, 시작 날짜: {}, 종료 날짜: {}", email, startDate, endDate);
+        log.debug("주간 기록 조회 요청 - 시작 날짜: {}, 종료 날짜: {}", startDate, endDate);
 
         // 날짜 유효성 검사
         if (endDate.isBefore(startDate)) {
@@ -159,7 +192,7 @@ public class RecordService {
         User user = getUserByEmail(email);
 
         // 해당 기간의 모든 기록 조회
-        List<Record> records = recordRepository.findByUserAndRecordDateBetween(user, startDate, endDate);
+        List<Record> records = recordHistoryReader.findByUserAndRecordDateBetween(user, startDate, endDate);
 
         // 기록을 DTO로 변환
         return records.stream()
@@ -170,7 +203,7 @@ public class RecordService {
     // 특정 사용자의 특정 주의 완료율 계산
     @Transactional(readOnly = true)
     public double calculateWeeklyCompletionRate(String email, LocalDate weekStart) {
-        log.info("주간 완료율 계산 요청 - 이메일: {}, 주 시작 날짜: {}", email, weekStart);
+        log.debug("주간 완료율 계산 요청 - 주 시작 날짜: {}", weekStart);
 
         User user = getUserByEmail(email);
 
@@ -180,7 +213,7 @@ public class RecordService {
 
         // 주간 각 날짜별로 완료된 기록 수 확인
         for (LocalDate date = weekStart; !date.isAfter(weekEnd); date = date.plusDays(1)) {
-            List<Record> dailyRecords = recordRepository.findByUserAndRecordDate(user, date);
+            List<Record> dailyRecords = recordHistoryReader.findByUserAndRecordDate(user, date);
 
             int completedCount = (int) dailyRecords.stream()
                     .filter(Record::getIsCompleted)
@@ -194,7 +227,7 @@ public class RecordService {
         // 주간 완료율 계산
         double weeklyRate = recordCompletionService.calculateWeeklyCompletion(completedDays);
 
-        log.info("계산된 주간 완료율: {}", weeklyRate);
+        log.debug("계산된 주간 완료율: {}", weeklyRate);
 
         return weeklyRate;
     }
@@ -203,4 +236,12 @@ public class RecordService {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
     }
+
+    // 기록 테이블에 없는 ID 가 보관된 기록이면 읽기 전용임을 알림
+    private RuntimeException recordNotFound(User user, Long recordId) {
+        if (recordArchiveService.isArchived(user, recordId)) {
+            return new RuntimeException("보관된 기록은 삭제하거나 복원할 수 없습니다. 같은 날짜와 슬롯에 다시 저장하면 수정할 수 있습니다.");
+        }
+        return new RuntimeException("기록을 찾을 수 없습니다.");
+    }
 }
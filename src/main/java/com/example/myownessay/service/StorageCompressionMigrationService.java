@@ -0,0 +1,191 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.common.compression.TextCompressionCodec;
+import com.example.myownessay.common.converter.CompressedJsonConverter;
+import com.example.myownessay.entity.BatchCheckpoint;
+import com.example.myownessay.repository.BatchCheckpointRepository;
+import com.example.myownessay.repository.EssayRepository;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.projection.StoredEssayContent;
+import com.example.myownessay.repository.projection.StoredRecordContent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장 포맷 마이그레이션 서비스
+ * 기존 에세이/기록 행을 ID 순으로 배치 단위로 읽어, 아직 압축되지 않은 임계값 이상의 값만 다시 기록합니다.
+ * 배치마다 별도 트랜잭션을 사용하므로 긴 잠금 없이 운영 중에 실행할 수 있습니다.
+ *
+ * 진행 위치는 배치 체크포인트 테이블에 배치와 같은 트랜잭션으로 저장하므로,
+ * 재시작하면 커밋된 마지막 배치 다음부터 이어서 처리하고 완료된 뒤에는 다시 기록하지 않습니다.
+ * 처음부터 다시 실행하려면 체크포인트 행을 지웁니다.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "storage.compression.migration.enabled", havingValue = "true")
+public class StorageCompressionMigrationService {
+
+    static final String ESSAY_JOB_NAME = "storage-compression:essays";
+    static final String RECORD_JOB_NAME = "storage-compression:records";
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final EssayRepository essayRepository;
+    private final RecordRepository recordRepository;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int batchSize;
+    private final int thresholdBytes;
+
+    public StorageCompressionMigrationService(
+            EssayRepository essayRepository,
+            RecordRepository recordRepository,
+            BatchCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${storage.compression.migration.batch-size:200}") int batchSize,
+            @Value("${storage.compression.threshold-bytes:1024}") int thresholdBytes
+    ) {
+        this.essayRepository = essayRepository;
+        this.recordRepository = recordRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    /**
+     * 주기적으로 한 배치씩 마이그레이션을 진행합니다. (에세이를 모두 마친 뒤 기록)
+     */
+    @Scheduled(fixedDelayString = "${storage.compression.migration.interval-ms:1000}",
+            initialDelayString = "${storage.compression.migration.initial-delay-ms:10000}")
+    public synchronized void migrateNextBatch() {
+        if (migrateEssayBatch() == 0) {
+            migrateRecordBatch();
+        }
+    }
+
+    /**
+     * 에세이 한 배치를 처리합니다.
+     *
+     * @return 확인한 행 수 (0 이면 완료)
+     */
+    public int migrateEssayBatch() {
+        Integer scanned = transactionTemplate.execute(status -> {
+            BatchCheckpoint checkpoint = getCheckpoint(ESSAY_JOB_NAME);
+            if (checkpoint.getCompleted()) {
+                return 0;
+            }
+
+            List<StoredEssayContent> rows = essayRepository.findStoredContentAfter(checkpoint.getLastProcessedId(), batchSize);
+            if (rows.isEmpty()) {
+                checkpoint.markCompleted();
+                log.info("에세이 압축 마이그레이션 완료 - 마지막 ID: {}, 재기록: {}",
+                        checkpoint.getLastProcessedId(), checkpoint.getProcessedCount());
+                return 0;
+            }
+
+            int rewritten = 0;
+            for (StoredEssayContent row : rows) {
+                if (needsCompression(row.getAiDraft()) || needsCompression(row.getFinalContent())) {
+                    essayRepository.rewriteContent(row.getId(),
+                            TextCompressionCodec.decode(row.getAiDraft()),
+                            TextCompressionCodec.decode(row.getFinalContent()));
+                    rewritten++;
+                }
+            }
+            checkpoint.advance(rows.get(rows.size() - 1).getId(), rewritten, 0);
+            log.debug("에세이 압축 마이그레이션 배치 처리 - 확인: {}, 재기록: {}, 체크포인트: {}",
+                    rows.size(), rewritten, checkpoint.getLastProcessedId());
+            return rows.size();
+        });
+        return scanned == null ? 0 : scanned;
+    }
+
+    /**
+     * 기록 한 배치를 처리합니다.
+     *
+     * @return 확인한 행 수 (0 이면 완료)
+     */
+    public int migrateRecordBatch() {
+        Integer scanned = transactionTemplate.execute(status -> {
+            BatchCheckpoint checkpoint = getCheckpoint(RECORD_JOB_NAME);
+            if (checkpoint.getCompleted()) {
+                return 0;
+            }
+
+            List<StoredRecordContent> rows = recordRepository.findStoredContentAfter(checkpoint.getLastProcessedId(), batchSize);
+            if (rows.isEmpty()) {
+                checkpoint.markCompleted();
+                log.info("기록 압축 마이그레이션 완료 - 마지막 ID: {}, 재기록: {}",
+                        checkpoint.getLastProcessedId(), checkpoint.getProcessedCount());
+                return 0;
+            }
+
+            int rewritten = 0;
+            for (StoredRecordContent row : rows) {
+                Map<String, Object> content = readJson(row.getContent());
+                if (!CompressedJsonConverter.isEnvelope(content) && needsCompression(writeJson(content))) {
+                    recordRepository.rewriteContent(row.getId(), content);
+                    rewritten++;
+                }
+            }
+            checkpoint.advance(rows.get(rows.size() - 1).getId(), rewritten, 0);
+            log.debug("기록 압축 마이그레이션 배치 처리 - 확인: {}, 재기록: {}, 체크포인트: {}",
+                    rows.size(), rewritten, checkpoint.getLastProcessedId());
+            return rows.size();
+        });
+        return scanned == null ? 0 : scanned;
+    }
+
+    /**
+     * 마이그레이션 완료 여부
+     */
+    public boolean isCompleted() {
+        return checkpointRepository.findAllById(List.of(ESSAY_JOB_NAME, RECORD_JOB_NAME)).stream()
+                .filter(BatchCheckpoint::getCompleted)
+                .count() == 2;
+    }
+
+    private BatchCheckpoint getCheckpoint(String name) {
+        return checkpointRepository.findById(name)
+                .orElseGet(() -> checkpointRepository.save(
+                        BatchCheckpoint.builder().name(name).startedAt(LocalDateTime.now()).build()));
+    }
+
+    // 아직 압축 헤더가 없고 임계값 이상인 값만 다시 기록 (이미 압축됐거나 짧은 값은 다시 써도 같은 값)
+    private boolean needsCompression(String stored) {
+        return stored != null
+                && !TextCompressionCodec.isCompressed(stored)
+                && stored.getBytes(StandardCharsets.UTF_8).length >= thresholdBytes;
+    }
+
+    private Map<String, Object> readJson(String json) {
+        try {
+            return objectMapper.readValue(json, MAP_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 기록 내용을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String writeJson(Map<String, Object> content) {
+        try {
+            return objectMapper.writeValueAsString(content);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("기록 내용을 직렬화할 수 없습니다.", e);
+        }
+    }
+}
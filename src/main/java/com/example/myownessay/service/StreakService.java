@@ -2,7 +2,7 @@ package com.example.myownessay.service;
 
 import com.example.myownessay.entity.User;
 import com.example.myownessay.entity.Record;
-import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.monitoring.jfr.StreakComputationEvent;
 import com.example.myownessay.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,13 +17,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class StreakService {
-    private final RecordRepository recordRepository;
+    private final RecordHistoryReader recordHistoryReader;
     private final UserRepository userRepository;
 
     // 현재 연속 기록 조회
     @Transactional(readOnly = true)
     public int getCurrentStreak(String email) {
-        log.info("현재 연속 기록 조회 - 이메일: {}", email);
+        log.debug("현재 연속 기록 조회");
+        StreakComputationEvent event = new StreakComputationEvent();
+        event.begin();
 
         // 사용자 조회
         var user = userRepository.findByEmail(email)
@@ -32,11 +34,13 @@ public class StreakService {
         // 오늘 날짜
         LocalDate today = LocalDate.now();
         int streak = 0; // 연속 기록 초기화
+        int daysScanned = 0;
 
         // 연속 기록 계산
         for (int i = 0; i < 365; i++) {
             // 오늘부터 과거로 하루씩 체크
             LocalDate checkDate = today.minusDays(i);
+            daysScanned++;
 
             if (hasCompletedRecordOnDate(user, checkDate)) {
                 streak++; // 완료된 기록이 있으면 연속 기록 증가
@@ -45,14 +49,17 @@ public class StreakService {
             }
         }
 
-        log.info("현재 연속 기록: {}일", streak);
+        log.debug("현재 연속 기록: {}일", streak);
+        commit(event, user.getId(), "CURRENT", streak, daysScanned);
         return streak;
     }
 
     // 최대 연속 기록 조회
     @Transactional(readOnly = true)
     public int getMaxStreak(String email) {
-        log.info("최대 연속 기록 조회 - 이메일: {}", email);
+        log.debug("최대 연속 기록 조회");
+        StreakComputationEvent event = new StreakComputationEvent();
+        event.begin();
 
         // 사용자 조회
         User user = userRepository.findByEmail(email)
@@ -63,7 +70,7 @@ public class StreakService {
         LocalDate endDate = LocalDate.now();
 
         // 해당 기간 동안의 모든 기록 조회
-        List<Record> records = recordRepository.findByUserAndRecordDateBetween(user, startDate, endDate);
+        List<Record> records = recordHistoryReader.findByUserAndRecordDateBetween(user, startDate, endDate);
 
         // 날짜별로 완료된 기록이 있는지 체크
         List<LocalDate> completedDates = records.stream()
@@ -74,6 +81,7 @@ public class StreakService {
                 .collect(Collectors.toList());
 
         if (completedDates.isEmpty()) {
+            commit(event, user.getId(), "MAX", 0, records.size());
             return 0; // 완료된 기록이 없으면 최대 연속 기록은 0
         }
 
@@ -93,14 +101,27 @@ public class StreakService {
             }
         }
 
-        log.info("최대 연속 기록: {}일", maxStreak);
+        log.debug("최대 연속 기록: {}일", maxStreak);
+        commit(event, user.getId(), "MAX", maxStreak, records.size());
         return maxStreak;
     }
 
+    // 임계값(기본 10ms)을 넘긴 계산만 JFR 에 기록
+    private void commit(StreakComputationEvent event, Long userId, String kind, int streakDays, int rowsScanned) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setUserId(userId);
+            event.setKind(kind);
+            event.setStreakDays(streakDays);
+            event.setRowsScanned(rowsScanned);
+            event.commit();
+        }
+    }
+
     // 특정 날짜에 사용자가 완료한 기록이 있는지 확인
     private boolean hasCompletedRecordOnDate(User user, LocalDate date) {
         // 해당 날짜에 사용자의 모든 기록 조회
-        List<Record> records = recordRepository.findByUserAndRecordDate(user, date);
+        List<Record> records = recordHistoryReader.findByUserAndRecordDate(user, date);
 
         // 완료된 기록이 하나라도 있는지 확인
         return records.stream().anyMatch(Record::isCompleted);
@@ -0,0 +1,356 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.dto.essay.response.TrendingEssayResponse;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.TrendingScore;
+import com.example.myownessay.entity.enums.EssayTheme;
+import com.example.myownessay.event.AccountDeletedEvent;
+import com.example.myownessay.event.EssayReactionEvent;
+import com.example.myownessay.event.EssayVisibilityChangedEvent;
+import com.example.myownessay.repository.EssayRepository;
+import com.example.myownessay.repository.TrendingScoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 에세이 서비스
+ * 좋아요/북마크 이벤트로 PUBLIC 에세이의 시간 감쇠 점수를 점진적으로 갱신하고,
+ * 점수순으로 정렬된 스킵 리스트에서 상위 K개를 O(K)로 조회합니다.
+ *
+ * 점수는 forward decay 방식으로 기준 시각(landmark) 대비 가중치를 곱해 누적하므로,
+ * 시간이 흘러도 저장된 값을 갱신할 필요 없이 상대 순위가 유지됩니다.
+ *
+ * 쓰기는 이 객체의 락 안에서만 일어나고, 조회는 락 없이 현재 색인(기준 시각과 정렬 집합)을 한 번 읽어 사용합니다.
+ * 기준 시각을 옮길 때는 새 색인을 모두 만든 뒤 한 번에 교체하므로, 조회가 비어 있거나 기준 시각이 어긋난 색인을 보지 않습니다.
+ */
+@Service
+@Slf4j
+public class TrendingService {
+
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double BOOKMARK_WEIGHT = 2.0;
+
+    // 기준 시각 대비 지수가 이 값을 넘으면 점수를 재조정 (double 오버플로 방지)
+    private static final double MAX_EXPONENT = 50.0;
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble(Entry::forwardScore).reversed()
+            .thenComparing(Entry::essayId);
+
+    private final EssayRepository essayRepository;
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double decayPerMilli;
+    private final int capacity;
+
+    private volatile Index index = Index.empty(Instant.now());
+
+    public TrendingService(
+            EssayRepository essayRepository,
+            TrendingScoreRepository trendingScoreRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${trending.half-life-hours:24}") double halfLifeHours,
+            @Value("${trending.capacity:1000}") int capacity
+    ) {
+        this.essayRepository = essayRepository;
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.decayPerMilli = Math.log(2) / Duration.ofMinutes((long) (halfLifeHours * 60)).toMillis();
+        this.capacity = capacity;
+    }
+
+    /**
+     * 좋아요/북마크 이벤트 반영 (커밋된 변경만 반영)
+     * 취소는 원래 반응 시각의 가중치로 빼므로, 추가 때 더한 만큼만 정확히 차감됩니다.
+     */
+    @TransactionalEventListener
+    public void onReaction(EssayReactionEvent event) {
+        if (!event.isPublicEssay()) {
+            return;
+        }
+
+        double weight = event.getType() == EssayReactionEvent.ReactionType.BOOKMARK ? BOOKMARK_WEIGHT : LIKE_WEIGHT;
+        record(event.getEssayId(), event.getTheme(), event.isAdded() ? weight : -weight, event.getReactedAt());
+    }
+
+    /**
+     * 공개 상태/테마 변경 이벤트 반영
+     */
+    @TransactionalEventListener
+    public void onVisibilityChanged(EssayVisibilityChangedEvent event) {
+        synchronized (this) {
+            Entry current = index.entries().get(event.getEssayId());
+            if (current == null) {
+                return;
+            }
+
+            index.remove(current);
+            if (event.isPublicEssay()) {
+                index.insert(new Entry(current.essayId(), event.getTheme(), current.forwardScore()));
+            }
+        }
+    }
+
+    /**
+     * 탈퇴한 계정의 에세이를 순위에서 제외 (탈퇴 커밋 후)
+     * 데이터 삭제 전까지 남아 있는 에세이도 인기 목록에 나오지 않도록 바로 뺍니다.
+     */
+    @TransactionalEventListener
+    public void onAccountDeleted(AccountDeletedEvent event) {
+        evict(essayRepository.findIdsByUserId(event.getUserId()));
+    }
+
+    /**
+     * 에세이를 순위에서 제외합니다. (삭제되었거나 더 이상 공개되지 않는 에세이)
+     * 다음 체크포인트부터 점수 테이블에서도 빠집니다.
+     *
+     * @param essayIds 에세이 ID 목록
+     */
+    public synchronized void evict(Collection<Long> essayIds) {
+        for (Long essayId : essayIds) {
+            Entry current = index.entries().get(essayId);
+            if (current != null) {
+                index.remove(current);
+            }
+        }
+    }
+
+    /**
+     * 점수 변화량을 기록합니다.
+     *
+     * @param essayId 에세이 ID
+     * @param theme 에세이 테마
+     * @param weight 가중치 (취소 시 음수)
+     * @param occurredAt 반응 시각 (취소 시 원래 반응 시각)
+     */
+    public synchronized void record(Long essayId, EssayTheme theme, double weight, Instant occurredAt) {
+        double delta = weight * Math.exp(decayPerMilli * (occurredAt.toEpochMilli() - index.landmark().toEpochMilli()));
+
+        Entry current = index.entries().get(essayId);
+        double forwardScore = delta;
+        if (current != null) {
+            index.remove(current);
+            forwardScore += current.forwardScore();
+        }
+
+        if (forwardScore <= 0) {
+            return;
+        }
+
+        index.insert(new Entry(essayId, theme, forwardScore));
+        evictOverCapacity();
+        rebaseIfNeeded(occurredAt);
+    }
+
+    /**
+     * 인기 에세이 상위 K개의 ID와 현재 점수 조회
+     *
+     * @param theme 테마 (null 이면 전체)
+     * @param limit 조회 개수
+     * @return 에세이 ID -> 현재 감쇠 점수 (점수 내림차순)
+     */
+    public LinkedHashMap<Long, Double> getTopScores(EssayTheme theme, int limit) {
+        Index current = index;
+        NavigableSet<Entry> source = current.ranking(theme);
+        double decay = currentDecay(current, Instant.now());
+
+        LinkedHashMap<Long, Double> top = new LinkedHashMap<>();
+        Iterator<Entry> iterator = source.iterator();
+        while (iterator.hasNext() && top.size() < limit) {
+            Entry entry = iterator.next();
+            top.put(entry.essayId(), entry.forwardScore() * decay);
+        }
+        return top;
+    }
+
+    /**
+     * 인기 에세이 목록 조회
+     * 더 이상 노출할 수 없는 에세이(비공개, 삭제, 탈퇴한 작성자)는 순위에서 빼고 다음 순위로 채웁니다.
+     *
+     * @param theme 테마 (null 이면 전체)
+     * @param limit 조회 개수
+     * @return 인기 에세이 목록 (점수 내림차순)
+     */
+    @Transactional(readOnly = true)
+    public List<TrendingEssayResponse> getTrendingEssays(EssayTheme theme, int limit) {
+        log.info("인기 에세이 조회 요청 - 테마: {}, 개수: {}", theme, limit);
+
+        Map<Long, Essay> essays = new HashMap<>();
+        while (true) {
+            LinkedHashMap<Long, Double> top = getTopScores(theme, limit);
+            if (top.isEmpty()) {
+                return List.of();
+            }
+
+            // 이전 회차에서 읽지 않은 에세이만 조회
+            Set<Long> missing = new HashSet<>(top.keySet());
+            missing.removeAll(essays.keySet());
+            if (!missing.isEmpty()) {
+                essayRepository.findAllWithUserByIdIn(missing).forEach(essay -> essays.put(essay.getId(), essay));
+            }
+
+            List<Long> unlisted = top.keySet().stream()
+                    .filter(essayId -> !isListed(essays.get(essayId)))
+                    .collect(Collectors.toList());
+            if (unlisted.isEmpty()) {
+                return top.entrySet().stream()
+                        .map(entry -> TrendingEssayResponse.from(essays.get(entry.getKey()), entry.getValue()))
+                        .collect(Collectors.toList());
+            }
+
+            // 노출할 수 없는 항목을 빼면 다음 회차에 그 아래 순위가 올라옴
+            evict(unlisted);
+        }
+    }
+
+    /**
+     * 현재 점수를 테이블에 체크포인트합니다.
+     */
+    @Scheduled(fixedDelayString = "${trending.checkpoint-interval-ms:300000}",
+            initialDelayString = "${trending.checkpoint-interval-ms:300000}")
+    public void checkpoint() {
+        Instant now = Instant.now();
+        List<TrendingScore> snapshot;
+        synchronized (this) {
+            rebaseIfNeeded(now);
+            double decay = currentDecay(index, now);
+            snapshot = index.entries().values().stream()
+                    .map(entry -> TrendingScore.builder()
+                            .essayId(entry.essayId())
+                            .theme(entry.theme())
+                            .score(entry.forwardScore() * decay)
+                            .checkpointedAt(now)
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            trendingScoreRepository.deleteAllInBatch();
+            trendingScoreRepository.saveAll(snapshot);
+        });
+        log.info("인기 에세이 점수 체크포인트 완료 - 건수: {}", snapshot.size());
+    }
+
+    /**
+     * 애플리케이션 시작 시 마지막 체크포인트에서 점수를 복원합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<TrendingScore> saved = transactionTemplate.execute(status -> trendingScoreRepository.findAll());
+        if (saved == null || saved.isEmpty()) {
+            return;
+        }
+
+        synchronized (this) {
+            // 시작 후 이미 반영된 반응은 현재 시각 기준으로 옮기고 체크포인트 점수에 더함
+            Instant now = Instant.now();
+            Index restored = rescaled(now);
+            for (TrendingScore score : saved) {
+                double elapsed = now.toEpochMilli() - score.getCheckpointedAt().toEpochMilli();
+                double forwardScore = score.getScore() * Math.exp(-decayPerMilli * elapsed);
+
+                Entry current = restored.entries().get(score.getEssayId());
+                if (current != null) {
+                    restored.remove(current);
+                    restored.insert(new Entry(current.essayId(), current.theme(), current.forwardScore() + forwardScore));
+                } else {
+                    restored.insert(new Entry(score.getEssayId(), score.getTheme(), forwardScore));
+                }
+            }
+            index = restored;
+            evictOverCapacity();
+        }
+        log.info("인기 에세이 점수 복원 완료 - 건수: {}", saved.size());
+    }
+
+    // 공개 상태이고 작성자가 탈퇴하지 않은 에세이만 노출
+    private static boolean isListed(Essay essay) {
+        return essay != null && essay.isPublic() && essay.getUser().getDeletedAt() == null;
+    }
+
+    // 용량을 넘으면 점수가 가장 낮은 항목부터 제거
+    private void evictOverCapacity() {
+        while (index.entries().size() > capacity) {
+            index.remove(index.ranking().last());
+        }
+    }
+
+    // 기준 시각을 현재로 옮기고 모든 점수를 같은 비율로 축소 (순위는 유지됨)
+    private void rebaseIfNeeded(Instant now) {
+        double exponent = decayPerMilli * (now.toEpochMilli() - index.landmark().toEpochMilli());
+        if (exponent >= MAX_EXPONENT) {
+            index = rescaled(now);
+        }
+    }
+
+    // 현재 항목을 새 기준 시각으로 옮긴 새 색인 (교체 전까지 조회에 보이지 않음)
+    private Index rescaled(Instant landmark) {
+        double decay = currentDecay(index, landmark);
+        Index rescaled = Index.empty(landmark);
+        index.entries().values().forEach(entry ->
+                rescaled.insert(new Entry(entry.essayId(), entry.theme(), entry.forwardScore() * decay)));
+        return rescaled;
+    }
+
+    private double currentDecay(Index current, Instant now) {
+        return Math.exp(-decayPerMilli * (now.toEpochMilli() - current.landmark().toEpochMilli()));
+    }
+
+    /**
+     * 순위 항목 (불변, 점수 변경 시 새 항목으로 교체)
+     */
+    private record Entry(Long essayId, EssayTheme theme, double forwardScore) {
+    }
+
+    /**
+     * 기준 시각과 점수순 정렬 집합 (기준 시각이 바뀌면 통째로 교체)
+     */
+    private record Index(Instant landmark,
+                         Map<Long, Entry> entries,
+                         NavigableSet<Entry> ranking,
+                         Map<EssayTheme, NavigableSet<Entry>> rankingByTheme) {
+
+        static Index empty(Instant landmark) {
+            Map<EssayTheme, NavigableSet<Entry>> rankingByTheme = new EnumMap<>(EssayTheme.class);
+            for (EssayTheme theme : EssayTheme.values()) {
+                rankingByTheme.put(theme, new ConcurrentSkipListSet<>(ORDER));
+            }
+            return new Index(landmark, new ConcurrentHashMap<>(), new ConcurrentSkipListSet<>(ORDER), rankingByTheme);
+        }
+
+        NavigableSet<Entry> ranking(EssayTheme theme) {
+            return theme == null ? ranking : rankingByTheme.get(theme);
+        }
+
+        void insert(Entry entry) {
+            entries.put(entry.essayId(), entry);
+            ranking.add(entry);
+            if (entry.theme() != null) {
+                rankingByTheme.get(entry.theme()).add(entry);
+            }
+        }
+
+        void remove(Entry entry) {
+            entries.remove(entry.essayId());
+            ranking.remove(entry);
+            if (entry.theme() != null) {
+                rankingByTheme.get(entry.theme()).remove(entry);
+            }
+        }
+    }
+}
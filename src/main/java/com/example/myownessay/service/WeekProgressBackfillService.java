@@ -0,0 +1,350 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.entity.BatchCheckpoint;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.repository.BatchCheckpointRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import com.example.myownessay.repository.projection.DailyCompletedSlots;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 주간 진행도 전체 재계산(백필) 서비스
+ * 완료 규칙이 바뀌었을 때 모든 사용자의 모든 주간 진행도를 다시 계산합니다.
+ *
+ * 사용자를 ID 기준으로 파티션에 나눠 병렬로 처리하고, 파티션마다 사용자 청크 단위로
+ * 날짜별 완료 기록 수를 스트리밍 집계한 뒤 바뀐 주간 진행도만 한 트랜잭션에 모아 저장합니다.
+ * 청크를 저장하는 트랜잭션에서 파티션 체크포인트도 함께 갱신하므로 중단되면 이어서 처리합니다.
+ * 동시에 DB 작업을 하는 파티션 수는 별도로 제한합니다.
+ */
+@Service
+@Slf4j
+public class WeekProgressBackfillService {
+
+    static final String JOB_NAME_PREFIX = "week-progress-backfill:p";
+
+    private final UserRepository userRepository;
+    private final RecordHistoryReader recordHistoryReader;
+    private final WeekProgressRepository weekProgressRepository;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final RecordCompletionService recordCompletionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int partitions;
+    private final int chunkSize;
+    private final Semaphore dbPermits;
+
+    private final ExecutorService coordinator;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong usersProcessed = new AtomicLong();
+    private final AtomicLong weeksWritten = new AtomicLong();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+
+    private final Counter usersCounter;
+    private final Counter weeksCounter;
+
+    public WeekProgressBackfillService(
+            UserRepository userRepository,
+            RecordHistoryReader recordHistoryReader,
+            WeekProgressRepository weekProgressRepository,
+            BatchCheckpointRepository checkpointRepository,
+            RecordCompletionService recordCompletionService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${week-progress.backfill.partitions:8}") int partitions,
+            @Value("${week-progress.backfill.chunk-size:200}") int chunkSize,
+            @Value("${week-progress.backfill.max-db-concurrency:4}") int maxDbConcurrency
+    ) {
+        this.userRepository = userRepository;
+        this.recordHistoryReader = recordHistoryReader;
+        this.weekProgressRepository = weekProgressRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.recordCompletionService = recordCompletionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitions = partitions;
+        this.chunkSize = chunkSize;
+        this.dbPermits = new Semaphore(maxDbConcurrency);
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "week-progress-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.usersCounter = meterRegistry.counter("week-progress.backfill.users");
+        this.weeksCounter = meterRegistry.counter("week-progress.backfill.weeks.written");
+    }
+
+    /**
+     * 백그라운드에서 백필 시작
+     *
+     * @return 시작 직후 진행 상태
+     * @throws IllegalStateException 이미 실행 중인 경우
+     */
+    public Map<String, Object> start() {
+        if (running.get()) {
+            throw new IllegalStateException("주간 진행도 백필이 이미 실행 중입니다.");
+        }
+        coordinator.execute(this::run);
+        return getStatus();
+    }
+
+    /**
+     * 백필 실행 (끝날 때까지 대기)
+     * 모든 파티션이 완료된 상태이면 처음부터, 완료되지 않은 파티션이 있으면 그 파티션만 이어서 처리합니다.
+     *
+     * @return 실행 후 진행 상태
+     */
+    public Map<String, Object> run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("주간 진행도 백필이 이미 실행 중입니다.");
+            return getStatus();
+        }
+
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        lastError = null;
+        usersProcessed.set(0);
+        weeksWritten.set(0);
+
+        ExecutorService pool = newPartitionPool();
+        try {
+            List<BatchCheckpoint> checkpoints = transactionTemplate.execute(status -> startOrResume());
+            log.info("주간 진행도 백필 시작 - 파티션: {}, 청크 크기: {}", partitions, chunkSize);
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (BatchCheckpoint checkpoint : checkpoints) {
+                if (!Boolean.TRUE.equals(checkpoint.getCompleted())) {
+                    futures.add(pool.submit(() -> runPartition(checkpoint.getName(), checkpoint.getLastProcessedId())));
+                }
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    lastError = e.getCause().getMessage();
+                    log.error("주간 진행도 백필 파티션 실패: {}", lastError);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError = "중단되었습니다.";
+        } finally {
+            pool.shutdownNow();
+            finishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+
+        log.info("주간 진행도 백필 종료 - 사용자: {}, 갱신된 주: {}, 소요: {}",
+                usersProcessed.get(), weeksWritten.get(), Duration.between(startedAt, finishedAt));
+        return getStatus();
+    }
+
+    /**
+     * 진행 상태 조회
+     *
+     * @return 실행 여부, 처리량, 파티션별 체크포인트
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running.get());
+        status.put("startedAt", startedAt);
+        status.put("finishedAt", finishedAt);
+        status.put("usersProcessed", usersProcessed.get());
+        status.put("weeksWritten", weeksWritten.get());
+        status.put("usersPerSecond", usersPerSecond());
+        status.put("lastError", lastError);
+
+        List<Map<String, Object>> partitionStatus = new ArrayList<>();
+        for (BatchCheckpoint checkpoint : checkpointRepository.findAllById(partitionNames())) {
+            Map<String, Object> partition = new LinkedHashMap<>();
+            partition.put("name", checkpoint.getName());
+            partition.put("lastProcessedId", checkpoint.getLastProcessedId());
+            partition.put("processedCount", checkpoint.getProcessedCount());
+            partition.put("completed", checkpoint.getCompleted());
+            partitionStatus.add(partition);
+        }
+        partitionStatus.sort(Comparator.comparing(partition -> (String) partition.get("name")));
+        status.put("partitions", partitionStatus);
+        return status;
+    }
+
+    private List<BatchCheckpoint> startOrResume() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, BatchCheckpoint> existing = new HashMap<>();
+        checkpointRepository.findAllById(partitionNames())
+                .forEach(checkpoint -> existing.put(checkpoint.getName(), checkpoint));
+
+        boolean resume = existing.values().stream().anyMatch(checkpoint -> !checkpoint.getCompleted());
+
+        List<BatchCheckpoint> checkpoints = new ArrayList<>();
+        for (String name : partitionNames()) {
+            BatchCheckpoint checkpoint = existing.get(name);
+            if (checkpoint == null) {
+                checkpoint = BatchCheckpoint.builder().name(name).startedAt(now).build();
+            } else if (!resume) {
+                checkpoint.restart(now);
+            }
+            checkpoints.add(checkpointRepository.save(checkpoint));
+        }
+
+        if (resume) {
+            log.info("중단된 주간 진행도 백필 재개");
+        }
+        return checkpoints;
+    }
+
+    private void runPartition(String name, long lastProcessedId) {
+        int partition = Integer.parseInt(name.substring(JOB_NAME_PREFIX.length()));
+        long lastId = lastProcessedId;
+
+        while (true) {
+            // 중단되면 체크포인트를 그대로 두어 다음 실행에서 이어서 처리
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("주간 진행도 백필 파티션 중단 - {}, 마지막 사용자 ID: {}", name, lastId);
+                return;
+            }
+
+            long afterId = lastId;
+            List<Long> userIds = withDbPermit(() -> userRepository.findPartitionIdsAfter(
+                    afterId, partitions, partition, PageRequest.of(0, chunkSize)));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            int written = withDbPermit(() -> backfillChunk(name, userIds));
+            lastId = userIds.get(userIds.size() - 1);
+
+            usersProcessed.addAndGet(userIds.size());
+            weeksWritten.addAndGet(written);
+            usersCounter.increment(userIds.size());
+            weeksCounter.increment(written);
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                checkpointRepository.findById(name).orElseThrow().markCompleted());
+        log.info("주간 진행도 백필 파티션 완료 - {}", name);
+    }
+
+    // 청크 저장과 체크포인트 갱신을 한 트랜잭션에서 처리 (실시간 재계산과 같은 주를 동시에 만들면 한 번 재시도)
+    private int backfillChunk(String name, List<Long> userIds) {
+        try {
+            return transactionTemplate.execute(status -> writeChunk(name, userIds));
+        } catch (DataIntegrityViolationException e) {
+            log.info("주간 진행도가 동시에 생성되어 청크를 다시 처리합니다 - {}", name);
+            return transactionTemplate.execute(status -> writeChunk(name, userIds));
+        }
+    }
+
+    private int writeChunk(String name, List<Long> userIds) {
+        // (사용자, 날짜) 별 완료 기록 수 합산 (기록 테이블과 보관 테이블에 같은 날짜가 나뉘어 있을 수 있음)
+        Map<Long, Map<LocalDate, Long>> completedSlots = new HashMap<>();
+        try (Stream<DailyCompletedSlots> rows = recordHistoryReader.streamDailyCompletedSlots(userIds)) {
+            rows.forEach(row -> completedSlots.computeIfAbsent(row.getUserId(), id -> new HashMap<>())
+                    .merge(row.getRecordDate(), row.getCompletedSlots(), Long::sum));
+        }
+
+        // (사용자, 주) 별 완료 일수 집계
+        Map<Long, Map<LocalDate, Integer>> completedDays = new HashMap<>();
+        completedSlots.forEach((userId, days) -> days.forEach((date, slots) -> {
+            if (recordCompletionService.isCompletedDay(slots.intValue())) {
+                completedDays.computeIfAbsent(userId, id -> new HashMap<>())
+                        .merge(WeekProgressService.getWeekStart(date), 1, Integer::sum);
+            }
+        }));
+
+        // 기존 행은 값이 바뀐 경우만 갱신하고, 남은 주는 새로 생성
+        List<WeekProgress> changed = new ArrayList<>();
+        for (WeekProgress weekProgress : weekProgressRepository.findByUserIdIn(userIds)) {
+            Map<LocalDate, Integer> weeks = completedDays.getOrDefault(weekProgress.getUser().getId(), Map.of());
+            Integer days = weeks.remove(weekProgress.getWeekStart());
+            int recalculated = days == null ? 0 : days;
+            if (weekProgress.getCompletedDays() != recalculated) {
+                weekProgress.updateCompletedDays(recalculated);
+                changed.add(weekProgress);
+            }
+        }
+
+        completedDays.forEach((userId, weeks) -> weeks.forEach((weekStart, days) ->
+                changed.add(WeekProgress.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .weekStart(weekStart)
+                        .completedDays(days)
+                        .build())));
+
+        weekProgressRepository.saveAll(changed);
+        checkpointRepository.findById(name).orElseThrow()
+                .advance(userIds.get(userIds.size() - 1), userIds.size(), 0);
+        return changed.size();
+    }
+
+    private <T> T withDbPermit(Callable<T> work) {
+        try {
+            dbPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주간 진행도 백필이 중단되었습니다.", e);
+        }
+        try {
+            return work.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            dbPermits.release();
+        }
+    }
+
+    private double usersPerSecond() {
+        LocalDateTime start = startedAt;
+        if (start == null) {
+            return 0;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        double seconds = Math.max(Duration.between(start, end).toMillis() / 1000.0, 1e-3);
+        return usersProcessed.get() / seconds;
+    }
+
+    private List<String> partitionNames() {
+        List<String> names = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            names.add(JOB_NAME_PREFIX + partition);
+        }
+        return names;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    private ExecutorService newPartitionPool() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(partitions, runnable -> {
+            Thread thread = new Thread(runnable, "week-progress-backfill-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
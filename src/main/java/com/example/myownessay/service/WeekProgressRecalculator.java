@@ -0,0 +1,188 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.event.RecordChangedEvent;
+import com.example.myownessay.monitoring.jfr.WeekProgressRecalculationEvent;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주간 진행도 비동기 재계산기
+ * 기록 변경 이벤트를 (사용자, 주) 단위로 모아 짧은 대기 시간 뒤 한 번만 다시 계산합니다.
+ * 같은 주의 기록을 연달아 저장해도 집계 쿼리는 대기 시간당 한 번만 실행되고,
+ * 기록 저장 요청은 주간 집계를 기다리지 않습니다.
+ *
+ * 같은 키의 재계산은 노드 안에서 동시에 실행되지 않으며,
+ * 대기 중인 키가 최대치를 넘으면 호출한 스레드에서 바로 계산합니다.
+ */
+@Service
+@Slf4j
+public class WeekProgressRecalculator {
+
+    private final WeekProgressRepository weekProgressRepository;
+    private final RecordHistoryReader recordHistoryReader;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long coalesceWindowMs;
+    private final int maxPending;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final Set<WeekKey> pending = ConcurrentHashMap.newKeySet();
+    private final Set<WeekKey> running = ConcurrentHashMap.newKeySet();
+
+    public WeekProgressRecalculator(
+            WeekProgressRepository weekProgressRepository,
+            RecordHistoryReader recordHistoryReader,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${week-progress.recalculation.coalesce-window-ms:500}") long coalesceWindowMs,
+            @Value("${week-progress.recalculation.workers:2}") int workers,
+            @Value("${week-progress.recalculation.max-pending:10000}") int maxPending
+    ) {
+        this.weekProgressRepository = weekProgressRepository;
+        this.recordHistoryReader = recordHistoryReader;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.maxPending = maxPending;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(workers, runnable -> {
+            Thread thread = new Thread(runnable, "week-progress-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기록 변경 커밋 후 해당 주 재계산 예약
+     * 트랜잭션 밖에서 발행된 이벤트(복원)도 바로 처리합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecordChanged(RecordChangedEvent event) {
+        schedule(event.getUserId(), WeekProgressService.getWeekStart(event.getRecordDate()));
+    }
+
+    /**
+     * 주간 진행도 재계산 예약
+     * 이미 예약된 키이면 기존 예약에 합쳐집니다.
+     *
+     * @param userId 사용자 ID
+     * @param weekStart 주 시작 날짜 (월요일)
+     */
+    public void schedule(Long userId, LocalDate weekStart) {
+        WeekKey key = new WeekKey(userId, weekStart);
+        if (pending.contains(key)) {
+            return;
+        }
+
+        if (pending.size() >= maxPending) {
+            log.warn("주간 진행도 재계산 대기열이 가득 차 바로 계산합니다 - 사용자 ID: {}, 주 시작: {}", userId, weekStart);
+            recalculate(userId, weekStart);
+            return;
+        }
+
+        if (pending.add(key)) {
+            submit(key, coalesceWindowMs);
+        }
+    }
+
+    private void submit(WeekKey key, long delayMs) {
+        try {
+            executor.schedule(() -> run(key), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+            log.warn("종료 중이어서 주간 진행도 재계산을 건너뜁니다 - 사용자 ID: {}", key.userId());
+        }
+    }
+
+    private void run(WeekKey key) {
+        // 같은 키를 계산 중이면 끝난 뒤 다시 시도
+        if (!running.add(key)) {
+            submit(key, coalesceWindowMs);
+            return;
+        }
+
+        // 계산 시작 전에 대기 표시를 지워야 계산 중 들어온 변경이 다음 예약으로 이어짐
+        pending.remove(key);
+        try {
+            recalculate(key.userId(), key.weekStart());
+        } catch (Exception e) {
+            log.error("주간 진행도 재계산 실패 - 사용자 ID: {}, 주 시작: {}, 원인: {}",
+                    key.userId(), key.weekStart(), e.getMessage());
+        } finally {
+            running.remove(key);
+        }
+    }
+
+    /**
+     * 집계 쿼리로 완료 일수를 계산해 주간 진행도를 저장 (없으면 생성)
+     * 다른 요청이 먼저 행을 만들어 유니크 제약에 걸리면 다시 조회해 갱신합니다.
+     *
+     * @param userId 사용자 ID
+     * @param weekStart 주 시작 날짜 (월요일)
+     * @return 저장된 주간 진행도
+     */
+    public WeekProgress recalculate(Long userId, LocalDate weekStart) {
+        WeekProgressRecalculationEvent event = new WeekProgressRecalculationEvent();
+        event.begin();
+
+        WeekProgress saved;
+        try {
+            saved = transactionTemplate.execute(status -> upsert(userId, weekStart));
+        } catch (DataIntegrityViolationException e) {
+            log.info("주간 진행도가 동시에 생성되어 다시 갱신합니다 - 사용자 ID: {}, 주 시작: {}", userId, weekStart);
+            event.setRetried(true);
+            saved = transactionTemplate.execute(status -> upsert(userId, weekStart));
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setUserId(userId);
+            event.setWeekStart(weekStart.toString());
+            event.setCompletedDays(saved.getCompletedDays());
+            event.commit();
+        }
+        return saved;
+    }
+
+    private WeekProgress upsert(Long userId, LocalDate weekStart) {
+        int completedDays = (int) recordHistoryReader.countCompletedDays(userId, weekStart, weekStart.plusDays(6));
+
+        WeekProgress weekProgress = weekProgressRepository.findByUserIdAndWeekStart(userId, weekStart)
+                .orElseGet(() -> WeekProgress.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .weekStart(weekStart)
+                        .build());
+
+        weekProgress.updateCompletedDays(completedDays);
+        WeekProgress saved = weekProgressRepository.saveAndFlush(weekProgress);
+
+        log.debug("주간 진행도 재계산 완료 - 사용자 ID: {}, 주 시작: {}, 완료 일수: {}", userId, weekStart, completedDays);
+        return saved;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record WeekKey(Long userId, LocalDate weekStart) {
+    }
+}
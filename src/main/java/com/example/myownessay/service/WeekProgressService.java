@@ -1,21 +1,23 @@
 package com.example.myownessay.service;
 
 import com.example.myownessay.dto.WeekProgressResponse;
-import com.example.myownessay.entity.Record;
 import com.example.myownessay.entity.User;
 import com.example.myownessay.entity.WeekProgress;
-import com.example.myownessay.repository.RecordRepository;
 import com.example.myownessay.repository.UserRepository;
 import com.example.myownessay.repository.WeekProgressRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -28,20 +30,24 @@ import java.util.stream.Collectors;
 public class WeekProgressService {
 
     private final WeekProgressRepository weekProgressRepository;
-    private final RecordRepository recordRepository;
+    private final RecordHistoryReader recordHistoryReader;
     private final UserRepository userRepository;
+    private final WeekProgressRecalculator weekProgressRecalculator;
+
+    // 진행 중인 완료 일수 집계 (같은 주를 동시에 조회하면 한 번만 집계)
+    private final Map<String, CompletableFuture<Integer>> inFlightCounts = new ConcurrentHashMap<>();
 
     /**
      * 특정 주의 진행도 조회
-     * 진행도가 없으면 새로 계산하여 생성합니다.
+     * 진행도가 없으면 저장하지 않고 계산한 값을 반환하며, 저장은 커밋 후 백그라운드에서 처리합니다.
      *
      * @param email 사용자 이메일
      * @param weekStart 주 시작 날짜 (월요일)
      * @return 주간 진행도 응답
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public WeekProgressResponse getWeekProgress(String email, LocalDate weekStart) {
-        log.info("주간 진행도 조회 - 이메일: {}, 주 시작: {}", email, weekStart);
+        log.debug("주간 진행도 조회 - 주 시작: {}", weekStart);
 
         // 월요일인지 검증
         if (weekStart.getDayOfWeek() != DayOfWeek.MONDAY) {
@@ -51,13 +57,67 @@ public class WeekProgressService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        // 주간 진행도 조회 또는 생성
+        // 주간 진행도 조회 또는 계산
         WeekProgress weekProgress = weekProgressRepository.findByUserAndWeekStart(user, weekStart)
-                .orElseGet(() -> calculateAndSaveWeekProgress(user, weekStart));
+                .orElseGet(() -> calculateWeekProgress(user, weekStart));
 
         return WeekProgressResponse.from(weekProgress);
     }
 
+    /**
+     * 저장되지 않은 주의 진행도를 계산합니다. (저장하지 않음)
+     * 조회 트랜잭션이 끝나면 백그라운드 재계산기에 저장을 맡깁니다.
+     *
+     * @param user 사용자
+     * @param weekStart 주 시작 날짜 (월요일)
+     * @return 저장되지 않은 주간 진행도
+     */
+    private WeekProgress calculateWeekProgress(User user, LocalDate weekStart) {
+        int completedDays = countCompletedDaysOnce(user.getId(), weekStart);
+        log.debug("저장되지 않은 주간 진행도 계산 - 사용자 ID: {}, 주 시작: {}, 완료 일수: {}",
+                user.getId(), weekStart, completedDays);
+
+        Long userId = user.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    weekProgressRecalculator.schedule(userId, weekStart);
+                }
+            });
+        } else {
+            weekProgressRecalculator.schedule(userId, weekStart);
+        }
+
+        return WeekProgress.builder()
+                .user(user)
+                .weekStart(weekStart)
+                .completedDays(completedDays)
+                .essayGenerated(false)
+                .build();
+    }
+
+    // 같은 (사용자, 주) 집계가 진행 중이면 그 결과를 함께 사용
+    private int countCompletedDaysOnce(Long userId, LocalDate weekStart) {
+        String key = userId + ":" + weekStart;
+        CompletableFuture<Integer> mine = new CompletableFuture<>();
+        CompletableFuture<Integer> existing = inFlightCounts.putIfAbsent(key, mine);
+        if (existing != null) {
+            return existing.join();
+        }
+
+        try {
+            int completedDays = (int) recordHistoryReader.countCompletedDays(userId, weekStart, weekStart.plusDays(6));
+            mine.complete(completedDays);
+            return completedDays;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightCounts.remove(key, mine);
+        }
+    }
+
     /**
      * 주간 진행도를 계산하고 저장합니다.
      *
@@ -67,25 +127,13 @@ public class WeekProgressService {
      */
     @Transactional
     public WeekProgress calculateAndSaveWeekProgress(User user, LocalDate weekStart) {
-        log.info("주간 진행도 계산 및 저장 - 사용자 ID: {}, 주 시작: {}", user.getId(), weekStart);
+        log.debug("주간 진행도 계산 및 저장 - 사용자 ID: {}, 주 시작: {}", user.getId(), weekStart);
 
-        // 주 시작과 종료 날짜 계산
-        LocalDate weekEnd = weekStart.plusDays(6); // 일요일
+        // 완료된 기록이 있는 날짜 수 (삭제되지 않고 완료된 기록만, DB 에서 집계)
+        int completedDays = (int) recordHistoryReader.countCompletedDays(
+                user.getId(), weekStart, weekStart.plusDays(6));
 
-        // 해당 주의 모든 기록 조회
-        List<Record> weekRecords = recordRepository.findByUserAndRecordDateBetween(
-                user, weekStart, weekEnd
-        );
-
-        // 완료된 기록이 있는 날짜 집합 (삭제되지 않고 완료된 기록만)
-        Set<LocalDate> completedDates = weekRecords.stream()
-                .filter(record -> !record.getIsDeleted() && record.isCompleted())
-                .map(Record::getRecordDate)
-                .collect(Collectors.toSet());
-
-        int completedDays = completedDates.size();
-
-        log.info("계산된 완료 일수: {} (총 {} 건의 완료 기록)", completedDays, weekRecords.size());
+        log.debug("계산된 완료 일수: {}", completedDays);
 
         // 기존 WeekProgress 조회 또는 새로 생성
         WeekProgress weekProgress = weekProgressRepository.findByUserAndWeekStart(user, weekStart)
@@ -113,7 +161,7 @@ public class WeekProgressService {
     public void updateWeekProgressForDate(User user, LocalDate date) {
         LocalDate weekStart = getWeekStart(date);
         calculateAndSaveWeekProgress(user, weekStart);
-        log.info("날짜 {}에 대한 주간 진행도 업데이트 완료 (주 시작: {})", date, weekStart);
+        log.debug("날짜 {}에 대한 주간 진행도 업데이트 완료 (주 시작: {})", date, weekStart);
     }
 
     /**
@@ -122,7 +170,7 @@ public class WeekProgressService {
      * @param email 사용자 이메일
      * @return 주간 진행도 응답
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public WeekProgressResponse getCurrentWeekProgress(String email) {
         LocalDate today = LocalDate.now();
         LocalDate weekStart = getWeekStart(today);
@@ -137,7 +185,7 @@ public class WeekProgressService {
      */
     @Transactional
     public void markEssayGenerated(String email, LocalDate weekStart) {
-        log.info("에세이 생성 완료 표시 - 이메일: {}, 주 시작: {}", email, weekStart);
+        log.debug("에세이 생성 완료 표시 - 주 시작: {}", weekStart);
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -152,7 +200,7 @@ public class WeekProgressService {
         weekProgress.markEssayGenerated();
         weekProgressRepository.save(weekProgress);
 
-        log.info("에세이 생성 완료 표시 성공");
+        log.info("에세이 생성 완료 표시 성공 - 주 시작: {}", weekStart);
     }
 
     /**
@@ -163,7 +211,7 @@ public class WeekProgressService {
      */
     @Transactional(readOnly = true)
     public List<WeekProgressResponse> getAllWeekProgress(String email) {
-        log.info("모든 주간 진행도 조회 - 이메일: {}", email);
+        log.debug("모든 주간 진행도 조회");
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
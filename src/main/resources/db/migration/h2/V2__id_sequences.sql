@@ -0,0 +1,11 @@
+-- 엔티티 ID 시퀀스 (pooled-lo, 50개 단위 할당)
+-- 시퀀스 전환 전에 만들어진 데이터베이스에도 적용되도록 없을 때만 생성합니다.
+-- 기존 데이터보다 뒤처진 시퀀스는 애플리케이션 시작 시 SequenceAligner 가 앞으로 옮깁니다.
+
+create sequence if not exists users_seq start with 1 increment by 50;
+create sequence if not exists records_seq start with 1 increment by 50;
+create sequence if not exists essays_seq start with 1 increment by 50;
+create sequence if not exists likes_seq start with 1 increment by 50;
+create sequence if not exists bookmarks_seq start with 1 increment by 50;
+create sequence if not exists week_progress_seq start with 1 increment by 50;
+create sequence if not exists essay_generation_jobs_seq start with 1 increment by 50;
@@ -0,0 +1,4 @@
+-- 보관 대상 기록 조회 인덱스 (record_date < 기준일)
+
+create index if not exists idx_records_record_date
+    on records (record_date, is_deleted);
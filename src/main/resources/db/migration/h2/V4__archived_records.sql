@@ -0,0 +1,17 @@
+-- 보관 기록 테이블 (보관 기준일보다 오래된 기록을 원래 ID 그대로 압축 저장)
+
+create table archived_records (
+    id bigint not null,
+    user_id bigint not null,
+    record_date date not null,
+    slot_type enum ('CONSULTING','DIARY','HEALING','READING') not null,
+    content TEXT not null,
+    is_completed boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    archived_at timestamp(6) not null,
+    primary key (id),
+    constraint unique_archived_record unique (user_id, record_date, slot_type)
+);
+
+alter table archived_records add constraint fk_archived_records_user foreign key (user_id) references users;
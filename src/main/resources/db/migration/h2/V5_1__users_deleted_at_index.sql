@@ -0,0 +1,3 @@
+-- 삭제 대기 계정 조회 인덱스
+
+create index if not exists idx_users_deleted_at on users (deleted_at);
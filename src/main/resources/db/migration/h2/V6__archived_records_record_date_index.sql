@@ -0,0 +1,4 @@
+-- 보관된 기록의 가장 늦은 날짜 조회 인덱스 (보관 테이블 조회 경계 계산용)
+
+create index if not exists idx_archived_records_record_date
+    on archived_records (record_date);
@@ -0,0 +1,8 @@
+-- 초안 생성 작업: 사용자 주별 진행 중(QUEUED, RUNNING) 작업은 하나만 허용
+-- H2 는 부분 인덱스가 없어, 진행 중일 때만 주 시작 날짜를 갖는 계산 컬럼에 유니크 인덱스를 둡니다. (NULL 은 중복으로 보지 않음)
+
+alter table essay_generation_jobs add column active_week_start date
+    generated always as (case when status in ('QUEUED', 'RUNNING') then week_start end);
+
+create unique index uk_generation_job_user_week_active
+    on essay_generation_jobs (user_id, active_week_start);
@@ -0,0 +1,19 @@
+-- AI 에세이 초안 생성 작업 (기준선 이후 추가)
+
+create table essay_generation_jobs (
+    id bigint not null,
+    user_id bigint not null,
+    week_start date not null,
+    status varchar(20) not null check (status in ('QUEUED','RUNNING','SUCCEEDED','FAILED','CANCELLED')),
+    attempts integer not null,
+    next_attempt_at timestamp(6) not null,
+    essay_id bigint,
+    error_message varchar(500),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_generation_job_status_next_attempt on essay_generation_jobs (status, next_attempt_at);
+
+alter table essay_generation_jobs add constraint FKqqsdmttfrghahpsl11379x6ue foreign key (user_id) references users;
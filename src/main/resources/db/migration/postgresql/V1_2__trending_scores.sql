@@ -0,0 +1,9 @@
+-- 인기 에세이 점수 체크포인트 (기준선 이후 추가)
+
+create table trending_scores (
+    essay_id bigint not null,
+    theme varchar(50) check (theme in ('RECOVERY','GRATITUDE','CHALLENGE','GROWTH')),
+    score float(53) not null,
+    checkpointed_at timestamp(6) with time zone not null,
+    primary key (essay_id)
+);
@@ -0,0 +1,13 @@
+-- 일괄 작업 진행 위치 (기준선 이후 추가)
+
+create table batch_checkpoints (
+    name varchar(100) not null,
+    last_processed_id bigint not null,
+    processed_count bigint not null,
+    failed_count bigint not null,
+    completed boolean not null,
+    started_at timestamp(6) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (name)
+);
@@ -0,0 +1,86 @@
+-- 기준 스키마 (Flyway 도입 전 hibernate ddl-auto 가 만들던 스키마와 동일)
+-- 기존 운영 데이터베이스는 baseline-on-migrate 로 이 버전을 건너뛰므로, 이후 추가되는 테이블은 여기에 넣지 않고
+-- 다음 버전(V1_1 이후) 마이그레이션에서 만듭니다.
+
+create table users (
+    id bigint not null,
+    email varchar(255) not null unique,
+    nickname varchar(255) not null unique,
+    password_hash varchar(255) not null,
+    timezone varchar(255) not null,
+    is_active boolean not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table records (
+    id bigint not null,
+    user_id bigint not null,
+    record_date date not null,
+    slot_type varchar(20) not null check (slot_type in ('READING','CONSULTING','HEALING','DIARY')),
+    content jsonb not null,
+    is_completed boolean not null,
+    is_deleted boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    primary key (id),
+    constraint unique_record unique (user_id, record_date, slot_type)
+);
+
+create table essays (
+    id bigint not null,
+    user_id bigint not null,
+    title varchar(200),
+    ai_draft TEXT,
+    final_content TEXT not null,
+    theme varchar(50) check (theme in ('RECOVERY','GRATITUDE','CHALLENGE','GROWTH')),
+    cover_image varchar(500),
+    publish_status varchar(20) not null check (publish_status in ('PRIVATE','SHARED','PUBLIC')),
+    share_slug varchar(100) unique,
+    week_start date not null,
+    week_end date not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    published_at timestamp(6),
+    primary key (id)
+);
+
+create table likes (
+    id bigint not null,
+    user_id bigint not null,
+    essay_id bigint not null,
+    created_at timestamp(6) not null,
+    primary key (id),
+    unique (user_id, essay_id)
+);
+
+create table bookmarks (
+    id bigint not null,
+    user_id bigint not null,
+    essay_id bigint not null,
+    created_at timestamp(6) not null,
+    primary key (id),
+    unique (user_id, essay_id)
+);
+
+create table week_progress (
+    id bigint not null,
+    user_id bigint not null,
+    week_start date not null,
+    completed_days integer not null,
+    essay_generated boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (id),
+    constraint unique_user_week unique (user_id, week_start)
+);
+
+alter table records add constraint FK6p95uajgka0j0dc9vlbjw1sf1 foreign key (user_id) references users;
+alter table essays add constraint FKcgjttkq76iaxxsxcs7g6vt5dh foreign key (user_id) references users;
+alter table likes add constraint FKnvx9seeqqyy71bij291pwiwrg foreign key (user_id) references users;
+alter table likes add constraint FKl4y5epje4104nlp3vng0yb2ts foreign key (essay_id) references essays;
+alter table bookmarks add constraint FKdbsho2e05w5r13fkjqfjmge5f foreign key (user_id) references users;
+alter table bookmarks add constraint FK8nb6ee6gk9a7nc66jjb4rmvei foreign key (essay_id) references essays;
+alter table week_progress add constraint FKsyt98remk77v3xb0v08govpqs foreign key (user_id) references users;
@@ -0,0 +1,32 @@
+-- 자주 실행되는 조회 쿼리용 인덱스
+-- 운영 테이블 잠금을 피하기 위해 CONCURRENTLY 로 만들며, 그래서 트랜잭션 밖에서 실행합니다. (V3__hot_query_indexes.sql.conf)
+
+-- 기록: 사용자 기간별 완료 집계 (countCompletedDays, findDailyCompletedSlots, 히트맵)
+create index concurrently if not exists idx_records_user_date_completed
+    on records (user_id, record_date)
+    where is_completed = true and is_deleted = false;
+
+-- 기록: 사용자 기간별 조회 (삭제된 기록 제외)
+create index concurrently if not exists idx_records_user_date_active
+    on records (user_id, record_date)
+    where is_deleted = false;
+
+-- 좋아요/북마크: 사용자별 최신순 목록 (findByUserOrderByCreatedAtDesc)
+create index concurrently if not exists idx_likes_user_created
+    on likes (user_id, created_at desc);
+create index concurrently if not exists idx_bookmarks_user_created
+    on bookmarks (user_id, created_at desc);
+
+-- 좋아요/북마크: 에세이별 개수 (countByEssayId)
+create index concurrently if not exists idx_likes_essay
+    on likes (essay_id);
+create index concurrently if not exists idx_bookmarks_essay
+    on bookmarks (essay_id);
+
+-- 에세이: 사용자별, 사용자 주별 조회 (findByUser, findFirstByUserAndWeekStartOrderByIdAsc)
+create index concurrently if not exists idx_essays_user_week
+    on essays (user_id, week_start);
+
+-- 초안 생성 작업: 사용자 주별 진행 중 작업 조회 (findFirstByUserAndWeekStartAndStatusIn)
+create index concurrently if not exists idx_generation_job_user_week
+    on essay_generation_jobs (user_id, week_start);
@@ -0,0 +1,7 @@
+-- 보관 대상 기록 조회 인덱스 (record_date < 기준일)
+-- 운영 테이블 잠금을 피하기 위해 CONCURRENTLY 로 만들며, 그래서 이 파일만 트랜잭션 밖에서 실행합니다. (.conf)
+-- 테이블 변경은 V4 에서 트랜잭션 안에서 적용합니다.
+
+create index concurrently if not exists idx_records_record_date
+    on records (record_date)
+    where is_deleted = false;
@@ -0,0 +1,7 @@
+-- 삭제 대기 계정 조회 인덱스
+-- 운영 테이블 잠금을 피하기 위해 CONCURRENTLY 로 만들며, 그래서 이 파일만 트랜잭션 밖에서 실행합니다. (.conf)
+-- 컬럼 추가는 V5 에서 트랜잭션 안에서 적용합니다.
+
+create index concurrently if not exists idx_users_deleted_at
+    on users (deleted_at)
+    where deleted_at is not null;
@@ -0,0 +1,3 @@
+-- 탈퇴 후 데이터 삭제 대기 표시 (값이 있으면 비활성화된 탈퇴 계정이며 삭제 작업 대상)
+
+alter table users add column deleted_at timestamp(6);
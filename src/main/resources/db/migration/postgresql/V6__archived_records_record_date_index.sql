@@ -0,0 +1,5 @@
+-- 보관된 기록의 가장 늦은 날짜 조회 인덱스 (보관 테이블 조회 경계 계산용)
+-- 보관 테이블 잠금을 피하기 위해 CONCURRENTLY 로 만들며, 그래서 이 파일은 트랜잭션 밖에서 실행합니다. (.conf)
+
+create index concurrently if not exists idx_archived_records_record_date
+    on archived_records (record_date);
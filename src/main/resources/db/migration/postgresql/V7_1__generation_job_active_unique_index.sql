@@ -0,0 +1,11 @@
+-- 초안 생성 작업: 사용자 주별 진행 중(QUEUED, RUNNING) 작업은 하나만 허용
+-- 동시에 들어온 생성 요청이 모두 조회를 통과해도 두 번째 INSERT 는 이 인덱스에 걸립니다.
+-- 운영 테이블 잠금을 피하기 위해 CONCURRENTLY 로 만들며, 그래서 이 파일만 트랜잭션 밖에서 실행합니다. (.conf)
+-- 중복 정리는 V7 에서 트랜잭션 안에서 적용합니다.
+-- 빌드가 실패하면 INVALID 인덱스가 남으므로, 다시 실행할 때 먼저 지우고 IF NOT EXISTS 없이 새로 만듭니다.
+
+drop index concurrently if exists uk_generation_job_user_week_active;
+
+create unique index concurrently uk_generation_job_user_week_active
+    on essay_generation_jobs (user_id, week_start)
+    where status in ('QUEUED', 'RUNNING');
@@ -0,0 +1,9 @@
+-- 초안 생성 작업: 사용자 주별 진행 중(QUEUED, RUNNING) 작업을 하나만 남김
+-- 유니크 인덱스(V7_1)를 만들기 전에, 이미 중복된 진행 중 작업은 가장 먼저 등록된 것만 남기고 취소합니다.
+
+update essay_generation_jobs j
+set status = 'CANCELLED', updated_at = now()
+where j.status in ('QUEUED', 'RUNNING')
+  and exists (select 1 from essay_generation_jobs o
+              where o.user_id = j.user_id and o.week_start = j.week_start
+                and o.status in ('QUEUED', 'RUNNING') and o.id < j.id);
@@ -0,0 +1,286 @@
+package com.example.myownessay.benchmark;
+
+import com.example.myownessay.entity.User;
+import com.example.myownessay.repository.BookmarkRepository;
+import com.example.myownessay.repository.LikeRepository;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import com.example.myownessay.service.BookmarkService;
+import com.example.myownessay.service.LikeService;
+import com.example.myownessay.service.RecordHeatmapService;
+import com.example.myownessay.service.RecordService;
+import com.example.myownessay.service.StreakService;
+import com.example.myownessay.service.WeekProgressService;
+import com.example.myownessay.support.SyntheticDataGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * 데이터 규모별 리포지토리/서비스 성능 벤치마크 (./gradlew benchmark --tests '*RepositoryScalingBenchmark')
+ * 실제 JPA 계층을 내장 H2 에 띄우고 기록 수 기준 10^4, 10^5, 10^6 규모로 합성 데이터를 누적 생성하며
+ * 규모마다 주요 리포지토리 메서드와 서비스 호출의 p50/p99 지연 시간과 처리량을 측정합니다.
+ *
+ * 규모가 10배 늘 때 p50 이 {@link #CLIFF_RATIO}배 넘게 늘어나는 연산은 급격한 저하 구간으로 표시하고,
+ * 전체 결과는 build/reports/benchmark/repository-scaling.json 에 저장합니다.
+ * 규모와 반복 횟수는 -Pbenchmark.scales=10000,100000 -Pbenchmark.iterations=200 으로 바꿀 수 있습니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:scalingdb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.example.myownessay=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("데이터 규모별 리포지토리 성능 벤치마크")
+class RepositoryScalingBenchmark {
+
+    private static final long[] DEFAULT_SCALES = {10_000, 100_000, 1_000_000};
+    private static final int DEFAULT_ITERATIONS = 500;
+    private static final double CLIFF_RATIO = 3.0;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    private static final Path REPORT = Path.of("build", "reports", "benchmark", "repository-scaling.json");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private WeekProgressRepository weekProgressRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private StreakService streakService;
+
+    @Autowired
+    private WeekProgressService weekProgressService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private RecordHeatmapService recordHeatmapService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private SyntheticDataGenerator generator;
+    private final Random random = new Random(42);
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    @DisplayName("기록 수 규모별 리포지토리/서비스 지연 시간과 처리량")
+    void measureScaling() throws IOException {
+        long[] scales = scales();
+        int iterations = Integer.getInteger("benchmark.iterations", DEFAULT_ITERATIONS);
+        generator = new SyntheticDataGenerator(entityManager, transactionManager, passwordEncoder,
+                SyntheticDataGenerator.Options.builder().emailPrefix("scaling").build());
+
+        Map<String, Map<Long, Measurement>> results = new LinkedHashMap<>();
+        for (long scale : scales) {
+            long seedStarted = System.nanoTime();
+            generateUpTo(scale);
+            System.out.printf("%n규모 %,d: 기록 %,d건, 사용자 %,d명, 에세이 %,d건, 좋아요 %,d건, 북마크 %,d건 생성 (%.1fs)%n",
+                    scale, generator.getRecordCount(), generator.getUsers().size(), generator.getEssayIds().size(),
+                    generator.getLikeCount(), generator.getBookmarkCount(), (System.nanoTime() - seedStarted) / 1e9);
+
+            // 첫 규모가 JIT 컴파일 비용을 떠안지 않도록 한 바퀴 먼저 실행
+            if (results.isEmpty()) {
+                operations().values().forEach(operation -> measure(operation, iterations));
+            }
+
+            operations().forEach((name, operation) -> results
+                    .computeIfAbsent(name, key -> new LinkedHashMap<>())
+                    .put(scale, measure(operation, iterations)));
+        }
+
+        printTable(scales, results);
+        List<String> cliffs = findCliffs(scales, results);
+        writeReport(scales, iterations, results, cliffs);
+    }
+
+    // 사용자당 평균 기록 수로 필요한 사용자 수를 추정해 기록 수가 목표에 닿을 때까지 생성
+    private void generateUpTo(long targetRecords) {
+        while (generator.getRecordCount() < targetRecords) {
+            double recordsPerUser = generator.getUsers().isEmpty()
+                    ? 100
+                    : (double) generator.getRecordCount() / generator.getUsers().size();
+            generator.generate((int) Math.max(1, Math.ceil((targetRecords - generator.getRecordCount()) / recordsPerUser)));
+        }
+    }
+
+    // 측정 대상 연산 (호출마다 무작위 사용자/에세이 선택)
+    private Map<String, Consumer<Random>> operations() {
+        Map<String, Consumer<Random>> operations = new LinkedHashMap<>();
+        operations.put("RecordRepository.findByUserAndRecordDate",
+                r -> recordRepository.findByUserAndRecordDate(user(r), today.minusDays(r.nextInt(30))));
+        operations.put("RecordRepository.findByUserAndRecordDateBetween",
+                r -> recordRepository.findByUserAndRecordDateBetween(user(r), today.minusDays(6), today));
+        operations.put("RecordRepository.findDailyCompletedSlots",
+                r -> recordRepository.findDailyCompletedSlots(user(r).getId(), today.minusDays(364), today));
+        operations.put("WeekProgressRepository.findByUserIdAndWeekStart",
+                r -> weekProgressRepository.findByUserIdAndWeekStart(
+                        user(r).getId(), WeekProgressService.getWeekStart(today).minusWeeks(r.nextInt(4))));
+        operations.put("WeekProgressRepository.findByUserOrderByWeekStartDesc",
+                r -> weekProgressRepository.findByUserOrderByWeekStartDesc(user(r)));
+        operations.put("LikeRepository.findByUserOrderByCreatedAtDesc",
+                r -> likeRepository.findByUserOrderByCreatedAtDesc(user(r), FIRST_PAGE));
+        operations.put("LikeRepository.countByEssayId",
+                r -> likeRepository.countByEssayId(essayId(r)));
+        operations.put("BookmarkRepository.findByUserOrderByCreatedAtDesc",
+                r -> bookmarkRepository.findByUserOrderByCreatedAtDesc(user(r), FIRST_PAGE));
+        operations.put("BookmarkRepository.countByEssayId",
+                r -> bookmarkRepository.countByEssayId(essayId(r)));
+        operations.put("RecordService.getDailyRecords",
+                r -> recordService.getDailyRecords(user(r).getEmail(), today.minusDays(r.nextInt(30))));
+        operations.put("RecordService.getWeeklyRecords",
+                r -> recordService.getWeeklyRecords(user(r).getEmail(), today.minusDays(6), today));
+        operations.put("StreakService.getCurrentStreak",
+                r -> streakService.getCurrentStreak(user(r).getEmail()));
+        operations.put("WeekProgressService.getAllWeekProgress",
+                r -> weekProgressService.getAllWeekProgress(user(r).getEmail()));
+        operations.put("LikeService.getMyLikes",
+                r -> likeService.getMyLikes(user(r).getEmail(), FIRST_PAGE));
+        operations.put("BookmarkService.getMyBookmarks",
+                r -> bookmarkService.getMyBookmarks(user(r).getEmail(), FIRST_PAGE));
+        operations.put("RecordHeatmapService.getHeatmap",
+                r -> recordHeatmapService.getHeatmap(user(r).getEmail(), today.getYear()));
+        return operations;
+    }
+
+    private Measurement measure(Consumer<Random> operation, int iterations) {
+        int warmup = Math.max(iterations / 5, 10);
+        for (int i = 0; i < warmup; i++) {
+            operation.accept(random);
+        }
+
+        long[] samples = new long[iterations];
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            operation.accept(random);
+            samples[i] = System.nanoTime() - start;
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(samples);
+        return new Measurement(
+                percentile(samples, 0.50) / 1_000.0,
+                percentile(samples, 0.99) / 1_000.0,
+                iterations / (elapsed / 1e9));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private void printTable(long[] scales, Map<String, Map<Long, Measurement>> results) {
+        System.out.printf("%n%-52s %12s %12s %12s %12s%n", "연산", "규모", "p50(us)", "p99(us)", "ops/s");
+        results.forEach((name, byScale) -> {
+            for (long scale : scales) {
+                Measurement measurement = byScale.get(scale);
+                System.out.printf("%-52s %12d %12.1f %12.1f %12.1f%n",
+                        name, scale, measurement.p50Micros(), measurement.p99Micros(), measurement.opsPerSecond());
+            }
+        });
+    }
+
+    // 이전 규모 대비 p50 증가율이 기준을 넘는 구간
+    private List<String> findCliffs(long[] scales, Map<String, Map<Long, Measurement>> results) {
+        List<String> cliffs = new ArrayList<>();
+        results.forEach((name, byScale) -> {
+            for (int i = 1; i < scales.length; i++) {
+                double growth = byScale.get(scales[i]).p50Micros() / byScale.get(scales[i - 1]).p50Micros();
+                if (growth >= CLIFF_RATIO) {
+                    cliffs.add(String.format("%s: %d -> %d 규모에서 p50 %.1f배 증가 (데이터 %.0f배)",
+                            name, scales[i - 1], scales[i], growth, (double) scales[i] / scales[i - 1]));
+                }
+            }
+        });
+
+        System.out.println();
+        if (cliffs.isEmpty()) {
+            System.out.println("급격한 저하 구간 없음");
+        } else {
+            cliffs.forEach(cliff -> System.out.println("급격한 저하 구간 - " + cliff));
+        }
+        return cliffs;
+    }
+
+    private void writeReport(long[] scales, int iterations, Map<String, Map<Long, Measurement>> results,
+                             List<String> cliffs) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scales", scales);
+        report.put("iterations", iterations);
+        report.put("results", results);
+        report.put("cliffs", cliffs);
+
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+        System.out.println("결과 저장: " + REPORT.toAbsolutePath());
+    }
+
+    private User user(Random r) {
+        List<User> users = generator.getUsers();
+        return users.get(r.nextInt(users.size()));
+    }
+
+    private Long essayId(Random r) {
+        List<Long> essayIds = generator.getEssayIds();
+        return essayIds.get(r.nextInt(essayIds.size()));
+    }
+
+    private static long[] scales() {
+        String property = System.getProperty("benchmark.scales");
+        if (property == null || property.isBlank()) {
+            return DEFAULT_SCALES;
+        }
+        return Arrays.stream(property.split(",")).map(String::trim).mapToLong(Long::parseLong).toArray();
+    }
+
+    private record Measurement(double p50Micros, double p99Micros, double opsPerSecond) {
+    }
+}
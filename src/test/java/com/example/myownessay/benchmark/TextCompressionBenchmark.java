@@ -0,0 +1,80 @@
+package com.example.myownessay.benchmark;
+
+import com.example.myownessay.common.compression.TextCompressionCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * 텍스트 압축 벤치마크
+ * 압축률과 1KB 당 인코딩/디코딩 비용을 출력합니다.
+ * 실행: ./gradlew benchmark --tests "*TextCompressionBenchmark"
+ */
+@Tag("benchmark")
+@DisplayName("텍스트 압축 벤치마크")
+class TextCompressionBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 5_000;
+
+    private static final String[] SENTENCES = {
+            "오늘은 아침 일찍 일어나 책을 읽었다. ",
+            "완벽보다 계속하기가 중요하다는 문장이 오래 마음에 남았다. ",
+            "상담 시간에 스스로에게 솔직해지는 연습을 했다. ",
+            "산책을 하며 바람 소리를 들으니 마음이 한결 가벼워졌다. ",
+            "I wrote down three things I was grateful for today. ",
+            "작은 습관이 쌓여 나를 바꾼다는 것을 다시 느꼈다. ",
+            "저녁에는 가족과 함께 따뜻한 차를 마시며 이야기를 나눴다. "
+    };
+
+    @Test
+    @DisplayName("압축률 및 KB당 인코딩/디코딩 비용")
+    void compressionRatioAndCost() {
+        System.out.printf("%-10s %10s %10s %8s %14s %14s%n",
+                "size", "rawBytes", "stored", "ratio", "encode us/KB", "decode us/KB");
+
+        for (int size : new int[]{512, 2_048, 8_192, 32_768}) {
+            String text = prose(size, new Random(42));
+            int rawBytes = text.getBytes(StandardCharsets.UTF_8).length;
+            String stored = TextCompressionCodec.encode(text, 0);
+            int storedBytes = stored.getBytes(StandardCharsets.UTF_8).length;
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                TextCompressionCodec.decode(TextCompressionCodec.encode(text, 0));
+            }
+
+            long encodeStart = System.nanoTime();
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                TextCompressionCodec.encode(text, 0);
+            }
+            long encodeNanos = System.nanoTime() - encodeStart;
+
+            long decodeStart = System.nanoTime();
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                TextCompressionCodec.decode(stored);
+            }
+            long decodeNanos = System.nanoTime() - decodeStart;
+
+            double kb = rawBytes / 1024.0;
+            System.out.printf("%-10s %10d %10d %8.2f %14.2f %14.2f%n",
+                    size + "ch",
+                    rawBytes,
+                    storedBytes,
+                    (double) rawBytes / storedBytes,
+                    encodeNanos / 1_000.0 / MEASURE_ITERATIONS / kb,
+                    decodeNanos / 1_000.0 / MEASURE_ITERATIONS / kb);
+        }
+    }
+
+    // 문장을 무작위로 이어 붙여 산문 형태의 텍스트 생성
+    private String prose(int length, Random random) {
+        StringBuilder builder = new StringBuilder(length + 64);
+        while (builder.length() < length) {
+            builder.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+        }
+        return builder.substring(0, length);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.myownessay.benchmark.load;
+
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.service.WeekProgressService;
+import com.example.myownessay.support.SyntheticContent;
+import com.example.myownessay.support.SyntheticDataGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP 부하 테스트 (./gradlew benchmark --tests '*HttpLoadTest' -Pload.users=50 -Pload.duration-seconds=60)
+ * 애플리케이션을 임의 포트로 띄우고 합성 데이터(기본 사용자 200명)를 만든 뒤,
+ * 실제 컨트롤러를 HTTP 로 호출하는 사용자 여정을 폐쇄 루프로 반복해 처리량과 지연 시간 분포를 측정합니다.
+ *
+ * 요청마다 남는 INFO 로그가 측정을 흐리지 않도록 애플리케이션 로그는 WARN 으로 낮춥니다.
+ * 결과는 build/reports/load/summary.json 과 여정별 .hgrm 파일로 저장합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loaddb;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.example.myownessay=WARN",
+        "sql.budget.expose-headers=false"
+})
+@ActiveProfiles("test")
+@DisplayName("HTTP 부하 테스트")
+class HttpLoadTest {
+
+    private static final Path REPORT_DIRECTORY = Path.of("build", "reports", "load");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("사용자 여정 부하에서 처리량과 지연 시간 분포를 측정한다")
+    void measureUserJourneys() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(entityManager, transactionManager, passwordEncoder,
+                SyntheticDataGenerator.Options.builder().emailPrefix("load").build());
+        generator.generate(Integer.getInteger("load.dataset-users", 200));
+
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        System.out.printf("%n가상 사용자 %d명, 예열 %ds, 측정 %ds, 여정 간격 %dms, 데이터 사용자 %d명%n",
+                settings.virtualUsers(), settings.warmup().toSeconds(), settings.duration().toSeconds(),
+                settings.pacing().toMillis(), generator.getUsers().size());
+
+        LoadTestHarness harness = new LoadTestHarness(
+                URI.create("http://localhost:" + port), settings, journeys(generator.getPublishedEssayIds()));
+        List<String> emails = generator.getUsers().stream().map(User::getEmail).toList();
+        LoadMetrics metrics = harness.run(emails, SyntheticDataGenerator.PASSWORD);
+
+        double measuredSeconds = settings.duration().toMillis() / 1_000.0;
+        metrics.printSummary(System.out, measuredSeconds);
+        metrics.writeReport(REPORT_DIRECTORY, settings, measuredSeconds);
+        System.out.println("결과 저장: " + REPORT_DIRECTORY.toAbsolutePath());
+
+        assertThat(metrics.getRequestCount()).isPositive();
+        assertThat(metrics.getErrorCount()).isZero();
+    }
+
+    private static List<LoadJourney> journeys(List<Long> publishedEssayIds) {
+        return List.of(
+                // 앱을 열어 홈 화면(오늘 기록, 이번 주 진행도, 연속 기록)을 한 번에 조회
+                new LoadJourney("home", 7, session -> session.get("dashboard.get", "/api/dashboard")),
+                // 오늘 기록 화면을 열고 슬롯 두 개를 저장한 뒤 연속 기록 확인
+                new LoadJourney("daily-check-in", 5, session -> {
+                    LocalDate today = LocalDate.now();
+                    session.get("records.daily", "/api/records/" + today);
+                    for (int i = 0; i < 2; i++) {
+                        SlotType slotType = SlotType.values()[session.random().nextInt(SlotType.values().length)];
+                        session.put("records.save", "/api/records/" + today + "/" + slotType, Map.of(
+                                "content", SyntheticContent.of(slotType, session.random()),
+                                "completed", true));
+                    }
+                    session.get("streak.get", "/api/streak");
+                    session.get("week-progress.current", "/api/week-progress/current");
+                }),
+                // 주간 기록과 진행도, 연간 히트맵 확인
+                new LoadJourney("weekly-review", 2, session -> {
+                    LocalDate weekStart = WeekProgressService.getWeekStart(LocalDate.now());
+                    session.get("records.week",
+                            "/api/records/week?startDate=" + weekStart + "&endDate=" + weekStart.plusDays(6));
+                    session.get("week-progress.all", "/api/week-progress/all");
+                    session.get("records.heatmap", "/api/records/heatmap?year=" + LocalDate.now().getYear());
+                    session.get("essays.mine", "/api/essays/me");
+                }),
+                // 인기 에세이를 둘러보고 좋아요/북마크 후 내 목록 확인
+                new LoadJourney("browse-essays", 3, session -> {
+                    JsonNode trending = session.get("essays.trending", "/api/essays/trending?limit=20");
+                    Long essayId = trending != null && trending.size() > 0
+                            ? trending.get(session.random().nextInt(trending.size())).path("id").asLong()
+                            : publishedEssayIds.get(session.random().nextInt(publishedEssayIds.size()));
+                    session.put("essays.like", "/api/essays/" + essayId + "/like");
+                    session.get("essays.likes", "/api/essays/me/likes?page=0&size=20");
+                    if (session.random().nextInt(3) == 0) {
+                        session.put("essays.bookmark", "/api/essays/" + essayId + "/bookmark");
+                    }
+                    session.get("essays.bookmarks", "/api/essays/me/bookmarks?page=0&size=20");
+                }),
+                // 다시 로그인해 내 정보 확인
+                new LoadJourney("sign-in", 1, session -> {
+                    session.login();
+                    session.get("auth.me", "/api/auth/me");
+                })
+        );
+    }
+}
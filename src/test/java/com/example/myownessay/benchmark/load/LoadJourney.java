@@ -0,0 +1,14 @@
+package com.example.myownessay.benchmark.load;
+
+import java.util.function.Consumer;
+
+/**
+ * 부하 테스트 사용자 여정
+ * 한 번의 실행에서 {@link LoadSession} 으로 여러 API 를 차례로 호출하며, 가중치에 비례해 선택됩니다.
+ *
+ * @param name 여정 이름 (리포트 키)
+ * @param weight 선택 가중치
+ * @param script 호출 순서
+ */
+public record LoadJourney(String name, int weight, Consumer<LoadSession> script) {
+}
@@ -0,0 +1,175 @@
+package com.example.myownessay.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 측정값
+ * 단계(API 호출)와 여정별로 HdrHistogram 에 마이크로초 단위로 기록합니다.
+ *
+ * 여정은 두 가지 시간을 기록합니다.
+ * - 응답 시간(response): 예정된 시작 시각부터 끝날 때까지. 앞선 여정이 늦어져 밀린 대기 시간까지 포함하므로
+ *   서버가 느려질 때 요청을 덜 보내 지연이 가려지는 coordinated omission 을 보정합니다.
+ * - 처리 시간(service): 실제로 시작한 시각부터 끝날 때까지.
+ */
+public class LoadMetrics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, Stats> steps = new ConcurrentHashMap<>();
+    private final Map<String, Stats> journeys = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> journeyServiceTimes = new ConcurrentHashMap<>();
+
+    void recordStep(String step, long nanos, boolean success) {
+        steps.computeIfAbsent(step, key -> new Stats()).record(nanos, success);
+    }
+
+    void recordJourney(String journey, long responseNanos, long serviceNanos, boolean success) {
+        journeys.computeIfAbsent(journey, key -> new Stats()).record(responseNanos, success);
+        journeyServiceTimes.computeIfAbsent(journey, key -> histogram()).recordValue(toMicros(serviceNanos));
+    }
+
+    /**
+     * 전체 실패 수 (단계 기준)
+     */
+    public long getErrorCount() {
+        return steps.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+    }
+
+    /**
+     * 전체 요청 수 (단계 기준)
+     */
+    public long getRequestCount() {
+        return steps.values().stream().mapToLong(stats -> stats.histogram.getTotalCount()).sum();
+    }
+
+    /**
+     * 여정/단계별 요약 표 출력
+     *
+     * @param out 출력 대상
+     * @param measuredSeconds 측정 구간 길이 (처리량 계산용)
+     */
+    public void printSummary(PrintStream out, double measuredSeconds) {
+        out.printf("%n%-28s %8s %7s %9s %10s %10s %10s %10s %10s %10s%n",
+                "여정", "횟수", "실패", "회/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "처리p99");
+        new TreeMap<>(journeys).forEach((name, stats) -> {
+            Histogram service = journeyServiceTimes.get(name);
+            out.printf("%-28s %8d %7d %9.1f %s %10.1f%n", name, stats.histogram.getTotalCount(), stats.errors.sum(),
+                    stats.histogram.getTotalCount() / measuredSeconds, percentiles(stats.histogram),
+                    service.getValueAtPercentile(99) / 1_000.0);
+        });
+
+        out.printf("%n%-28s %8s %7s %9s %10s %10s %10s %10s %10s%n",
+                "단계", "요청", "실패", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        new TreeMap<>(steps).forEach((name, stats) -> out.printf("%-28s %8d %7d %9.1f %s%n",
+                name, stats.histogram.getTotalCount(), stats.errors.sum(),
+                stats.histogram.getTotalCount() / measuredSeconds, percentiles(stats.histogram)));
+
+        out.printf("%n전체: 요청 %d건, 실패 %d건, %.1f req/s%n",
+                getRequestCount(), getErrorCount(), getRequestCount() / measuredSeconds);
+    }
+
+    /**
+     * 요약 JSON 과 여정별 백분위 분포(.hgrm, HdrHistogram 플로터 형식) 저장
+     *
+     * @param directory 저장 디렉터리
+     * @param settings 실행 설정
+     * @param measuredSeconds 측정 구간 길이
+     */
+    public void writeReport(Path directory, LoadSettings settings, double measuredSeconds) throws IOException {
+        Files.createDirectories(directory);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", Map.of(
+                "virtualUsers", settings.virtualUsers(),
+                "warmupSeconds", settings.warmup().toSeconds(),
+                "durationSeconds", settings.duration().toSeconds(),
+                "pacingMs", settings.pacing().toMillis(),
+                "seed", settings.seed()));
+        report.put("measuredSeconds", measuredSeconds);
+        report.put("requests", getRequestCount());
+        report.put("errors", getErrorCount());
+        report.put("requestsPerSecond", getRequestCount() / measuredSeconds);
+
+        Map<String, Object> journeyReport = new TreeMap<>();
+        journeys.forEach((name, stats) -> {
+            Map<String, Object> entry = summary(stats, measuredSeconds);
+            entry.put("service", percentileMap(journeyServiceTimes.get(name)));
+            journeyReport.put(name, entry);
+        });
+        report.put("journeys", journeyReport);
+
+        Map<String, Object> stepReport = new TreeMap<>();
+        steps.forEach((name, stats) -> stepReport.put(name, summary(stats, measuredSeconds)));
+        report.put("steps", stepReport);
+
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(directory.resolve("summary.json").toFile(), report);
+
+        for (Map.Entry<String, Stats> entry : journeys.entrySet()) {
+            try (PrintStream out = new PrintStream(directory.resolve(entry.getKey() + ".hgrm").toFile())) {
+                entry.getValue().histogram.outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+    }
+
+    private static Map<String, Object> summary(Stats stats, double measuredSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", stats.histogram.getTotalCount());
+        summary.put("errors", stats.errors.sum());
+        summary.put("perSecond", stats.histogram.getTotalCount() / measuredSeconds);
+        summary.put("latencyMs", percentileMap(stats.histogram));
+        return summary;
+    }
+
+    private static Map<String, Double> percentileMap(Histogram histogram) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            values.put("p" + percentile, histogram.getValueAtPercentile(percentile) / 1_000.0);
+        }
+        values.put("max", histogram.getMaxValue() / 1_000.0);
+        return values;
+    }
+
+    private static String percentiles(Histogram histogram) {
+        StringBuilder builder = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            builder.append(String.format("%10.1f ", histogram.getValueAtPercentile(percentile) / 1_000.0));
+        }
+        return builder.append(String.format("%10.1f", histogram.getMaxValue() / 1_000.0)).toString();
+    }
+
+    private static Histogram histogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(1, nanos / 1_000), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static class Stats {
+
+        private final Histogram histogram = histogram();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos, boolean success) {
+            histogram.recordValue(toMicros(nanos));
+            if (!success) {
+                errors.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.myownessay.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 가상 사용자 한 명의 HTTP 세션
+ * 로그인한 토큰을 들고 요청을 보내며, 요청마다 응답 시간과 실패 여부를 단계(step) 이름으로 기록합니다.
+ * 2xx 가 아닌 응답이나 연결 오류는 실패로 세고, 해당 여정도 실패로 표시합니다.
+ */
+public class LoadSession {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final LoadMetrics metrics;
+    private final String email;
+    private final String password;
+    private final SplittableRandom random;
+
+    private String accessToken;
+    private boolean measuring;
+    private boolean failed;
+
+    LoadSession(HttpClient client, URI baseUri, ObjectMapper objectMapper, LoadMetrics metrics,
+                String email, String password, SplittableRandom random) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.email = email;
+        this.password = password;
+        this.random = random;
+    }
+
+    /**
+     * 로그인 후 이후 요청에 쓸 액세스 토큰 저장
+     */
+    public void login() {
+        JsonNode data = post("auth.login", "/api/auth/login", Map.of("email", email, "password", password), false);
+        if (data != null) {
+            accessToken = data.path("accessToken").asText(null);
+        }
+    }
+
+    public JsonNode get(String step, String path) {
+        return send(step, HttpRequest.newBuilder(baseUri.resolve(path)).GET(), true);
+    }
+
+    public JsonNode put(String step, String path, Object body) {
+        return send(step, HttpRequest.newBuilder(baseUri.resolve(path)).PUT(json(body)), true);
+    }
+
+    public JsonNode put(String step, String path) {
+        return send(step, HttpRequest.newBuilder(baseUri.resolve(path)).PUT(HttpRequest.BodyPublishers.noBody()), true);
+    }
+
+    public JsonNode post(String step, String path, Object body) {
+        return post(step, path, body, true);
+    }
+
+    public SplittableRandom random() {
+        return random;
+    }
+
+    private JsonNode post(String step, String path, Object body, boolean authenticated) {
+        return send(step, HttpRequest.newBuilder(baseUri.resolve(path)).POST(json(body)), authenticated);
+    }
+
+    // 요청 전송 후 ApiResponse 의 data 를 반환 (실패 시 null)
+    private JsonNode send(String step, HttpRequest.Builder builder, boolean authenticated) {
+        builder.timeout(REQUEST_TIMEOUT).header("Content-Type", "application/json");
+        if (authenticated && accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() / 100 == 2;
+            record(step, System.nanoTime() - start, success);
+            return success ? objectMapper.readTree(response.body()).path("data") : null;
+        } catch (IOException e) {
+            record(step, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            record(step, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private void record(String step, long nanos, boolean success) {
+        if (!success) {
+            failed = true;
+        }
+        if (measuring) {
+            metrics.recordStep(step, nanos, success);
+        }
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    // 여정 시작 시 측정 여부를 정하고 실패 표시를 초기화
+    void begin(boolean measuring) {
+        this.measuring = measuring;
+        this.failed = false;
+    }
+
+    boolean hasFailed() {
+        return failed;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.myownessay.benchmark.load;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 실행 설정
+ * 시스템 속성(-Pload.users=50 등, benchmark 태스크가 전달)으로 바꿀 수 있습니다.
+ *
+ * @param virtualUsers 동시에 여정을 반복하는 가상 사용자 수
+ * @param warmup 측정 전 예열 시간
+ * @param duration 측정 시간
+ * @param pacing 가상 사용자별 여정 시작 간격 (0 이면 쉬지 않고 반복)
+ * @param seed 여정 선택 난수 시드
+ */
+public record LoadSettings(int virtualUsers, Duration warmup, Duration duration, Duration pacing, long seed) {
+
+    public static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                Integer.getInteger("load.users", 20),
+                Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10)),
+                Duration.ofSeconds(Long.getLong("load.duration-seconds", 30)),
+                Duration.ofMillis(Long.getLong("load.pacing-ms", 1_000)),
+                Long.getLong("load.seed", 42));
+    }
+}
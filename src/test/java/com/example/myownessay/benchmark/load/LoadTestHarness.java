@@ -0,0 +1,130 @@
+package com.example.myownessay.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 폐쇄 루프(closed-loop) HTTP 부하 생성기
+ * 가상 사용자마다 스레드 하나가 로그인한 뒤, 가중치에 따라 여정을 골라 측정 시간이 끝날 때까지 반복합니다.
+ * 여정은 pacing 간격으로 예정된 시각에 시작하며, 앞선 여정이 늦게 끝나면 쉬지 않고 바로 다음 여정을 시작합니다.
+ * 응답 시간은 예정 시각부터 재므로 서버가 느려진 동안 보내지 못한 요청의 대기 시간도 반영됩니다. (coordinated omission 보정)
+ *
+ * Java 17 에는 가상 스레드가 없으므로 가상 사용자마다 플랫폼 스레드를 씁니다.
+ * 수백 명 규모까지는 스레드 비용이 측정에 영향을 주지 않습니다.
+ */
+public class LoadTestHarness {
+
+    private final URI baseUri;
+    private final LoadSettings settings;
+    private final List<LoadJourney> journeys;
+    private final int totalWeight;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public LoadTestHarness(URI baseUri, LoadSettings settings, List<LoadJourney> journeys) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.journeys = List.copyOf(journeys);
+        this.totalWeight = journeys.stream().mapToInt(LoadJourney::weight).sum();
+    }
+
+    /**
+     * 부하 실행
+     *
+     * @param emails 가상 사용자가 나눠 쓸 계정 이메일 (가상 사용자 수보다 적으면 돌려 씀)
+     * @param password 계정 공통 비밀번호
+     * @return 측정값
+     */
+    public LoadMetrics run(List<String> emails, String password) throws Exception {
+        LoadMetrics metrics = new LoadMetrics();
+        long start = System.nanoTime();
+        long measureStart = start + settings.warmup().toNanos();
+        long end = measureStart + settings.duration().toNanos();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(settings.virtualUsers(), runnable -> {
+            Thread thread = new Thread(runnable, "load-user-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < settings.virtualUsers(); i++) {
+                SplittableRandom random = new SplittableRandom(settings.seed() + i);
+                LoadSession session = new LoadSession(client, baseUri, objectMapper, metrics,
+                        emails.get(i % emails.size()), password, random);
+                // 가상 사용자들의 시작 시각을 pacing 구간에 고르게 분산
+                long offset = settings.pacing().toNanos() * i / settings.virtualUsers();
+                futures.add(executor.submit(() -> runUser(session, metrics, start + offset, measureStart, end)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        return metrics;
+    }
+
+    private void runUser(LoadSession session, LoadMetrics metrics, long firstStart, long measureStart, long end) {
+        session.begin(false);
+        session.login();
+
+        long pacing = settings.pacing().toNanos();
+        long intendedStart = Math.max(firstStart, System.nanoTime());
+        // 측정 시간이 지나면 밀린 여정이 남아 있어도 멈춤
+        while (intendedStart < end && System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            LoadJourney journey = pick(session.random());
+            boolean measuring = intendedStart >= measureStart;
+            session.begin(measuring);
+
+            long actualStart = System.nanoTime();
+            boolean success;
+            try {
+                journey.script().accept(session);
+                success = !session.hasFailed();
+            } catch (RuntimeException e) {
+                success = false;
+            }
+            long finished = System.nanoTime();
+
+            if (measuring) {
+                metrics.recordJourney(journey.name(), finished - intendedStart, finished - actualStart, success);
+            }
+            intendedStart = pacing > 0 ? intendedStart + pacing : finished;
+        }
+    }
+
+    private LoadJourney pick(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (LoadJourney journey : journeys) {
+            roll -= journey.weight();
+            if (roll < 0) {
+                return journey;
+            }
+        }
+        return journeys.get(journeys.size() - 1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.myownessay.converter;
+
+import com.example.myownessay.common.compression.TextCompressionCodec;
+import com.example.myownessay.common.converter.CompressedJsonConverter;
+import com.example.myownessay.common.converter.CompressedTextConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("압축 저장 컨버터 테스트")
+class CompressedConverterTest {
+
+    private static final String LONG_TEXT = "오늘은 완벽보다 계속하기에 대해 생각했다. ".repeat(100);
+
+    @Test
+    @DisplayName("텍스트 - 임계값 이상이면 압축 후 복원")
+    void text_임계값이상_압축_복원() {
+        CompressedTextConverter converter = new CompressedTextConverter(true, 1024);
+
+        String stored = converter.convertToDatabaseColumn(LONG_TEXT);
+
+        assertTrue(TextCompressionCodec.isCompressed(stored));
+        assertTrue(stored.length() < LONG_TEXT.length());
+        assertEquals(LONG_TEXT, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    @DisplayName("텍스트 - 임계값 미만이면 평문 그대로 저장")
+    void text_임계값미만_평문() {
+        CompressedTextConverter converter = new CompressedTextConverter(true, 1024);
+
+        assertEquals("짧은 글", converter.convertToDatabaseColumn("짧은 글"));
+        assertNull(converter.convertToDatabaseColumn(null));
+    }
+
+    @Test
+    @DisplayName("텍스트 - 비활성화 상태에서도 압축된 기존 값은 읽을 수 있음")
+    void text_비활성화_기존압축값_복원() {
+        String stored = new CompressedTextConverter(true, 0).convertToDatabaseColumn(LONG_TEXT);
+        CompressedTextConverter disabled = new CompressedTextConverter(false, 0);
+
+        assertEquals(LONG_TEXT, disabled.convertToDatabaseColumn(LONG_TEXT));
+        assertEquals(LONG_TEXT, disabled.convertToEntityAttribute(stored));
+        assertEquals("평문", disabled.convertToEntityAttribute("평문"));
+    }
+
+    @Test
+    @DisplayName("JSON - 큰 컨텐츠는 봉투로 압축 후 복원")
+    void json_압축_봉투_복원() {
+        CompressedJsonConverter converter = new CompressedJsonConverter(true, 1024);
+        Map<String, Object> content = new HashMap<>();
+        content.put("question", "오늘 하루는 어땠나요?");
+        content.put("content", LONG_TEXT);
+        content.put("emotion", "평온");
+
+        Map<String, Object> stored = converter.convertToDatabaseColumn(content);
+
+        assertEquals(1, stored.size());
+        assertTrue(stored.containsKey(CompressedJsonConverter.ENVELOPE_KEY));
+        assertEquals(content, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    @DisplayName("JSON - 작은 컨텐츠와 기존 평문 JSON은 그대로 유지")
+    void json_작은컨텐츠_평문유지() {
+        CompressedJsonConverter converter = new CompressedJsonConverter(true, 1024);
+        Map<String, Object> content = Map.of("quote", "완벽보다 계속하기", "author", "제임스 클리어");
+
+        assertSame(content, converter.convertToDatabaseColumn(content));
+        assertEquals(content, converter.convertToEntityAttribute(content));
+    }
+
+    @Test
+    @DisplayName("코덱 - 손상된 데이터는 예외 발생")
+    void codec_손상된데이터_예외() {
+        String corrupted = TextCompressionCodec.MAGIC + TextCompressionCodec.DEFLATE + "AAAA";
+
+        assertThrows(IllegalStateException.class, () -> TextCompressionCodec.decode(corrupted));
+    }
+
+    @Test
+    @DisplayName("코덱 - 한글은 글자 수가 아니라 UTF-8 바이트 수로 압축 이득을 판단")
+    void codec_한글_바이트기준_압축() {
+        // 반복이 적은 한글 (한 글자 3바이트): 압축 결과가 글자 수로는 더 길지만 바이트 수로는 더 짧음
+        Random random = new Random(7);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 600; i++) {
+            builder.append((char) ('가' + random.nextInt(256)));
+        }
+        String plain = builder.toString();
+
+        String stored = TextCompressionCodec.encode(plain, 0);
+
+        assertTrue(TextCompressionCodec.isCompressed(stored));
+        assertTrue(stored.length() > plain.length());
+        assertTrue(stored.getBytes(StandardCharsets.UTF_8).length < plain.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(plain, TextCompressionCodec.decode(stored));
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.dto.auth.request.DeleteAccountRequest;
+import com.example.myownessay.entity.Bookmark;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.EssayGenerationJob;
+import com.example.myownessay.entity.Like;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.TrendingScore;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.BookmarkRepository;
+import com.example.myownessay.repository.EssayGenerationJobRepository;
+import com.example.myownessay.repository.EssayRepository;
+import com.example.myownessay.repository.LikeRepository;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.TrendingScoreRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import com.example.myownessay.service.AccountPurgeService;
+import com.example.myownessay.service.AuthService;
+import com.example.myownessay.service.RecordArchiveService;
+import com.example.myownessay.service.TrendingService;
+import com.example.myownessay.service.WeekProgressService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 탈퇴 계정 데이터 삭제 통합 테스트
+ * 삭제는 청크마다 커밋하고 탈퇴 커밋 이후 백그라운드에서 실행되므로 트랜잭션 롤백 없이 별도 DB 에서 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:purgedb;DB_CLOSE_DELAY=-1",
+        "account.purge.chunk-size=2",
+        "record.archive.horizon-days=30"
+})
+@ActiveProfiles("test")
+@DisplayName("탈퇴 계정 데이터 삭제 통합 테스트")
+public class AccountPurgeIntegrationTest {
+
+    private static final List<String> USER_TABLES = List.of(
+            "likes", "bookmarks", "essay_generation_jobs", "essays", "week_progress", "records", "archived_records");
+
+    @Autowired
+    private AccountPurgeService accountPurgeService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private RecordArchiveService recordArchiveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private TrendingScoreRepository trendingScoreRepository;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private EssayGenerationJobRepository jobRepository;
+
+    @Autowired
+    private WeekProgressRepository weekProgressRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private User other;
+    private Essay otherEssay;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM likes");
+        jdbcTemplate.update("DELETE FROM bookmarks");
+        jdbcTemplate.update("DELETE FROM trending_scores");
+        jdbcTemplate.update("DELETE FROM essay_generation_jobs");
+        jdbcTemplate.update("DELETE FROM essays");
+        jdbcTemplate.update("DELETE FROM week_progress");
+        jdbcTemplate.update("DELETE FROM archived_records");
+        jdbcTemplate.update("DELETE FROM records");
+        jdbcTemplate.update("DELETE FROM users");
+
+        user = saveUser("탈퇴");
+        other = saveUser("남음");
+        otherEssay = saveEssay(other);
+    }
+
+    @Test
+    @DisplayName("탈퇴 계정의 모든 데이터를 청크 단위로 지우고 다른 사용자의 데이터는 남긴다")
+    void purge_전체삭제() {
+        // Given: 청크 크기(2)를 넘는 기록(소프트 삭제, 보관 기록 포함)과 에세이, 반응
+        LocalDate weekStart = WeekProgressService.getWeekStart(LocalDate.now());
+        for (int day = 0; day < 5; day++) {
+            saveRecord(user, weekStart.minusWeeks(1).plusDays(day), day == 0);
+        }
+        saveRecord(user, LocalDate.now().minusDays(60), false);
+        recordArchiveService.archive();
+
+        Essay essay = saveEssay(user);
+        likeRepository.save(Like.builder().user(other).essay(essay).build());
+        bookmarkRepository.save(Bookmark.builder().user(other).essay(essay).build());
+        likeRepository.save(Like.builder().user(user).essay(otherEssay).build());
+        bookmarkRepository.save(Bookmark.builder().user(user).essay(otherEssay).build());
+        trendingScoreRepository.save(TrendingScore.builder()
+                .essayId(essay.getId()).score(1.0).checkpointedAt(Instant.now()).build());
+        trendingService.record(essay.getId(), essay.getTheme(), 1.0, Instant.now());
+        jobRepository.save(EssayGenerationJob.builder()
+                .user(user).weekStart(weekStart).status(GenerationJobStatus.CANCELLED)
+                .nextAttemptAt(LocalDateTime.now()).build());
+        weekProgressRepository.save(WeekProgress.builder().user(user).weekStart(weekStart).build());
+
+        Record otherRecord = saveRecord(other, LocalDate.now(), false);
+        markDeleted(user);
+
+        // When
+        long purged = accountPurgeService.purge(user.getId());
+
+        // Then
+        assertThat(purged).isEqualTo(5 + 1 + 1 + 4 + 1 + 1 + 1 + 1);
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+        USER_TABLES.forEach(table -> assertThat(countByUser(table, user.getId())).as(table).isZero());
+        assertThat(trendingScoreRepository.count()).isZero();
+        assertThat(trendingService.getTopScores(null, 10)).doesNotContainKey(essay.getId());
+
+        assertThat(userRepository.findById(other.getId())).isPresent();
+        assertThat(essayRepository.findById(otherEssay.getId())).isPresent();
+        assertThat(recordRepository.findById(otherRecord.getId())).isPresent();
+        assertThat(likeRepository.count()).isZero();
+        assertThat(bookmarkRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("탈퇴하지 않은 계정의 데이터는 지우지 않는다")
+    void purge_탈퇴하지않은계정() {
+        // When
+        long purged = accountPurgeService.purge(other.getId());
+
+        // Then
+        assertThat(purged).isZero();
+        assertThat(userRepository.findById(other.getId())).isPresent();
+        assertThat(essayRepository.findById(otherEssay.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴는 계정을 바로 비활성화하고, 커밋 후 백그라운드에서 데이터를 지운다")
+    void deleteAccount_백그라운드삭제() throws InterruptedException {
+        // Given
+        saveRecord(user, LocalDate.now(), true);
+        DeleteAccountRequest request = new DeleteAccountRequest();
+        request.setPassword("password123");
+
+        // When
+        authService.deleteAccount(user.getEmail(), request);
+
+        // Then
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (userRepository.findById(user.getId()).isPresent()) {
+            assertThat(System.currentTimeMillis()).as("백그라운드 삭제 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+        assertThat(countByUser("records", user.getId())).isZero();
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 6);
+        User saved = new User();
+        saved.setEmail("purge-" + suffix + "@example.com");
+        saved.setNickname(prefix + suffix);
+        saved.setPasswordHash(passwordEncoder.encode("password123"));
+        return userRepository.save(saved);
+    }
+
+    private void markDeleted(User target) {
+        target.setIsActive(false);
+        target.setDeletedAt(LocalDateTime.now());
+        userRepository.save(target);
+    }
+
+    private Essay saveEssay(User owner) {
+        LocalDate weekStart = WeekProgressService.getWeekStart(LocalDate.now()).minusWeeks(1);
+        return essayRepository.save(Essay.builder()
+                .user(owner)
+                .finalContent("에세이 본문")
+                .weekStart(weekStart)
+                .weekEnd(weekStart.plusDays(6))
+                .build());
+    }
+
+    private Record saveRecord(User owner, LocalDate date, boolean deleted) {
+        Record record = new Record();
+        record.setUser(owner);
+        record.setRecordDate(date);
+        record.setSlotType(SlotType.DIARY);
+        record.setContent(Map.of("text", "오늘의 기록"));
+        record.markAsCompleted();
+        if (deleted) {
+            record.markAsDeleted();
+        }
+        return recordRepository.save(record);
+    }
+
+    private long countByUser(String table, Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE user_id = ?", Long.class, userId);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.dto.record.request.RecordRequest;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.monitoring.SqlBudgetProperties;
+import com.example.myownessay.monitoring.SqlStatementBudgetFilter;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.JwtService;
+import com.example.myownessay.service.RecordService;
+import com.example.myownessay.support.SyntheticContent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 홈 화면 대시보드 통합 테스트
+ * 대시보드 응답이 기존 세 API(오늘 기록, 이번 주 진행도, 연속 기록)의 응답과 같고,
+ * 작업 스레드에서 실행한 SQL 까지 요청의 SQL 예산에 집계되는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dashboarddb;DB_CLOSE_DELAY=-1",
+        "week-progress.recalculation.coalesce-window-ms=60000"
+})
+@ActiveProfiles("test")
+@DisplayName("홈 화면 대시보드 통합 테스트")
+public class DashboardIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private SqlStatementBudgetFilter sqlStatementBudgetFilter;
+
+    @Autowired
+    private SqlBudgetProperties sqlBudgetProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+    private User user;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .addFilters(sqlStatementBudgetFilter)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        jdbcTemplate.update("DELETE FROM week_progress");
+        jdbcTemplate.update("DELETE FROM records");
+        jdbcTemplate.update("DELETE FROM users");
+
+        user = new User();
+        user.setEmail("dashboard@example.com");
+        user.setNickname("대시보드");
+        user.setPasswordHash("hashed");
+        user = userRepository.save(user);
+        accessToken = jwtService.generateToken(user.getEmail());
+    }
+
+    @Test
+    @DisplayName("대시보드는 오늘 기록, 이번 주 진행도, 연속 기록 API 와 같은 값을 한 번에 응답한다")
+    void dashboard_개별API와일치() throws Exception {
+        // Given: 오늘까지 3일 연속, 한 달 전 5일 연속, 오늘은 미완료 슬롯 하나 추가
+        LocalDate today = LocalDate.now();
+        for (int day = 0; day < 3; day++) {
+            saveRecord(today.minusDays(day), SlotType.DIARY, true);
+        }
+        for (int day = 0; day < 5; day++) {
+            saveRecord(today.minusDays(30 + day), SlotType.READING, true);
+        }
+        saveRecord(today, SlotType.READING, false);
+
+        // When
+        JsonNode dashboard = data("/api/dashboard");
+
+        // Then
+        assertThat(dashboard.get("today")).isEqualTo(data("/api/records/" + today));
+        assertThat(dashboard.get("weekProgress")).isEqualTo(data("/api/week-progress/current"));
+        assertThat(dashboard.get("streak")).isEqualTo(data("/api/streak"));
+        assertThat(dashboard.at("/streak/currentStreak").asInt()).isEqualTo(3);
+        assertThat(dashboard.at("/streak/maxStreak").asInt()).isEqualTo(5);
+        assertThat(dashboard.at("/today/records")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("기록이 없는 사용자도 빈 대시보드를 응답한다")
+    void dashboard_기록없음() throws Exception {
+        JsonNode dashboard = data("/api/dashboard");
+
+        assertThat(dashboard.at("/today/records")).isEmpty();
+        assertThat(dashboard.at("/weekProgress/completedDays").asInt()).isZero();
+        assertThat(dashboard.at("/streak/currentStreak").asInt()).isZero();
+        assertThat(dashboard.at("/streak/maxStreak").asInt()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업 스레드의 SQL 까지 합쳐 개별 API 세 번보다 적은 SQL 로 응답한다")
+    void dashboard_SQL예산() throws Exception {
+        // Given: 연속 기록이 길수록 개별 연속 기록 API 의 SQL 이 늘어남
+        LocalDate today = LocalDate.now();
+        for (int day = 0; day < 10; day++) {
+            saveRecord(today.minusDays(day), SlotType.DIARY, true);
+        }
+
+        // When
+        int dashboard = statementCount("/api/dashboard");
+        int separate = statementCount("/api/records/" + today)
+                + statementCount("/api/week-progress/current")
+                + statementCount("/api/streak");
+
+        // Then: 요청 스레드의 사용자 조회 외에 작업 스레드의 세 조회도 집계됨
+        assertThat(dashboard)
+                .isGreaterThanOrEqualTo(4)
+                .isLessThanOrEqualTo(sqlBudgetProperties.getBudget("GET /api/dashboard"))
+                .isLessThan(separate);
+    }
+
+    private void saveRecord(LocalDate date, SlotType slotType, boolean completed) {
+        recordService.saveRecord(user.getEmail(), date, slotType,
+                new RecordRequest(SyntheticContent.of(slotType, new SplittableRandom(date.toEpochDay())), completed));
+    }
+
+    private JsonNode data(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri).header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(body.get("success").asBoolean()).isTrue();
+        return body.get("data");
+    }
+
+    private int statementCount(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri).header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        return Integer.parseInt(result.getResponse().getHeader(SqlStatementBudgetFilter.STATEMENT_COUNT_HEADER));
+    }
+}
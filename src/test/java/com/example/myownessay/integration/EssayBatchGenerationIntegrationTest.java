@@ -0,0 +1,140 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.entity.BatchCheckpoint;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.repository.BatchCheckpointRepository;
+import com.example.myownessay.repository.EssayRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import com.example.myownessay.service.EssayBatchGenerationService;
+import com.example.myownessay.service.WeekProgressService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 에세이 초안 야간 배치 통합 테스트
+ * 배치는 청크마다 커밋하므로 트랜잭션 롤백 없이 별도 DB 에서 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batchdb;DB_CLOSE_DELAY=-1",
+        "llm.provider=stub",
+        "essay.batch.chunk-size=2",
+        "essay.batch.workers=2"
+})
+@ActiveProfiles("test")
+@DisplayName("에세이 초안 야간 배치 통합 테스트")
+public class EssayBatchGenerationIntegrationTest {
+
+    @Autowired
+    private EssayBatchGenerationService batchGenerationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WeekProgressRepository weekProgressRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @Autowired
+    private BatchCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private LocalDate currentWeekStart;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM essay_generation_jobs");
+        jdbcTemplate.update("DELETE FROM essays");
+        jdbcTemplate.update("DELETE FROM week_progress");
+        jdbcTemplate.update("DELETE FROM batch_checkpoints");
+        jdbcTemplate.update("DELETE FROM users");
+
+        user = new User();
+        user.setEmail("batch@example.com");
+        user.setNickname("배치테스터");
+        user.setPasswordHash("hashed");
+        user = userRepository.save(user);
+
+        currentWeekStart = WeekProgressService.getWeekStart(LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("지난 주의 생성 대상 진행도만 초안을 만들고 체크포인트를 완료 처리")
+    void run_대상만생성() {
+        // Given: 대상 3건, 완료 일수 부족 1건, 진행 중인 이번 주 1건
+        List<WeekProgress> eligible = List.of(
+                saveWeekProgress(currentWeekStart.minusWeeks(4), 3),
+                saveWeekProgress(currentWeekStart.minusWeeks(3), 5),
+                saveWeekProgress(currentWeekStart.minusWeeks(2), 7));
+        saveWeekProgress(currentWeekStart.minusWeeks(1), 2);
+        saveWeekProgress(currentWeekStart, 4);
+
+        // When
+        BatchCheckpoint checkpoint = batchGenerationService.run();
+
+        // Then
+        assertThat(checkpoint.getCompleted()).isTrue();
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(3);
+        assertThat(checkpoint.getFailedCount()).isZero();
+
+        List<Essay> essays = essayRepository.findAll();
+        assertThat(essays).extracting(Essay::getWeekStart)
+                .containsExactlyInAnyOrderElementsOf(eligible.stream().map(WeekProgress::getWeekStart).toList());
+        assertThat(essays).allSatisfy(essay -> assertThat(essay.getAiDraft()).isNotBlank());
+
+        eligible.forEach(weekProgress -> assertThat(
+                weekProgressRepository.findById(weekProgress.getId()).orElseThrow().getEssayGenerated()).isTrue());
+    }
+
+    @Test
+    @DisplayName("중단된 배치는 체크포인트 이후부터 이어서 처리")
+    void run_체크포인트재개() {
+        // Given: 첫 번째 항목까지 처리하고 중단된 체크포인트
+        WeekProgress first = saveWeekProgress(currentWeekStart.minusWeeks(3), 3);
+        saveWeekProgress(currentWeekStart.minusWeeks(2), 3);
+        saveWeekProgress(currentWeekStart.minusWeeks(1), 3);
+
+        BatchCheckpoint interrupted = BatchCheckpoint.builder()
+                .name("essay-draft-batch")
+                .startedAt(LocalDateTime.now())
+                .build();
+        interrupted.advance(first.getId(), 1, 0);
+        checkpointRepository.save(interrupted);
+
+        // When
+        BatchCheckpoint checkpoint = batchGenerationService.run();
+
+        // Then
+        assertThat(checkpoint.getCompleted()).isTrue();
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(3);
+        assertThat(essayRepository.findAll()).extracting(Essay::getWeekStart)
+                .containsExactlyInAnyOrder(currentWeekStart.minusWeeks(2), currentWeekStart.minusWeeks(1));
+        assertThat(weekProgressRepository.findById(first.getId()).orElseThrow().getEssayGenerated()).isFalse();
+    }
+
+    private WeekProgress saveWeekProgress(LocalDate weekStart, int completedDays) {
+        return weekProgressRepository.save(WeekProgress.builder()
+                .user(user)
+                .weekStart(weekStart)
+                .completedDays(completedDays)
+                .build());
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.dto.auth.request.LoginRequest;
+import com.example.myownessay.dto.auth.request.RegisterRequest;
+import com.example.myownessay.dto.essay.request.EssayGenerationRequest;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.EssayGenerationJob;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.EssayGenerationJobRepository;
+import com.example.myownessay.repository.EssayRepository;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.WeekProgressService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 에세이 초안 SSE 스트리밍 통합 테스트
+ * 스텁 LLM 이 일정 간격으로 토큰을 보내고, 노드당 동시 스트림은 1개로 제한합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:streamdb;DB_CLOSE_DELAY=-1",
+        "llm.provider=stub",
+        "llm.stub.token-interval-ms=20",
+        "essay.streaming.max-concurrent=1"
+})
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@DisplayName("에세이 초안 SSE 스트리밍 통합 테스트")
+public class EssayDraftStreamIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @Autowired
+    private EssayGenerationJobRepository jobRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private String accessToken;
+    private String userEmail;
+    private LocalDate weekStart;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        userEmail = "stream-" + suffix + "@example.com";
+        weekStart = WeekProgressService.getWeekStart(LocalDate.now()).minusWeeks(1);
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RegisterRequest(userEmail, "password123", "스트" + suffix))));
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(userEmail, "password123"))))
+                .andReturn();
+
+        accessToken = objectMapper.readTree(loginResult.getResponse().getContentAsString())
+                .get("data")
+                .get("accessToken")
+                .asText();
+    }
+
+    @Test
+    @DisplayName("토큰을 순서대로 전송하고, 끝나면 전체 초안을 aiDraft 로 저장한다")
+    void streamDraft_토큰전송및저장() throws Exception {
+        // Given
+        createCompletedRecords(3);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/essays/generation-jobs/stream")
+                        .param("weekStart", weekStart.toString())
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(10_000);
+
+        // Then
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).contains("event:token").contains("event:done");
+
+        String streamed = Arrays.stream(body.split("\n\n"))
+                .filter(event -> event.startsWith("event:token"))
+                .map(event -> event.substring(event.indexOf("data:") + "data:".length()))
+                .collect(Collectors.joining());
+
+        User user = userRepository.findByEmail(userEmail).orElseThrow();
+        Essay essay = essayRepository.findFirstByUserAndWeekStartOrderByIdAsc(user, weekStart).orElseThrow();
+        assertThat(essay.getAiDraft()).contains("3개의 기록");
+        assertThat(streamed).isEqualTo(essay.getAiDraft());
+    }
+
+    @Test
+    @DisplayName("동시 스트림 수를 넘으면 503 과 error 이벤트로 거절한다")
+    void streamDraft_동시스트림제한() throws Exception {
+        // Given: 첫 번째 스트림이 진행 중
+        createCompletedRecords(3);
+        MvcResult first = mockMvc.perform(get("/api/essays/generation-jobs/stream")
+                        .param("weekStart", weekStart.toString())
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        MvcResult second = mockMvc.perform(get("/api/essays/generation-jobs/stream")
+                        .param("weekStart", weekStart.minusWeeks(1).toString())
+                        .header("Authorization", "Bearer " + accessToken))
+                .andReturn();
+
+        // Then
+        assertThat(second.getResponse().getStatus()).isEqualTo(503);
+        assertThat(second.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("event:error");
+
+        first.getAsyncResult(10_000);
+        assertThat(first.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("event:done");
+    }
+
+    @Test
+    @DisplayName("기록이 3일 미만이면 스트림을 시작하지 않는다")
+    void streamDraft_조건미충족() throws Exception {
+        // Given
+        createCompletedRecords(2);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/essays/generation-jobs/stream")
+                        .param("weekStart", weekStart.toString())
+                        .header("Authorization", "Bearer " + accessToken))
+                .andReturn();
+
+        // Then
+        assertThat(result.getResponse().getStatus()).isEqualTo(400);
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("event:error");
+    }
+
+    @Test
+    @DisplayName("스트리밍 중인 주에 생성 요청을 하면 스트림의 작업을 반환하고 LLM 을 다시 호출하지 않는다")
+    void streamDraft_생성요청과상호배제() throws Exception {
+        // Given: 스트림이 진행 중
+        createCompletedRecords(3);
+        MvcResult stream = mockMvc.perform(get("/api/essays/generation-jobs/stream")
+                        .param("weekStart", weekStart.toString())
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        MvcResult requested = mockMvc.perform(post("/api/essays/generation-jobs")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EssayGenerationRequest(weekStart))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.status").value("RUNNING"))
+                .andReturn();
+        long jobId = objectMapper.readTree(requested.getResponse().getContentAsString()).get("data").get("jobId").asLong();
+
+        // Then: 스트림이 끝나면 같은 작업이 완료되고, 진행 중 작업은 하나뿐
+        stream.getAsyncResult(10_000);
+        assertThat(stream.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("event:done");
+
+        User user = userRepository.findByEmail(userEmail).orElseThrow();
+        EssayGenerationJob job = jobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(GenerationJobStatus.SUCCEEDED);
+        assertThat(job.getEssayId()).isEqualTo(
+                essayRepository.findFirstByUserAndWeekStartOrderByIdAsc(user, weekStart).orElseThrow().getId());
+        assertThat(jobRepository.findAll()).filteredOn(saved -> saved.getUser().getId().equals(user.getId())).hasSize(1);
+    }
+
+    private void createCompletedRecords(int days) {
+        User user = userRepository.findByEmail(userEmail).orElseThrow();
+        for (int i = 0; i < days; i++) {
+            Record record = new Record();
+            record.setUser(user);
+            record.setRecordDate(weekStart.plusDays(i));
+            record.setSlotType(SlotType.DIARY);
+            record.setContent(Map.of("text", (i + 1) + "일차 일기"));
+            record.markAsCompleted();
+            recordRepository.save(record);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.dto.auth.request.LoginRequest;
+import com.example.myownessay.dto.auth.request.RegisterRequest;
+import com.example.myownessay.dto.essay.request.EssayGenerationRequest;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.EssayGenerationJob;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.EssayGenerationJobRepository;
+import com.example.myownessay.repository.EssayRepository;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import com.example.myownessay.service.WeekProgressService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 에세이 초안 생성 작업 통합 테스트
+ * 작업 커밋 이후 워커가 비동기로 처리하므로 트랜잭션 롤백 없이 별도 DB 에서 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:generationdb;DB_CLOSE_DELAY=-1",
+        "llm.provider=stub"
+})
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@DisplayName("에세이 초안 생성 작업 통합 테스트")
+public class EssayGenerationIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @Autowired
+    private WeekProgressRepository weekProgressRepository;
+
+    @Autowired
+    private EssayGenerationJobRepository jobRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private String accessToken;
+    private String userEmail;
+    private LocalDate weekStart;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        userEmail = "generation-" + suffix + "@example.com";
+        weekStart = WeekProgressService.getWeekStart(LocalDate.now()).minusWeeks(1);
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RegisterRequest(userEmail, "password123", "생성" + suffix))));
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(userEmail, "password123"))))
+                .andReturn();
+
+        accessToken = objectMapper.readTree(loginResult.getResponse().getContentAsString())
+                .get("data")
+                .get("accessToken")
+                .asText();
+    }
+
+    @Test
+    @DisplayName("생성 요청 시 202 와 작업 ID 를 반환하고, 워커가 초안을 저장한다")
+    void requestGeneration_비동기완료() throws Exception {
+        // Given: 3일 기록
+        createCompletedRecords(3);
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/essays/generation-jobs")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EssayGenerationRequest(weekStart))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.data.jobId").exists())
+                .andReturn();
+
+        long jobId = objectMapper.readTree(result.getResponse().getContentAsString()).get("data").get("jobId").asLong();
+
+        // Then: 완료될 때까지 상태 조회
+        JsonNode job = awaitFinished(jobId);
+        assertThat(job.get("status").asText()).isEqualTo("SUCCEEDED");
+
+        Essay essay = essayRepository.findById(job.get("essayId").asLong()).orElseThrow();
+        assertThat(essay.getAiDraft()).contains("3개의 기록");
+        assertThat(essay.getWeekStart()).isEqualTo(weekStart);
+
+        User user = userRepository.findByEmail(userEmail).orElseThrow();
+        WeekProgress weekProgress = weekProgressRepository.findByUserAndWeekStart(user, weekStart).orElseThrow();
+        assertThat(weekProgress.getEssayGenerated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("기록이 3일 미만이면 작업을 등록하지 않는다")
+    void requestGeneration_조건미충족() throws Exception {
+        // Given: 2일 기록
+        createCompletedRecords(2);
+
+        // When & Then
+        mockMvc.perform(post("/api/essays/generation-jobs")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EssayGenerationRequest(weekStart))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작업은 조회할 수 없다")
+    void getJob_존재하지않는작업() throws Exception {
+        mockMvc.perform(get("/api/essays/generation-jobs/{jobId}", 999999)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data").value("생성 작업을 찾을 수 없습니다."));
+    }
+
+    @Test
+    @DisplayName("같은 주에 진행 중인 작업은 하나만 저장되고, 생성 요청은 그 작업을 반환한다")
+    void requestGeneration_진행중작업중복불가() throws Exception {
+        // Given: 워커가 가져가지 않도록 실행 시각을 미룬 대기 작업
+        createCompletedRecords(3);
+        User user = userRepository.findByEmail(userEmail).orElseThrow();
+        EssayGenerationJob queued = jobRepository.save(job(user, GenerationJobStatus.QUEUED));
+
+        // When & Then: 진행 중 작업은 유니크 인덱스에 걸리고, 종료된 작업은 함께 저장된다
+        assertThatThrownBy(() -> jobRepository.saveAndFlush(job(user, GenerationJobStatus.QUEUED)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        jobRepository.saveAndFlush(job(user, GenerationJobStatus.CANCELLED));
+
+        mockMvc.perform(post("/api/essays/generation-jobs")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EssayGenerationRequest(weekStart))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.jobId").value(queued.getId()));
+    }
+
+    private JsonNode awaitFinished(long jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            MvcResult result = mockMvc.perform(get("/api/essays/generation-jobs/{jobId}", jobId)
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            JsonNode job = objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
+
+            String status = job.get("status").asText();
+            if (!status.equals("QUEUED") && !status.equals("RUNNING")) {
+                return job;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("생성 작업이 시간 내에 끝나지 않았습니다. 상태: " + status);
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private EssayGenerationJob job(User user, GenerationJobStatus status) {
+        return EssayGenerationJob.builder()
+                .user(user)
+                .weekStart(weekStart)
+                .status(status)
+                .nextAttemptAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    private void createCompletedRecords(int days) {
+        User user = userRepository.findByEmail(userEmail).orElseThrow();
+        for (int i = 0; i < days; i++) {
+            Record record = new Record();
+            record.setUser(user);
+            record.setRecordDate(weekStart.plusDays(i));
+            record.setSlotType(SlotType.DIARY);
+            record.setContent(Map.of("text", (i + 1) + "일차 일기"));
+            record.markAsCompleted();
+            recordRepository.save(record);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.dto.record.request.RecordRequest;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.monitoring.JfrRecordingEndpoint;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.JwtService;
+import com.example.myownessay.service.RecordService;
+import com.example.myownessay.service.StreakService;
+import com.example.myownessay.service.WeekProgressRecalculator;
+import com.example.myownessay.service.WeekProgressService;
+import com.example.myownessay.support.SyntheticContent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 도메인 JFR 이벤트 통합 테스트
+ * 임계값을 0으로 낮춰 모든 이벤트를 녹화한 뒤, 녹화 파일을 읽어 이벤트 필드를 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jfrdb;DB_CLOSE_DELAY=-1",
+        "monitoring.jfr.directory=build/tmp/jfr-test",
+        "monitoring.jfr.thresholds.RecordSave=0ms",
+        "monitoring.jfr.thresholds.StreakComputation=0ms",
+        "monitoring.jfr.thresholds.WeekProgressRecalculation=0ms",
+        "monitoring.jfr.thresholds.JwtVerification=0ms",
+        "monitoring.operator.username=operator",
+        "monitoring.operator.password=operator-secret"
+})
+@ActiveProfiles("test")
+@DisplayName("도메인 JFR 이벤트 통합 테스트")
+public class JfrEventsIntegrationTest {
+
+    private static final String PREFIX = "com.example.myownessay.";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JfrRecordingEndpoint jfrEndpoint;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private StreakService streakService;
+
+    @Autowired
+    private WeekProgressRecalculator weekProgressRecalculator;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        jdbcTemplate.update("DELETE FROM week_progress");
+        jdbcTemplate.update("DELETE FROM records");
+        jdbcTemplate.update("DELETE FROM users");
+
+        user = new User();
+        user.setEmail("jfr@example.com");
+        user.setNickname("녹화");
+        user.setPasswordHash("hashed");
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (Boolean.TRUE.equals(jfrEndpoint.status().get("recording"))) {
+            jfrEndpoint.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("녹화 중 도메인 작업이 사용자 ID 와 함께 JFR 이벤트로 기록된다")
+    void recording_도메인이벤트() throws Exception {
+        // Given
+        Map<String, Object> started = jfrEndpoint.start();
+        assertThat(started.get("recording")).isEqualTo(true);
+
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = WeekProgressService.getWeekStart(today);
+
+        // When
+        recordService.saveRecord(user.getEmail(), today, SlotType.DIARY,
+                new RecordRequest(SyntheticContent.of(SlotType.DIARY, new SplittableRandom(1)), true));
+        recordService.saveRecord(user.getEmail(), today, SlotType.DIARY,
+                new RecordRequest(SyntheticContent.of(SlotType.DIARY, new SplittableRandom(2)), false));
+        streakService.getMaxStreak(user.getEmail());
+        weekProgressRecalculator.recalculate(user.getId(), weekStart);
+        mockMvc.perform(get("/api/streak")
+                        .header("Authorization", "Bearer " + jwtService.generateToken(user.getEmail())))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/streak")
+                        .header("Authorization", "Bearer invalid-token"));
+
+        Map<String, Object> stopped = jfrEndpoint.stop();
+
+        // Then
+        assertThat(stopped.get("recording")).isEqualTo(false);
+        assertThat((Long) stopped.get("sizeBytes")).isPositive();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of((String) stopped.get("file")));
+
+        List<RecordedEvent> saves = ofType(events, "RecordSave");
+        assertThat(saves).extracting(event -> event.getString("operation")).containsExactly("CREATE", "UPDATE");
+        assertThat(saves).allSatisfy(event -> {
+            assertThat(event.getLong("userId")).isEqualTo(user.getId());
+            assertThat(event.getString("slotType")).isEqualTo("DIARY");
+            assertThat(event.getString("recordDate")).isEqualTo(today.toString());
+        });
+        assertThat(saves.get(0).getBoolean("completed")).isTrue();
+        assertThat(saves.get(1).getBoolean("completed")).isFalse();
+
+        // /api/streak 는 현재/최대 연속 기록을 모두 계산
+        assertThat(ofType(events, "StreakComputation"))
+                .extracting(event -> event.getString("kind"))
+                .containsExactlyInAnyOrder("MAX", "CURRENT", "MAX");
+        assertThat(ofType(events, "StreakComputation"))
+                .allSatisfy(event -> assertThat(event.getLong("userId")).isEqualTo(user.getId()));
+
+        assertThat(ofType(events, "WeekProgressRecalculation")).anySatisfy(event -> {
+            assertThat(event.getLong("userId")).isEqualTo(user.getId());
+            assertThat(event.getString("weekStart")).isEqualTo(weekStart.toString());
+            assertThat(event.getInt("completedDays")).isZero();
+        });
+
+        assertThat(ofType(events, "JwtVerification"))
+                .extracting(event -> event.getString("outcome"), event -> event.getLong("userId"))
+                .contains(
+                        tuple("VALID", user.getId()),
+                        tuple("ERROR", 0L));
+    }
+
+    @Test
+    @DisplayName("녹화는 한 번에 하나만 실행되고, 녹화 중이 아니면 멈출 수 없다")
+    void recording_중복시작_중지() {
+        jfrEndpoint.start();
+        assertThatThrownBy(() -> jfrEndpoint.start()).isInstanceOf(IllegalStateException.class);
+
+        jfrEndpoint.stop();
+        assertThatThrownBy(() -> jfrEndpoint.stop()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("JFR 엔드포인트는 운영자 계정 없이 접근할 수 없다")
+    void endpoint_권한() throws Exception {
+        // 서비스 사용자 토큰에는 운영자 권한이 없음
+        mockMvc.perform(get("/actuator/jfr")
+                        .header("Authorization", "Bearer " + jwtService.generateToken(user.getEmail())))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/jfr").with(httpBasic("operator", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("운영자 계정으로 JFR 녹화를 시작하고 멈출 수 있다")
+    void endpoint_운영자녹화() throws Exception {
+        mockMvc.perform(post("/actuator/jfr").with(httpBasic("operator", "operator-secret")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recording").value(true));
+
+        mockMvc.perform(get("/actuator/jfr").with(httpBasic("operator", "operator-secret")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recording").value(true));
+
+        mockMvc.perform(delete("/actuator/jfr").with(httpBasic("operator", "operator-secret")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recording").value(false))
+                .andExpect(jsonPath("$.file").exists());
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String shortName) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(PREFIX + shortName))
+                .toList();
+    }
+}
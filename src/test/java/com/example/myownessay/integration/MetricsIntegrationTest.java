@@ -0,0 +1,168 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.dto.auth.request.LoginRequest;
+import com.example.myownessay.dto.auth.request.RegisterRequest;
+import com.example.myownessay.dto.record.request.RecordRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 메트릭 수집 통합 테스트
+ * 컨트롤러 경로, 서비스 메서드, 리포지토리 메서드 타이머와 Hibernate, 커넥션 풀 메트릭이 기록되고
+ * Prometheus 수집 엔드포인트가 수집 계정에만 열리는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "monitoring.prometheus.username=scraper",
+        "monitoring.prometheus.password=scrape-secret"
+})
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@DisplayName("메트릭 수집 통합 테스트")
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private FilterRegistrationBean<ServerHttpObservationFilter> observationFilter;
+
+    private MockMvc mockMvc;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .addFilters(observationFilter.getFilter()) // 요청 타이머(http.server.requests) 기록
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new RegisterRequest("metrics@example.com", "password123", "메트릭"))));
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest("metrics@example.com", "password123"))))
+                .andReturn();
+
+        accessToken = objectMapper.readTree(loginResult.getResponse().getContentAsString())
+                .get("data")
+                .get("accessToken")
+                .asText();
+    }
+
+    @Test
+    @DisplayName("기록 저장 요청은 경로, 서비스 메서드, 리포지토리 메서드 타이머를 히스토그램과 함께 남긴다")
+    void saveRecord_타이머기록() throws Exception {
+        // When
+        mockMvc.perform(put("/api/records/{date}/{slotType}", LocalDate.now(), "READING")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RecordRequest(Map.of("quote", "명언", "author", "저자", "thought", "생각"), true))))
+                .andExpect(status().isOk());
+
+        // Then
+        Timer route = meterRegistry.find("http.server.requests")
+                .tag("uri", "/api/records/{date}/{slotType}")
+                .tag("method", "PUT")
+                .timer();
+        assertThat(route).isNotNull();
+        assertThat(route.count()).isEqualTo(1);
+        assertThat(route.takeSnapshot().histogramCounts()).isNotEmpty();
+
+        Timer service = meterRegistry.find("service.method")
+                .tag("class", "RecordService")
+                .tag("method", "saveRecord")
+                .tag("exception", "none")
+                .timer();
+        assertThat(service).isNotNull();
+        assertThat(service.count()).isEqualTo(1);
+        assertThat(service.takeSnapshot().histogramCounts()).isNotEmpty();
+
+        Timer repository = meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "UserRepository")
+                .tag("method", "findByEmail")
+                .timer();
+        assertThat(repository).isNotNull();
+        assertThat(repository.count()).isPositive();
+
+        assertThat(meterRegistry.find("hibernate.statements").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 서비스 메서드는 exception 태그로 구분된다")
+    void serviceException_태그() throws Exception {
+        // When: 잘못된 비밀번호로 로그인
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new LoginRequest("metrics@example.com", "wrong-password"))));
+
+        // Then
+        Timer failed = meterRegistry.find("service.method")
+                .tag("class", "AuthService")
+                .tag("method", "login")
+                .tag("exception", "AuthException")
+                .timer();
+        assertThat(failed).isNotNull();
+        assertThat(failed.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Prometheus 수집 엔드포인트는 수집 계정으로만 조회할 수 있다")
+    void prometheus_인증() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "wrong")))
+                .andExpect(status().isUnauthorized());
+
+        String body = mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body)
+                .contains("service_method_seconds_bucket")
+                .contains("hikaricp_connections_active")
+                .contains("application=\"essay-backend\"");
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.common.datasource.ReadReplicaRoutingDataSource;
+import com.example.myownessay.dto.dashboard.response.DashboardResponse;
+import com.example.myownessay.dto.record.request.RecordRequest;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.DashboardService;
+import com.example.myownessay.service.RecordService;
+import com.example.myownessay.support.SyntheticContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅 통합 테스트
+ * 주 데이터베이스와 복제본이 서로 다른 H2 인스턴스이므로, 복제본에는 스키마만 복사하고
+ * 주 데이터베이스에 쓴 데이터는 복제되지 않은 상태(복제 지연)로 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "replica"})
+@DisplayName("읽기 복제본 라우팅 통합 테스트")
+public class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        // 복제본에 주 데이터베이스 스키마 복사
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        List<String> schema = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NODATA", String.class);
+        schema.forEach(replica::execute);
+
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 주 데이터베이스를 사용")
+    void readOnly_복제본사용() {
+        // Given: 주 데이터베이스에만 저장
+        String email = saveUser();
+
+        // When
+        Optional<User> fromReplica = readOnly.execute(status -> userRepository.findByEmail(email));
+        Optional<User> fromPrimary = readWrite.execute(status -> userRepository.findByEmail(email));
+
+        // Then
+        assertThat(fromReplica).isEmpty();
+        assertThat(fromPrimary).isPresent();
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 사용자의 읽기는 주 데이터베이스를 사용")
+    void readOnly_읽은직후쓰기고정() {
+        // Given: 인증된 사용자가 쓰기 트랜잭션 실행
+        authenticate("writer@example.com");
+        String email = saveUser();
+
+        // When & Then: 같은 사용자는 방금 쓴 내용을 읽음
+        Optional<User> ownRead = readOnly.execute(status -> userRepository.findByEmail(email));
+        assertThat(ownRead).isPresent();
+
+        // When & Then: 다른 사용자는 복제본을 읽음
+        authenticate("reader@example.com");
+        Optional<User> otherRead = readOnly.execute(status -> userRepository.findByEmail(email));
+        assertThat(otherRead).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쓰기 고정 시간은 커밋한 뒤부터 시작하고, 롤백된 쓰기는 고정하지 않음")
+    void readOnly_커밋후쓰기고정() {
+        TransactionTemplate readOnlyNew = new TransactionTemplate(transactionManager);
+        readOnlyNew.setReadOnly(true);
+        readOnlyNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // When & Then: 쓰기 트랜잭션이 커밋되기 전에는 같은 사용자도 복제본을 읽음
+        authenticate("committer@example.com");
+        readWrite.executeWithoutResult(status -> {
+            saveUser();
+            userRepository.flush(); // 주 데이터베이스 커넥션을 얻은 뒤 확인
+            assertThat(route(readOnlyNew))
+                    .isEqualTo(ReadReplicaRoutingDataSource.Route.REPLICA);
+        });
+        assertThat(route(readOnly))
+                .isEqualTo(ReadReplicaRoutingDataSource.Route.PRIMARY);
+
+        // When & Then: 롤백된 쓰기는 고정하지 않음
+        authenticate("rollback@example.com");
+        readWrite.executeWithoutResult(status -> {
+            saveUser();
+            status.setRollbackOnly();
+        });
+        assertThat(route(readOnly))
+                .isEqualTo(ReadReplicaRoutingDataSource.Route.REPLICA);
+    }
+
+    @Test
+    @DisplayName("기록 저장 직후 대시보드의 동시 조회도 주 데이터베이스를 사용")
+    void dashboard_쓰기직후주데이터베이스() {
+        // Given: 인증된 사용자가 오늘 기록 저장 (주 데이터베이스에만 있음)
+        String email = "dashboard-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        authenticate(email);
+        saveUser(email);
+        recordService.saveRecord(email, LocalDate.now(), SlotType.DIARY,
+                new RecordRequest(SyntheticContent.of(SlotType.DIARY, new SplittableRandom(1)), true));
+
+        // When: 작업 스레드에서 실행되는 하위 조회
+        DashboardResponse dashboard = dashboardService.getDashboard(email);
+
+        // Then: 작업 스레드도 같은 사용자로 라우팅되어 방금 쓴 기록을 읽음
+        assertThat(dashboard.getToday().getRecords()).hasSize(1);
+        assertThat(dashboard.getStreak().getCurrentStreak()).isEqualTo(1);
+        assertThat(dashboard.getWeekProgress().getCompletedDays()).isEqualTo(1);
+    }
+
+    private ReadReplicaRoutingDataSource.Route route(TransactionTemplate template) {
+        return template.execute(status -> routingDataSource.currentRoute());
+    }
+
+    private String saveUser() {
+        return saveUser("replica-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com");
+    }
+
+    private String saveUser(String email) {
+        String suffix = email.substring(email.indexOf('-') + 1, email.indexOf('@'));
+        readWrite.executeWithoutResult(status -> {
+            User user = new User();
+            user.setEmail(email);
+            user.setNickname("복제" + suffix);
+            user.setPasswordHash("hashed");
+            userRepository.save(user);
+        });
+        return email;
+    }
+
+    private void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.common.compression.TextCompressionCodec;
+import com.example.myownessay.dto.record.request.RecordRequest;
+import com.example.myownessay.dto.record.response.DailyRecordsResponse;
+import com.example.myownessay.dto.record.response.RecordResponse;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.ArchivedRecordRepository;
+import com.example.myownessay.repository.BatchCheckpointRepository;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.RecordArchiveService;
+import com.example.myownessay.service.RecordCompletionService;
+import com.example.myownessay.service.RecordHistoryReader;
+import com.example.myownessay.service.RecordService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 오래된 기록 보관 통합 테스트
+ * 보관은 배치마다 커밋하므로 트랜잭션 롤백 없이 별도 DB 에서 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archivedb;DB_CLOSE_DELAY=-1",
+        "record.archive.horizon-days=30",
+        "record.archive.batch-size=2"
+})
+@ActiveProfiles("test")
+@DisplayName("오래된 기록 보관 통합 테스트")
+public class RecordArchiveIntegrationTest {
+
+    // 압축 효과가 나도록 반복되는 긴 내용
+    private static final String TEXT = "오늘 읽은 책의 한 구절을 옮겨 적었다. ".repeat(20);
+
+    @Autowired
+    private RecordArchiveService recordArchiveService;
+
+    @Autowired
+    private RecordHistoryReader recordHistoryReader;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private ArchivedRecordRepository archivedRecordRepository;
+
+    @Autowired
+    private BatchCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private LocalDate oldDate;
+    private LocalDate recentDate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM archived_records");
+        jdbcTemplate.update("DELETE FROM records");
+        jdbcTemplate.update("DELETE FROM batch_checkpoints");
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setEmail("archive-" + suffix + "@example.com");
+        user.setNickname("보관" + suffix);
+        user.setPasswordHash("hashed");
+        user = userRepository.save(user);
+
+        oldDate = LocalDate.now().minusDays(60);
+        recentDate = LocalDate.now().minusDays(5);
+    }
+
+    @Test
+    @DisplayName("기준일보다 오래된 기록만 압축해 보관 테이블로 옮긴다")
+    void archive_오래된기록만이동() {
+        // Given: 오래된 기록 3건(삭제 1건 포함), 최근 기록 1건
+        saveRecord(oldDate, SlotType.READING, true, false);
+        saveRecord(oldDate, SlotType.DIARY, false, false);
+        saveRecord(oldDate.plusDays(1), SlotType.READING, true, false);
+        Record deleted = saveRecord(oldDate, SlotType.HEALING, true, true);
+        Record recent = saveRecord(recentDate, SlotType.READING, true, false);
+
+        // When
+        long moved = recordArchiveService.archive();
+
+        // Then: 배치 크기(2)를 넘어도 모두 옮기고, 삭제된 기록과 최근 기록은 남김
+        assertThat(moved).isEqualTo(3);
+        assertThat(archivedRecordRepository.count()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM records", Long.class))
+                .containsExactlyInAnyOrder(deleted.getId(), recent.getId());
+
+        List<String> contents = jdbcTemplate.queryForList("SELECT content FROM archived_records", String.class);
+        assertThat(contents).allSatisfy(content -> assertThat(TextCompressionCodec.isCompressed(content)).isTrue());
+
+        // 다시 실행해도 옮길 기록이 없음
+        assertThat(recordArchiveService.archive()).isZero();
+    }
+
+    @Test
+    @DisplayName("기준일 이전까지 닿는 조회는 보관 기록을 합쳐서 반환한다")
+    void read_보관기록포함() {
+        // Given
+        Record old = saveRecord(oldDate, SlotType.READING, true, false);
+        saveRecord(oldDate.plusDays(1), SlotType.DIARY, true, false);
+        saveRecord(recentDate, SlotType.READING, true, false);
+        recordArchiveService.archive();
+
+        // When
+        List<RecordResponse> weekly = recordService.getWeeklyRecords(user.getEmail(), oldDate, oldDate.plusDays(6));
+        DailyRecordsResponse daily = recordService.getDailyRecords(user.getEmail(), oldDate);
+
+        // Then
+        assertThat(weekly).extracting(RecordResponse::getRecordDate)
+                .containsExactlyInAnyOrder(oldDate, oldDate.plusDays(1));
+        assertThat(daily.getRecords()).extracting(RecordResponse::getId).containsExactly(old.getId());
+        assertThat(daily.getRecords().get(0).getContent()).containsEntry("text", TEXT);
+        assertThat(recordHistoryReader.countCompletedDays(user.getId(), oldDate, LocalDate.now())).isEqualTo(3);
+        assertThat(recordHistoryReader.findDailyCompletedSlots(user.getId(), oldDate, LocalDate.now())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("보관된 슬롯에 다시 저장하면 기록 테이블로 되돌려 하나만 남긴다")
+    void save_보관된슬롯되돌림() {
+        // Given
+        saveRecord(oldDate, SlotType.READING, false, false);
+        recordArchiveService.archive();
+
+        Map<String, Object> content = new HashMap<>();
+        content.put("quote", "다시 쓴 명언");
+        content.put("author", "저자");
+        content.put("thought", "생각");
+
+        // When
+        RecordResponse saved = recordService.saveRecord(
+                user.getEmail(), oldDate, SlotType.READING, new RecordRequest(content, true));
+
+        // Then
+        assertThat(archivedRecordRepository.count()).isZero();
+        assertThat(recordService.getDailyRecords(user.getEmail(), oldDate).getRecords())
+                .extracting(RecordResponse::getId)
+                .containsExactly(saved.getId());
+        assertThat(recordRepository.findById(saved.getId()).orElseThrow().getContent())
+                .containsEntry("quote", "다시 쓴 명언");
+    }
+
+    @Test
+    @DisplayName("보관된 기록은 읽기 전용이라 ID 로 삭제하거나 복원할 수 없다")
+    void delete_보관기록읽기전용() {
+        // Given
+        saveRecord(oldDate, SlotType.READING, true, false);
+        recordArchiveService.archive();
+        RecordResponse archived = recordService.getDailyRecords(user.getEmail(), oldDate).getRecords().get(0);
+
+        // When & Then: 응답의 ID 는 보관 기록 ID 이므로 읽기 전용으로 안내
+        assertThat(archived.getIsArchived()).isTrue();
+        assertThatThrownBy(() -> recordService.deleteRecord(user.getEmail(), archived.getId()))
+                .hasMessageContaining("보관된 기록");
+        assertThatThrownBy(() -> recordService.restoreRecord(user.getEmail(), archived.getId()))
+                .hasMessageContaining("보관된 기록");
+        assertThat(archivedRecordRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 기준 일수를 늘려도 이전 설정으로 보관된 기록을 함께 조회한다")
+    void read_기준일수변경후보관기록포함() {
+        // Given: 기준 일수 10일로 보관한 뒤, 30일로 늘려 다시 시작한 상황
+        LocalDate archivedDate = LocalDate.now().minusDays(20);
+        saveRecord(archivedDate, SlotType.READING, true, false);
+        archiveService(10).archive();
+
+        RecordArchiveService restarted = archiveService(30);
+        RecordHistoryReader reader = new RecordHistoryReader(
+                recordRepository, archivedRecordRepository, restarted, new RecordCompletionService());
+
+        // When: 새 기준일(30일 전) 이후만 조회
+        LocalDate startDate = LocalDate.now().minusDays(25);
+
+        // Then
+        assertThat(restarted.getArchiveBoundary()).isEqualTo(archivedDate.plusDays(1));
+        assertThat(reader.findByUserAndRecordDateBetween(user, startDate, LocalDate.now()))
+                .extracting(Record::getRecordDate)
+                .containsExactly(archivedDate);
+        assertThat(reader.countCompletedDays(user.getId(), startDate, LocalDate.now())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보관을 실행 중이면 건너뛰고, 갱신이 멈춘 실행은 넘겨받는다")
+    void archive_다른노드실행중_건너뜀() {
+        // Given: 다른 노드가 방금 선점한 보관 체크포인트
+        Record old = saveRecord(oldDate, SlotType.READING, true, false);
+        jdbcTemplate.update("INSERT INTO batch_checkpoints (name, last_processed_id, completed, processed_count, " +
+                "failed_count, started_at, created_at, updated_at) " +
+                "VALUES ('record-archive', 0, false, 0, 0, current_timestamp, current_timestamp, current_timestamp)");
+
+        // When & Then: 선점 중이면 옮기지 않음
+        assertThat(recordArchiveService.archive()).isZero();
+        assertThat(recordRepository.existsById(old.getId())).isTrue();
+
+        // When: 실행 중이던 노드가 멈춰 체크포인트 갱신이 오래 끊김
+        jdbcTemplate.update("UPDATE batch_checkpoints SET updated_at = DATEADD('HOUR', -1, current_timestamp) " +
+                "WHERE name = 'record-archive'");
+
+        // Then: 넘겨받아 보관하고 완료로 표시
+        assertThat(recordArchiveService.archive()).isEqualTo(1);
+        assertThat(recordRepository.existsById(old.getId())).isFalse();
+        assertThat(checkpointRepository.findById("record-archive"))
+                .hasValueSatisfying(checkpoint -> {
+                    assertThat(checkpoint.getCompleted()).isTrue();
+                    assertThat(checkpoint.getProcessedCount()).isEqualTo(1);
+                });
+    }
+
+    private RecordArchiveService archiveService(int horizonDays) {
+        return new RecordArchiveService(recordRepository, archivedRecordRepository, checkpointRepository,
+                transactionManager, new SimpleMeterRegistry(), horizonDays, 2, 600_000);
+    }
+
+    private Record saveRecord(LocalDate date, SlotType slotType, boolean completed, boolean deleted) {
+        Record record = new Record();
+        record.setUser(user);
+        record.setRecordDate(date);
+        record.setSlotType(slotType);
+        record.setContent(Map.of("text", TEXT));
+        if (completed) {
+            record.markAsCompleted();
+        }
+        if (deleted) {
+            record.markAsDeleted();
+        }
+        return recordRepository.save(record);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.dto.auth.request.LoginRequest;
+import com.example.myownessay.dto.auth.request.RegisterRequest;
+import com.example.myownessay.dto.record.response.RecordHeatmapResponse;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.event.RecordChangedEvent;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.RecordHeatmapService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("연간 기록 히트맵 통합 테스트")
+public class RecordHeatmapIntegrationTest {
+
+    private static final String EMAIL = "heatmap@example.com";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private RecordHeatmapService recordHeatmapService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private String accessToken;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RegisterRequest(EMAIL, "password123", "히트맵"))));
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(EMAIL, "password123"))))
+                .andReturn();
+
+        accessToken = objectMapper.readTree(loginResult.getResponse().getContentAsString())
+                .get("data")
+                .get("accessToken")
+                .asText();
+        user = userRepository.findByEmail(EMAIL).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("날짜별 완료 슬롯 수를 하루 4비트로 인코딩")
+    void getHeatmap_인코딩() throws Exception {
+        // Given: 2024년(윤년)
+        saveRecord(LocalDate.of(2024, 1, 1), SlotType.DIARY, true, false);
+        saveRecord(LocalDate.of(2024, 1, 1), SlotType.READING, true, false);
+        saveRecord(LocalDate.of(2024, 1, 1), SlotType.CONSULTING, false, false);
+        saveRecord(LocalDate.of(2024, 1, 2), SlotType.DIARY, true, false);
+        saveRecord(LocalDate.of(2024, 1, 2), SlotType.READING, true, true);
+        for (SlotType slotType : SlotType.values()) {
+            saveRecord(LocalDate.of(2024, 12, 31), slotType, true, false);
+        }
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/records/heatmap")
+                        .param("year", "2024")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.year").value(2024))
+                .andExpect(jsonPath("$.data.days").value(366))
+                .andExpect(jsonPath("$.data.encoding").value("nibble-base64"))
+                .andReturn();
+
+        // Then
+        String data = objectMapper.readTree(result.getResponse().getContentAsString()).get("data").get("data").asText();
+        byte[] packed = Base64.getDecoder().decode(data);
+        assertThat(packed).hasSize(183);
+        assertThat(dayValue(packed, 0)).isEqualTo(2);   // 1월 1일: 완료 2개 (미완료 제외)
+        assertThat(dayValue(packed, 1)).isEqualTo(1);   // 1월 2일: 삭제된 기록 제외
+        assertThat(dayValue(packed, 2)).isZero();
+        assertThat(dayValue(packed, 365)).isEqualTo(4); // 12월 31일
+    }
+
+    @Test
+    @DisplayName("미래 연도는 조회할 수 없다")
+    void getHeatmap_미래연도() throws Exception {
+        mockMvc.perform(get("/api/records/heatmap")
+                        .param("year", String.valueOf(LocalDate.now().getYear() + 1))
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data").value("조회할 수 없는 연도입니다."));
+    }
+
+    @Test
+    @DisplayName("지난 연도는 캐시하고, 해당 연도 기록이 바뀌면 캐시를 지운다")
+    void getHeatmap_지난연도캐시() {
+        // Given
+        RecordHeatmapResponse first = recordHeatmapService.getHeatmap(EMAIL, 2023);
+        saveRecord(LocalDate.of(2023, 3, 1), SlotType.DIARY, true, false);
+
+        // When & Then: 캐시된 결과
+        assertThat(recordHeatmapService.getHeatmap(EMAIL, 2023)).isSameAs(first);
+
+        // When & Then: 기록 변경 이벤트 후 다시 계산
+        recordHeatmapService.onRecordChanged(new RecordChangedEvent(user.getId(), LocalDate.of(2023, 3, 1)));
+        RecordHeatmapResponse updated = recordHeatmapService.getHeatmap(EMAIL, 2023);
+        assertThat(dayValue(Base64.getDecoder().decode(updated.getData()), LocalDate.of(2023, 3, 1).getDayOfYear() - 1))
+                .isEqualTo(1);
+    }
+
+    private int dayValue(byte[] packed, int dayIndex) {
+        int b = packed[dayIndex / 2] & 0xFF;
+        return dayIndex % 2 == 0 ? b >>> 4 : b & 0xF;
+    }
+
+    private void saveRecord(LocalDate date, SlotType slotType, boolean completed, boolean deleted) {
+        Record record = new Record();
+        record.setUser(user);
+        record.setRecordDate(date);
+        record.setSlotType(slotType);
+        record.setContent(Map.of("text", "기록"));
+        if (completed) {
+            record.markAsCompleted();
+        }
+        if (deleted) {
+            record.markAsDeleted();
+        }
+        recordRepository.save(record);
+    }
+}
@@ -25,6 +25,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -338,6 +339,62 @@ public class RecordIntegrationTest {
         System.out.println("✅ 기록 삭제 성공");
     }
 
+    @Test
+    @DisplayName("삭제된 기록은 조회와 완료 수에서 제외되고 복원하면 다시 조회")
+    void deleteRecord_조회제외_복원() throws Exception {
+        // Given - 완료 기록 저장 후 삭제
+        LocalDate today = LocalDate.now();
+        Long recordId = saveReadingRecord(today, "삭제 후 복원", true);
+
+        mockMvc.perform(delete("/api/records/{recordId}", recordId)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // Then - 삭제된 기록은 조회되지 않음
+        mockMvc.perform(get("/api/records/{date}", today)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.records.length()").value(0))
+                .andExpect(jsonPath("$.data.completedCount").value(0));
+
+        // When - 복원
+        mockMvc.perform(patch("/api/records/{recordId}/restore", recordId)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("기록이 복구되었습니다."));
+
+        // Then - 다시 조회됨
+        mockMvc.perform(get("/api/records/{date}", today)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(jsonPath("$.data.records[0].id").value(recordId))
+                .andExpect(jsonPath("$.data.records[0].isDeleted").value(false))
+                .andExpect(jsonPath("$.data.completedCount").value(1));
+    }
+
+    @Test
+    @DisplayName("삭제된 슬롯에 다시 저장하면 같은 기록을 복원해 업데이트")
+    void saveRecord_삭제된슬롯_복원() throws Exception {
+        // Given - 저장 후 삭제
+        LocalDate today = LocalDate.now();
+        Long recordId = saveReadingRecord(today, "처음 명언", false);
+
+        mockMvc.perform(delete("/api/records/{recordId}", recordId)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // When - 같은 슬롯에 다시 저장
+        Long savedId = saveReadingRecord(today, "다시 쓴 명언", true);
+
+        // Then - 유니크 제약 충돌 없이 같은 기록이 복원됨
+        assertThat(savedId).isEqualTo(recordId);
+
+        mockMvc.perform(get("/api/records/{date}", today)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(jsonPath("$.data.records.length()").value(1))
+                .andExpect(jsonPath("$.data.records[0].content.quote").value("다시 쓴 명언"))
+                .andExpect(jsonPath("$.data.completedCount").value(1));
+    }
+
     @Test
     @DisplayName("기록 저장 - 잘못된 슬롯 타입")
     void saveRecord_잘못된슬롯타입_실패() throws Exception {
@@ -441,4 +498,23 @@ public class RecordIntegrationTest {
 
         System.out.println("\n✅ 전체 시나리오 성공: 저장 → 조회 → 수정 → 삭제");
     }
+
+    private Long saveReadingRecord(LocalDate date, String quote, boolean completed) throws Exception {
+        Map<String, Object> content = new HashMap<>();
+        content.put("quote", quote);
+        content.put("author", "저자");
+        content.put("thought", "생각");
+
+        MvcResult result = mockMvc.perform(put("/api/records/{date}/{slotType}", date, "READING")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RecordRequest(content, completed))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString())
+                .get("data")
+                .get("id")
+                .asLong();
+    }
 }
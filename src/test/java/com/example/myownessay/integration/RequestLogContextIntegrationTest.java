@@ -0,0 +1,147 @@
+package com.example.myownessay.integration;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.example.myownessay.dto.record.request.RecordRequest;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.monitoring.logging.RequestLogContextFilter;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.JwtService;
+import com.example.myownessay.service.RecordService;
+import com.example.myownessay.support.SyntheticContent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청 로그 문맥 통합 테스트
+ * 요청 처리 중 남긴 로그에 요청 ID 와 사용자 ID 가 MDC 로 들어가고, 요청이 끝나면 지워지는지 확인합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:logcontextdb;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("요청 로그 문맥 통합 테스트")
+public class RequestLogContextIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private RequestLogContextFilter requestLogContextFilter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Logger serviceLogger = (Logger) LoggerFactory.getLogger(RecordService.class);
+    private final CapturingAppender appender = new CapturingAppender();
+
+    private MockMvc mockMvc;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .addFilters(requestLogContextFilter)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        jdbcTemplate.update("DELETE FROM records");
+        jdbcTemplate.update("DELETE FROM users");
+
+        user = new User();
+        user.setEmail("logcontext@example.com");
+        user.setNickname("로그");
+        user.setPasswordHash("hashed");
+        user = userRepository.save(user);
+
+        appender.start();
+        serviceLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceLogger.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("요청 중 로그에 요청 ID 와 사용자 ID 가 포함되고, 요청 ID 는 응답 헤더로 돌려준다")
+    void request_로그문맥() throws Exception {
+        LocalDate today = LocalDate.now();
+        RecordRequest request = new RecordRequest(SyntheticContent.of(SlotType.DIARY, new SplittableRandom(1)), true);
+
+        mockMvc.perform(put("/api/records/{date}/{slotType}", today, SlotType.DIARY)
+                        .header("Authorization", "Bearer " + jwtService.generateToken(user.getEmail()))
+                        .header(RequestLogContextFilter.REQUEST_ID_HEADER, "client-request-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(RequestLogContextFilter.REQUEST_ID_HEADER, "client-request-1"));
+
+        assertThat(appender.contexts).isNotEmpty().allSatisfy(context -> {
+            assertThat(context).containsEntry(RequestLogContextFilter.REQUEST_ID_KEY, "client-request-1");
+            assertThat(context).containsEntry(RequestLogContextFilter.USER_ID_KEY, user.getId().toString());
+        });
+
+        // 요청이 끝나면 MDC 를 비움
+        assertThat(MDC.get(RequestLogContextFilter.REQUEST_ID_KEY)).isNull();
+        assertThat(MDC.get(RequestLogContextFilter.USER_ID_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 ID 가 없거나 형식이 맞지 않으면 새로 만든다")
+    void request_요청ID생성() throws Exception {
+        String generated = mockMvc.perform(get("/api/health")
+                        .header(RequestLogContextFilter.REQUEST_ID_HEADER, "bad id\nwith newline"))
+                .andReturn().getResponse().getHeader(RequestLogContextFilter.REQUEST_ID_HEADER);
+
+        assertThat(generated).isNotBlank().doesNotContain(" ").hasSize(36);
+    }
+
+    // MDC 는 로그를 남긴 스레드에만 있으므로 기록 시점에 복사해 둠
+    private static class CapturingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final List<Map<String, String>> contexts = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            contexts.add(Map.copyOf(event.getMDCPropertyMap()));
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import com.example.myownessay.monitoring.SqlStatementCounter;
+import com.example.myownessay.repository.*;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스키마 마이그레이션 통합 테스트
+ * 마이그레이션이 모두 적용되고, 자주 실행되는 리포지토리 쿼리가 전체 스캔 없이 인덱스를 타는지
+ * 실행 계획(EXPLAIN)으로 확인합니다. 리포지토리 메서드를 실제로 실행해 Hibernate 가 만든 SQL 을 그대로 검사합니다.
+ * 실행 계획은 H2 기준이므로 전체 스캔이 없는지와 사용하는 인덱스만 확인합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:migrationdb;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("스키마 마이그레이션 통합 테스트")
+public class SchemaMigrationIntegrationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private ArchivedRecordRepository archivedRecordRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @Autowired
+    private EssayGenerationJobRepository jobRepository;
+
+    private TransactionTemplate transactionTemplate;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        user = userRepository.findByEmail("migration@example.com").orElseGet(() -> {
+            User created = new User();
+            created.setEmail("migration@example.com");
+            created.setNickname("마이그레이션");
+            created.setPasswordHash("hashed");
+            return userRepository.save(created);
+        });
+    }
+
+    @Test
+    @DisplayName("모든 버전 마이그레이션이 순서대로 적용된다")
+    void migrate_전체적용() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(Arrays.stream(applied).map(info -> info.getVersion().getVersion()))
+                .containsExactly("1", "1.1", "1.2", "1.3", "2", "3", "4", "4.1", "5", "5.1", "6", "7", "7.1");
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ddl-auto 로 만들어진 기존 데이터베이스는 V1 을 기준선으로 등록하고 이후 추가된 테이블을 만든다")
+    void migrate_기존데이터베이스기준선() {
+        // Given: Flyway 도입 전 스키마(V1 과 동일)만 있는 데이터베이스
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:legacydb;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/h2/V1__baseline_schema.sql"))
+                .execute(dataSource);
+
+        // When: 운영 설정과 같은 기준선 옵션으로 마이그레이션
+        Flyway legacy = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+        legacy.migrate();
+
+        // Then: V1 은 건너뛰고 기준선 이후 테이블은 모두 생성됨
+        assertThat(Arrays.stream(legacy.info().applied()).map(info -> info.getVersion().getVersion()))
+                .containsExactly("1", "1.1", "1.2", "1.3", "2", "3", "4", "4.1", "5", "5.1", "6", "7", "7.1");
+        JdbcTemplate legacyJdbc = new JdbcTemplate(dataSource);
+        for (String table : new String[]{"ESSAY_GENERATION_JOBS", "TRENDING_SCORES", "BATCH_CHECKPOINTS", "ARCHIVED_RECORDS"}) {
+            assertThat(legacyJdbc.queryForObject(
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?", Integer.class, table))
+                    .as(table)
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("날짜별 완료 슬롯 집계는 완료 기록 인덱스를 사용한다")
+    void explain_findDailyCompletedSlots() {
+        String plan = explain("records", () ->
+                recordRepository.findDailyCompletedSlots(user.getId(), MONDAY.minusYears(1), MONDAY));
+
+        assertIndexScan(plan, "IDX_RECORDS_USER_DATE_COMPLETED");
+    }
+
+    @Test
+    @DisplayName("사용자 기간별 기록 조회는 인덱스를 사용한다")
+    void explain_findByUserAndRecordDateBetween() {
+        String plan = explain("records", () ->
+                recordRepository.findByUserAndRecordDateBetween(user, MONDAY, MONDAY.plusDays(6)));
+
+        assertIndexScan(plan);
+    }
+
+    @Test
+    @DisplayName("보관 기록의 날짜별 완료 슬롯 집계는 인덱스를 사용한다")
+    void explain_archivedFindDailyCompletedSlots() {
+        String plan = explain("archived_records", () ->
+                archivedRecordRepository.findDailyCompletedSlots(user.getId(), MONDAY.minusYears(1), MONDAY));
+
+        assertIndexScan(plan);
+    }
+
+    @Test
+    @DisplayName("보관된 가장 늦은 날짜 조회는 보관 날짜 인덱스를 사용한다")
+    void explain_archivedFindLatestRecordDate() {
+        String plan = explain("archived_records", archivedRecordRepository::findLatestRecordDate);
+
+        assertIndexScan(plan, "IDX_ARCHIVED_RECORDS_RECORD_DATE");
+    }
+
+    @Test
+    @DisplayName("사용자별 최신순 좋아요 목록은 사용자 최신순 인덱스를 사용한다")
+    void explain_likesByUserOrderByCreatedAtDesc() {
+        String plan = explain("likes", () ->
+                likeRepository.findByUserOrderByCreatedAtDesc(user, PageRequest.of(0, 20)));
+
+        // 에세이/작성자 조인이 붙으면 H2 는 정렬 순서를 따지지 않고 user_id 외래 키 인덱스를 고름
+        // (created_at 정렬까지 쓰는 idx_likes_user_created 선택은 PostgreSQL 실행 계획에서 확인)
+        assertIndexScan(plan);
+        assertThat(plan).containsPattern("/\\* PUBLIC\\.\\w+: USER_ID = \\?1 \\*/");
+    }
+
+    @Test
+    @DisplayName("사용자별 최신순 북마크 목록은 사용자 최신순 인덱스를 사용한다")
+    void explain_bookmarksByUserOrderByCreatedAtDesc() {
+        String plan = explain("bookmarks", () ->
+                bookmarkRepository.findByUserOrderByCreatedAtDesc(user, PageRequest.of(0, 20)));
+
+        // 에세이/작성자 조인이 붙으면 H2 는 정렬 순서를 따지지 않고 user_id 외래 키 인덱스를 고름
+        // (created_at 정렬까지 쓰는 idx_bookmarks_user_created 선택은 PostgreSQL 실행 계획에서 확인)
+        assertIndexScan(plan);
+        assertThat(plan).containsPattern("/\\* PUBLIC\\.\\w+: USER_ID = \\?1 \\*/");
+    }
+
+    @Test
+    @DisplayName("에세이별 좋아요 수는 인덱스를 사용한다")
+    void explain_countLikesByEssayId() {
+        String plan = explain("likes", () -> likeRepository.countByEssayId(1L));
+
+        // H2 는 외래 키 인덱스를 자동으로 만들므로 인덱스 이름은 확인하지 않음
+        assertIndexScan(plan);
+    }
+
+    @Test
+    @DisplayName("사용자 주별 에세이 조회는 인덱스를 사용한다")
+    void explain_findFirstEssayByUserAndWeekStart() {
+        String plan = explain("essays", () ->
+                essayRepository.findFirstByUserAndWeekStartOrderByIdAsc(user, MONDAY));
+
+        assertIndexScan(plan, "IDX_ESSAYS_USER_WEEK");
+    }
+
+    @Test
+    @DisplayName("사용자 주별 진행 중 초안 작업 조회는 인덱스를 사용한다")
+    void explain_findFirstJobByUserAndWeekStart() {
+        String plan = explain("essay_generation_jobs", () ->
+                jobRepository.findFirstByUserAndWeekStartAndStatusIn(user, MONDAY,
+                        List.of(GenerationJobStatus.QUEUED, GenerationJobStatus.RUNNING)));
+
+        assertIndexScan(plan, "IDX_GENERATION_JOB_USER_WEEK");
+    }
+
+    @Test
+    @DisplayName("실행 시각이 된 대기 작업 조회는 상태 인덱스를 사용한다")
+    void explain_findDueJobIds() {
+        String plan = explain("essay_generation_jobs", () ->
+                jobRepository.findDueJobIds(LocalDateTime.now(), PageRequest.of(0, 50)));
+
+        assertIndexScan(plan, "IDX_GENERATION_JOB_STATUS_NEXT_ATTEMPT");
+    }
+
+    // 리포지토리 메서드를 실행해 Hibernate 가 만든 SQL 을 모으고, 그 SQL 의 실행 계획을 반환
+    private String explain(String table, Runnable repositoryCall) {
+        List<String> statements;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            transactionTemplate.executeWithoutResult(status -> repositoryCall.run());
+            statements = scope.getStatements().stream()
+                    .filter(sql -> sql.toLowerCase().contains(" from " + table + " "))
+                    .toList();
+        }
+        assertThat(statements).as("%s 조회 SQL", table).hasSize(1);
+
+        // 바인딩하지 않은 파라미터(?)가 있어도 H2 는 실행 계획을 만듦
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + statements.get(0));
+                 ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+
+    private static void assertIndexScan(String plan, String... indexNames) {
+        assertThat(plan).doesNotContain("tableScan");
+        for (String indexName : indexNames) {
+            assertThat(plan).contains(indexName);
+        }
+    }
+}
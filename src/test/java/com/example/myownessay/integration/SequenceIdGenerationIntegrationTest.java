@@ -0,0 +1,98 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시퀀스 기반 ID 생성 통합 테스트
+ * ID 를 블록 단위로 할당해 INSERT 마다 시퀀스를 호출하지 않는지 검증합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sequencedb;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("시퀀스 기반 ID 생성 통합 테스트")
+public class SequenceIdGenerationIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("JDBC 배치 설정이 적용된다")
+    void hibernate_배치설정() {
+        Map<String, Object> properties = entityManagerFactory.getProperties();
+
+        assertThat(properties.get("hibernate.jdbc.batch_size")).hasToString("50");
+        assertThat(properties.get("hibernate.order_inserts")).hasToString("true");
+        assertThat(properties.get("hibernate.order_updates")).hasToString("true");
+    }
+
+    @Test
+    @DisplayName("40건을 저장해도 시퀀스는 한 블록만 사용하고 ID 는 연속으로 할당된다")
+    void saveAll_블록할당() {
+        // Given
+        User user = new User();
+        user.setEmail("sequence@example.com");
+        user.setNickname("시퀀스");
+        user.setPasswordHash("hashed");
+        User savedUser = userRepository.save(user);
+        long before = nextSequenceValue();
+
+        // When
+        List<Record> saved = new TransactionTemplate(transactionManager).execute(status -> {
+            List<Record> records = new ArrayList<>();
+            LocalDate start = LocalDate.of(2025, 1, 1);
+            for (int i = 0; i < 40; i++) {
+                Record record = new Record();
+                record.setUser(savedUser);
+                record.setRecordDate(start.plusDays(i));
+                record.setSlotType(SlotType.DIARY);
+                record.setContent(Map.of("text", "기록 " + i));
+                records.add(record);
+            }
+            return recordRepository.saveAll(records);
+        });
+
+        // Then
+        assertThat(nextSequenceValue() - before).isEqualTo(50);
+        long firstId = saved.get(0).getId();
+        for (int i = 0; i < saved.size(); i++) {
+            assertThat(saved.get(i).getId()).isEqualTo(firstId + i);
+        }
+        assertThat(recordRepository.count()).isEqualTo(40);
+    }
+
+    private long nextSequenceValue() {
+        return jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'RECORDS_SEQ'", Long.class);
+    }
+}
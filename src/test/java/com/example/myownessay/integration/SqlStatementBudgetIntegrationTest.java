@@ -0,0 +1,253 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.dto.auth.request.LoginRequest;
+import com.example.myownessay.dto.auth.request.RegisterRequest;
+import com.example.myownessay.dto.record.request.RecordRequest;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.Like;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.EssayTheme;
+import com.example.myownessay.entity.enums.PublishStatus;
+import com.example.myownessay.monitoring.SqlBudgetProperties;
+import com.example.myownessay.monitoring.SqlStatementBudgetFilter;
+import com.example.myownessay.monitoring.SqlStatementCounter;
+import com.example.myownessay.repository.EssayRepository;
+import com.example.myownessay.repository.LikeRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.StreakService;
+import com.example.myownessay.service.TrendingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 요청별 SQL 예산 통합 테스트
+ * 자주 호출되는 경로의 SQL 문 수를 응답 헤더로 확인해, 쿼리가 늘어나는 변경을 CI 에서 잡습니다.
+ * 예산을 늘려야 하는 변경이면 application.yml 의 sql.budget.routes 와 함께 이 테스트의 기대값을 고칩니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("요청별 SQL 예산 통합 테스트")
+public class SqlStatementBudgetIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private SqlStatementBudgetFilter sqlStatementBudgetFilter;
+
+    @Autowired
+    private SqlBudgetProperties sqlBudgetProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private StreakService streakService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    private MockMvc mockMvc;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .addFilters(sqlStatementBudgetFilter)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new RegisterRequest("budget@example.com", "password123", "예산"))));
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest("budget@example.com", "password123"))))
+                .andReturn();
+
+        accessToken = objectMapper.readTree(loginResult.getResponse().getContentAsString())
+                .get("data")
+                .get("accessToken")
+                .asText();
+    }
+
+    @Test
+    @DisplayName("주요 경로는 경로별 SQL 예산 안에서 응답한다")
+    void routes_예산이내() throws Exception {
+        // Given: 일주일치 기록과 다른 사용자의 공개 에세이 좋아요
+        LocalDate weekStart = LocalDate.now().minusWeeks(1);
+        for (int day = 0; day < 7; day++) {
+            saveRecord(weekStart.plusDays(day));
+        }
+        likeEssays(6);
+
+        // When & Then
+        int save = statementCount(put("/api/records/{date}/{slotType}", LocalDate.now(), "READING")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RecordRequest(readingContent(), true))));
+        int week = statementCount(get("/api/records/week")
+                .param("startDate", weekStart.toString())
+                .param("endDate", weekStart.plusDays(6).toString()));
+        int streak = statementCount(get("/api/streak"));
+        int heatmap = statementCount(get("/api/records/heatmap").param("year", String.valueOf(LocalDate.now().getYear())));
+        int likes = statementCount(get("/api/essays/me/likes"));
+
+        assertThat(save).isLessThanOrEqualTo(budget("PUT /api/records/{date}/{slotType}"));
+        assertThat(week).isLessThanOrEqualTo(budget("GET /api/records/week"));
+        assertThat(streak).isLessThanOrEqualTo(budget("GET /api/streak"));
+        assertThat(heatmap).isLessThanOrEqualTo(budget("GET /api/records/heatmap"));
+
+        // 좋아요 목록은 에세이 수와 관계없이 일정한 수의 쿼리로 조회 (에세이/작성자 지연 로딩 없음)
+        assertThat(likes).isLessThanOrEqualTo(budget("GET /api/essays/me/likes")).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("예산을 넘은 요청은 초과 카운터를 올린다")
+    void route_예산초과() throws Exception {
+        // Given
+        String route = "GET /api/records/week";
+        sqlBudgetProperties.getRoutes().put(route, 0);
+        try {
+            // When
+            statementCount(get("/api/records/week")
+                    .param("startDate", LocalDate.now().toString())
+                    .param("endDate", LocalDate.now().plusDays(6).toString()));
+
+            // Then
+            assertThat(meterRegistry.get("http.server.sql.budget.exceeded")
+                    .tag("method", "GET")
+                    .tag("uri", "/api/records/week")
+                    .counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("http.server.sql.statements")
+                    .tag("uri", "/api/records/week")
+                    .summary().count()).isEqualTo(1);
+        } finally {
+            sqlBudgetProperties.getRoutes().remove(route);
+        }
+    }
+
+    @Test
+    @DisplayName("서비스 호출도 집계 범위를 열어 SQL 문 수를 확인할 수 있다")
+    void scope_서비스호출() {
+        // Given
+        User me = userRepository.findByEmail("budget@example.com").orElseThrow();
+
+        // When
+        int count;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            streakService.getMaxStreak(me.getEmail());
+            count = scope.getStatementCount();
+        }
+
+        // Then: 사용자 조회 + 완료 날짜 조회
+        assertThat(count).isPositive().isLessThanOrEqualTo(budget("GET /api/streak"));
+        assertThat(SqlStatementCounter.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인기 점수 체크포인트는 항목 수와 관계없이 조회 없이 일괄 저장한다")
+    void scope_인기점수체크포인트() {
+        // Given: 에세이 ID 를 직접 지정하는 점수 30건
+        List<Long> essayIds = LongStream.rangeClosed(900_001, 900_030).boxed().toList();
+        essayIds.forEach(essayId -> trendingService.record(essayId, EssayTheme.GROWTH, 1.0, Instant.now()));
+
+        // When
+        int count;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            trendingService.checkpoint();
+            count = scope.getStatementCount();
+        } finally {
+            trendingService.evict(essayIds);
+        }
+
+        // Then: 전체 삭제 + 배치 INSERT (행마다 존재 여부를 조회하지 않음)
+        assertThat(count).isLessThanOrEqualTo(3);
+    }
+
+    private int budget(String route) {
+        return sqlBudgetProperties.getBudget(route);
+    }
+
+    private int statementCount(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request.header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatementBudgetFilter.STATEMENT_COUNT_HEADER))
+                .andExpect(header().exists(SqlStatementBudgetFilter.TIME_HEADER))
+                .andReturn();
+        return Integer.parseInt(result.getResponse().getHeader(SqlStatementBudgetFilter.STATEMENT_COUNT_HEADER));
+    }
+
+    private void saveRecord(LocalDate date) throws Exception {
+        mockMvc.perform(put("/api/records/{date}/{slotType}", date, "READING")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RecordRequest(readingContent(), true))))
+                .andExpect(status().isOk());
+    }
+
+    private void likeEssays(int count) {
+        User me = userRepository.findByEmail("budget@example.com").orElseThrow();
+        for (int i = 0; i < count; i++) {
+            User author = new User();
+            author.setEmail("author" + i + "@example.com");
+            author.setNickname("작가" + i);
+            author.setPasswordHash("hashed");
+            author = userRepository.save(author);
+
+            LocalDate weekStart = LocalDate.now().minusWeeks(i + 1);
+            Essay essay = essayRepository.save(Essay.builder()
+                    .user(author)
+                    .finalContent("공개 에세이 " + i)
+                    .publishStatus(PublishStatus.PUBLIC)
+                    .publishedAt(LocalDateTime.now())
+                    .weekStart(weekStart)
+                    .weekEnd(weekStart.plusDays(6))
+                    .build());
+            likeRepository.save(Like.builder().user(me).essay(essay).build());
+        }
+    }
+
+    private static Map<String, Object> readingContent() {
+        return Map.of("quote", "명언", "author", "저자", "thought", "생각");
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.common.compression.TextCompressionCodec;
+import com.example.myownessay.entity.BatchCheckpoint;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.BatchCheckpointRepository;
+import com.example.myownessay.repository.EssayRepository;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.StorageCompressionMigrationService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대용량 텍스트 압축 저장 통합 테스트
+ * 엔티티는 평문으로 보이고, 실제 컬럼에는 압축된 값이 저장되는지 검증
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:compressiondb;DB_CLOSE_DELAY=-1",
+        "storage.compression.enabled=true",
+        "storage.compression.threshold-bytes=256",
+        "storage.compression.migration.enabled=true",
+        "storage.compression.migration.initial-delay-ms=3600000"
+})
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("대용량 텍스트 압축 저장 통합 테스트")
+public class StorageCompressionIntegrationTest {
+
+    private static final String LONG_TEXT = "이번 주는 매일 조금씩 책을 읽으며 마음을 다잡았다. ".repeat(40);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EssayRepository essayRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private StorageCompressionMigrationService migrationService;
+
+    @Autowired
+    private BatchCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("compression@example.com");
+        user.setNickname("압축테스터");
+        user.setPasswordHash("hashed");
+        user = userRepository.save(user);
+    }
+
+    @Test
+    @DisplayName("에세이 본문 - 압축 저장 후 평문으로 조회")
+    void essay_압축저장_평문조회() {
+        Essay essay = essayRepository.save(Essay.builder()
+                .user(user)
+                .title("주간 에세이")
+                .aiDraft(LONG_TEXT)
+                .finalContent(LONG_TEXT)
+                .weekStart(LocalDate.of(2025, 9, 1))
+                .weekEnd(LocalDate.of(2025, 9, 7))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        String raw = jdbcTemplate.queryForObject(
+                "SELECT final_content FROM essays WHERE id = ?", String.class, essay.getId());
+        assertThat(TextCompressionCodec.isCompressed(raw)).isTrue();
+        assertThat(raw.length()).isLessThan(LONG_TEXT.length());
+
+        Essay found = essayRepository.findById(essay.getId()).orElseThrow();
+        assertThat(found.getFinalContent()).isEqualTo(LONG_TEXT);
+        assertThat(found.getAiDraft()).isEqualTo(LONG_TEXT);
+    }
+
+    @Test
+    @DisplayName("기록 JSON - 압축 봉투로 저장 후 원본 맵으로 조회")
+    void record_압축저장_원본조회() {
+        Map<String, Object> content = new HashMap<>();
+        content.put("question", "오늘 가장 기억에 남는 순간은?");
+        content.put("content", LONG_TEXT);
+        content.put("emotion", "감사");
+
+        Record record = new Record();
+        record.setUser(user);
+        record.setRecordDate(LocalDate.of(2025, 9, 1));
+        record.setSlotType(SlotType.DIARY);
+        record.setContent(content);
+        record = recordRepository.save(record);
+        entityManager.flush();
+        entityManager.clear();
+
+        String raw = jdbcTemplate.queryForObject(
+                "SELECT CAST(content AS VARCHAR) FROM records WHERE id = ?", String.class, record.getId());
+        assertThat(raw).contains("__cz");
+
+        Record found = recordRepository.findById(record.getId()).orElseThrow();
+        assertThat(found.getContent()).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("마이그레이션 - 기존 평문 행을 배치로 재압축")
+    void migration_평문행_재압축() {
+        Essay essay = essayRepository.save(Essay.builder()
+                .user(user)
+                .title("압축 이전 에세이")
+                .finalContent("임시")
+                .weekStart(LocalDate.of(2025, 9, 8))
+                .weekEnd(LocalDate.of(2025, 9, 14))
+                .build());
+        entityManager.flush();
+
+        // 압축 기능 도입 이전에 저장된 평문 행을 흉내냄
+        jdbcTemplate.update("UPDATE essays SET final_content = ? WHERE id = ?", LONG_TEXT, essay.getId());
+        entityManager.clear();
+
+        int migrated = migrationService.migrateEssayBatch();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(migrated).isGreaterThanOrEqualTo(1);
+        String raw = jdbcTemplate.queryForObject(
+                "SELECT final_content FROM essays WHERE id = ?", String.class, essay.getId());
+        assertThat(TextCompressionCodec.isCompressed(raw)).isTrue();
+        assertThat(essayRepository.findById(essay.getId()).orElseThrow().getFinalContent()).isEqualTo(LONG_TEXT);
+    }
+
+    @Test
+    @DisplayName("마이그레이션 - 압축됐거나 짧은 행은 건너뛰고, 체크포인트를 남긴 뒤 완료되면 다시 기록하지 않음")
+    void migration_체크포인트_대상만재기록() {
+        // Given: 이미 압축된 에세이, 짧은 에세이, 압축 이전 평문 에세이, 이미 압축된 기록
+        Essay compressed = saveEssay(LONG_TEXT, LocalDate.of(2025, 9, 15));
+        saveEssay("짧은 본문", LocalDate.of(2025, 9, 22));
+        Essay plain = saveEssay("임시", LocalDate.of(2025, 9, 29));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE essays SET final_content = ? WHERE id = ?", LONG_TEXT, plain.getId());
+
+        Record record = new Record();
+        record.setUser(user);
+        record.setRecordDate(LocalDate.of(2025, 9, 15));
+        record.setSlotType(SlotType.DIARY);
+        record.setContent(Map.of("content", LONG_TEXT));
+        recordRepository.save(record);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        while (migrationService.migrateEssayBatch() > 0) {
+        }
+        while (migrationService.migrateRecordBatch() > 0) {
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then: 평문 에세이 한 건만 재기록
+        BatchCheckpoint essays = checkpointRepository.findById("storage-compression:essays").orElseThrow();
+        assertThat(essays.getCompleted()).isTrue();
+        assertThat(essays.getProcessedCount()).isEqualTo(1L);
+        assertThat(essays.getLastProcessedId()).isGreaterThanOrEqualTo(Math.max(compressed.getId(), plain.getId()));
+
+        BatchCheckpoint records = checkpointRepository.findById("storage-compression:records").orElseThrow();
+        assertThat(records.getCompleted()).isTrue();
+        assertThat(records.getProcessedCount()).isZero();
+
+        String raw = jdbcTemplate.queryForObject(
+                "SELECT final_content FROM essays WHERE id = ?", String.class, plain.getId());
+        assertThat(TextCompressionCodec.isCompressed(raw)).isTrue();
+        assertThat(migrationService.isCompleted()).isTrue();
+
+        // 완료된 뒤에는 처음부터 다시 훑지 않음
+        assertThat(migrationService.migrateEssayBatch()).isZero();
+    }
+
+    private Essay saveEssay(String content, LocalDate weekStart) {
+        return essayRepository.save(Essay.builder()
+                .user(user)
+                .title("에세이")
+                .finalContent(content)
+                .weekStart(weekStart)
+                .weekEnd(weekStart.plusDays(6))
+                .build());
+    }
+}
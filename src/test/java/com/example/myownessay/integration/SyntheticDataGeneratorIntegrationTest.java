@@ -0,0 +1,163 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.PublishStatus;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.service.RecordHistoryReader;
+import com.example.myownessay.support.SyntheticDataGenerator;
+import com.example.myownessay.validator.SlotValidatorFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 데이터 생성기 통합 테스트
+ * 생성기는 여러 스레드에서 묶음마다 커밋하므로 트랜잭션 롤백 없이 별도 DB 에서 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:syntheticdb;DB_CLOSE_DELAY=-1",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("합성 데이터 생성기 통합 테스트")
+public class SyntheticDataGeneratorIntegrationTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private RecordHistoryReader recordHistoryReader;
+
+    @Autowired
+    private SlotValidatorFactory slotValidatorFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM likes");
+        jdbcTemplate.update("DELETE FROM bookmarks");
+        jdbcTemplate.update("DELETE FROM essays");
+        jdbcTemplate.update("DELETE FROM week_progress");
+        jdbcTemplate.update("DELETE FROM records");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("검증기를 통과하는 기록과 기록에 맞는 주간 진행도, 모든 공개 상태의 에세이를 만든다")
+    void generate_현실적인데이터() {
+        // When
+        SyntheticDataGenerator generator = generator("shape", 4);
+        generator.generate(60);
+
+        // Then: 기록 내용은 모두 슬롯 검증기를 통과
+        List<Record> records = recordRepository.findAll();
+        assertThat(records).isNotEmpty();
+        assertThat(records).extracting(Record::getSlotType).contains(SlotType.values());
+        records.forEach(record -> slotValidatorFactory.getValidator(record.getSlotType()).validate(record.getContent()));
+
+        // 저장된 행 수가 생성기 집계와 일치
+        assertThat(count("SELECT COUNT(*) FROM records")).isEqualTo(generator.getRecordCount());
+        assertThat(count("SELECT COUNT(*) FROM week_progress")).isEqualTo(generator.getWeekProgressCount());
+        assertThat(count("SELECT COUNT(*) FROM likes")).isEqualTo(generator.getLikeCount()).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM bookmarks")).isEqualTo(generator.getBookmarkCount()).isPositive();
+        assertThat(generator.getEssayCounts()).allSatisfy((status, count) -> assertThat(count).isPositive());
+
+        // 주간 진행도는 기록의 주별 완료 일수와 같음
+        List<Map<String, Object>> weeks = jdbcTemplate.queryForList(
+                "SELECT user_id, week_start, completed_days FROM week_progress");
+        assertThat(weeks).allSatisfy(week -> {
+            LocalDate weekStart = ((Date) week.get("WEEK_START")).toLocalDate();
+            long completedDays = recordHistoryReader.countCompletedDays(
+                    ((Number) week.get("USER_ID")).longValue(), weekStart, weekStart.plusDays(6));
+            assertThat(((Number) week.get("COMPLETED_DAYS")).longValue()).isEqualTo(completedDays);
+        });
+
+        // 비공개 에세이에는 반응이 없고, 사용자 시간대는 여러 지역에 분포
+        assertThat(count("SELECT COUNT(*) FROM likes l JOIN essays e ON e.id = l.essay_id " +
+                "WHERE e.publish_status = '" + PublishStatus.PRIVATE + "'")).isZero();
+        assertThat(generator.getUsers()).extracting(User::getTimezone).contains("Asia/Seoul");
+        assertThat(count("SELECT COUNT(DISTINCT timezone) FROM users")).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("좋아요는 일부 인기 에세이에 몰린다")
+    void generate_좋아요멱법칙분포() {
+        // When
+        generator("popular", 2).generate(100);
+
+        // Then: 상위 10% 에세이가 좋아요의 30% 이상을 차지
+        List<Long> perEssay = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM likes GROUP BY essay_id ORDER BY COUNT(*) DESC", Long.class);
+        long total = perEssay.stream().mapToLong(Long::longValue).sum();
+        long top = perEssay.stream().limit(Math.max(1, perEssay.size() / 10)).mapToLong(Long::longValue).sum();
+        assertThat((double) top / total).isGreaterThan(0.3);
+    }
+
+    @Test
+    @DisplayName("같은 시드면 스레드 수와 관계없이 같은 데이터를 만든다")
+    void generate_시드재현() {
+        // When
+        SyntheticDataGenerator single = generator("single", 1);
+        single.generate(30);
+        SyntheticDataGenerator parallel = generator("parallel", 4);
+        parallel.generate(30);
+
+        // Then
+        assertThat(parallel.getRecordCount()).isEqualTo(single.getRecordCount());
+        assertThat(parallel.getWeekProgressCount()).isEqualTo(single.getWeekProgressCount());
+        assertThat(parallel.getEssayCounts()).isEqualTo(single.getEssayCounts());
+        assertThat(parallel.getLikeCount()).isEqualTo(single.getLikeCount());
+        assertThat(parallel.getBookmarkCount()).isEqualTo(single.getBookmarkCount());
+        assertThat(parallel.getUsers()).extracting(User::getTimezone)
+                .containsExactlyElementsOf(single.getUsers().stream().map(User::getTimezone).toList());
+        assertThat(recordsPerUser("parallel")).isEqualTo(recordsPerUser("single"));
+    }
+
+    private SyntheticDataGenerator generator(String prefix, int threads) {
+        return new SyntheticDataGenerator(entityManager, transactionManager, passwordEncoder,
+                SyntheticDataGenerator.Options.builder()
+                        .seed(7)
+                        .emailPrefix(prefix)
+                        .threads(threads)
+                        .usersPerTransaction(8)
+                        .build());
+    }
+
+    // 사용자 번호 순서대로 사용자별 기록 수
+    private List<Long> recordsPerUser(String prefix) {
+        return jdbcTemplate.queryForList("SELECT COUNT(r.id) FROM users u LEFT JOIN records r ON r.user_id = u.id " +
+                "WHERE u.email LIKE ? GROUP BY u.id ORDER BY u.nickname", Long.class, prefix + "-%");
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.entity.User;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.service.JwtService;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 분산 추적 통합 테스트
+ * 메모리 스팬 내보내기로 요청 하나가 남긴 스팬을 모아, 요청 → 서비스 → 리포지토리 → JDBC 문으로
+ * 이어지는 부모 관계와 속성, W3C traceparent 전파와 샘플링 결정을 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tracingdb;DB_CLOSE_DELAY=-1",
+        "management.tracing.sampling.probability=1.0"
+})
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@DisplayName("분산 추적 통합 테스트")
+public class TracingIntegrationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private FilterRegistrationBean<ServerHttpObservationFilter> observationFilter;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .addFilters(observationFilter.getFilter())
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        jdbcTemplate.update("DELETE FROM records");
+        jdbcTemplate.update("DELETE FROM users");
+
+        User user = new User();
+        user.setEmail("tracing@example.com");
+        user.setNickname("추적");
+        user.setPasswordHash("hashed");
+        userRepository.save(user);
+        accessToken = jwtService.generateToken(user.getEmail());
+
+        flush();
+        spanExporter.reset();
+    }
+
+    @Test
+    @DisplayName("요청 스팬 아래에 서비스, 리포지토리, JDBC 문 스팬이 이어진다")
+    void request_스팬계층() throws Exception {
+        // When: 상위 서비스가 보낸 traceparent 와 함께 요청
+        mockMvc.perform(get("/api/streak")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01"))
+                .andExpect(status().isOk());
+
+        // Then: 모든 스팬이 전달받은 추적에 속함
+        List<SpanData> spans = finishedSpans();
+        assertThat(spans).isNotEmpty().allSatisfy(span -> assertThat(span.getTraceId()).isEqualTo(TRACE_ID));
+        Map<String, SpanData> byId = spans.stream().collect(Collectors.toMap(SpanData::getSpanId, Function.identity()));
+
+        // 요청 스팬: 상위 서비스의 스팬을 부모로 하고 경로 패턴을 속성으로 가짐
+        SpanData request = spans.stream()
+                .filter(span -> "/api/streak".equals(span.getAttributes().get(AttributeKey.stringKey("uri"))))
+                .findFirst().orElseThrow();
+        assertThat(request.getParentSpanId()).isEqualTo(PARENT_SPAN_ID);
+
+        // 인증 필터 체인 스팬
+        assertThat(spans).anySatisfy(span -> {
+            assertThat(span.getName()).startsWith("security filterchain");
+            assertThat(span.getParentSpanId()).isEqualTo(request.getSpanId());
+        });
+
+        // 서비스 스팬은 요청 스팬 아래
+        SpanData service = findByName(spans, "StreakService.getCurrentStreak");
+        assertThat(service.getAttributes().get(AttributeKey.stringKey("layer"))).isEqualTo("service");
+        assertThat(isDescendant(service, request, byId)).isTrue();
+
+        // 리포지토리 스팬은 서비스 스팬 아래이고 조회한 행 수를 가짐
+        SpanData repository = spans.stream()
+                .filter(span -> span.getName().equals("UserRepository.findByEmail"))
+                .filter(span -> isDescendant(span, service, byId))
+                .findFirst().orElseThrow();
+        assertThat(repository.getAttributes().get(AttributeKey.longKey("db.result.count"))).isEqualTo(1L);
+
+        // JDBC 문 스팬은 리포지토리 스팬 아래이고 SQL 을 가짐
+        assertThat(spans).anySatisfy(span -> {
+            assertThat(span.getName()).isEqualTo("query");
+            assertThat(span.getAttributes().get(AttributeKey.stringKey("jdbc.query[0]"))).containsIgnoringCase("users");
+            assertThat(isDescendant(span, repository, byId)).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("상위 서비스가 샘플링하지 않은 추적은 내보내지 않는다")
+    void request_샘플링안됨() throws Exception {
+        mockMvc.perform(get("/api/streak")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-00"))
+                .andExpect(status().isOk());
+
+        assertThat(finishedSpans()).noneMatch(span -> span.getTraceId().equals(TRACE_ID));
+    }
+
+    private List<SpanData> finishedSpans() {
+        flush();
+        return spanExporter.getFinishedSpanItems();
+    }
+
+    private void flush() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+    }
+
+    private static SpanData findByName(List<SpanData> spans, String name) {
+        return spans.stream().filter(span -> span.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static boolean isDescendant(SpanData span, SpanData ancestor, Map<String, SpanData> byId) {
+        SpanData current = byId.get(span.getParentSpanId());
+        while (current != null) {
+            if (current.getSpanId().equals(ancestor.getSpanId())) {
+                return true;
+            }
+            current = byId.get(current.getParentSpanId());
+        }
+        return false;
+    }
+}
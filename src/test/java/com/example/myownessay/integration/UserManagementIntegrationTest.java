@@ -4,6 +4,7 @@ import com.example.myownessay.dto.auth.request.DeleteAccountRequest;
 import com.example.myownessay.dto.auth.request.LoginRequest;
 import com.example.myownessay.dto.auth.request.RegisterRequest;
 import com.example.myownessay.dto.auth.request.UpdateProfileRequest;
+import com.example.myownessay.entity.User;
 import com.example.myownessay.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +22,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -189,9 +192,15 @@ class UserManagementIntegrationTest {
                 .andExpect(jsonPath("$.data").value("계정이 성공적으로 삭제되었습니다."))
                 .andDo(print());
 
-        // 사용자가 정말 삭제되었는지 확인
-        assertTrue(userRepository.findByEmail("test@example.com").isEmpty(),
-                "회원 탈퇴 후 사용자가 데이터베이스에서 삭제되어야 함");
+        // 계정이 바로 비활성화되고 데이터 삭제 대기로 표시되었는지 확인 (실제 삭제는 커밋 후 백그라운드에서 진행)
+        User deleted = userRepository.findByEmail("test@example.com").orElseThrow();
+        assertFalse(deleted.getIsActive(), "회원 탈퇴 후 계정이 바로 비활성화되어야 함");
+        assertNotNull(deleted.getDeletedAt(), "회원 탈퇴 후 데이터 삭제 대기로 표시되어야 함");
+
+        // 비활성화된 계정의 토큰으로는 더 이상 접근할 수 없음
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
     }
 
     @Test
@@ -0,0 +1,204 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.entity.BatchCheckpoint;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.BatchCheckpointRepository;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import com.example.myownessay.service.JwtService;
+import com.example.myownessay.service.WeekProgressBackfillService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주간 진행도 백필 통합 테스트
+ * 백필은 청크마다 커밋하므로 트랜잭션 롤백 없이 별도 DB 에서 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:backfilldb;DB_CLOSE_DELAY=-1",
+        "week-progress.backfill.partitions=3",
+        "week-progress.backfill.chunk-size=2",
+        "week-progress.backfill.max-db-concurrency=2",
+        "monitoring.operator.username=operator",
+        "monitoring.operator.password=operator-secret"
+})
+@ActiveProfiles("test")
+@DisplayName("주간 진행도 백필 통합 테스트")
+public class WeekProgressBackfillIntegrationTest {
+
+    @Test
+    @DisplayName("백필 엔드포인트는 운영자 계정으로만 조회할 수 있다")
+    void endpoint_운영자인증() throws Exception {
+        mockMvc.perform(get("/actuator/weekProgressBackfill"))
+                .andExpect(status().isUnauthorized());
+
+        // 서비스 사용자 토큰에는 운영자 권한이 없음
+        mockMvc.perform(get("/actuator/weekProgressBackfill")
+                        .header("Authorization", "Bearer " + jwtService.generateToken(users.get(0).getEmail())))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/weekProgressBackfill").with(httpBasic("operator", "wrong")))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/weekProgressBackfill").with(httpBasic("operator", "operator-secret")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.running").exists());
+    }
+
+    private static final LocalDate WEEK_START = LocalDate.of(2025, 9, 1);
+
+    @Autowired
+    private WeekProgressBackfillService backfillService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private WeekProgressRepository weekProgressRepository;
+
+    @Autowired
+    private BatchCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private MockMvc mockMvc;
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        jdbcTemplate.update("DELETE FROM week_progress");
+        jdbcTemplate.update("DELETE FROM records");
+        jdbcTemplate.update("DELETE FROM batch_checkpoints");
+        jdbcTemplate.update("DELETE FROM users");
+
+        users.clear();
+        for (int i = 0; i < 5; i++) {
+            User user = new User();
+            user.setEmail("backfill" + i + "@example.com");
+            user.setNickname("백필" + i);
+            user.setPasswordHash("hashed");
+            users.add(userRepository.save(user));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 사용자의 주간 진행도를 기록 기준으로 다시 계산")
+    void run_전체재계산() {
+        // Given: 사용자마다 (인덱스 + 1)일 완료, 다음 주는 미완료 기록만
+        for (int i = 0; i < users.size(); i++) {
+            for (int day = 0; day <= i; day++) {
+                saveRecord(users.get(i), WEEK_START.plusDays(day), SlotType.DIARY, true);
+                saveRecord(users.get(i), WEEK_START.plusDays(day), SlotType.READING, day % 2 == 0);
+            }
+            saveRecord(users.get(i), WEEK_START.plusWeeks(1), SlotType.DIARY, false);
+        }
+
+        // 잘못 저장된 진행도와 기록이 없는 주의 진행도, 에세이가 이미 생성된 진행도
+        weekProgressRepository.save(WeekProgress.builder()
+                .user(users.get(0)).weekStart(WEEK_START).completedDays(7).essayGenerated(true).build());
+        weekProgressRepository.save(WeekProgress.builder()
+                .user(users.get(1)).weekStart(WEEK_START.minusWeeks(1)).completedDays(3).build());
+
+        // When
+        Map<String, Object> status = backfillService.run();
+
+        // Then
+        assertThat(status.get("usersProcessed")).isEqualTo(5L);
+        assertThat(status.get("lastError")).isNull();
+
+        for (int i = 0; i < users.size(); i++) {
+            WeekProgress weekProgress = weekProgressRepository.findByUserAndWeekStart(users.get(i), WEEK_START).orElseThrow();
+            assertThat(weekProgress.getCompletedDays()).isEqualTo(i + 1);
+            assertThat(weekProgressRepository.findByUserAndWeekStart(users.get(i), WEEK_START.plusWeeks(1))).isEmpty();
+        }
+        assertThat(weekProgressRepository.findByUserAndWeekStart(users.get(0), WEEK_START).orElseThrow()
+                .getEssayGenerated()).isTrue();
+        assertThat(weekProgressRepository.findByUserAndWeekStart(users.get(1), WEEK_START.minusWeeks(1)).orElseThrow()
+                .getCompletedDays()).isZero();
+
+        assertThat(checkpointRepository.findAll()).hasSize(3).allSatisfy(checkpoint -> {
+            assertThat(checkpoint.getName()).startsWith("week-progress-backfill:p");
+            assertThat(checkpoint.getCompleted()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("중단된 파티션만 체크포인트 이후부터 이어서 처리")
+    void run_파티션재개() {
+        // Given: 모든 사용자 1일 완료, p0 과 p2 는 완료, p1 은 중단된 상태
+        users.forEach(user -> saveRecord(user, WEEK_START, SlotType.DIARY, true));
+
+        LocalDateTime now = LocalDateTime.now();
+        checkpointRepository.save(completedCheckpoint("week-progress-backfill:p0", now));
+        checkpointRepository.save(completedCheckpoint("week-progress-backfill:p2", now));
+        checkpointRepository.save(BatchCheckpoint.builder().name("week-progress-backfill:p1").startedAt(now).build());
+
+        // When
+        backfillService.run();
+
+        // Then: p1 (ID % 3 == 1) 사용자만 생성
+        for (User user : users) {
+            boolean expected = user.getId() % 3 == 1;
+            assertThat(weekProgressRepository.findByUserAndWeekStart(user, WEEK_START).isPresent()).isEqualTo(expected);
+        }
+        assertThat(checkpointRepository.findById("week-progress-backfill:p1").orElseThrow().getCompleted()).isTrue();
+    }
+
+    private BatchCheckpoint completedCheckpoint(String name, LocalDateTime now) {
+        BatchCheckpoint checkpoint = BatchCheckpoint.builder().name(name).startedAt(now).build();
+        checkpoint.markCompleted();
+        return checkpoint;
+    }
+
+    private void saveRecord(User user, LocalDate date, SlotType slotType, boolean completed) {
+        Record record = new Record();
+        record.setUser(user);
+        record.setRecordDate(date);
+        record.setSlotType(slotType);
+        record.setContent(Map.of("text", "기록"));
+        if (completed) {
+            record.markAsCompleted();
+        }
+        recordRepository.save(record);
+    }
+}
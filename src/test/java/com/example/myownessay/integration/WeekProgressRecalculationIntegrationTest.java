@@ -0,0 +1,229 @@
+package com.example.myownessay.integration;
+
+import com.example.myownessay.dto.auth.request.LoginRequest;
+import com.example.myownessay.dto.auth.request.RegisterRequest;
+import com.example.myownessay.dto.record.request.RecordRequest;
+import com.example.myownessay.dto.WeekProgressResponse;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.repository.RecordRepository;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import com.example.myownessay.service.WeekProgressService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 기록 변경에 따른 주간 진행도 비동기 재계산 및 지연 저장 통합 테스트
+ * 재계산은 커밋 이후 별도 스레드에서 실행되므로 트랜잭션 롤백 없이 별도 DB 에서 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:recalculationdb;DB_CLOSE_DELAY=-1",
+        "week-progress.recalculation.coalesce-window-ms=50"
+})
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@DisplayName("주간 진행도 비동기 재계산 통합 테스트")
+public class WeekProgressRecalculationIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WeekProgressRepository weekProgressRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private WeekProgressService weekProgressService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private String accessToken;
+    private User user;
+    private LocalDate weekStart;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "recalc-" + suffix + "@example.com";
+        weekStart = WeekProgressService.getWeekStart(LocalDate.now()).minusWeeks(1);
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RegisterRequest(email, "password123", "진행" + suffix))));
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, "password123"))))
+                .andReturn();
+
+        accessToken = objectMapper.readTree(loginResult.getResponse().getContentAsString())
+                .get("data")
+                .get("accessToken")
+                .asText();
+        user = userRepository.findByEmail(email).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("기록을 저장하면 해당 주 진행도가 비동기로 갱신된다")
+    void saveRecord_진행도갱신() throws Exception {
+        // When: 같은 날 두 슬롯과 다른 날 두 슬롯 저장
+        saveReading(weekStart, true);
+        saveDiary(weekStart, true);
+        saveReading(weekStart.plusDays(1), true);
+        saveReading(weekStart.plusDays(2), false);
+
+        // Then: 완료된 날짜 수만 집계
+        assertThat(awaitCompletedDays(2).getCompletedDays()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기록을 삭제하면 해당 주 진행도가 다시 계산된다")
+    void deleteRecord_진행도재계산() throws Exception {
+        // Given
+        saveReading(weekStart, true);
+        long recordId = saveReading(weekStart.plusDays(1), true);
+        awaitCompletedDays(2);
+
+        // When
+        mockMvc.perform(delete("/api/records/{recordId}", recordId)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(awaitCompletedDays(1).getCompletedDays()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행도가 없는 주를 조회하면 계산값을 반환하고 저장은 백그라운드에서 처리된다")
+    void getWeekProgress_지연저장() throws Exception {
+        // Given: 이벤트 없이 저장된 기록 (진행도 행 없음)
+        insertCompletedRecords(2);
+
+        // When & Then
+        mockMvc.perform(get("/api/week-progress/{weekStart}", weekStart)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.completedDays").value(2))
+                .andExpect(jsonPath("$.data.canGenerateEssay").value(false));
+
+        assertThat(awaitCompletedDays(2).getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 주를 동시에 처음 조회해도 실패 없이 한 행만 저장된다")
+    void getWeekProgress_동시조회() throws Exception {
+        // Given
+        insertCompletedRecords(3);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<WeekProgressResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return weekProgressService.getWeekProgress(user.getEmail(), weekStart);
+            }));
+        }
+        start.countDown();
+
+        // Then
+        for (Future<WeekProgressResponse> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).getCompletedDays()).isEqualTo(3);
+        }
+        executor.shutdown();
+
+        awaitCompletedDays(3);
+        assertThat(weekProgressRepository.findByUserOrderByWeekStartDesc(user)).hasSize(1);
+    }
+
+    private void insertCompletedRecords(int days) {
+        for (int i = 0; i < days; i++) {
+            Record record = new Record();
+            record.setUser(user);
+            record.setRecordDate(weekStart.plusDays(i));
+            record.setSlotType(SlotType.DIARY);
+            record.setContent(Map.of("text", (i + 1) + "일차 일기"));
+            record.markAsCompleted();
+            recordRepository.save(record);
+        }
+    }
+
+    private long saveReading(LocalDate date, boolean completed) throws Exception {
+        return save(date, "READING", Map.of(
+                "quote", "완벽보다 계속하기",
+                "author", "제임스 클리어",
+                "thought", "멈추지 않기가 중요하다"), completed);
+    }
+
+    private long saveDiary(LocalDate date, boolean completed) throws Exception {
+        return save(date, "DIARY", Map.of(
+                "question", "오늘 가장 기억에 남는 순간은?",
+                "content", "산책하며 생각을 정리했다",
+                "emotion", "평온"), completed);
+    }
+
+    private long save(LocalDate date, String slotType, Map<String, Object> content, boolean completed) throws Exception {
+        MvcResult result = mockMvc.perform(put("/api/records/{date}/{slotType}", date, slotType)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RecordRequest(content, completed))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data").get("id").asLong();
+    }
+
+    private WeekProgress awaitCompletedDays(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            WeekProgress weekProgress = weekProgressRepository.findByUserAndWeekStart(user, weekStart).orElse(null);
+            if (weekProgress != null && weekProgress.getCompletedDays() == expected) {
+                return weekProgress;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("주간 진행도가 시간 내에 갱신되지 않았습니다. 현재: "
+                        + (weekProgress == null ? "없음" : weekProgress.getCompletedDays()));
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.myownessay.monitoring.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("반복 로그 샘플링 필터 테스트")
+class RateLimitingTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private RateLimitingTurboFilter filter;
+    private Logger serviceLogger;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitingTurboFilter();
+        filter.addLoggerPrefix("com.example.myownessay.service");
+        filter.setMaxPerSecond(3);
+        filter.setMaxLevel("INFO");
+        filter.start();
+
+        serviceLogger = loggerContext.getLogger("com.example.myownessay.service.RecordService");
+        serviceLogger.setLevel(Level.DEBUG);
+    }
+
+    @Test
+    @DisplayName("같은 메시지 형식은 초당 최대 개수까지만 통과")
+    void 같은형식_제한() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(serviceLogger, Level.INFO, "기록 저장 성공 - 기록 ID: {}"));
+        }
+        assertEquals(FilterReply.DENY, decide(serviceLogger, Level.INFO, "기록 저장 성공 - 기록 ID: {}"));
+        assertEquals(FilterReply.DENY, decide(serviceLogger, Level.DEBUG, "기록 저장 성공 - 기록 ID: {}"));
+
+        // 다른 형식은 따로 셈
+        assertEquals(FilterReply.NEUTRAL, decide(serviceLogger, Level.INFO, "일일 기록 조회 요청 - 날짜: {}"));
+        assertEquals(2, filter.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("WARN 이상, 대상이 아닌 로거, 출력되지 않을 레벨은 세지 않음")
+    void 제한대상아님() {
+        Logger otherLogger = loggerContext.getLogger("org.hibernate.SQL");
+        otherLogger.setLevel(Level.DEBUG);
+        serviceLogger.setLevel(Level.INFO);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(serviceLogger, Level.WARN, "경고 - {}"));
+            assertEquals(FilterReply.NEUTRAL, decide(otherLogger, Level.DEBUG, "select ..."));
+            assertEquals(FilterReply.NEUTRAL, decide(serviceLogger, Level.DEBUG, "디버그 - {}"));
+        }
+        // 레벨 확인 호출(isInfoEnabled)은 형식이 없음
+        assertEquals(FilterReply.NEUTRAL, decide(serviceLogger, Level.INFO, null));
+        assertEquals(0, filter.getDroppedCount());
+    }
+
+    private FilterReply decide(Logger logger, Level level, String format) {
+        return filter.decide(null, logger, level, format, null, null);
+    }
+}
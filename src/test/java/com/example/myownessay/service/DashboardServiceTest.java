@@ -0,0 +1,133 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.dto.dashboard.response.DashboardResponse;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.repository.UserRepository;
+import com.example.myownessay.repository.WeekProgressRepository;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("대시보드 서비스 테스트")
+class DashboardServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RecordHistoryReader recordHistoryReader;
+
+    @Mock
+    private WeekProgressRepository weekProgressRepository;
+
+    @Mock
+    private WeekProgressRecalculator weekProgressRecalculator;
+
+    @Mock
+    private ObjectProvider<Tracer> tracerProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DashboardService dashboardService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(tracerProvider.getIfAvailable(any())).thenReturn(Tracer.NOOP);
+
+        dashboardService = new DashboardService(userRepository, recordHistoryReader, weekProgressRepository,
+                weekProgressRecalculator, new RecordCompletionService(), tracerProvider, transactionManager, 3, 10, 200);
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail("test@example.com");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(recordHistoryReader.findByUserAndRecordDate(eq(testUser), any())).thenReturn(List.of());
+        when(weekProgressRepository.findByUserAndWeekStart(eq(testUser), any())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    @Test
+    @DisplayName("대시보드 조회 성공 - 저장되지 않은 주는 재계산을 예약")
+    void getDashboard_성공() {
+        // Given
+        when(recordHistoryReader.findDailyCompletedSlots(eq(1L), any(), any())).thenReturn(List.of());
+
+        // When
+        DashboardResponse response = dashboardService.getDashboard("test@example.com");
+
+        // Then
+        assertEquals(0, response.getToday().getCompletedCount());
+        assertEquals(0, response.getWeekProgress().getCompletedDays());
+        assertEquals(0, response.getStreak().getCurrentStreak());
+        verify(weekProgressRecalculator).schedule(1L, WeekProgressService.getWeekStart(LocalDate.now()));
+    }
+
+    @Test
+    @DisplayName("시간 초과 - 남은 하위 조회를 중단")
+    void getDashboard_시간초과() throws Exception {
+        // Given: 1년 집계 조회가 중단될 때까지 멈춤
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(recordHistoryReader.findDailyCompletedSlots(eq(1L), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return List.of();
+        });
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> dashboardService.getDashboard("test@example.com"));
+        assertEquals("대시보드 조회 시간이 초과되었습니다.", exception.getMessage());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        verify(weekProgressRecalculator, never()).schedule(any(), any());
+    }
+
+    @Test
+    @DisplayName("연속 기록 계산 - 오늘부터 이어진 일수와 가장 긴 연속 일수")
+    void streak_계산() {
+        LocalDate today = LocalDate.of(2025, 9, 10);
+        Set<LocalDate> dates = Set.of(
+                today, today.minusDays(1),
+                today.minusDays(10), today.minusDays(11), today.minusDays(12),
+                today.plusDays(1));
+
+        assertEquals(2, DashboardService.currentStreak(new TreeSet<>(dates), today));
+        assertEquals(3, DashboardService.maxStreak(new TreeSet<>(dates), today.minusYears(1), today));
+    }
+}
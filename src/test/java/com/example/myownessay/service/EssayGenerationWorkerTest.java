@@ -0,0 +1,164 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.client.LlmClient;
+import com.example.myownessay.client.LlmClientException;
+import com.example.myownessay.client.LlmRateLimiter;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.EssayGenerationJob;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.GenerationJobStatus;
+import com.example.myownessay.repository.EssayGenerationJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("에세이 초안 생성 워커 테스트")
+class EssayGenerationWorkerTest {
+
+    @Mock
+    private EssayGenerationJobRepository jobRepository;
+
+    @Mock
+    private RecordHistoryReader recordHistoryReader;
+
+    @Mock
+    private EssayDraftWriter draftWriter;
+
+    @Mock
+    private LlmClient llmClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EssayGenerationWorker worker;
+
+    private User testUser;
+    private EssayGenerationJob job;
+    private final LocalDate weekStart = LocalDate.of(2025, 9, 1);
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        worker = new EssayGenerationWorker(jobRepository, recordHistoryReader, draftWriter,
+                new EssayPromptBuilder(300, 6000), llmClient, new LlmRateLimiter(0, 1), transactionManager, 1, 10, 3, 1000, 600000);
+
+        testUser = new User();
+        testUser.setId(1L);
+
+        job = EssayGenerationJob.builder()
+                .id(10L)
+                .user(testUser)
+                .weekStart(weekStart)
+                .status(GenerationJobStatus.RUNNING)
+                .attempts(1)
+                .build();
+
+        when(jobRepository.findById(10L)).thenReturn(Optional.of(job));
+        when(recordHistoryReader.findByUserAndRecordDateBetween(testUser, weekStart, weekStart.plusDays(6)))
+                .thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("생성 성공 - 초안 저장 후 작업 완료 처리")
+    void process_성공() {
+        // Given
+        Essay essay = Essay.builder().id(100L).build();
+        when(jobRepository.claim(eq(10L), any())).thenReturn(1);
+        when(llmClient.generate(anyString())).thenReturn("초안");
+        when(draftWriter.saveDraft(testUser, weekStart, "초안")).thenReturn(essay);
+        when(jobRepository.succeed(eq(10L), eq(100L), any())).thenReturn(1);
+
+        // When
+        worker.process(10L);
+
+        // Then
+        verify(draftWriter).saveDraft(testUser, weekStart, "초안");
+        verify(jobRepository).succeed(eq(10L), eq(100L), any());
+    }
+
+    @Test
+    @DisplayName("다른 워커가 이미 가져간 작업은 처리하지 않음")
+    void process_선점실패() {
+        // Given
+        when(jobRepository.claim(eq(10L), any())).thenReturn(0);
+
+        // When
+        worker.process(10L);
+
+        // Then
+        verifyNoInteractions(llmClient);
+    }
+
+    @Test
+    @DisplayName("LLM 호출 실패 - 최대 시도 횟수 전이면 재시도 예약")
+    void process_실패후재시도() {
+        // Given
+        when(jobRepository.claim(eq(10L), any())).thenReturn(1);
+        when(llmClient.generate(anyString())).thenThrow(new LlmClientException("timeout"));
+
+        // When
+        worker.process(10L);
+
+        // Then
+        verify(jobRepository).reschedule(eq(10L), any(), eq("timeout"), any());
+        verify(jobRepository, never()).fail(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("LLM 호출 실패 - 최대 시도 횟수에 도달하면 실패 처리")
+    void process_최종실패() {
+        // Given
+        job.setAttempts(3);
+        when(jobRepository.claim(eq(10L), any())).thenReturn(1);
+        when(llmClient.generate(anyString())).thenThrow(new LlmClientException("timeout"));
+
+        // When
+        worker.process(10L);
+
+        // Then
+        verify(jobRepository).fail(eq(10L), eq("timeout"), any());
+        verify(jobRepository, never()).reschedule(anyLong(), any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("생성 중 취소된 작업은 결과를 저장하지 않음")
+    void process_취소된작업() {
+        // Given
+        when(jobRepository.claim(eq(10L), any())).thenAnswer(invocation -> {
+            job.setStatus(GenerationJobStatus.CANCELLED);
+            return 1;
+        });
+        when(llmClient.generate(anyString())).thenReturn("초안");
+
+        // When
+        worker.process(10L);
+
+        // Then
+        verify(draftWriter, never()).saveDraft(any(), any(), any());
+        verify(jobRepository, never()).succeed(anyLong(), anyLong(), any());
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -32,6 +33,12 @@ class RecordServiceTest {
     @Mock
     private RecordRepository recordRepository;
 
+    @Mock
+    private RecordHistoryReader recordHistoryReader;
+
+    @Mock
+    private RecordArchiveService recordArchiveService;
+
     @Mock
     private UserRepository userRepository;
 
@@ -44,6 +51,9 @@ class RecordServiceTest {
     @Mock
     private RecordCompletionService recordCompletionService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RecordService recordService;
 
@@ -77,7 +87,7 @@ class RecordServiceTest {
         when(validatorFactory.getValidator(SlotType.READING)).thenReturn(readingSlotValidator);
         doNothing().when(readingSlotValidator).validate(testContent);
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-        when(recordRepository.findByUserAndRecordDateAndSlotType(testUser, testDate, SlotType.READING))
+        when(recordRepository.findByUserIdAndRecordDateAndSlotTypeIncludingDeleted(1L, testDate, "READING"))
                 .thenReturn(Optional.empty());
 
         Record savedRecord = new Record();
@@ -103,7 +113,7 @@ class RecordServiceTest {
         verify(validatorFactory, times(1)).getValidator(SlotType.READING);
         verify(readingSlotValidator, times(1)).validate(testContent);
         verify(userRepository, times(1)).findByEmail("test@example.com");
-        verify(recordRepository, times(1)).findByUserAndRecordDateAndSlotType(testUser, testDate, SlotType.READING);
+        verify(recordRepository, times(1)).findByUserIdAndRecordDateAndSlotTypeIncludingDeleted(1L, testDate, "READING");
         verify(recordRepository, times(1)).save(any(Record.class));
     }
 
@@ -155,7 +165,7 @@ class RecordServiceTest {
         when(validatorFactory.getValidator(SlotType.READING)).thenReturn(readingSlotValidator);
         doNothing().when(readingSlotValidator).validate(testContent);
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-        when(recordRepository.findByUserAndRecordDateAndSlotType(testUser, testDate, SlotType.READING))
+        when(recordRepository.findByUserIdAndRecordDateAndSlotTypeIncludingDeleted(1L, testDate, "READING"))
                 .thenReturn(Optional.of(existingRecord));
         when(recordRepository.save(any(Record.class))).thenReturn(existingRecord);
 
@@ -213,7 +223,7 @@ class RecordServiceTest {
         List<Record> records = Arrays.asList(record1, record2);
 
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-        when(recordRepository.findByUserAndRecordDate(testUser, testDate)).thenReturn(records);
+        when(recordHistoryReader.findByUserAndRecordDate(testUser, testDate)).thenReturn(records);
         when(recordCompletionService.calculateDailyCompletion(anyInt())).thenReturn(0.0);
         when(recordCompletionService.isAllCompleted(anyInt())).thenReturn(false);
 
@@ -226,7 +236,7 @@ class RecordServiceTest {
         assertEquals(2, result.getRecords().size());
 
         verify(userRepository, times(1)).findByEmail("test@example.com");
-        verify(recordRepository, times(1)).findByUserAndRecordDate(testUser, testDate);
+        verify(recordHistoryReader, times(1)).findByUserAndRecordDate(testUser, testDate);
     }
 
     @Test
@@ -247,7 +257,7 @@ class RecordServiceTest {
         }
 
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-        when(recordRepository.findByUserAndRecordDateBetween(testUser, startDate, endDate))
+        when(recordHistoryReader.findByUserAndRecordDateBetween(testUser, startDate, endDate))
                 .thenReturn(weeklyRecords);
 
         // When
@@ -258,7 +268,7 @@ class RecordServiceTest {
         assertEquals(7, result.size());
 
         verify(userRepository, times(1)).findByEmail("test@example.com");
-        verify(recordRepository, times(1)).findByUserAndRecordDateBetween(testUser, startDate, endDate);
+        verify(recordHistoryReader, times(1)).findByUserAndRecordDateBetween(testUser, startDate, endDate);
     }
 
     @Test
@@ -3,7 +3,6 @@ package com.example.myownessay.service;
 import com.example.myownessay.entity.Record;
 import com.example.myownessay.entity.User;
 import com.example.myownessay.entity.enums.SlotType;
-import com.example.myownessay.repository.RecordRepository;
 import com.example.myownessay.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,7 +24,7 @@ import static org.mockito.Mockito.*;
 class StreakServiceTest {
 
     @Mock
-    private RecordRepository recordRepository;
+    private RecordHistoryReader recordHistoryReader;
 
     @Mock
     private UserRepository userRepository;
@@ -52,13 +51,13 @@ class StreakServiceTest {
         LocalDate today = LocalDate.now();
 
         // 오늘, 어제, 그제 완료된 기록 생성
-        when(recordRepository.findByUserAndRecordDate(testUser, today))
+        when(recordHistoryReader.findByUserAndRecordDate(testUser, today))
                 .thenReturn(createCompletedRecords(today));
-        when(recordRepository.findByUserAndRecordDate(testUser, today.minusDays(1)))
+        when(recordHistoryReader.findByUserAndRecordDate(testUser, today.minusDays(1)))
                 .thenReturn(createCompletedRecords(today.minusDays(1)));
-        when(recordRepository.findByUserAndRecordDate(testUser, today.minusDays(2)))
+        when(recordHistoryReader.findByUserAndRecordDate(testUser, today.minusDays(2)))
                 .thenReturn(createCompletedRecords(today.minusDays(2)));
-        when(recordRepository.findByUserAndRecordDate(testUser, today.minusDays(3)))
+        when(recordHistoryReader.findByUserAndRecordDate(testUser, today.minusDays(3)))
                 .thenReturn(Collections.emptyList());
 
         // When
@@ -73,7 +72,7 @@ class StreakServiceTest {
     void getCurrentStreak_기록없음() {
         // Given
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-        when(recordRepository.findByUserAndRecordDate(any(), any())).thenReturn(Collections.emptyList());
+        when(recordHistoryReader.findByUserAndRecordDate(any(), any())).thenReturn(Collections.emptyList());
 
         // When
         int currentStreak = streakService.getCurrentStreak("test@example.com");
@@ -103,7 +102,7 @@ class StreakServiceTest {
             records.add(createCompletedRecord(today.minusDays(i)));
         }
 
-        when(recordRepository.findByUserAndRecordDateBetween(
+        when(recordHistoryReader.findByUserAndRecordDateBetween(
                 eq(testUser), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(records);
 
@@ -119,7 +118,7 @@ class StreakServiceTest {
     void getMaxStreak_기록없음() {
         // Given
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-        when(recordRepository.findByUserAndRecordDateBetween(
+        when(recordHistoryReader.findByUserAndRecordDateBetween(
                 any(), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(Collections.emptyList());
 
@@ -0,0 +1,250 @@
+package com.example.myownessay.service;
+
+import com.example.myownessay.dto.essay.response.TrendingEssayResponse;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.enums.EssayTheme;
+import com.example.myownessay.entity.enums.PublishStatus;
+import com.example.myownessay.event.AccountDeletedEvent;
+import com.example.myownessay.event.EssayReactionEvent;
+import com.example.myownessay.event.EssayVisibilityChangedEvent;
+import com.example.myownessay.repository.EssayRepository;
+import com.example.myownessay.repository.TrendingScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("인기 에세이 서비스 테스트")
+class TrendingServiceTest {
+
+    @Mock
+    private EssayRepository essayRepository;
+
+    @Mock
+    private TrendingScoreRepository trendingScoreRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        trendingService = new TrendingService(essayRepository, trendingScoreRepository, transactionManager, 24, 3);
+    }
+
+    @Test
+    @DisplayName("최근 반응이 오래된 반응보다 높은 점수를 받음")
+    void getTopScores_시간감쇠() {
+        // Given
+        Instant now = Instant.now();
+        trendingService.record(1L, EssayTheme.GROWTH, 1.0, now.minus(Duration.ofHours(48)));
+        trendingService.record(1L, EssayTheme.GROWTH, 1.0, now.minus(Duration.ofHours(48)));
+        trendingService.record(2L, EssayTheme.GROWTH, 1.0, now);
+
+        // When
+        Map<Long, Double> top = trendingService.getTopScores(null, 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), List.copyOf(top.keySet()));
+        assertEquals(0.5, top.get(1L), 0.01); // 이틀(반감기 2회) 지난 좋아요 2개 = 0.5
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 시 점수가 차감되고 0 이하면 순위에서 제외")
+    void onReaction_좋아요취소() {
+        // Given
+        trendingService.onReaction(EssayReactionEvent.added(1L, EssayTheme.GROWTH, true, EssayReactionEvent.ReactionType.LIKE));
+        trendingService.onReaction(EssayReactionEvent.added(2L, EssayTheme.GROWTH, true, EssayReactionEvent.ReactionType.BOOKMARK));
+
+        // When
+        trendingService.onReaction(EssayReactionEvent.removed(
+                1L, EssayTheme.GROWTH, true, EssayReactionEvent.ReactionType.LIKE, LocalDateTime.now()));
+
+        // Then
+        Map<Long, Double> top = trendingService.getTopScores(null, 10);
+        assertEquals(List.of(2L), List.copyOf(top.keySet()));
+        assertEquals(2.0, top.get(2L), 0.01);
+    }
+
+    @Test
+    @DisplayName("오래전 좋아요를 취소하면 그때 더한 점수만큼만 차감")
+    void onReaction_오래된좋아요취소() {
+        // Given: 12시간 전(반감기 절반) 좋아요 2개
+        LocalDateTime likedAt = LocalDateTime.now().minusHours(12);
+        Instant likedInstant = likedAt.atZone(ZoneId.systemDefault()).toInstant();
+        trendingService.record(1L, EssayTheme.GROWTH, 1.0, likedInstant);
+        trendingService.record(1L, EssayTheme.GROWTH, 1.0, likedInstant);
+
+        // When: 그중 하나를 지금 취소
+        trendingService.onReaction(EssayReactionEvent.removed(
+                1L, EssayTheme.GROWTH, true, EssayReactionEvent.ReactionType.LIKE, likedAt));
+
+        // Then: 12시간 지난 좋아요 1개의 점수(1/√2)가 남음
+        assertEquals(Math.pow(0.5, 0.5), trendingService.getTopScores(null, 10).get(1L), 0.01);
+    }
+
+    @Test
+    @DisplayName("비공개 에세이 반응은 반영하지 않음")
+    void onReaction_비공개에세이() {
+        // When
+        trendingService.onReaction(EssayReactionEvent.added(1L, EssayTheme.GROWTH, false, EssayReactionEvent.ReactionType.LIKE));
+
+        // Then
+        assertTrue(trendingService.getTopScores(null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("테마별 조회")
+    void getTopScores_테마필터() {
+        // Given
+        Instant now = Instant.now();
+        trendingService.record(1L, EssayTheme.GROWTH, 1.0, now);
+        trendingService.record(2L, EssayTheme.GRATITUDE, 2.0, now);
+
+        // When
+        Map<Long, Double> growth = trendingService.getTopScores(EssayTheme.GROWTH, 10);
+
+        // Then
+        assertEquals(List.of(1L), List.copyOf(growth.keySet()));
+    }
+
+    @Test
+    @DisplayName("용량 초과 시 점수가 가장 낮은 에세이 제거")
+    void record_용량초과() {
+        // Given
+        Instant now = Instant.now();
+        trendingService.record(1L, EssayTheme.GROWTH, 1.0, now);
+        trendingService.record(2L, EssayTheme.GROWTH, 3.0, now);
+        trendingService.record(3L, EssayTheme.GROWTH, 2.0, now);
+
+        // When
+        trendingService.record(4L, EssayTheme.GROWTH, 4.0, now);
+
+        // Then
+        assertEquals(List.of(4L, 2L, 3L), List.copyOf(trendingService.getTopScores(null, 10).keySet()));
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮기는 중에도 조회는 빠짐없는 순위를 받음")
+    void getTopScores_재조정중조회() throws Exception {
+        // Given
+        Instant start = Instant.now();
+        trendingService.record(1L, EssayTheme.GROWTH, 1.0, start);
+        trendingService.record(2L, EssayTheme.GROWTH, 1.0, start);
+        trendingService.record(3L, EssayTheme.GROWTH, 1.0, start);
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger incomplete = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                Map<Long, Double> top = trendingService.getTopScores(null, 10);
+                if (!top.containsKey(2L) || !top.containsKey(3L)) {
+                    incomplete.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+
+        // When: 반응마다 기준 시각을 넘겨 재조정 (80일 = 반감기 80회)
+        try {
+            for (int i = 1; i <= 2000; i++) {
+                trendingService.record(1L, EssayTheme.GROWTH, 1.0, start.plus(Duration.ofDays(80L * i)));
+            }
+        } finally {
+            done.set(true);
+            reader.join();
+        }
+
+        // Then
+        assertEquals(0, incomplete.get());
+    }
+
+    @Test
+    @DisplayName("비공개 전환 시 순위에서 제외, 테마 변경 시 테마 순위 이동")
+    void onVisibilityChanged_비공개및테마변경() {
+        // Given
+        Instant now = Instant.now();
+        trendingService.record(1L, EssayTheme.GROWTH, 1.0, now);
+        trendingService.record(2L, EssayTheme.GROWTH, 1.0, now);
+
+        // When
+        trendingService.onVisibilityChanged(new EssayVisibilityChangedEvent(1L, EssayTheme.GROWTH, false));
+        trendingService.onVisibilityChanged(new EssayVisibilityChangedEvent(2L, EssayTheme.RECOVERY, true));
+
+        // Then
+        assertEquals(List.of(2L), List.copyOf(trendingService.getTopScores(null, 10).keySet()));
+        assertTrue(trendingService.getTopScores(EssayTheme.GROWTH, 10).isEmpty());
+        assertEquals(List.of(2L), List.copyOf(trendingService.getTopScores(EssayTheme.RECOVERY, 10).keySet()));
+    }
+
+    @Test
+    @DisplayName("탈퇴한 계정의 에세이는 순위에서 제외")
+    void onAccountDeleted_순위제외() {
+        // Given
+        Instant now = Instant.now();
+        trendingService.record(1L, EssayTheme.GROWTH, 1.0, now);
+        trendingService.record(2L, EssayTheme.GROWTH, 2.0, now);
+        when(essayRepository.findIdsByUserId(7L)).thenReturn(List.of(2L, 3L));
+
+        // When
+        trendingService.onAccountDeleted(new AccountDeletedEvent(7L));
+
+        // Then
+        assertEquals(List.of(1L), List.copyOf(trendingService.getTopScores(null, 10).keySet()));
+        assertEquals(List.of(1L), List.copyOf(trendingService.getTopScores(EssayTheme.GROWTH, 10).keySet()));
+    }
+
+    @Test
+    @DisplayName("노출할 수 없는 에세이는 순위에서 빼고 다음 순위로 채움")
+    void getTrendingEssays_다음순위로채움() {
+        // Given: 1위는 비공개로 바뀌었고 2위의 작성자는 탈퇴
+        Instant now = Instant.now();
+        trendingService.record(1L, EssayTheme.GROWTH, 3.0, now);
+        trendingService.record(2L, EssayTheme.GROWTH, 2.0, now);
+        trendingService.record(3L, EssayTheme.GROWTH, 1.0, now);
+
+        User author = new User();
+        author.setNickname("작가");
+        User deleted = new User();
+        deleted.setNickname("탈퇴");
+        deleted.setDeletedAt(LocalDateTime.now());
+
+        when(essayRepository.findAllWithUserByIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> Essay.builder()
+                            .id(id)
+                            .user(id == 2L ? deleted : author)
+                            .publishStatus(id == 1L ? PublishStatus.PRIVATE : PublishStatus.PUBLIC)
+                            .build())
+                    .toList();
+        });
+
+        // When
+        List<TrendingEssayResponse> trending = trendingService.getTrendingEssays(null, 1);
+
+        // Then
+        assertEquals(List.of(3L), trending.stream().map(TrendingEssayResponse::getId).toList());
+        assertEquals(List.of(3L), List.copyOf(trendingService.getTopScores(null, 10).keySet()));
+    }
+}
@@ -4,6 +4,7 @@ import com.example.myownessay.dto.auth.request.DeleteAccountRequest;
 import com.example.myownessay.dto.auth.request.UpdateProfileRequest;
 import com.example.myownessay.dto.auth.response.ProfileResponse;
 import com.example.myownessay.entity.User;
+import com.example.myownessay.event.AccountDeletedEvent;
 import com.example.myownessay.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.time.LocalDateTime;
@@ -34,6 +36,9 @@ class UserServiceTest {
     @Mock
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AuthService authService;
 
@@ -124,7 +129,11 @@ class UserServiceTest {
         // Then
         verify(userRepository, times(1)).findByEmail("test@example.com");
         verify(passwordEncoder, times(1)).matches("password123", "hashedPassword123");
-        verify(userRepository, times(1)).delete(testUser);
+        assertFalse(testUser.getIsActive());
+        assertNotNull(testUser.getDeletedAt());
+        verify(userRepository, times(1)).save(testUser);
+        verify(userRepository, never()).delete(any(User.class));
+        verify(eventPublisher, times(1)).publishEvent(any(AccountDeletedEvent.class));
     }
 
     @Test
@@ -144,6 +153,7 @@ class UserServiceTest {
 
         assertEquals("비밀번호가 올바르지 않습니다.", exception.getMessage());
         verify(userRepository, never()).delete(any(User.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -0,0 +1,97 @@
+package com.example.myownessay.support;
+
+import com.example.myownessay.entity.enums.SlotType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 슬롯별 합성 기록 내용
+ * 문장 조각을 무작위로 이어 붙여 길이가 고르지 않은 내용을 만들며, 각 슬롯 검증기의 필수 항목과 길이 제한을 지킵니다.
+ */
+public final class SyntheticContent {
+
+    private static final String[] QUOTES = {
+            "완벽보다 계속하기가 중요하다.",
+            "천천히 가도 멈추지만 않으면 된다.",
+            "오늘의 작은 습관이 내일의 나를 만든다.",
+            "지나간 일은 지나간 대로 두어라.",
+            "마음이 머무는 곳에 삶이 있다."
+    };
+
+    private static final String[] AUTHORS = {"작자 미상", "공자", "몽테뉴", "헤르만 헤세", "법정"};
+
+    private static final String[] QUESTIONS = {
+            "지금 가장 마음에 걸리는 일은 무엇인가요?",
+            "오늘 감사했던 순간은?",
+            "요즘 나를 지치게 하는 것은?",
+            "이번 주에 꼭 해내고 싶은 일은?",
+            "오늘 나를 웃게 한 사람은?"
+    };
+
+    private static final String[] CHOICES = {"잠시 쉬어 가기", "먼저 말 걸기", "미뤄 둔 일 끝내기", "도움 요청하기"};
+
+    private static final String[] ACTIVITIES = {"산책", "명상", "스트레칭", "음악 감상", "요가", "차 마시기"};
+
+    private static final String[] EMOTIONS = {"평온", "기쁨", "감사", "피곤", "불안", "설렘"};
+
+    private static final String[] SENTENCES = {
+            "오늘도 한 쪽이라도 읽은 나를 칭찬한다. ",
+            "조급함을 내려놓으니 할 일이 또렷해졌다. ",
+            "바람 소리를 들으며 마음이 가벼워졌다. ",
+            "저녁에 가족과 따뜻한 차를 마시며 이야기를 나눴다. ",
+            "생각보다 하루가 길게 느껴졌다. ",
+            "작은 일에도 고마움을 느낄 수 있었다. ",
+            "내일은 조금 더 일찍 일어나 보려고 한다. ",
+            "오랜만에 친구에게 먼저 연락했다. "
+    };
+
+    private SyntheticContent() {
+    }
+
+    public static Map<String, Object> of(SlotType slotType, SplittableRandom random) {
+        Map<String, Object> content = new HashMap<>();
+        switch (slotType) {
+            case READING -> {
+                content.put("quote", pick(QUOTES, random));
+                content.put("author", pick(AUTHORS, random));
+                content.put("thought", prose(random, 1, 8));
+            }
+            case CONSULTING -> {
+                content.put("question", pick(QUESTIONS, random));
+                content.put("choice", pick(CHOICES, random));
+                content.put("result", prose(random, 1, 5));
+            }
+            case HEALING -> {
+                content.put("activity", pick(ACTIVITIES, random));
+                content.put("duration", 10 + random.nextInt(12) * 5);
+                content.put("result", prose(random, 1, 5));
+            }
+            case DIARY -> {
+                content.put("question", pick(QUESTIONS, random));
+                content.put("content", prose(random, 2, 30));
+                content.put("emotion", pick(EMOTIONS, random));
+            }
+        }
+        return content;
+    }
+
+    public static String essay(SplittableRandom random) {
+        return prose(random, 20, 60);
+    }
+
+    // 문장 수를 [min, max] 에서 골라 이어 붙임 (문장 최대 길이 기준으로 검증기 제한 안쪽)
+    private static String prose(SplittableRandom random, int minSentences, int maxSentences) {
+        int sentences = minSentences + random.nextInt(maxSentences - minSentences + 1);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            builder.append(pick(SENTENCES, random));
+        }
+        return builder.toString().trim();
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+}
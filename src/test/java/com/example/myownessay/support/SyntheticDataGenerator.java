@@ -0,0 +1,439 @@
+package com.example.myownessay.support;
+
+import com.example.myownessay.entity.Bookmark;
+import com.example.myownessay.entity.Essay;
+import com.example.myownessay.entity.Like;
+import com.example.myownessay.entity.Record;
+import com.example.myownessay.entity.User;
+import com.example.myownessay.entity.WeekProgress;
+import com.example.myownessay.entity.enums.EssayTheme;
+import com.example.myownessay.entity.enums.PublishStatus;
+import com.example.myownessay.entity.enums.SlotType;
+import com.example.myownessay.service.WeekProgressService;
+import jakarta.persistence.EntityManager;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 운영 데이터 분포를 흉내 낸 합성 데이터 생성기
+ * 부하 테스트와 규모별 벤치마크가 손으로 만든 몇 줄짜리 테이블이 아닌 현실적인 데이터 위에서 돌도록 합니다.
+ *
+ * - 사용자: 시간대 분포(대부분 Asia/Seoul), 가입 시점이 제각각
+ * - 기록: 연속 기록이 이어지다 끊기고 다시 시작되는 흐름(마르코프 체인), 네 슬롯 모두 검증기를 통과하는 내용
+ * - 주간 진행도: 생성한 기록의 주별 완료 일수와 일치
+ * - 에세이: 3일 이상 완료한 지난 주에 생성, 모든 공개 상태(PRIVATE/SHARED/PUBLIC)
+ * - 좋아요/북마크: 사용자별 개수와 에세이별 인기가 멱법칙(power-law) 분포
+ *
+ * 사용자 묶음마다 한 트랜잭션으로 여러 스레드에서 나눠 저장하며, 묶음 안의 INSERT 는 Hibernate JDBC 배치로 전송됩니다.
+ * 난수는 (시드, 사용자 번호)에서 파생하므로 스레드 수나 실행 순서와 관계없이 같은 시드면 같은 분포의 데이터가 만들어집니다.
+ * {@link #generate(int)} 를 여러 번 호출하면 이전 데이터에 이어서 사용자를 추가합니다.
+ */
+public class SyntheticDataGenerator {
+
+    /**
+     * 생성된 사용자 공통 비밀번호
+     */
+    public static final String PASSWORD = "Synthetic123!";
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long REACTION_SALT = 0x5DEECE66DL;
+
+    // 시간대 분포 (누적 비율)
+    private static final Map<Double, String> TIMEZONES = new TreeMap<>(Map.of(
+            0.70, "Asia/Seoul",
+            0.78, "America/Los_Angeles",
+            0.85, "America/New_York",
+            0.90, "Europe/London",
+            0.95, "Asia/Tokyo",
+            0.98, "Australia/Sydney",
+            1.00, "Europe/Berlin"
+    ));
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Options options;
+    private final String passwordHash;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Long> essayIds = new ArrayList<>();
+    private final List<GeneratedEssay> reactableEssays = new ArrayList<>();
+    private final Map<PublishStatus, Long> essayCounts = new TreeMap<>();
+    private long recordCount;
+    private long weekProgressCount;
+    private long likeCount;
+    private long bookmarkCount;
+
+    public SyntheticDataGenerator(
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            Options options
+    ) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.options = options;
+        // 해시 비용이 크므로 모든 사용자가 같은 해시를 공유
+        this.passwordHash = passwordEncoder.encode(PASSWORD);
+        Arrays.stream(PublishStatus.values()).forEach(status -> essayCounts.put(status, 0L));
+    }
+
+    /**
+     * 사용자와 그 활동 데이터를 생성해 저장
+     *
+     * @param userCount 추가할 사용자 수
+     */
+    public void generate(int userCount) {
+        int from = users.size();
+        int to = from + userCount;
+
+        // 1단계: 사용자, 기록, 주간 진행도, 에세이
+        for (List<GeneratedUser> chunk : runChunks(from, to, start -> createUsers(start, to))) {
+            for (GeneratedUser generated : chunk) {
+                users.add(generated.user());
+                recordCount += generated.records();
+                weekProgressCount += generated.weekProgress();
+                for (GeneratedEssay essay : generated.essays()) {
+                    essayIds.add(essay.id());
+                    essayCounts.merge(essay.status(), 1L, Long::sum);
+                    if (essay.status() != PublishStatus.PRIVATE) {
+                        reactableEssays.add(essay);
+                    }
+                }
+            }
+        }
+
+        // 2단계: 좋아요, 북마크 (지금까지 공개/공유된 에세이 대상)
+        if (reactableEssays.isEmpty()) {
+            return;
+        }
+        double[] cumulativeWeights = new double[reactableEssays.size()];
+        double total = 0;
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            total += reactableEssays.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+        for (List<long[]> chunk : runChunks(from, to, start -> createReactions(start, to, cumulativeWeights))) {
+            for (long[] counts : chunk) {
+                likeCount += counts[0];
+                bookmarkCount += counts[1];
+            }
+        }
+    }
+
+    // 사용자 구간을 묶음으로 나눠 스레드 풀에서 실행하고, 결과는 사용자 번호 순서대로 반환
+    private <T> List<List<T>> runChunks(int from, int to, IntFunction<List<T>> task) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(options.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "synthetic-data-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<List<T>>> futures = new ArrayList<>();
+            for (int start = from; start < to; start += options.getUsersPerTransaction()) {
+                int chunkStart = start;
+                futures.add(executor.submit(() -> task.apply(chunkStart)));
+            }
+
+            List<List<T>> results = new ArrayList<>(futures.size());
+            for (Future<List<T>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("합성 데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("합성 데이터 생성에 실패했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<GeneratedUser> createUsers(int start, int to) {
+        return transactionTemplate.execute(status -> {
+            List<GeneratedUser> generated = new ArrayList<>();
+            for (int index = start; index < Math.min(start + options.getUsersPerTransaction(), to); index++) {
+                generated.add(createUser(index));
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return generated;
+        });
+    }
+
+    private GeneratedUser createUser(int index) {
+        SplittableRandom random = random(index, 0);
+
+        User user = new User();
+        user.setEmail(options.getEmailPrefix() + "-" + index + "@example.com");
+        user.setNickname(options.getEmailPrefix() + index);
+        user.setPasswordHash(passwordHash);
+        user.setTimezone(timezone(random));
+        entityManager.persist(user);
+
+        // 사용자 시간대 기준 오늘까지, 가입일부터의 기록
+        LocalDate today = LocalDate.now(ZoneId.of(user.getTimezone()));
+        int historyDays = options.getHistoryDays() / 4 + random.nextInt(options.getHistoryDays() - options.getHistoryDays() / 4 + 1);
+        double engagement = random.nextDouble();
+        double keepGoing = 0.60 + 0.35 * engagement;
+        double comeBack = 0.05 + 0.35 * engagement;
+        double slotAffinity = 0.40 + 0.55 * engagement;
+
+        Map<LocalDate, Set<LocalDate>> completedDaysByWeek = new TreeMap<>();
+        int records = 0;
+        boolean active = random.nextDouble() < engagement;
+        for (LocalDate date = today.minusDays(historyDays - 1); !date.isAfter(today); date = date.plusDays(1)) {
+            active = random.nextDouble() < (active ? keepGoing : comeBack);
+            LocalDate weekStart = WeekProgressService.getWeekStart(date);
+            completedDaysByWeek.computeIfAbsent(weekStart, key -> new HashSet<>());
+            if (!active) {
+                continue;
+            }
+
+            for (SlotType slotType : SlotType.values()) {
+                if (random.nextDouble() >= slotAffinity) {
+                    continue;
+                }
+                Record record = new Record();
+                record.setUser(user);
+                record.setRecordDate(date);
+                record.setSlotType(slotType);
+                record.setContent(SyntheticContent.of(slotType, random));
+                if (random.nextDouble() < 0.85) {
+                    record.markAsCompleted();
+                }
+                if (random.nextDouble() < 0.01) {
+                    record.markAsDeleted();
+                }
+                entityManager.persist(record);
+                records++;
+
+                if (record.getIsCompleted() && !record.getIsDeleted()) {
+                    completedDaysByWeek.get(weekStart).add(date);
+                }
+            }
+        }
+
+        // 지난주까지 3일 이상 완료한 주에 에세이 생성
+        LocalDate currentWeek = WeekProgressService.getWeekStart(today);
+        List<GeneratedEssay> essays = new ArrayList<>();
+        for (Map.Entry<LocalDate, Set<LocalDate>> week : completedDaysByWeek.entrySet()) {
+            WeekProgress weekProgress = WeekProgress.builder()
+                    .user(user)
+                    .weekStart(week.getKey())
+                    .completedDays(week.getValue().size())
+                    .essayGenerated(false)
+                    .build();
+
+            if (week.getKey().isBefore(currentWeek) && weekProgress.canGenerateEssay()
+                    && random.nextDouble() < options.getEssayRate()) {
+                Essay essay = createEssay(user, week.getKey(), random);
+                weekProgress.markEssayGenerated();
+                // 에세이별 인기 가중치 (파레토 분포)
+                double weight = Math.pow(1 - random.nextDouble(), -1 / options.getPopularityExponent());
+                essays.add(new GeneratedEssay(essay.getId(), index, essay.getPublishStatus(), weight));
+            }
+            entityManager.persist(weekProgress);
+        }
+
+        return new GeneratedUser(user, records, completedDaysByWeek.size(), essays);
+    }
+
+    private Essay createEssay(User user, LocalDate weekStart, SplittableRandom random) {
+        EssayTheme[] themes = EssayTheme.values();
+        Essay essay = Essay.builder()
+                .user(user)
+                .title(weekStart + " 한 주 돌아보기")
+                .finalContent(SyntheticContent.essay(random))
+                .theme(themes[random.nextInt(themes.length)])
+                .weekStart(weekStart)
+                .weekEnd(weekStart.plusDays(6))
+                .build();
+
+        // 공개 상태 분포: 비공개 50%, 공유 20%, 공개 30%
+        double roll = random.nextDouble();
+        if (roll >= 0.7) {
+            essay.publish(PublishStatus.PUBLIC);
+        } else if (roll >= 0.5) {
+            essay.publish(PublishStatus.SHARED);
+        }
+        entityManager.persist(essay);
+        return essay;
+    }
+
+    private List<long[]> createReactions(int start, int to, double[] cumulativeWeights) {
+        return transactionTemplate.execute(status -> {
+            List<long[]> counts = new ArrayList<>();
+            for (int index = start; index < Math.min(start + options.getUsersPerTransaction(), to); index++) {
+                SplittableRandom random = random(index, REACTION_SALT);
+                User user = entityManager.getReference(User.class, users.get(index).getId());
+
+                Set<Long> liked = pickEssays(index, powerLawCount(random, options.getAverageLikesPerUser()), cumulativeWeights, random);
+                for (Long essayId : liked) {
+                    entityManager.persist(Like.builder()
+                            .user(user)
+                            .essay(entityManager.getReference(Essay.class, essayId))
+                            .build());
+                }
+
+                Set<Long> bookmarked = pickEssays(index, powerLawCount(random, options.getAverageBookmarksPerUser()), cumulativeWeights, random);
+                for (Long essayId : bookmarked) {
+                    entityManager.persist(Bookmark.builder()
+                            .user(user)
+                            .essay(entityManager.getReference(Essay.class, essayId))
+                            .build());
+                }
+                counts.add(new long[]{liked.size(), bookmarked.size()});
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return counts;
+        });
+    }
+
+    // 인기 가중치에 비례해 자기 에세이를 제외한 에세이를 중복 없이 선택
+    private Set<Long> pickEssays(int userIndex, int count, double[] cumulativeWeights, SplittableRandom random) {
+        Set<Long> picked = new HashSet<>();
+        double total = cumulativeWeights[cumulativeWeights.length - 1];
+        int attempts = count * 4;
+        while (picked.size() < count && attempts-- > 0) {
+            int position = Arrays.binarySearch(cumulativeWeights, random.nextDouble() * total);
+            GeneratedEssay essay = reactableEssays.get(position >= 0 ? position : -position - 1);
+            if (essay.ownerIndex() != userIndex) {
+                picked.add(essay.id());
+            }
+        }
+        return picked;
+    }
+
+    // 평균이 average 인 로맥스(Lomax) 분포 (대부분 적게, 일부 사용자가 아주 많이 반응)
+    private int powerLawCount(SplittableRandom random, double average) {
+        double alpha = options.getActivityExponent();
+        double scale = average * (alpha - 1);
+        double value = scale * (Math.pow(1 - random.nextDouble(), -1 / alpha) - 1);
+        return (int) Math.min(Math.floor(value), Math.min(options.getMaxReactionsPerUser(), reactableEssays.size()));
+    }
+
+    private String timezone(SplittableRandom random) {
+        double roll = random.nextDouble();
+        for (Map.Entry<Double, String> entry : TIMEZONES.entrySet()) {
+            if (roll < entry.getKey()) {
+                return entry.getValue();
+            }
+        }
+        return "Asia/Seoul";
+    }
+
+    // (시드, 사용자 번호, 단계)에서 파생한 난수 생성기
+    private SplittableRandom random(int userIndex, long salt) {
+        return new SplittableRandom(options.getSeed() ^ salt ^ (userIndex + 1) * GOLDEN_GAMMA);
+    }
+
+    public List<User> getUsers() {
+        return users;
+    }
+
+    public List<Long> getEssayIds() {
+        return essayIds;
+    }
+
+    /**
+     * 공유 또는 공개 상태인 에세이 ID (좋아요/북마크 대상)
+     */
+    public List<Long> getPublishedEssayIds() {
+        return reactableEssays.stream().map(GeneratedEssay::id).toList();
+    }
+
+    public Map<PublishStatus, Long> getEssayCounts() {
+        return essayCounts;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public long getWeekProgressCount() {
+        return weekProgressCount;
+    }
+
+    public long getLikeCount() {
+        return likeCount;
+    }
+
+    public long getBookmarkCount() {
+        return bookmarkCount;
+    }
+
+    /**
+     * 생성 옵션
+     */
+    @Getter
+    @Builder
+    public static class Options {
+
+        @Builder.Default
+        private final long seed = 42;
+
+        @Builder.Default
+        private final String emailPrefix = "synthetic";
+
+        @Builder.Default
+        private final int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        @Builder.Default
+        private final int usersPerTransaction = 50;
+
+        // 사용자별 기록 기간 최대 일수 (가입 시점에 따라 1/4 ~ 전체)
+        @Builder.Default
+        private final int historyDays = 120;
+
+        // 에세이를 만들 수 있는 주에 실제로 만드는 비율
+        @Builder.Default
+        private final double essayRate = 0.7;
+
+        @Builder.Default
+        private final double averageLikesPerUser = 10;
+
+        @Builder.Default
+        private final double averageBookmarksPerUser = 4;
+
+        @Builder.Default
+        private final int maxReactionsPerUser = 500;
+
+        // 사용자별 반응 수 분포의 꼬리 지수 (작을수록 헤비 유저 비중이 큼, 1보다 커야 함)
+        @Builder.Default
+        private final double activityExponent = 1.5;
+
+        // 에세이 인기 분포의 꼬리 지수
+        @Builder.Default
+        private final double popularityExponent = 1.2;
+    }
+
+    private record GeneratedUser(User user, int records, int weekProgress, List<GeneratedEssay> essays) {
+    }
+
+    private record GeneratedEssay(Long id, int ownerIndex, PublishStatus status, double weight) {
+    }
+}